@@ -8,11 +8,16 @@ package org.mule.runtime.core.api.util;
 
 import static java.util.Collections.emptyList;
 import static java.util.Collections.emptyMap;
+import static java.util.Collections.singletonList;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.core.Is.is;
 import static org.junit.Assert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mule.runtime.api.exception.MuleExceptionInfo.INFO_CAUSED_BY_KEY;
 import static org.mule.runtime.api.i18n.I18nMessageFactory.createStaticMessage;
@@ -38,6 +43,7 @@ import org.mule.runtime.api.metadata.DataType;
 import org.mule.runtime.api.metadata.TypedValue;
 import org.mule.runtime.core.api.event.CoreEvent;
 import org.mule.runtime.core.api.exception.ExceptionMapper;
+import org.mule.runtime.core.api.execution.ExceptionContextProvider;
 import org.mule.runtime.core.api.transformer.TransformerException;
 import org.mule.runtime.core.internal.exception.ErrorTypeLocatorFactory;
 import org.mule.runtime.core.internal.exception.ErrorTypeRepositoryFactory;
@@ -248,6 +254,33 @@ public class MessagingExceptionResolverTestCase extends AbstractMuleTestCase {
     assertExceptionMessage(resolved.getInfo().get(INFO_CAUSED_BY_KEY).toString(), "CONNECTION PROBLEM");
   }
 
+  @Test
+  public void errorTypeIsLookedUpOncePerExceptionClass() {
+    ErrorTypeLocator spiedLocator = spy(locator);
+    MessagingExceptionResolver anotherResolver = new MessagingExceptionResolver(new TestProcessor());
+
+    anotherResolver.resolve(newMessagingException(TRANSFORMER_EXCEPTION, event, processor), spiedLocator, emptyList());
+    MessagingException resolved =
+        anotherResolver.resolve(newMessagingException(new TransformerException(createStaticMessage("ANOTHER")), event, processor),
+                                spiedLocator, emptyList());
+
+    assertExceptionErrorType(resolved, TRANSFORMER);
+    verify(spiedLocator, times(1)).lookupComponentErrorType(ci, TransformerException.class);
+  }
+
+  @Test
+  public void enrichmentIsDeferredUntilInfoIsRead() {
+    ExceptionContextProvider contextProvider = mock(ExceptionContextProvider.class);
+    MessagingException me = newMessagingException(TRANSFORMER_EXCEPTION, event, processor);
+
+    MessagingException resolved = resolver.resolve(me, locator, singletonList(contextProvider));
+    verify(contextProvider, never()).putContextInfo(any(), any(), any());
+
+    resolved.getInfo();
+    resolved.getInfo();
+    verify(contextProvider, times(1)).putContextInfo(any(), any(), any());
+  }
+
   private void assertExceptionMessage(String result, String expected) {
     assertThat(result, containsString(expected));
   }
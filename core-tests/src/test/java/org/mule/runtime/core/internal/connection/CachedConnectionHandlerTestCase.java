@@ -52,7 +52,8 @@ public class CachedConnectionHandlerTestCase extends AbstractMuleTestCase {
   @Before
   public void before() throws Exception {
     stubConnectionProvider();
-    managedConnection = new CachedConnectionHandler<>(connection, releaser, connectionProvider);
+    managedConnection = new CachedConnectionHandler<>(connection, releaser, connectionProvider,
+                                                    new ConnectionAcquisitionStatistics());
   }
 
   private void stubConnectionProvider() throws ConnectionException {
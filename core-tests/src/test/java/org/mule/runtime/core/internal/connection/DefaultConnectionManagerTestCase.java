@@ -6,9 +6,12 @@
  */
 package org.mule.runtime.core.internal.connection;
 
+import static java.util.concurrent.Executors.newFixedThreadPool;
+import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
 import static org.mockito.Answers.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.mock;
@@ -30,6 +33,12 @@ import org.mule.tck.junit4.AbstractMuleTestCase;
 import org.mule.tck.testmodels.fruit.Apple;
 import org.mule.tck.testmodels.fruit.Banana;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -175,4 +184,98 @@ public class DefaultConnectionManagerTestCase extends AbstractMuleTestCase {
     verify(connectionProvider, never()).disconnect(connection);
   }
 
+  @Test
+  public void acquisitionStatistics() throws Exception {
+    connectionManager.bind(config, connectionProvider);
+    ConnectionHandler<Banana> connectionHandler = connectionManager.getConnection(config);
+    assertThat(connectionHandler.getConnection(), is(sameInstance(connection)));
+
+    ConnectionAcquisitionStatistics statistics = connectionManager.getConnectionStatistics(config).get();
+    assertThat(statistics.getAcquisitions(), is(1L));
+    assertThat(statistics.getFailures(), is(0L));
+    assertThat(statistics.getActiveHandles(), is(1L));
+
+    connectionHandler.release();
+    assertThat(statistics.getActiveHandles(), is(0L));
+  }
+
+  @Test
+  public void cachedConnectionHandlerIsShared() throws Exception {
+    connectionManager.bind(config, connectionProvider);
+    ConnectionHandler<Banana> connectionHandler = connectionManager.getConnection(config);
+
+    assertThat(connectionManager.getConnection(config), is(sameInstance(connectionHandler)));
+    assertThat(connectionManager.getConnectionStatistics(config).get().getActiveHandles(), is(2L));
+  }
+
+  @Test
+  public void pooledHandleReleasedTwiceIsCountedOnce() throws Exception {
+    connectionManager.bind(config, mockConnectionProvider(PoolingConnectionProvider.class));
+    ConnectionHandler<Banana> releasedHandler = connectionManager.getConnection(config);
+    ConnectionHandler<Banana> invalidatedHandler = connectionManager.getConnection(config);
+
+    ConnectionAcquisitionStatistics statistics = connectionManager.getConnectionStatistics(config).get();
+    assertThat(statistics.getActiveHandles(), is(2L));
+
+    releasedHandler.release();
+    releasedHandler.release();
+    assertThat(statistics.getActiveHandles(), is(1L));
+
+    invalidatedHandler.invalidate();
+    invalidatedHandler.release();
+    assertThat(statistics.getActiveHandles(), is(0L));
+  }
+
+  @Test
+  public void failedAcquisitionStatistics() throws Exception {
+    CachedConnectionProvider<Banana> failingConnectionProvider = mock(CachedConnectionProvider.class);
+    when(failingConnectionProvider.connect()).thenThrow(new ConnectionException("oops"));
+    connectionManager.bind(config, failingConnectionProvider);
+
+    try {
+      connectionManager.getConnection(config);
+      fail("Connection should have failed");
+    } catch (ConnectionException e) {
+      ConnectionAcquisitionStatistics statistics = connectionManager.getConnectionStatistics(config).get();
+      assertThat(statistics.getAcquisitions(), is(0L));
+      assertThat(statistics.getFailures(), is(1L));
+      assertThat(statistics.getActiveHandles(), is(0L));
+    }
+  }
+
+  @Test
+  public void noStatisticsForUnboundConfig() {
+    assertThat(connectionManager.getConnectionStatistics(config).isPresent(), is(false));
+  }
+
+  @Test
+  public void concurrentAcquisitions() throws Exception {
+    final int threads = 4;
+    final int acquisitionsPerThread = 100;
+    connectionManager.bind(config, connectionProvider);
+
+    ExecutorService executor = newFixedThreadPool(threads);
+    try {
+      List<Callable<Void>> tasks = new ArrayList<>();
+      for (int i = 0; i < threads; ++i) {
+        tasks.add(() -> {
+          for (int j = 0; j < acquisitionsPerThread; ++j) {
+            ConnectionHandler<Banana> connectionHandler = connectionManager.getConnection(config);
+            assertThat(connectionHandler.getConnection(), is(sameInstance(connection)));
+            connectionHandler.release();
+          }
+          return null;
+        });
+      }
+      for (Future<Void> result : executor.invokeAll(tasks, 10, SECONDS)) {
+        result.get();
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+
+    ConnectionAcquisitionStatistics statistics = connectionManager.getConnectionStatistics(config).get();
+    assertThat(statistics.getAcquisitions(), is((long) threads * acquisitionsPerThread));
+    assertThat(statistics.getActiveHandles(), is(0L));
+  }
 }
@@ -35,7 +35,7 @@ public class PassThroughConnectionHandlerTestCase extends AbstractMuleTestCase {
 
   @Before
   public void before() {
-    managedConnection = new PassThroughConnectionHandler<>(connection, connectionProvider);
+    managedConnection = new PassThroughConnectionHandler<>(connection, connectionProvider, new ConnectionAcquisitionStatistics());
   }
 
   @Test
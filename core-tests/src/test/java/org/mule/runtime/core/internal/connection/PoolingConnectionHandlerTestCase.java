@@ -54,7 +54,8 @@ public class PoolingConnectionHandlerTestCase extends AbstractMuleTestCase {
 
   @Before
   public void before() {
-    managedConnection = new PoolingConnectionHandler<>(connection, pool, poolingListener, connectionProvider);
+    managedConnection = new PoolingConnectionHandler<>(connection, pool, poolingListener, connectionProvider,
+                                                      new ConnectionAcquisitionStatistics());
   }
 
   @Test
@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.construct;
+
+import static java.lang.Thread.State.TIMED_WAITING;
+import static java.util.Arrays.asList;
+import static java.util.concurrent.TimeUnit.MINUTES;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mule.runtime.core.api.construct.BackPressureReason.MAX_CONCURRENCY_EXCEEDED;
+import static org.mule.runtime.core.api.source.MessageSource.BackPressureStrategy.WAIT;
+
+import org.mule.runtime.core.api.event.CoreEvent;
+import org.mule.runtime.core.api.processor.strategy.ProcessingStrategy;
+import org.mule.runtime.core.api.source.MessageSource;
+import org.mule.tck.junit4.AbstractMuleTestCase;
+import org.mule.tck.probe.JUnitLambdaProbe;
+import org.mule.tck.probe.PollingProber;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class BackPressureStrategySelectorTestCase extends AbstractMuleTestCase {
+
+  private static final long PROBE_TIMEOUT = 5000;
+  private static final long PROBE_INTERVAL = 10;
+  // Long enough for the head of the queue to only be woken up by a signal during the test
+  private static final long NO_HEAD_RETRY = MINUTES.toNanos(10);
+
+  private final AtomicInteger permits = new AtomicInteger();
+  private final List<String> accepted = new CopyOnWriteArrayList<>();
+
+  private AbstractPipeline pipeline;
+  private MessageSource source;
+  private BackPressureStrategySelector selector;
+
+  @Before
+  public void before() {
+    ProcessingStrategy processingStrategy = mock(ProcessingStrategy.class);
+    doAnswer(invocation -> {
+      if (permits.getAndUpdate(p -> p > 0 ? p - 1 : p) == 0) {
+        throw new FromFlowRejectedExecutionException(MAX_CONCURRENCY_EXCEEDED);
+      }
+      return null;
+    }).when(processingStrategy).checkBackpressureAccepting(any());
+
+    source = mock(MessageSource.class);
+    when(source.getBackPressureStrategy()).thenReturn(WAIT);
+
+    pipeline = mock(AbstractPipeline.class);
+    when(pipeline.getProcessingStrategy()).thenReturn(processingStrategy);
+    when(pipeline.getSource()).thenReturn(source);
+
+    selector = new BackPressureStrategySelector(pipeline, NO_HEAD_RETRY);
+  }
+
+  @Test
+  public void acceptedWithoutWaiting() throws Exception {
+    permits.set(1);
+    selector.check(mock(CoreEvent.class));
+
+    verify(source, never()).onBackPressureWaitStarted();
+    verify(source, never()).onBackPressureWaitFinished();
+  }
+
+  @Test
+  public void waitUntilCapacityAvailable() throws Exception {
+    Thread waiter = startWaiter("waiter");
+    new PollingProber(PROBE_TIMEOUT, PROBE_INTERVAL)
+        .check(new JUnitLambdaProbe(() -> {
+          verify(source).onBackPressureWaitStarted();
+          return true;
+        }));
+    assertThat(accepted.isEmpty(), is(true));
+
+    permits.set(1);
+    selector.signalCapacityAvailable();
+    waiter.join(PROBE_TIMEOUT);
+
+    assertThat(accepted, is(asList("waiter")));
+    verify(source).onBackPressureWaitFinished();
+  }
+
+  @Test
+  public void capacityWithoutSignalDoesNotWakeUpWaiter() throws Exception {
+    Thread waiter = startWaiter("waiter");
+    awaitParked(waiter);
+
+    permits.set(1);
+    waiter.join(PROBE_INTERVAL * 10);
+    assertThat(accepted.isEmpty(), is(true));
+
+    selector.signalCapacityAvailable();
+    waiter.join(PROBE_TIMEOUT);
+    assertThat(accepted, is(asList("waiter")));
+  }
+
+  @Test
+  public void waitingThreadsAreAcceptedInArrivalOrder() throws Exception {
+    Thread first = startWaiter("first");
+    awaitParked(first);
+    Thread second = startWaiter("second");
+    awaitParked(second);
+    Thread third = startWaiter("third");
+    awaitParked(third);
+
+    for (int i = 0; i < 3; ++i) {
+      permits.set(1);
+      selector.signalCapacityAvailable();
+      final int acceptedCount = i + 1;
+      new PollingProber(PROBE_TIMEOUT, PROBE_INTERVAL)
+          .check(new JUnitLambdaProbe(() -> accepted.size() == acceptedCount));
+    }
+
+    first.join(PROBE_TIMEOUT);
+    second.join(PROBE_TIMEOUT);
+    third.join(PROBE_TIMEOUT);
+    assertThat(accepted, is(asList("first", "second", "third")));
+  }
+
+  private Thread startWaiter(String name) {
+    Thread waiter = new Thread(() -> {
+      try {
+        selector.check(mock(CoreEvent.class));
+        accepted.add(Thread.currentThread().getName());
+      } catch (FlowBackPressureException e) {
+        throw new IllegalStateException(e);
+      }
+    }, name);
+    waiter.start();
+    return waiter;
+  }
+
+  private void awaitParked(Thread thread) {
+    new PollingProber(PROBE_TIMEOUT, PROBE_INTERVAL).check(new JUnitLambdaProbe(() -> thread.getState() == TIMED_WAITING));
+  }
+}
@@ -20,6 +20,7 @@ import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.withSettings;
@@ -448,6 +449,44 @@ public class FlowProcessMediatorTestCase extends AbstractMuleContextTestCase {
     verifyFlowError(isErrorTypeBackpressure());
   }
 
+  @Test
+  public void batchSuccess() throws Exception {
+    FlowProcessTemplate secondTemplate = mockTemplate();
+
+    flowProcessMediator.processAll(asList(template, secondTemplate), context);
+
+    verify(template).sendResponseToClient(any(), any(), any());
+    verify(secondTemplate).sendResponseToClient(any(), any(), any());
+    verify(notifier, times(2)).phaseSuccessfully();
+    verify(notifier, never()).phaseFailure(any());
+  }
+
+  @Test
+  public void batchBackpressureCheckFailureRejectsFollowingMessages() throws Exception {
+    FlowProcessTemplate secondTemplate = mockTemplate();
+    doThrow(propagate(new FlowBackPressureMaxConcurrencyExceededException(flow, MAX_CONCURRENCY_EXCEEDED))).when(flow)
+        .checkBackpressure(any());
+
+    flowProcessMediator.processAll(asList(template, secondTemplate), context);
+
+    verify(flow, times(1)).checkBackpressure(any());
+    verify(template).afterPhaseExecution(argThat(leftMatches(withEventThat(isErrorTypeBackpressure()))));
+    verify(secondTemplate).afterPhaseExecution(argThat(leftMatches(withEventThat(isErrorTypeBackpressure()))));
+    verify(secondTemplate, never()).sendResponseToClient(any(), any(), any());
+    verify(secondTemplate).sendFailureResponseToClient(any(), any(), any());
+  }
+
+  private FlowProcessTemplate mockTemplate() {
+    FlowProcessTemplate mockTemplate = mock(FlowProcessTemplate.class);
+    when(mockTemplate.getSourceMessage()).thenReturn(resultAdapter);
+    when(mockTemplate.getNotificationFunctions()).thenReturn(emptyList());
+    when(mockTemplate.getFailedExecutionResponseParametersFunction()).thenReturn(event -> emptyMap());
+    doAnswer(onCallback(callback -> callback.complete(null))).when(mockTemplate).sendResponseToClient(any(), any(), any());
+    doAnswer(onCallback(callback -> callback.complete(null)))
+        .when(mockTemplate).sendFailureResponseToClient(any(), any(), any());
+    return mockTemplate;
+  }
+
   private void verifySuccess() {
     verify(flow.getExceptionListener(), never()).handleException(any(), any());
     verify(template).sendResponseToClient(any(), any(), any());
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.metadata;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.mule.runtime.api.metadata.DataType.OBJECT;
+import static org.mule.runtime.api.metadata.DataType.STRING;
+import static org.mule.runtime.api.metadata.MediaType.APPLICATION_JSON;
+import static org.mule.runtime.core.internal.metadata.DataTypeInternTable.collectionOf;
+import static org.mule.runtime.core.internal.metadata.DataTypeInternTable.fromType;
+import static org.mule.runtime.core.internal.metadata.DataTypeInternTable.intern;
+
+import org.mule.runtime.api.message.Message;
+import org.mule.runtime.api.metadata.CollectionDataType;
+import org.mule.runtime.api.metadata.DataType;
+import org.mule.runtime.api.metadata.MediaType;
+import org.mule.tck.junit4.AbstractMuleTestCase;
+import org.mule.tck.size.SmallTest;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+import org.junit.Test;
+
+@SmallTest
+public class DataTypeInternTableTestCase extends AbstractMuleTestCase {
+
+  @Test
+  public void sameInstanceAsBuilder() {
+    final MediaType mediaType = APPLICATION_JSON.withCharset(UTF_8);
+
+    assertThat(fromType(String.class), sameInstance(STRING));
+    assertThat(fromType(String.class, mediaType),
+               sameInstance(DataType.builder().type(String.class).mediaType(mediaType).build()));
+    assertThat(fromType(HashMap.class), sameInstance(DataType.fromType(HashMap.class)));
+  }
+
+  @Test
+  public void collectionSameInstanceAsBuilder() {
+    final DataType dataType = collectionOf(List.class, String.class);
+
+    assertThat(dataType, instanceOf(CollectionDataType.class));
+    assertThat(((CollectionDataType) dataType).getItemDataType(), sameInstance(STRING));
+    assertThat(dataType, sameInstance(DataType.builder().collectionType(List.class).itemType(String.class).build()));
+  }
+
+  @Test
+  public void collectionOfObjects() {
+    final DataType dataType = collectionOf(ArrayList.class, Object.class);
+
+    assertThat(((CollectionDataType) dataType).getItemDataType(), is(OBJECT));
+    assertThat(dataType, sameInstance(fromType(ArrayList.class)));
+  }
+
+  @Test
+  public void proxy() {
+    final Class<?> messageProxy = Proxy.getProxyClass(DataTypeInternTableTestCase.class.getClassLoader(), Message.class);
+
+    assertThat(fromType(messageProxy), sameInstance(fromType(Message.class)));
+  }
+
+  @Test
+  public void manyMediaTypes() {
+    for (int i = 0; i < 100; ++i) {
+      final MediaType mediaType = MediaType.parse("multipart/form-data; boundary=" + i);
+
+      final DataType dataType = fromType(String.class, mediaType);
+
+      assertThat(dataType.getMediaType(), is(equalTo(mediaType)));
+      assertThat(dataType, is(equalTo(DataType.builder().type(String.class).mediaType(mediaType).build())));
+    }
+  }
+
+  @Test
+  public void mediaTypesWithParametersDontTakeSlots() {
+    for (int i = 0; i < 100; ++i) {
+      assertThat(intern(Slots.class, MediaType.parse("multipart/form-data; boundary=" + i)), is(nullValue()));
+    }
+
+    final MediaType mediaType = APPLICATION_JSON.withCharset(UTF_8);
+    assertThat(intern(Slots.class, mediaType), is(notNullValue()));
+    assertThat(intern(Slots.class, mediaType), sameInstance(intern(Slots.class, mediaType)));
+  }
+
+  private static final class Slots {
+  }
+}
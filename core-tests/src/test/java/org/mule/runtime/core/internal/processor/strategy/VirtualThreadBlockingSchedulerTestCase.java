@@ -0,0 +1,179 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.processor.strategy;
+
+import static java.lang.Integer.MAX_VALUE;
+import static java.lang.Thread.currentThread;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mule.tck.probe.PollingProber.probe;
+
+import org.mule.runtime.api.scheduler.Scheduler;
+import org.mule.runtime.api.util.concurrent.Latch;
+import org.mule.tck.junit4.AbstractMuleTestCase;
+import org.mule.tck.size.SmallTest;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Test;
+
+@SmallTest
+public class VirtualThreadBlockingSchedulerTestCase extends AbstractMuleTestCase {
+
+  private static final long SHUTDOWN_TIMEOUT = 5000;
+
+  private final Scheduler platformScheduler = mock(Scheduler.class);
+  private final Latch blockingLatch = new Latch();
+
+  private VirtualThreadBlockingScheduler scheduler;
+
+  @After
+  public void after() throws InterruptedException {
+    blockingLatch.countDown();
+    if (scheduler != null) {
+      scheduler.shutdownNow();
+      scheduler.awaitTermination(5, SECONDS);
+    }
+  }
+
+  @Test
+  public void rejectsWhenMaxConcurrencyReached() throws Exception {
+    // Platform threads stand in for virtual ones, so this runs on any JVM
+    scheduler = new VirtualThreadBlockingScheduler(platformScheduler, Thread::new, 2, () -> SHUTDOWN_TIMEOUT);
+    AtomicInteger completed = new AtomicInteger();
+
+    scheduler.execute(() -> awaitLatchAndCount(completed));
+    scheduler.execute(() -> awaitLatchAndCount(completed));
+    assertRejected();
+
+    blockingLatch.countDown();
+    probe(() -> completed.get() == 2);
+
+    probe(() -> {
+      try {
+        scheduler.execute(() -> completed.incrementAndGet());
+        return true;
+      } catch (RejectedExecutionException e) {
+        return false;
+      }
+    });
+    probe(() -> completed.get() == 3);
+  }
+
+  @Test
+  public void noLimitForMaxValueConcurrency() throws Exception {
+    scheduler = new VirtualThreadBlockingScheduler(platformScheduler, Thread::new, MAX_VALUE, () -> SHUTDOWN_TIMEOUT);
+    CountDownLatch started = new CountDownLatch(64);
+
+    for (int i = 0; i < 64; ++i) {
+      scheduler.execute(() -> {
+        started.countDown();
+        awaitLatchAndCount(new AtomicInteger());
+      });
+    }
+
+    assertThat(started.await(5, SECONDS), is(true));
+  }
+
+  @Test
+  public void stopRejectsNewTasks() {
+    scheduler = new VirtualThreadBlockingScheduler(platformScheduler, Thread::new, 1, () -> SHUTDOWN_TIMEOUT);
+
+    scheduler.stop();
+
+    verify(platformScheduler).stop();
+    assertThat(scheduler.isShutdown(), is(true));
+    assertRejected();
+  }
+
+  @Test
+  public void stopWaitsForRunningTasks() throws Exception {
+    scheduler = new VirtualThreadBlockingScheduler(platformScheduler, Thread::new, 1, () -> SHUTDOWN_TIMEOUT);
+    AtomicInteger completed = new AtomicInteger();
+    Latch started = new Latch();
+    scheduler.execute(() -> {
+      started.countDown();
+      awaitLatchAndCount(completed);
+    });
+    started.await();
+
+    new Thread(() -> {
+      try {
+        Thread.sleep(100);
+      } catch (InterruptedException e) {
+        currentThread().interrupt();
+      }
+      blockingLatch.countDown();
+    }).start();
+    scheduler.stop();
+
+    assertThat(completed.get(), is(1));
+    verify(platformScheduler).stop();
+  }
+
+  @Test
+  public void stopInterruptsTasksRunningAfterTimeout() throws Exception {
+    scheduler = new VirtualThreadBlockingScheduler(platformScheduler, Thread::new, 1, () -> 50L);
+    AtomicInteger completed = new AtomicInteger();
+    Latch started = new Latch();
+    Latch interrupted = new Latch();
+    scheduler.execute(() -> {
+      started.countDown();
+      awaitLatchAndCount(completed);
+      if (currentThread().isInterrupted()) {
+        interrupted.countDown();
+      }
+    });
+    started.await();
+
+    scheduler.stop();
+
+    assertThat(interrupted.await(5, SECONDS), is(true));
+    assertThat(completed.get(), is(0));
+    verify(platformScheduler).stop();
+  }
+
+  @Test
+  public void delayedTasksRunOnPlatformScheduler() {
+    when(platformScheduler.getName()).thenReturn("flow.BLOCKING");
+    scheduler = new VirtualThreadBlockingScheduler(platformScheduler, Thread::new, 1, () -> SHUTDOWN_TIMEOUT);
+    Runnable task = () -> {
+    };
+
+    scheduler.schedule(task, 1, SECONDS);
+
+    verify(platformScheduler).schedule(task, 1, SECONDS);
+    assertThat(scheduler.getName(), is("flow.BLOCKING"));
+  }
+
+  private void assertRejected() {
+    try {
+      scheduler.execute(() -> {
+      });
+      fail("was expecting RejectedExecutionException");
+    } catch (RejectedExecutionException e) {
+      // expected
+    }
+  }
+
+  private void awaitLatchAndCount(AtomicInteger completed) {
+    try {
+      blockingLatch.await();
+      completed.incrementAndGet();
+    } catch (InterruptedException e) {
+      currentThread().interrupt();
+    }
+  }
+}
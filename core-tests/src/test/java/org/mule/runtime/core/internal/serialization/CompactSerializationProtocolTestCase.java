@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.serialization;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.Assert.assertThat;
+import static org.mule.runtime.api.metadata.DataType.BYTE_ARRAY;
+import static org.mule.runtime.api.metadata.DataType.STRING;
+import static org.mule.runtime.api.metadata.MediaType.APPLICATION_JSON;
+
+import org.mule.runtime.api.message.Message;
+import org.mule.runtime.api.metadata.DataType;
+import org.mule.runtime.api.metadata.TypedValue;
+import org.mule.runtime.api.serialization.SerializationException;
+import org.mule.tck.core.internal.serialization.AbstractSerializerProtocolContractTestCase;
+
+import java.io.ByteArrayInputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+
+public class CompactSerializationProtocolTestCase extends AbstractSerializerProtocolContractTestCase {
+
+  private static final String PAYLOAD = "{\"name\": \"compact\"}";
+
+  @Override
+  protected void doSetUp() throws Exception {
+    CompactSerializationProtocol protocol = new CompactSerializationProtocol();
+    protocol.setMuleContext(muleContext);
+    serializationProtocol = protocol;
+  }
+
+  @Test(expected = SerializationException.class)
+  public void notSerializable() throws Exception {
+    serializationProtocol.serialize(new Object());
+  }
+
+  @Test
+  public void message() throws Exception {
+    Message message = Message.builder()
+        .value(PAYLOAD).mediaType(APPLICATION_JSON)
+        .attributesValue(singletonAttributes())
+        .build();
+
+    Message deserialized = serializationProtocol.deserialize(serializationProtocol.serialize(message));
+
+    assertThat(deserialized.getPayload().getValue(), equalTo(PAYLOAD));
+    assertThat(deserialized.getPayload().getDataType(), equalTo(message.getPayload().getDataType()));
+    assertThat(deserialized.getAttributes().getValue(), equalTo(message.getAttributes().getValue()));
+    assertThat(deserialized.getAttributes().getValue(), instanceOf(LinkedHashMap.class));
+  }
+
+  @Test
+  public void streamPayloadMessage() throws Exception {
+    Message message = Message.builder()
+        .value(new ByteArrayInputStream(PAYLOAD.getBytes())).mediaType(APPLICATION_JSON)
+        .attributesValue(singletonAttributes())
+        .build();
+
+    Message deserialized = serializationProtocol.deserialize(serializationProtocol.serialize(message));
+
+    assertThat(deserialized.getPayload().getValue(), equalTo(PAYLOAD.getBytes()));
+    assertThat(deserialized.getPayload().getDataType().getType(), equalTo(BYTE_ARRAY.getType()));
+    assertThat(deserialized.getPayload().getDataType().getMediaType().matches(APPLICATION_JSON), equalTo(true));
+    assertThat(deserialized.getAttributes().getValue(), equalTo(message.getAttributes().getValue()));
+  }
+
+  @Test
+  public void typedValue() throws Exception {
+    TypedValue<Long> value = new TypedValue<>(-42L, DataType.fromType(Long.class));
+
+    TypedValue<Long> deserialized = serializationProtocol.deserialize(serializationProtocol.serialize(value));
+
+    assertThat(deserialized.getValue(), equalTo(-42L));
+    assertThat(deserialized.getDataType(), equalTo(value.getDataType()));
+  }
+
+  @Test
+  public void collections() throws Exception {
+    List<Object> list = new ArrayList<>();
+    list.add(1);
+    list.add("two");
+    list.add(null);
+    list.add(new byte[] {3});
+    list.add(STRING);
+
+    List<Object> deserialized = serializationProtocol.deserialize(serializationProtocol.serialize(list));
+
+    assertThat(deserialized.size(), equalTo(5));
+    assertThat(deserialized.get(0), equalTo(1));
+    assertThat(deserialized.get(1), equalTo("two"));
+    assertThat(deserialized.get(3), equalTo(new byte[] {3}));
+    assertThat(deserialized.get(4), equalTo(STRING));
+  }
+
+  @Test
+  public void byteBuffer() throws Exception {
+    CompactSerializationProtocol protocol = (CompactSerializationProtocol) serializationProtocol;
+    ByteBuffer buffer = protocol.serializeToBuffer(Message.of(PAYLOAD));
+
+    Message deserialized = protocol.deserialize(buffer, getClass().getClassLoader());
+    assertThat(deserialized.getPayload().getValue(), equalTo(PAYLOAD));
+    assertThat(buffer.remaining(), equalTo(0));
+  }
+
+  @Test
+  public void smallerThanJavaSerialization() throws Exception {
+    Message message = Message.builder().value(PAYLOAD).mediaType(APPLICATION_JSON).build();
+
+    byte[] compact = serializationProtocol.serialize(message);
+    byte[] java = muleContext.getObjectSerializer().getExternalProtocol().serialize(message);
+
+    assertThat(compact.length, lessThan(java.length));
+  }
+
+  private Map<String, String> singletonAttributes() {
+    Map<String, String> attributes = new LinkedHashMap<>();
+    attributes.put("key", "value");
+    return attributes;
+  }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.store;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
+
+import org.mule.tck.junit4.AbstractMuleTestCase;
+import org.mule.tck.size.SmallTest;
+
+import java.util.HashSet;
+
+import org.junit.Test;
+
+@SmallTest
+public class ExpiryIndexTestCase extends AbstractMuleTestCase {
+
+  private final ExpiryIndex index = new ExpiryIndex();
+
+  @Test
+  public void removeExpiredInTimeOrder() {
+    index.add("c", 3);
+    index.add("a", 1);
+    index.add("b", 2);
+
+    assertThat(index.removeExpired(2, 10), contains("a", "b"));
+    assertThat(index.size(), is(1));
+    assertThat(index.removeExpired(2, 10), is(empty()));
+  }
+
+  @Test
+  public void removeExpiredHonoursLimit() {
+    index.add("a", 1);
+    index.add("b", 2);
+    index.add("c", 3);
+
+    assertThat(index.removeExpired(3, 2), contains("a", "b"));
+    assertThat(index.removeExpired(3, 2), contains("c"));
+  }
+
+  @Test
+  public void keysWithSameTimestampAreKept() {
+    index.add("a", 1);
+    index.add("b", 1);
+
+    assertThat(index.size(), is(2));
+    assertThat(index.removeOldest(2), contains("a", "b"));
+  }
+
+  @Test
+  public void removedKeyIsNotExpired() {
+    index.add("a", 1);
+    index.add("b", 2);
+
+    assertThat(index.remove("a"), is(true));
+    assertThat(index.remove("a"), is(false));
+    assertThat(index.removeOldest(1), contains("b"));
+  }
+
+  @Test
+  public void addingAgainReplacesTimestamp() {
+    index.add("a", 1);
+    index.add("b", 2);
+    index.add("a", 3);
+
+    assertThat(index.size(), is(2));
+    assertThat(index.removeExpired(2, 10), contains("b"));
+    assertThat(index.removeOldest(1), contains("a"));
+  }
+
+  @Test
+  public void retainAllKeepsRecentKeys() {
+    index.add("a", 1);
+    index.add("b", 2);
+    index.add("c", 5);
+
+    assertThat(index.retainAll(new HashSet<>(asList("b")), 3), is(1));
+    assertThat(index.contains("a"), is(false));
+    assertThat(index.contains("b"), is(true));
+    assertThat(index.contains("c"), is(true));
+  }
+
+  @Test
+  public void clear() {
+    index.add("a", 1);
+    index.clear();
+
+    assertThat(index.size(), is(0));
+    assertThat(index.removeOldest(1), is(empty()));
+  }
+}
@@ -11,7 +11,9 @@ import static org.mockito.Mockito.when;
 import static org.mule.test.allure.AllureConstants.StreamingFeature.STREAMING;
 import org.mule.runtime.api.store.ObjectDoesNotExistException;
 import org.mule.runtime.api.store.ObjectStore;
+import org.mule.runtime.core.internal.store.PartitionedInMemoryObjectStore;
 import org.mule.runtime.core.internal.streaming.object.iterator.ObjectStoreProducer;
+import org.mule.runtime.core.internal.util.store.ObjectStorePartition;
 import org.mule.tck.size.SmallTest;
 
 import java.io.Serializable;
@@ -104,4 +106,24 @@ public class ObjectStoreProducerTestCase {
     Assert.assertTrue(CollectionUtils.isEmpty((List<Serializable>) this.producer.produce()));
   }
 
+  @Test
+  public void pagedStore() throws Exception {
+    ObjectStorePartition<Serializable> pagedStore =
+        new ObjectStorePartition<>("partition", new PartitionedInMemoryObjectStore<>());
+    for (String key : this.values.keySet()) {
+      pagedStore.store(key, this.values.get(key));
+    }
+    ObjectStoreProducer<Serializable> pagedProducer = new ObjectStoreProducer<>(pagedStore, 2);
+
+    Set<Serializable> returnedValues = new HashSet<>();
+    Serializable item = pagedProducer.produce();
+    while (item != null) {
+      returnedValues.add(item);
+      item = pagedProducer.produce();
+    }
+
+    Assert.assertEquals(this.values.size(), pagedProducer.getSize());
+    Assert.assertEquals(new HashSet<>(this.values.values()), returnedValues);
+  }
+
 }
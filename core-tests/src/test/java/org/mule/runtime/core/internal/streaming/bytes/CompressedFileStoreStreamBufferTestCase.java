@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.streaming.bytes;
+
+import static java.util.zip.Deflater.BEST_SPEED;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertThat;
+import static org.mule.runtime.api.util.DataUnit.BYTE;
+import static org.mule.test.allure.AllureConstants.StreamingFeature.STREAMING;
+
+import org.mule.runtime.api.util.DataSize;
+import org.mule.runtime.core.internal.util.compression.BlockCompression;
+import org.mule.runtime.core.internal.util.compression.CompressionStatistics;
+import org.mule.tck.junit4.AbstractMuleTestCase;
+import org.mule.tck.size.SmallTest;
+
+import java.io.ByteArrayInputStream;
+import java.nio.ByteBuffer;
+
+import org.junit.After;
+import org.junit.Test;
+
+import io.qameta.allure.Feature;
+
+@SmallTest
+@Feature(STREAMING)
+public class CompressedFileStoreStreamBufferTestCase extends AbstractMuleTestCase {
+
+  private static final int MAX_IN_MEMORY = 256;
+  private static final int DATA_LENGTH = 1000;
+
+  private final SimpleByteBufferManager bufferManager = new SimpleByteBufferManager();
+  private final FileStoreStreamBuffer buffer =
+      new FileStoreStreamBuffer(new ByteArrayInputStream(range(0, DATA_LENGTH)),
+                                new FileStoreCursorStreamConfig(new DataSize(MAX_IN_MEMORY, BYTE)),
+                                bufferManager, MAX_IN_MEMORY, new BlockCompression(true, BEST_SPEED, 0));
+
+  @After
+  public void after() {
+    buffer.close();
+  }
+
+  @Test
+  public void readWithinCompressedBlock() {
+    consumeAll();
+
+    assertThat(bytes(buffer.get(300, 20)), equalTo(range(300, 20)));
+  }
+
+  @Test
+  public void readSpanningCompressedBlocks() {
+    consumeAll();
+
+    assertThat(bytes(buffer.get(500, 40)), equalTo(range(500, 40)));
+  }
+
+  @Test
+  public void readSpanningMemoryAndFile() {
+    consumeAll();
+
+    assertThat(bytes(buffer.get(250, 20)), equalTo(range(250, 20)));
+  }
+
+  @Test
+  public void readFromBlockBeingWritten() {
+    consumeAll();
+
+    assertThat(bytes(buffer.get(990, 20)), equalTo(range(990, 10)));
+  }
+
+  @Test
+  public void readPastEndOfStream() {
+    consumeAll();
+
+    assertThat(buffer.get(DATA_LENGTH, 1), is(nullValue()));
+  }
+
+  @Test
+  public void readWholeStreamSequentially() {
+    int position = 0;
+    ByteBuffer read;
+    while ((read = buffer.get(position, 7)) != null) {
+      byte[] bytes = bytes(read);
+      assertThat(bytes, equalTo(range(position, bytes.length)));
+      position += bytes.length;
+    }
+
+    assertThat(position, is(DATA_LENGTH));
+  }
+
+  @Test
+  public void fullBlocksCompressed() {
+    consumeAll();
+
+    final CompressionStatistics statistics = buffer.getCompressionStatistics();
+    assertThat(statistics.getCompressedRecords(), is(2L));
+    assertThat(statistics.getCompressedBytes(), lessThan(statistics.getUncompressedBytes()));
+    assertThat(buffer.getBufferFile().length(), is(statistics.getCompressedBytes()));
+  }
+
+  private void consumeAll() {
+    bytes(buffer.get(DATA_LENGTH - 1, 1));
+  }
+
+  private static byte[] range(int from, int length) {
+    byte[] data = new byte[length];
+    for (int i = 0; i < length; ++i) {
+      data[i] = (byte) ((from + i) % 16);
+    }
+    return data;
+  }
+
+  private static byte[] bytes(ByteBuffer buffer) {
+    byte[] bytes = new byte[buffer.remaining()];
+    buffer.get(bytes);
+    return bytes;
+  }
+}
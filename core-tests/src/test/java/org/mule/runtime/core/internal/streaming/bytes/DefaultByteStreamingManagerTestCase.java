@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.streaming.bytes;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.junit.Assert.assertThat;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mule.runtime.core.internal.streaming.bytes.DefaultByteStreamingManager.DEFAULT_FILE_STORE_STREAMING_PROPERTY;
+import static org.mule.runtime.dsl.api.component.config.DefaultComponentLocation.fromSingleComponent;
+import static org.mule.test.allure.AllureConstants.StreamingFeature.STREAMING;
+
+import org.mule.runtime.api.event.EventContext;
+import org.mule.runtime.api.streaming.CursorProvider;
+import org.mule.runtime.api.streaming.bytes.CursorStream;
+import org.mule.runtime.api.streaming.bytes.CursorStreamProvider;
+import org.mule.runtime.core.api.streaming.StreamingManager;
+import org.mule.runtime.core.api.streaming.bytes.CursorStreamProviderFactory;
+import org.mule.runtime.core.api.streaming.bytes.InMemoryCursorStreamConfig;
+import org.mule.runtime.core.internal.streaming.bytes.factory.FileStoreCursorStreamProviderFactory;
+import org.mule.tck.junit4.AbstractMuleTestCase;
+import org.mule.tck.junit4.rule.SystemProperty;
+import org.mule.tck.size.SmallTest;
+
+import java.io.ByteArrayInputStream;
+import java.util.Random;
+
+import org.apache.commons.io.IOUtils;
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+
+import io.qameta.allure.Feature;
+
+@SmallTest
+@Feature(STREAMING)
+public class DefaultByteStreamingManagerTestCase extends AbstractMuleTestCase {
+
+  @Rule
+  public SystemProperty defaultFileStore = new SystemProperty(DEFAULT_FILE_STORE_STREAMING_PROPERTY, "true");
+
+  private final SimpleByteBufferManager bufferManager = new SimpleByteBufferManager();
+  private CursorStreamProvider provider;
+
+  @After
+  public void after() {
+    if (provider != null) {
+      provider.close();
+      provider.releaseResources();
+    }
+  }
+
+  @Test
+  public void defaultFactoryBuffersOnFilePastInMemoryLimit() throws Exception {
+    StreamingManager streamingManager = mock(StreamingManager.class);
+    when(streamingManager.manage(any(CursorProvider.class), any(EventContext.class))).then(returnsFirstArg());
+    EventContext eventContext = mock(EventContext.class);
+    when(eventContext.getOriginatingLocation()).thenReturn(fromSingleComponent("log"));
+
+    CursorStreamProviderFactory factory =
+        new DefaultByteStreamingManager(bufferManager, streamingManager).getDefaultCursorProviderFactory();
+    assertThat(factory, instanceOf(FileStoreCursorStreamProviderFactory.class));
+
+    byte[] data = new byte[InMemoryCursorStreamConfig.getDefault().getMaxBufferSize().toBytes() * 2];
+    new Random().nextBytes(data);
+    provider = (CursorStreamProvider) factory.of(eventContext, new ByteArrayInputStream(data));
+
+    try (CursorStream cursor = provider.openCursor()) {
+      assertThat(IOUtils.toByteArray(cursor), equalTo(data));
+      cursor.seek(0);
+      assertThat(IOUtils.toByteArray(cursor), equalTo(data));
+    }
+  }
+}
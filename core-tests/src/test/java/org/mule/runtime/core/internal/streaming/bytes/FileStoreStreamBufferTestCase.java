@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.streaming.bytes;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertThat;
+import static org.mule.runtime.api.util.DataUnit.BYTE;
+import static org.mule.test.allure.AllureConstants.StreamingFeature.STREAMING;
+
+import org.mule.runtime.api.util.DataSize;
+import org.mule.tck.junit4.AbstractMuleTestCase;
+import org.mule.tck.size.SmallTest;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.nio.ByteBuffer;
+
+import org.junit.After;
+import org.junit.Test;
+
+import io.qameta.allure.Feature;
+
+@SmallTest
+@Feature(STREAMING)
+public class FileStoreStreamBufferTestCase extends AbstractMuleTestCase {
+
+  private static final int MAX_IN_MEMORY = 16;
+  private static final int MAPPED_REGION_SIZE = 8;
+  private static final int DATA_LENGTH = 50;
+
+  private final SimpleByteBufferManager bufferManager = new SimpleByteBufferManager();
+  private final FileStoreStreamBuffer buffer =
+      new FileStoreStreamBuffer(new ByteArrayInputStream(range(0, DATA_LENGTH)),
+                                new FileStoreCursorStreamConfig(new DataSize(MAX_IN_MEMORY, BYTE)),
+                                bufferManager, MAPPED_REGION_SIZE);
+
+  @After
+  public void after() {
+    buffer.close();
+  }
+
+  @Test
+  public void readWithinMemory() {
+    assertThat(bytes(buffer.get(2, 5)), equalTo(range(2, 5)));
+    assertThat(buffer.getBufferFile(), is(nullValue()));
+  }
+
+  @Test
+  public void readWithinMappedRegion() {
+    consumeAll();
+
+    assertThat(bytes(buffer.get(26, 4)), equalTo(range(26, 4)));
+  }
+
+  @Test
+  public void readSpanningMemoryAndFile() {
+    consumeAll();
+
+    assertThat(bytes(buffer.get(12, 10)), equalTo(range(12, 10)));
+  }
+
+  @Test
+  public void readSpanningMappedRegions() {
+    consumeAll();
+
+    assertThat(bytes(buffer.get(20, 10)), equalTo(range(20, 10)));
+  }
+
+  @Test
+  public void readFromRegionBeingWritten() {
+    consumeAll();
+
+    assertThat(bytes(buffer.get(46, 10)), equalTo(range(46, 4)));
+  }
+
+  @Test
+  public void readPastEndOfStream() {
+    consumeAll();
+
+    assertThat(buffer.get(DATA_LENGTH, 1), is(nullValue()));
+  }
+
+  @Test
+  public void readWholeStreamSequentially() {
+    int position = 0;
+    ByteBuffer read;
+    while ((read = buffer.get(position, 7)) != null) {
+      byte[] bytes = bytes(read);
+      assertThat(bytes, equalTo(range(position, bytes.length)));
+      position += bytes.length;
+    }
+
+    assertThat(position, is(DATA_LENGTH));
+  }
+
+  @Test
+  public void bufferFileDeletedOnClose() {
+    consumeAll();
+    File bufferFile = buffer.getBufferFile();
+    assertThat(bufferFile, is(notNullValue()));
+    assertThat(bufferFile.exists(), is(true));
+
+    buffer.close();
+
+    assertThat(bufferFile.exists(), is(false));
+  }
+
+  private void consumeAll() {
+    bytes(buffer.get(DATA_LENGTH - 1, 1));
+  }
+
+  private static byte[] range(int from, int length) {
+    byte[] data = new byte[length];
+    for (int i = 0; i < length; ++i) {
+      data[i] = (byte) (from + i);
+    }
+    return data;
+  }
+
+  private static byte[] bytes(ByteBuffer buffer) {
+    byte[] bytes = new byte[buffer.remaining()];
+    buffer.get(bytes);
+    return bytes;
+  }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.streaming.bytes;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertThat;
+import static org.mule.runtime.api.util.DataUnit.BYTE;
+import static org.mule.test.allure.AllureConstants.StreamingFeature.STREAMING;
+
+import org.mule.runtime.api.streaming.exception.StreamingBufferSizeExceededException;
+import org.mule.runtime.api.util.DataSize;
+import org.mule.runtime.core.api.streaming.bytes.InMemoryCursorStreamConfig;
+import org.mule.tck.junit4.AbstractMuleTestCase;
+import org.mule.tck.size.SmallTest;
+
+import java.io.ByteArrayInputStream;
+import java.nio.ByteBuffer;
+
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import io.qameta.allure.Feature;
+
+@SmallTest
+@Feature(STREAMING)
+public class InMemoryStreamBufferTestCase extends AbstractMuleTestCase {
+
+  private static final int INITIAL_SIZE = 10;
+  private static final int INCREMENT = 4;
+
+  @Rule
+  public ExpectedException expectedException = ExpectedException.none();
+
+  private final SimpleByteBufferManager bufferManager = new SimpleByteBufferManager();
+  private InMemoryStreamBuffer buffer;
+
+  @After
+  public void after() {
+    if (buffer != null) {
+      buffer.close();
+    }
+  }
+
+  @Test
+  public void readWithinFirstChunk() {
+    buffer = createBuffer(data(30), 0);
+
+    assertThat(bytes(buffer.get(2, 5)), equalTo(range(2, 5)));
+  }
+
+  @Test
+  public void readSpanningChunks() {
+    buffer = createBuffer(data(30), 0);
+    // forces all the data to be buffered
+    bytes(buffer.get(29, 1));
+
+    assertThat(bytes(buffer.get(8, 12)), equalTo(range(8, 12)));
+  }
+
+  @Test
+  public void readWithinLaterChunk() {
+    buffer = createBuffer(data(30), 0);
+    bytes(buffer.get(29, 1));
+
+    assertThat(bytes(buffer.get(14, 4)), equalTo(range(14, 4)));
+  }
+
+  @Test
+  public void readPastEndOfStream() {
+    buffer = createBuffer(data(12), 0);
+
+    assertThat(bytes(buffer.get(8, 10)), equalTo(range(8, 2)));
+    assertThat(bytes(buffer.get(10, 10)), equalTo(range(10, 2)));
+    assertThat(buffer.get(13, 10), is(nullValue()));
+  }
+
+  @Test
+  public void streamFillingMaxSizeExactly() {
+    buffer = createBuffer(data(18), 18);
+
+    assertThat(bytes(buffer.get(0, 18)), equalTo(range(0, 10)));
+    assertThat(bytes(buffer.get(10, 8)), equalTo(range(10, 4)));
+    assertThat(bytes(buffer.get(14, 4)), equalTo(range(14, 4)));
+    assertThat(buffer.get(18, 1), is(nullValue()));
+  }
+
+  @Test
+  public void streamExceedingMaxSize() {
+    buffer = createBuffer(data(19), 18);
+    bytes(buffer.get(0, 18));
+
+    expectedException.expect(StreamingBufferSizeExceededException.class);
+    buffer.get(18, 1);
+  }
+
+  private InMemoryStreamBuffer createBuffer(byte[] data, int maxSize) {
+    InMemoryCursorStreamConfig config = new InMemoryCursorStreamConfig(new DataSize(INITIAL_SIZE, BYTE),
+                                                                       new DataSize(INCREMENT, BYTE),
+                                                                       new DataSize(maxSize, BYTE));
+    return new InMemoryStreamBuffer(new ByteArrayInputStream(data), config, bufferManager);
+  }
+
+  private static byte[] data(int length) {
+    return range(0, length);
+  }
+
+  private static byte[] range(int from, int length) {
+    byte[] data = new byte[length];
+    for (int i = 0; i < length; ++i) {
+      data[i] = (byte) (from + i);
+    }
+    return data;
+  }
+
+  private static byte[] bytes(ByteBuffer buffer) {
+    byte[] bytes = new byte[buffer.remaining()];
+    buffer.get(bytes);
+    return bytes;
+  }
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.util.compression;
+
+import static java.util.zip.Deflater.BEST_COMPRESSION;
+import static java.util.zip.Deflater.BEST_SPEED;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.mule.runtime.core.api.util.IOUtils.toByteArray;
+
+import org.mule.tck.junit4.AbstractMuleTestCase;
+import org.mule.tck.size.SmallTest;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.Random;
+
+import org.junit.Test;
+
+@SmallTest
+public class BlockCompressionTestCase extends AbstractMuleTestCase {
+
+  private static final int THRESHOLD = 64;
+
+  private final BlockCompression compression = new BlockCompression(true, BEST_SPEED, THRESHOLD);
+
+  @Test
+  public void roundTrip() throws Exception {
+    final byte[] data = repetitive(4096);
+    final byte[] compressed = compression.compressByteArray(data);
+
+    assertThat(compression.isCompressed(compressed), is(true));
+    assertThat(compressed.length, lessThan(data.length));
+    assertThat(compression.uncompressByteArray(compressed), equalTo(data));
+  }
+
+  @Test
+  public void roundTripOfPartOfArray() throws Exception {
+    final byte[] data = repetitive(4096);
+    final byte[] compressed = compression.compress(data, 100, 1000);
+
+    final byte[] expected = new byte[1000];
+    System.arraycopy(data, 100, expected, 0, 1000);
+    assertThat(compression.uncompressByteArray(compressed), equalTo(expected));
+  }
+
+  @Test
+  public void instancesWithDifferentLevelsRoundTrip() throws Exception {
+    final byte[] data = repetitive(4096);
+    // Each instance takes its deflater from the shared pool of its level
+    for (int i = 0; i < 100; ++i) {
+      final BlockCompression instance = new BlockCompression(true, i % 2 == 0 ? BEST_SPEED : BEST_COMPRESSION, THRESHOLD);
+      assertThat(instance.uncompressByteArray(instance.compressByteArray(data)), equalTo(data));
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void invalidLevel() {
+    new BlockCompression(true, BEST_COMPRESSION + 1, THRESHOLD);
+  }
+
+  @Test
+  public void belowThresholdNotCompressed() throws Exception {
+    final byte[] data = repetitive(THRESHOLD - 1);
+
+    assertThat(compression.compressByteArray(data), is(sameInstance(data)));
+  }
+
+  @Test
+  public void incompressibleNotCompressed() throws Exception {
+    final byte[] data = new byte[4096];
+    new Random(42).nextBytes(data);
+
+    assertThat(compression.compressByteArray(data), is(sameInstance(data)));
+  }
+
+  @Test
+  public void dataStartingLikeCompressedIsEscaped() throws Exception {
+    final byte[] data = new byte[] {(byte) 0xFE, 'M', 'B', 'C', 1, 0, 0, 0, 0, 0};
+    final byte[] stored = compression.compressByteArray(data);
+
+    assertThat(compression.isCompressed(stored), is(true));
+    assertThat(compression.uncompressByteArray(stored), equalTo(data));
+    assertThat(toByteArray(compression.uncompressInputStream(new ByteArrayInputStream(stored))), equalTo(data));
+  }
+
+  @Test
+  public void disabledReadsCompressed() throws Exception {
+    final BlockCompression disabled = new BlockCompression(false, BEST_SPEED, THRESHOLD);
+    final byte[] data = repetitive(4096);
+
+    assertThat(disabled.compressByteArray(data), is(sameInstance(data)));
+    assertThat(disabled.uncompressByteArray(compression.compressByteArray(data)), equalTo(data));
+  }
+
+  @Test
+  public void uncompressedPassThrough() throws Exception {
+    final byte[] data = repetitive(4096);
+
+    assertThat(compression.uncompressByteArray(data), is(sameInstance(data)));
+    assertThat(toByteArray(compression.uncompressInputStream(new ByteArrayInputStream(data))), equalTo(data));
+  }
+
+  @Test
+  public void streamRoundTrip() throws Exception {
+    final byte[] data = repetitive(100000);
+
+    final byte[] compressed = toByteArray(compression.compressInputStream(new ByteArrayInputStream(data)));
+    assertThat(compressed.length, lessThan(data.length));
+    try (InputStream uncompressed = compression.uncompressInputStream(new ByteArrayInputStream(compressed))) {
+      assertThat(toByteArray(uncompressed), equalTo(data));
+    }
+    assertThat(compression.uncompressByteArray(compressed), equalTo(data));
+  }
+
+  @Test
+  public void compressedRecordInStream() throws Exception {
+    final byte[] data = repetitive(4096);
+
+    final InputStream stream = new ByteArrayInputStream(compression.compressByteArray(data));
+    assertThat(toByteArray(compression.uncompressInputStream(stream)), equalTo(data));
+  }
+
+  @Test
+  public void statistics() throws Exception {
+    compression.uncompressByteArray(compression.compressByteArray(repetitive(4096)));
+    compression.compressByteArray(repetitive(10));
+
+    final CompressionStatistics statistics = compression.getStatistics();
+    assertThat(statistics.getRecords(), is(2L));
+    assertThat(statistics.getCompressedRecords(), is(1L));
+    assertThat(statistics.getUncompressedBytes(), is(4106L));
+    assertThat(statistics.getCompressedBytes(), lessThan(4106L));
+    assertThat(statistics.getCompressionRatio(), greaterThan(1d));
+    assertThat(statistics.getDecompressedRecords(), is(1L));
+  }
+
+  @Test
+  public void streamStatistics() throws Exception {
+    try (InputStream uncompressed =
+        compression.uncompressInputStream(new ByteArrayInputStream(compression.compressByteArray(repetitive(4096))))) {
+      toByteArray(uncompressed);
+    }
+    compression.uncompressByteArray(toByteArray(compression.compressInputStream(new ByteArrayInputStream(repetitive(4096)))));
+
+    final CompressionStatistics statistics = compression.getStatistics();
+    assertThat(statistics.getDecompressedRecords(), is(2L));
+    assertThat(statistics.getDecompressionNanos(), greaterThan(0L));
+  }
+
+  private static byte[] repetitive(int length) {
+    final byte[] data = new byte[length];
+    for (int i = 0; i < length; ++i) {
+      data[i] = (byte) ('a' + i % 16);
+    }
+    return data;
+  }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.util.queue;
+
+import static java.util.Arrays.asList;
+import static java.util.concurrent.Executors.newFixedThreadPool;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
+
+import org.mule.tck.junit4.AbstractMuleTestCase;
+import org.mule.tck.size.SmallTest;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import org.hamcrest.Matchers;
+import org.junit.After;
+import org.junit.Test;
+
+@SmallTest
+public class ConcurrentQueueStoreDelegateTestCase extends AbstractMuleTestCase {
+
+  private static final long TIMEOUT = 100;
+
+  private final ExecutorService executor = newFixedThreadPool(4);
+
+  @After
+  public void after() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  public void batchPollReturnsAtMostMaxItemsInOrder() throws Exception {
+    ConcurrentQueueStoreDelegate queue = new ConcurrentQueueStoreDelegate(0);
+    queue.addAll(asList("1", "2", "3", "4", "5"));
+
+    assertThat(queue.poll(3, TIMEOUT), Matchers.<Serializable>contains("1", "2", "3"));
+    assertThat(queue.getSize(), is(2));
+    assertThat(queue.poll(3, TIMEOUT), Matchers.<Serializable>contains("4", "5"));
+    assertThat(queue.getSize(), is(0));
+  }
+
+  @Test
+  public void batchPollOnEmptyQueueWaitsForTimeout() throws Exception {
+    ConcurrentQueueStoreDelegate queue = new ConcurrentQueueStoreDelegate(0);
+    long start = System.currentTimeMillis();
+
+    assertThat(queue.poll(10, TIMEOUT), is(empty()));
+    assertThat(System.currentTimeMillis() - start, greaterThanOrEqualTo(TIMEOUT));
+  }
+
+  @Test
+  public void pollWaitingForItemIsWokenUpOnPut() throws Exception {
+    ConcurrentQueueStoreDelegate queue = new ConcurrentQueueStoreDelegate(0);
+    Future<List<Serializable>> polled = executor.submit(() -> queue.poll(10, SECONDS.toMillis(10)));
+
+    queue.putNow("1");
+
+    assertThat(polled.get(5, SECONDS), Matchers.<Serializable>contains("1"));
+  }
+
+  @Test
+  public void offerWaitingForRoomIsWokenUpOnPoll() throws Exception {
+    ConcurrentQueueStoreDelegate queue = new ConcurrentQueueStoreDelegate(1);
+    assertThat(queue.offer("1", 0, TIMEOUT), is(true));
+    Future<Boolean> offered = executor.submit(() -> queue.offer("2", 0, SECONDS.toMillis(10)));
+
+    assertThat((String) queue.poll(TIMEOUT), is("1"));
+
+    assertThat(offered.get(5, SECONDS), is(true));
+    assertThat((String) queue.poll(TIMEOUT), is("2"));
+  }
+
+  @Test
+  public void untakeAddsItemFirstBeyondCapacity() throws Exception {
+    ConcurrentQueueStoreDelegate queue = new ConcurrentQueueStoreDelegate(1);
+    assertThat(queue.offer("1", 0, TIMEOUT), is(true));
+    queue.untake("0");
+
+    assertThat(queue.getSize(), is(2));
+    assertThat(queue.poll(2, TIMEOUT), Matchers.<Serializable>contains("0", "1"));
+  }
+
+  @Test
+  public void concurrentProducersAndConsumersDoNotLoseItems() throws Exception {
+    final int itemsPerProducer = 10000;
+    ConcurrentQueueStoreDelegate queue = new ConcurrentQueueStoreDelegate(16);
+
+    List<Future<?>> producers = new ArrayList<>();
+    for (int p = 0; p < 2; ++p) {
+      producers.add(executor.submit(() -> {
+        for (int i = 0; i < itemsPerProducer; ++i) {
+          queue.offer(i, 0, -1);
+        }
+        return null;
+      }));
+    }
+
+    List<Future<Integer>> consumers = new ArrayList<>();
+    for (int c = 0; c < 2; ++c) {
+      consumers.add(executor.submit(() -> {
+        int consumed = 0;
+        List<Serializable> batch;
+        while (!(batch = queue.poll(8, TIMEOUT)).isEmpty()) {
+          consumed += batch.size();
+        }
+        return consumed;
+      }));
+    }
+
+    for (Future<?> producer : producers) {
+      producer.get(30, SECONDS);
+    }
+    int totalConsumed = 0;
+    for (Future<Integer> consumer : consumers) {
+      totalConsumed += consumer.get(30, SECONDS);
+    }
+
+    assertThat(totalConsumed, is(2 * itemsPerProducer));
+    assertThat(queue.getSize(), is(0));
+  }
+}
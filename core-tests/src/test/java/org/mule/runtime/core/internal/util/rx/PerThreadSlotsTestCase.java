@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.util.rx;
+
+import static java.util.Collections.synchronizedList;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.junit.Assert.assertThat;
+import static org.mule.tck.probe.PollingProber.DEFAULT_POLLING_INTERVAL;
+
+import org.mule.runtime.api.lifecycle.Disposable;
+import org.mule.tck.junit4.AbstractMuleTestCase;
+import org.mule.tck.probe.JUnitLambdaProbe;
+import org.mule.tck.probe.PollingProber;
+import org.mule.tck.size.SmallTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Test;
+
+@SmallTest
+public class PerThreadSlotsTestCase extends AbstractMuleTestCase {
+
+  private static final int GC_POLLING_TIMEOUT = 10000;
+
+  private final List<Object> removed = synchronizedList(new ArrayList<>());
+  private final PerThreadSlots<Object> slots = new PerThreadSlots<>(removed::add);
+
+  @Test
+  public void sameValueForSameThread() {
+    Object value = slots.get(Object::new);
+
+    assertThat(slots.get(Object::new), sameInstance(value));
+    assertThat(slots.values(), containsInAnyOrder(value));
+  }
+
+  @Test
+  public void differentValueForEachThread() throws Exception {
+    Object value = slots.get(Object::new);
+    AtomicReference<Object> otherThreadValue = new AtomicReference<>();
+
+    Thread otherThread = new Thread(() -> otherThreadValue.set(slots.get(Object::new)));
+    otherThread.start();
+    otherThread.join();
+
+    assertThat(otherThreadValue.get(), is(not(sameInstance(value))));
+    assertThat(slots.values(), containsInAnyOrder(value, otherThreadValue.get()));
+  }
+
+  @Test
+  public void clearNotifiesRemovedValues() {
+    Object value = slots.get(Object::new);
+
+    slots.clear();
+
+    assertThat(slots.isEmpty(), is(true));
+    assertThat(removed, containsInAnyOrder(value));
+    assertThat(slots.get(Object::new), is(not(sameInstance(value))));
+  }
+
+  @Test
+  public void terminatedThreadValueIsDisposed() throws Exception {
+    AtomicBoolean disposed = new AtomicBoolean();
+    PerThreadSlots<Disposable> sinks = new PerThreadSlots<>(Disposable::dispose);
+
+    Thread otherThread = new Thread(() -> sinks.get(() -> () -> disposed.set(true)));
+    otherThread.start();
+    otherThread.join();
+    otherThread = null;
+
+    // No new thread uses the slots, only the existing ones
+    new PollingProber(GC_POLLING_TIMEOUT, DEFAULT_POLLING_INTERVAL).check(new JUnitLambdaProbe(() -> {
+      System.gc();
+      assertThat(sinks.isEmpty(), is(true));
+      assertThat(disposed.get(), is(true));
+      return true;
+    }, "The value of the terminated thread was not disposed"));
+  }
+
+  @Test
+  public void removeValue() {
+    Object value = slots.get(Object::new);
+
+    assertThat(slots.remove(value), is(true));
+    assertThat(slots.remove(value), is(false));
+    assertThat(slots.values(), is(empty()));
+    assertThat(removed, is(empty()));
+  }
+}
@@ -8,15 +8,19 @@ package org.mule.runtime.core.internal.util.store;
 
 import static java.lang.System.currentTimeMillis;
 import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
 import static java.util.Optional.empty;
 import static java.util.Optional.of;
 import static org.hamcrest.Matchers.is;
 import static org.junit.Assert.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mockito.junit.MockitoJUnit.rule;
 import static org.mule.tck.probe.PollingProber.DEFAULT_POLLING_INTERVAL;
+import static org.mule.runtime.core.internal.util.store.MonitoredObjectStoreWrapper.EXPIRY_INDEX_RESYNC_RUNS;
 import static org.mule.tck.probe.PollingProber.check;
 
 import org.mule.runtime.api.store.ObjectDoesNotExistException;
@@ -183,6 +187,91 @@ public class MonitoredObjectStoreWrapperTestCase extends AbstractMuleTestCase {
     });
   }
 
+  @Test
+  public void expireStoredEntriesWithoutRetrievingThem() throws Exception {
+    when(settings.getMaxEntries()).thenReturn(empty());
+    when(settings.getEntryTTL()).thenReturn(of(1L));
+    when(objectStore.allKeys()).thenReturn(emptyList());
+
+    wrapper = new MonitoredObjectStoreWrapper(objectStore, settings);
+    wrapper.expire();
+
+    wrapper.store(KEY, "value");
+    when(objectStore.contains(KEY)).thenReturn(true);
+    Thread.sleep(5);
+    wrapper.expire();
+
+    verify(objectStore).remove(KEY);
+    verify(objectStore, never()).retrieve(anyString());
+  }
+
+  @Test
+  public void expireWithMaxEntriesOnlyRemovesOldestStoredEntries() throws Exception {
+    when(settings.getMaxEntries()).thenReturn(of(1));
+    when(settings.getEntryTTL()).thenReturn(empty());
+    when(objectStore.allKeys()).thenReturn(emptyList());
+
+    wrapper = new MonitoredObjectStoreWrapper(objectStore, settings);
+    wrapper.store(KEY, "value");
+    Thread.sleep(5);
+    wrapper.store(OTHER_KEY, "otherValue");
+    when(objectStore.contains(KEY)).thenReturn(true);
+    when(objectStore.contains(OTHER_KEY)).thenReturn(true);
+
+    wrapper.expire();
+
+    verify(objectStore).remove(KEY);
+    verify(objectStore, never()).remove(OTHER_KEY);
+    verify(objectStore, never()).retrieve(anyString());
+  }
+
+  @Test
+  public void expireEntriesStoredByOtherNodesWhilePrimary() throws Exception {
+    when(settings.getMaxEntries()).thenReturn(empty());
+    when(settings.getEntryTTL()).thenReturn(of(1L));
+    when(objectStore.allKeys()).thenReturn(emptyList());
+
+    wrapper = new MonitoredObjectStoreWrapper(objectStore, settings);
+    wrapper.expire();
+
+    // Another node stores an entry straight into the shared store
+    StoredObject<String> value = new StoredObject<>("", 0L, KEY);
+    when(objectStore.allKeys()).thenReturn(asList(KEY));
+    when(objectStore.retrieve(KEY)).thenReturn(value);
+    when(objectStore.contains(KEY)).thenReturn(true);
+    when(objectStore.remove(KEY)).thenReturn(value);
+
+    for (int i = 0; i < EXPIRY_INDEX_RESYNC_RUNS; ++i) {
+      wrapper.expire();
+    }
+
+    verify(objectStore).remove(KEY);
+    verify(objectStore, times(1)).retrieve(KEY);
+  }
+
+  @Test
+  public void forgetEntriesRemovedByOtherNodesWhilePrimary() throws Exception {
+    when(settings.getMaxEntries()).thenReturn(of(1));
+    when(settings.getEntryTTL()).thenReturn(empty());
+    when(objectStore.allKeys()).thenReturn(emptyList());
+
+    wrapper = new MonitoredObjectStoreWrapper(objectStore, settings);
+    wrapper.store(KEY, "value");
+    wrapper.expire();
+    Thread.sleep(5);
+
+    // Another node removes the entry and stores a different one straight into the shared store
+    StoredObject<String> value = new StoredObject<>("", currentTimeMillis(), OTHER_KEY);
+    when(objectStore.allKeys()).thenReturn(asList(OTHER_KEY));
+    when(objectStore.retrieve(OTHER_KEY)).thenReturn(value);
+
+    for (int i = 0; i < EXPIRY_INDEX_RESYNC_RUNS; ++i) {
+      wrapper.expire();
+    }
+
+    verify(objectStore, never()).remove(anyString());
+  }
+
   @Test
   @Issue("MULE-18579")
   public void expirationQueueDoesntHoldObjects() throws ObjectStoreException, InterruptedException {
@@ -34,6 +34,7 @@ public class PartitionedInMemoryObjectStoreTestCase extends AbstractMuleTestCase
   private PartitionedInMemoryObjectStore<String> store;
 
   private long currentNanoTime = MILLISECONDS.toNanos(1);
+  private int expiryBudget = 10;
 
   @Before
   public void setup() {
@@ -43,6 +44,11 @@ public class PartitionedInMemoryObjectStoreTestCase extends AbstractMuleTestCase
       protected long getCurrentNanoTime() {
         return currentNanoTime;
       }
+
+      @Override
+      protected int getExpiryBudget() {
+        return expiryBudget;
+      }
     };
   }
 
@@ -76,6 +82,22 @@ public class PartitionedInMemoryObjectStoreTestCase extends AbstractMuleTestCase
     assertThat(store.retrieve(TEST_KEY3, TEST_PARTITION), equalTo(TEST_VALUE));
   }
 
+  @Test
+  public void expireWithinBudget() throws ObjectStoreException {
+    expiryBudget = 2;
+    store.store(TEST_KEY1, TEST_VALUE, TEST_PARTITION);
+    store.store(TEST_KEY2, TEST_VALUE, TEST_PARTITION);
+    store.store(TEST_KEY3, TEST_VALUE, TEST_PARTITION);
+    currentNanoTime = MILLISECONDS.toNanos(10);
+
+    // Only one entry by size, so one more can be expired by TTL
+    store.expire(1, 2, TEST_PARTITION);
+    assertThat(store.allKeys(TEST_PARTITION).size(), is(1));
+
+    store.expire(1, 2, TEST_PARTITION);
+    assertThat(store.allKeys(TEST_PARTITION), is(empty()));
+  }
+
   @Test
   public void removeKeyInsertedInTheSameNanosecondThanOther() throws ObjectStoreException {
     store.store(TEST_KEY1, TEST_VALUE, TEST_PARTITION);
@@ -7,14 +7,21 @@
 
 package org.mule.runtime.core.internal.util.store;
 
+import static org.apache.commons.io.FileUtils.copyFile;
 import static org.apache.commons.io.FileUtils.deleteDirectory;
+import static java.lang.System.currentTimeMillis;
+import static java.util.Arrays.asList;
+import static java.util.concurrent.TimeUnit.HOURS;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import static org.mockito.Mockito.when;
 import static org.mule.runtime.core.api.util.FileUtils.openDirectory;
+import static org.mule.runtime.core.internal.util.store.MuleObjectStoreManager.UNBOUNDED;
 import static org.mule.tck.SerializationTestUtils.addJavaSerializerToMockMuleContext;
 import static org.mule.tck.util.MuleContextUtils.mockMuleContext;
 
@@ -22,10 +29,12 @@ import org.mule.runtime.api.store.ObjectDoesNotExistException;
 import org.mule.runtime.api.store.ObjectStoreException;
 import org.mule.runtime.core.api.MuleContext;
 import org.mule.runtime.core.api.config.MuleConfiguration;
+import org.mule.runtime.core.internal.store.KeyCursor;
 import org.mule.tck.junit4.AbstractMuleTestCase;
 import org.mule.tck.size.SmallTest;
 
 import java.io.File;
+import java.util.Map;
 
 import org.junit.Before;
 import org.junit.Rule;
@@ -136,4 +145,70 @@ public class PersistentObjectStorePartitionTestCase extends AbstractMuleTestCase
     partition.clear();
     assertEquals(0, partition.allKeys().size());
   }
+
+  @Test
+  public void keyCursorReturnsPagesInKeyOrder() throws Exception {
+    for (String key : asList("d", "b", "e", "a", "c")) {
+      partition.store(key, key.toUpperCase());
+    }
+
+    KeyCursor cursor = partition.openKeyCursor(2);
+
+    assertThat(cursor.getSize(), is(5));
+    assertThat(cursor.nextPage(), contains("a", "b"));
+    assertThat(cursor.nextPage(), contains("c", "d"));
+    assertThat(cursor.nextPage(), contains("e"));
+    assertThat(cursor.nextPage(), is(empty()));
+  }
+
+  @Test
+  public void keyCursorResumesAfterLastKeyIsRemoved() throws Exception {
+    for (String key : asList("a", "b", "c", "d")) {
+      partition.store(key, key.toUpperCase());
+    }
+
+    KeyCursor cursor = partition.openKeyCursor(2);
+    assertThat(cursor.nextPage(), contains("a", "b"));
+    partition.remove("b");
+
+    assertThat(cursor.nextPage(), contains("c", "d"));
+    assertThat(cursor.nextPage(), is(empty()));
+  }
+
+  @Test
+  public void deletingFileOfDuplicateKeyKeepsIndexedKey() throws Exception {
+    partition.store("key", "value");
+    File storedFile = valueFiles()[0];
+    File duplicateFile = new File(objectStoreFolder.getRoot(), "duplicate.obj");
+    copyFile(storedFile, duplicateFile);
+
+    // Both files have the same key, only one of them remains indexed when loading the partition
+    partition = new PersistentObjectStorePartition(muleContext, "test", objectStoreFolder.getRoot());
+    partition.open();
+    partition.remove("key");
+    File remainingFile = valueFiles()[0];
+    assertTrue(remainingFile.setLastModified(currentTimeMillis() - HOURS.toMillis(1)));
+
+    partition.store("key", "newValue");
+    partition.expire(UNBOUNDED, 1);
+
+    assertThat(remainingFile.exists(), is(false));
+    assertThat(partition.contains("key"), is(true));
+    assertThat(partition.retrieve("key"), is("newValue"));
+  }
+
+  @Test
+  public void retrieveAllSkipsMissingKeys() throws Exception {
+    partition.store("a", "A");
+    partition.store("b", "B");
+
+    Map<String, String> values = partition.retrieveAll(asList("b", "missing", "a"));
+
+    assertThat(values.keySet(), contains("b", "a"));
+    assertThat(values.values(), contains("B", "A"));
+  }
+
+  private File[] valueFiles() {
+    return objectStoreFolder.getRoot().listFiles((dir, name) -> name.endsWith(".obj"));
+  }
 }
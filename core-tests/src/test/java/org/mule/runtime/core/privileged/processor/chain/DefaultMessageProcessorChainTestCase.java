@@ -26,6 +26,7 @@ import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 import static org.junit.rules.ExpectedException.none;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
@@ -728,6 +729,20 @@ public class DefaultMessageProcessorChainTestCase extends AbstractReactiveProces
     process(builder.build(), getTestEventUsingFlow("0"));
   }
 
+  @Test
+  public void testExceptionBetweenFusedProcessors() throws Exception {
+    AppendingMP after = new AppendingMP("2");
+    DefaultMessageProcessorChainBuilder builder = new DefaultMessageProcessorChainBuilder();
+    builder.chain(new AppendingMP("1"), new ExceptionThrowingMessageProcessor(illegalStateException), after);
+    try {
+      process(builder.build(), getTestEventUsingFlow("0"));
+      fail("Exception expected");
+    } catch (IllegalStateException e) {
+      assertThat(e, is(illegalStateException));
+      assertThat(after.event, is(nullValue()));
+    }
+  }
+
   @Test
   public void testSuccessNotifications() throws Exception {
     List<MessageProcessorNotification> notificationList = new ArrayList<>();
@@ -748,6 +763,25 @@ public class DefaultMessageProcessorChainTestCase extends AbstractReactiveProces
     assertThat(postNotification.getException(), is(nullValue()));
   }
 
+  @Test
+  public void testSuccessNotificationsFusedProcessors() throws Exception {
+    List<MessageProcessorNotification> notificationList = new ArrayList<>();
+    setupMessageProcessorNotificationListener(notificationList);
+    DefaultMessageProcessorChainBuilder builder = new DefaultMessageProcessorChainBuilder();
+    builder.chain(new AppendingMP("1"), new AppendingMP("2"), new AppendingMP("3"));
+    final CoreEvent inEvent = getTestEventUsingFlow("0");
+    assertThat(process(builder.build(), inEvent).getMessage().getPayload().getValue(), equalTo("0123"));
+    assertThat(notificationList, hasSize(6));
+    assertPreNotification(inEvent, notificationList.get(0));
+    for (int i = 1; i < notificationList.size(); ++i) {
+      assertThat(notificationList.get(i).getAction().getActionId(),
+                 equalTo(i % 2 == 0 ? MESSAGE_PROCESSOR_PRE_INVOKE : MESSAGE_PROCESSOR_POST_INVOKE));
+    }
+    assertThat(notificationList.get(1).getEvent().getMessage().getPayload().getValue(), equalTo("01"));
+    assertThat(notificationList.get(2).getEvent().getMessage().getPayload().getValue(), equalTo("01"));
+    assertThat(notificationList.get(5).getEvent().getMessage().getPayload().getValue(), equalTo("0123"));
+  }
+
   @Test
   public void testErrorNotifications() throws Exception {
     List<MessageProcessorNotification> notificationList = new ArrayList<>();
@@ -173,6 +173,45 @@ public class TemplateParserTestCase extends AbstractMuleTestCase {
     assertEquals("Some String with value1 and value2 in it", result);
   }
 
+  @Test
+  public void antParserResolvesCompiledTemplateWithEachContext() {
+    TemplateParser tp = createAntStyleParser();
+    String template = "Some String with ${prop1} and ${prop1} in it";
+
+    assertEquals("Some String with value1 and value1 in it", tp.parse(buildMap(), template));
+    assertEquals("Some String with other and other in it",
+                 createAntStyleParser().parse(Collections.singletonMap("prop1", "other"), template));
+  }
+
+  @Test
+  public void antParserReplacesTokensFormedByValues() {
+    TemplateParser tp = createAntStyleParser();
+
+    Map<String, Object> props = new HashMap<String, Object>();
+    props.put("prop1", "${prop2}");
+    props.put("prop2", "value2");
+
+    String result = tp.parse(props, "Some String with ${prop1} and ${prop2} in it");
+    assertEquals("Some String with value2 and value2 in it", result);
+  }
+
+  @Test
+  public void antParserKeepsDollarSignsFromValues() {
+    TemplateParser tp = createAntStyleParser();
+
+    String result = tp.parse(Collections.singletonMap("price", "$10"), "Price: ${price}");
+    assertEquals("Price: $10", result);
+  }
+
+  @Test
+  public void muleParserResolvesCompiledTemplateWithEachCallback() {
+    TemplateParser tp = createMuleStyleParser();
+    String expression = "#[first] and #[second]";
+
+    assertEquals("FIRST and SECOND", tp.parse(null, expression, token -> token.toUpperCase()));
+    assertEquals("first! and second!", tp.parse(null, expression, token -> token + "!"));
+  }
+
   @Test
   public void muleParserManagesPipeCharacter() {
     TemplateParser tp = createMuleStyleParser();
@@ -14,6 +14,30 @@ public class MuleDeploymentProperties {
   public static final String DEPLOYMENT_PROPERTY_PREFIX = "mule.application.deployment";
   public static final String MULE_MUTE_APP_LOGS_DEPLOYMENT_PROPERTY = DEPLOYMENT_PROPERTY_PREFIX + ".muteLog";
 
+  /**
+   * When {@code true}, the log events of the artifact are written by a dedicated thread instead of the thread that logs them.
+   *
+   * @since 4.4
+   */
+  public static final String MULE_ASYNC_APP_LOGS_DEPLOYMENT_PROPERTY = DEPLOYMENT_PROPERTY_PREFIX + ".asyncLog";
+
+  /**
+   * Amount of log events that can be waiting to be written when {@link #MULE_ASYNC_APP_LOGS_DEPLOYMENT_PROPERTY} is enabled.
+   *
+   * @since 4.4
+   */
+  public static final String MULE_ASYNC_APP_LOGS_BUFFER_SIZE_DEPLOYMENT_PROPERTY = MULE_ASYNC_APP_LOGS_DEPLOYMENT_PROPERTY
+      + ".bufferSize";
+
+  /**
+   * What to do with log events when the buffer of {@link #MULE_ASYNC_APP_LOGS_DEPLOYMENT_PROPERTY} is full. One of
+   * {@code BLOCK}, {@code DISCARD} or {@code DISCARD_BELOW_WARN}.
+   *
+   * @since 4.4
+   */
+  public static final String MULE_ASYNC_APP_LOGS_OVERFLOW_POLICY_DEPLOYMENT_PROPERTY = MULE_ASYNC_APP_LOGS_DEPLOYMENT_PROPERTY
+      + ".overflowPolicy";
+
   public static final String MULE_DISABLE_TEST_CONNECTION_ON_DEPLOYMENT_PROPERTY =
       DEPLOYMENT_PROPERTY_PREFIX + ".disableTestConnectivity";
 
@@ -22,6 +46,17 @@ public class MuleDeploymentProperties {
       MULE_LAZY_INIT_DEPLOYMENT_PROPERTY + ".enableXmlValidations";
   public static final String MULE_LAZY_CONNECTIONS_DEPLOYMENT_PROPERTY = DEPLOYMENT_PROPERTY_PREFIX + ".lazyConnections";
 
+  /**
+   * When enabled, flows without a message source that are referenced by a static {@code flow-ref} are not created when the
+   * artifact starts, but when they are first looked up. That is usually when the first event reaches a {@code flow-ref}
+   * pointing to them, but may also be a registry or {@code lookup()} call. They are initialised and started when created. Has
+   * no effect when {@link #MULE_LAZY_INIT_DEPLOYMENT_PROPERTY} is enabled.
+   *
+   * @since 4.4
+   */
+  public static final String MULE_LAZY_FLOW_REF_TARGETS_DEPLOYMENT_PROPERTY = DEPLOYMENT_PROPERTY_PREFIX
+      + ".lazyFlowRefTargets";
+
   public static final String MULE_FORCE_TOOLING_APP_LOGS_DEPLOYMENT_PROPERTY = DEPLOYMENT_PROPERTY_PREFIX + ".lazyInit.forceLog";
 
   private MuleDeploymentProperties() {}
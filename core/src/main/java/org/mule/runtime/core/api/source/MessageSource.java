@@ -35,6 +35,29 @@ public interface MessageSource extends Component {
     return WAIT;
   }
 
+  /**
+   * Invoked when the flow of this source starts making the threads that dispatch events to it wait because of
+   * {@link BackPressureStrategy#WAIT} back-pressure.
+   * <p>
+   * Sources that pull messages from a connection (a socket, a broker, etc.) may use this to stop reading until
+   * {@link #onBackPressureWaitFinished()} is invoked, instead of having their threads blocked.
+   *
+   * @since 4.4
+   */
+  default void onBackPressureWaitStarted() {
+    // Nothing to do by default
+  }
+
+  /**
+   * Invoked when there are no threads waiting anymore to dispatch events to the flow of this source, after
+   * {@link #onBackPressureWaitStarted()} was invoked.
+   *
+   * @since 4.4
+   */
+  default void onBackPressureWaitFinished() {
+    // Nothing to do by default
+  }
+
   /**
    * Strategy used by a {@link org.mule.runtime.core.api.construct.Pipeline} to respond to and overload situation where the
    * {@link org.mule.runtime.core.api.construct.Pipeline} is unable to process a new {@link org.mule.runtime.api.event.Event} due
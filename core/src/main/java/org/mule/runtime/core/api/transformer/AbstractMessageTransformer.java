@@ -13,6 +13,7 @@ import static org.mule.runtime.core.api.config.i18n.CoreMessages.noCurrentEventF
 import static org.mule.runtime.core.api.config.i18n.CoreMessages.transformOnObjectUnsupportedTypeOfEndpoint;
 import static org.mule.runtime.core.api.event.EventContextFactory.create;
 import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.disposeIfNeeded;
+import static org.mule.runtime.core.internal.metadata.DataTypeInternTable.fromType;
 import static org.mule.runtime.core.privileged.transformer.TransformerUtils.checkTransformerReturnClass;
 import static org.mule.runtime.dsl.api.component.config.DefaultComponentLocation.from;
 
@@ -98,7 +99,7 @@ public abstract class AbstractMessageTransformer extends AbstractTransformer imp
 
   @Override
   public final Object transform(Object src, Charset enc, CoreEvent event) throws MessageTransformerException {
-    DataType sourceType = DataType.fromType(src.getClass());
+    DataType sourceType = fromType(src.getClass());
     if (!isSourceDataTypeSupported(sourceType)) {
       if (isIgnoreBadInput()) {
         logger
@@ -12,6 +12,8 @@ import org.mule.runtime.api.exception.MuleException;
 import org.mule.runtime.api.meta.NamedObject;
 
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Interface for mule queues used for VM.
@@ -42,6 +44,28 @@ public interface Queue extends NamedObject {
 
   Serializable poll(long timeout) throws InterruptedException;
 
+  /**
+   * Retrieves up to {@code maxItems} objects from this queue, waiting up to {@code timeout} milliseconds for the first one to be
+   * available. Objects that are already in the queue after the first one are retrieved without waiting.
+   * <p>
+   * When the queue was obtained from a {@link QueueSession} with an active transaction, every retrieved object is part of that
+   * transaction, the same as if it were retrieved with {@link #poll(long)}.
+   *
+   * @param maxItems the maximum number of objects to retrieve
+   * @param timeout the maximum time to wait for the first object, in milliseconds
+   * @return the retrieved objects in queue order, empty if none was available in time
+   * @since 4.4
+   */
+  default List<Serializable> poll(int maxItems, long timeout) throws InterruptedException {
+    List<Serializable> items = new ArrayList<>();
+    Serializable item = poll(timeout);
+    while (item != null) {
+      items.add(item);
+      item = items.size() < maxItems ? poll(0) : null;
+    }
+    return items;
+  }
+
   boolean offer(Serializable object, long timeout) throws InterruptedException;
 
   /**
@@ -31,16 +31,27 @@ final class CachedConnectionHandler<C> implements ConnectionHandlerAdapter<C> {
 
   private final Consumer<ConnectionHandlerAdapter<C>> releaser;
   private final ConnectionProvider<C> connectionProvider;
+  private final ConnectionAcquisitionStatistics statistics;
   private final AtomicBoolean closed = new AtomicBoolean(false);
   private final AtomicBoolean invalidated = new AtomicBoolean(false);
 
   private C connection;
 
+  /**
+   * Creates a new instance
+   *
+   * @param connection         the cached connection
+   * @param releaser           invoked when {@code this} instance is invalidated
+   * @param connectionProvider the {@link ConnectionProvider} used to manage the connection
+   * @param statistics         the statistics in which each acquisition of {@code this} shared instance is counted as active
+   *                           until it is released or invalidated
+   */
   public CachedConnectionHandler(C connection, Consumer<ConnectionHandlerAdapter<C>> releaser,
-                                 ConnectionProvider<C> connectionProvider) {
+                                 ConnectionProvider<C> connectionProvider, ConnectionAcquisitionStatistics statistics) {
     this.connection = connection;
     this.releaser = releaser;
     this.connectionProvider = connectionProvider;
+    this.statistics = statistics;
   }
 
   @Override
@@ -49,11 +60,12 @@ final class CachedConnectionHandler<C> implements ConnectionHandlerAdapter<C> {
   }
 
   /**
-   * This implementation doesn't require the concept of release. This method does nothing
+   * This implementation doesn't require the concept of release. This method only accounts for it in the statistics, since
+   * {@code this} instance is shared by all the acquisitions of the cached connection.
    */
   @Override
   public void release() {
-    // no-op
+    statistics.released();
   }
 
   /**
@@ -80,6 +92,7 @@ final class CachedConnectionHandler<C> implements ConnectionHandlerAdapter<C> {
 
   @Override
   public void invalidate() {
+    statistics.released();
     if (invalidated.compareAndSet(false, true)) {
       try {
         close();
@@ -92,7 +92,7 @@ final class CachedConnectionManagementStrategy<C> extends ConnectionManagementSt
 
   private ConnectionHandlerAdapter<C> createConnection() throws ConnectionException {
     assertNotStopping(muleContext, "Mule is shutting down... Cannot establish new connections");
-    return new CachedConnectionHandler<>(connectionProvider.connect(), this::invalidate, connectionProvider);
+    return new CachedConnectionHandler<>(connectionProvider.connect(), this::invalidate, connectionProvider, getStatistics());
   }
 
   private void close(ConnectionHandlerAdapter<C> connectionHandler) {
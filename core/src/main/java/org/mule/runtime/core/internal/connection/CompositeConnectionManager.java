@@ -25,6 +25,8 @@ import org.mule.runtime.core.api.retry.policy.RetryPolicyTemplate;
 import org.mule.runtime.core.internal.retry.ReconnectionConfig;
 import org.mule.runtime.extension.api.runtime.config.ConfigurationInstance;
 
+import java.util.Optional;
+
 import org.slf4j.Logger;
 
 /**
@@ -150,6 +152,15 @@ public class CompositeConnectionManager implements ConnectionManager, Connection
     return childConnectionManager.getDefaultPoolingProfile();
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Optional<ConnectionAcquisitionStatistics> getConnectionStatistics(Object config) {
+    return childConnectionManager.hasBinding(config) ? childConnectionManager.getConnectionStatistics(config)
+        : parentConnectionManager.getConnectionStatistics(config);
+  }
+
   @Override
   public void dispose() {
     disposeIfNeeded(childConnectionManager, LOGGER);
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.connection;
+
+import static java.lang.String.format;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import org.mule.runtime.api.connection.ConnectionHandler;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Statistics about the connections obtained for a config through a {@link ConnectionManagerAdapter}.
+ *
+ * @since 4.4
+ */
+public final class ConnectionAcquisitionStatistics {
+
+  private final LongAdder acquisitions = new LongAdder();
+  private final LongAdder failures = new LongAdder();
+  private final LongAdder waitNanos = new LongAdder();
+  private final LongAdder activeHandles = new LongAdder();
+
+  void acquired(long nanos) {
+    acquisitions.increment();
+    waitNanos.add(nanos);
+    activeHandles.increment();
+  }
+
+  void failed(long nanos) {
+    failures.increment();
+    waitNanos.add(nanos);
+  }
+
+  /**
+   * Invoked by the {@link ConnectionHandler}s of a strategy once for each time one of them is released, invalidated or closed by
+   * the component that obtained it.
+   */
+  void released() {
+    activeHandles.decrement();
+  }
+
+  /**
+   * @return the amount of {@link ConnectionHandler}s successfully obtained.
+   */
+  public long getAcquisitions() {
+    return acquisitions.sum();
+  }
+
+  /**
+   * @return the amount of times a {@link ConnectionHandler} could not be obtained.
+   */
+  public long getFailures() {
+    return failures.sum();
+  }
+
+  /**
+   * @return the time spent obtaining {@link ConnectionHandler}s, whether successfully or not, in nanoseconds.
+   */
+  public long getWaitNanos() {
+    return waitNanos.sum();
+  }
+
+  /**
+   * @return the average time spent obtaining a {@link ConnectionHandler}, in nanoseconds.
+   */
+  public long getAverageWaitNanos() {
+    final long attempts = getAcquisitions() + getFailures();
+    return attempts == 0 ? 0 : getWaitNanos() / attempts;
+  }
+
+  /**
+   * @return the amount of {@link ConnectionHandler}s obtained that haven't been released, invalidated or closed yet.
+   */
+  public long getActiveHandles() {
+    return activeHandles.sum();
+  }
+
+  @Override
+  public String toString() {
+    return format("%d acquisitions, %d failures, %d ms waiting, %d active handles",
+                  getAcquisitions(), getFailures(), NANOSECONDS.toMillis(getWaitNanos()), getActiveHandles());
+  }
+}
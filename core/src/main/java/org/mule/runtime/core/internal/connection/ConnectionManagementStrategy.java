@@ -6,6 +6,8 @@
  */
 package org.mule.runtime.core.internal.connection;
 
+import static java.lang.System.nanoTime;
+
 import org.mule.runtime.api.connection.ConnectionException;
 import org.mule.runtime.api.connection.ConnectionHandler;
 import org.mule.runtime.api.connection.ConnectionProvider;
@@ -26,6 +28,7 @@ abstract class ConnectionManagementStrategy<C> implements Closeable {
 
   protected final ConnectionProvider<C> connectionProvider;
   protected final MuleContext muleContext;
+  private final ConnectionAcquisitionStatistics statistics = new ConnectionAcquisitionStatistics();
 
   /**
    * Creates a new instance
@@ -48,6 +51,34 @@ abstract class ConnectionManagementStrategy<C> implements Closeable {
    */
   abstract ConnectionHandler<C> getConnectionHandler() throws ConnectionException;
 
+  /**
+   * Same as {@link #getConnectionHandler()}, but accounting for it in {@link #getStatistics()}. The returned handler is the one
+   * from {@link #getConnectionHandler()}, which stops counting as active on its own when it is released.
+   *
+   * @return a {@link ConnectionHandler}
+   * @throws ConnectionException if an exception was found trying to obtain the connection
+   */
+  final ConnectionHandler<C> acquireConnectionHandler() throws ConnectionException {
+    final long start = nanoTime();
+    final ConnectionHandler<C> connectionHandler;
+    try {
+      connectionHandler = getConnectionHandler();
+    } catch (ConnectionException | RuntimeException e) {
+      statistics.failed(nanoTime() - start);
+      throw e;
+    }
+
+    statistics.acquired(nanoTime() - start);
+    return connectionHandler;
+  }
+
+  /**
+   * @return the statistics of the connections obtained through {@link #acquireConnectionHandler()}
+   */
+  ConnectionAcquisitionStatistics getStatistics() {
+    return statistics;
+  }
+
   /**
    * Closes all connections and resources allocated through {@code this} instance.
    *
@@ -6,6 +6,8 @@
  */
 package org.mule.runtime.core.internal.connection;
 
+import static java.util.Optional.empty;
+
 import org.mule.runtime.api.config.PoolingProfile;
 import org.mule.runtime.api.connection.ConnectionProvider;
 import org.mule.runtime.api.lifecycle.Lifecycle;
@@ -14,6 +16,8 @@ import org.mule.runtime.core.api.connector.ConnectionManager;
 import org.mule.runtime.core.api.retry.policy.RetryPolicyTemplate;
 import org.mule.runtime.core.internal.retry.ReconnectionConfig;
 
+import java.util.Optional;
+
 /**
  * Interface for {@link ConnectionManager} implementations which expands its contract with non API functionality
  *
@@ -46,4 +50,15 @@ public interface ConnectionManagerAdapter extends ConnectionManager, Lifecycle {
    * @return a {@link PoolingProfile}
    */
   PoolingProfile getDefaultPoolingProfile();
+
+  /**
+   * Returns the statistics of the connections obtained for the given {@code config}.
+   *
+   * @param config the config for which connections are obtained
+   * @return the {@link ConnectionAcquisitionStatistics}, or an empty value if {@code config} is not bound to this manager
+   * @since 4.4
+   */
+  default Optional<ConnectionAcquisitionStatistics> getConnectionStatistics(Object config) {
+    return empty();
+  }
 }
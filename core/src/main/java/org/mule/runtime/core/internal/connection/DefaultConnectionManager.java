@@ -6,6 +6,7 @@
  */
 package org.mule.runtime.core.internal.connection;
 
+import static java.util.Optional.ofNullable;
 import static org.mule.runtime.api.connection.ConnectionValidationResult.failure;
 import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.assertNotStopping;
 import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.disposeIfNeeded;
@@ -27,12 +28,12 @@ import org.mule.runtime.core.api.retry.policy.RetryPolicyTemplate;
 import org.mule.runtime.core.internal.retry.ReconnectionConfig;
 import org.mule.runtime.extension.api.runtime.config.ConfigurationInstance;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Iterator;
+import java.util.Map.Entry;
+import java.util.Optional;
 import java.util.concurrent.Callable;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import javax.inject.Inject;
 
@@ -40,6 +41,10 @@ import org.slf4j.Logger;
 
 /**
  * Implementation of {@link ConnectionManager} which manages connections opened on a specific application.
+ * <p>
+ * Bindings are kept in a concurrent map, so obtaining a connection for a config doesn't take any locks. The map is only updated
+ * when binding, unbinding or stopping, and the statistics of the connections obtained for each binding are available through
+ * {@link #getConnectionStatistics(Object)}.
  *
  * @since 4.0
  */
@@ -47,10 +52,7 @@ public final class DefaultConnectionManager implements ConnectionManagerAdapter
 
   private static final Logger LOGGER = getLogger(DefaultConnectionManager.class);
 
-  private final Map<Reference<Object>, ConnectionManagementStrategy> connections = new HashMap<>();
-  private final ReadWriteLock readWriteLock = new ReentrantReadWriteLock();
-  private final Lock readLock = readWriteLock.readLock();
-  private final Lock writeLock = readWriteLock.writeLock();
+  private final ConcurrentMap<Reference<Object>, ConnectionManagementStrategy> connections = new ConcurrentHashMap<>();
   private final MuleContext muleContext;
   private final RetryPolicyTemplate retryPolicyTemplate;
   private final PoolingProfile defaultPoolingProfile;
@@ -82,15 +84,7 @@ public final class DefaultConnectionManager implements ConnectionManagerAdapter
     connectionProvider = new DefaultConnectionProviderWrapper<>(connectionProvider, muleContext);
     ConnectionManagementStrategy<C> managementStrategy = managementStrategyFactory.getStrategy(connectionProvider);
 
-    ConnectionManagementStrategy<C> previous;
-
-    writeLock.lock();
-    try {
-      previous = connections.put(new Reference<>(owner), managementStrategy);
-    } finally {
-      writeLock.unlock();
-    }
-
+    ConnectionManagementStrategy<C> previous = connections.put(new Reference<>(owner), managementStrategy);
     if (previous != null) {
       close(previous);
     }
@@ -154,14 +148,10 @@ public final class DefaultConnectionManager implements ConnectionManagerAdapter
       final Object config = configurationInstance.getValue();
       ConnectionHandler<Object> connectionHandler;
       try {
-        readLock.lock();
-        try {
-          connectionHandler = hasBinding(config)
-              ? getConnection(config)
-              : managementStrategyFactory.getStrategy(connectionProvider).getConnectionHandler();
-        } finally {
-          readLock.unlock();
-        }
+        ConnectionManagementStrategy<Object> managementStrategy = connections.get(new Reference<>(config));
+        connectionHandler = managementStrategy != null
+            ? managementStrategy.acquireConnectionHandler()
+            : managementStrategyFactory.getStrategy(connectionProvider).getConnectionHandler();
       } catch (ConnectionException e) {
         return failure(e.getMessage(), e.getErrorType().orElse(null), e);
       }
@@ -208,14 +198,7 @@ public final class DefaultConnectionManager implements ConnectionManagerAdapter
   // TODO: MULE-9082
   @Override
   public void unbind(Object config) {
-    ConnectionManagementStrategy managementStrategy;
-    writeLock.lock();
-    try {
-      managementStrategy = connections.remove(new Reference<>(config));
-    } finally {
-      writeLock.unlock();
-    }
-
+    ConnectionManagementStrategy managementStrategy = connections.remove(new Reference<>(config));
     if (managementStrategy != null) {
       close(managementStrategy);
     }
@@ -226,19 +209,20 @@ public final class DefaultConnectionManager implements ConnectionManagerAdapter
    */
   @Override
   public <C> ConnectionHandler<C> getConnection(Object config) throws ConnectionException {
-    ConnectionManagementStrategy<C> handlingStrategy = null;
-    readLock.lock();
-    try {
-      handlingStrategy = connections.get(new Reference<>(config));
-    } finally {
-      readLock.unlock();
-    }
-
+    ConnectionManagementStrategy<C> handlingStrategy = connections.get(new Reference<>(config));
     if (handlingStrategy == null) {
       throw new ConnectionException("No ConnectionProvider has been registered for owner " + config);
     }
 
-    return handlingStrategy.getConnectionHandler();
+    return handlingStrategy.acquireConnectionHandler();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Optional<ConnectionAcquisitionStatistics> getConnectionStatistics(Object config) {
+    return ofNullable(connections.get(new Reference<>(config))).map(ConnectionManagementStrategy::getStatistics);
   }
 
   /**
@@ -248,12 +232,13 @@ public final class DefaultConnectionManager implements ConnectionManagerAdapter
    */
   @Override
   public void stop() throws MuleException {
-    writeLock.lock();
-    try {
-      connections.values().stream().forEach(this::close);
-      connections.clear();
-    } finally {
-      writeLock.unlock();
+    // Each entry is removed before closing it, so it is closed only once even if it is concurrently unbound
+    Iterator<Entry<Reference<Object>, ConnectionManagementStrategy>> entries = connections.entrySet().iterator();
+    while (entries.hasNext()) {
+      Entry<Reference<Object>, ConnectionManagementStrategy> entry = entries.next();
+      if (connections.remove(entry.getKey(), entry.getValue())) {
+        close(entry.getValue());
+      }
     }
   }
 
@@ -38,7 +38,7 @@ final class NullConnectionManagementStrategy<C> extends ConnectionManagementStra
   @Override
   public ConnectionHandler<C> getConnectionHandler() throws ConnectionException {
     C connection = connectionProvider.connect();
-    return new PassThroughConnectionHandler<>(connection, connectionProvider);
+    return new PassThroughConnectionHandler<>(connection, connectionProvider, getStatistics());
   }
 
   /**
@@ -27,6 +27,7 @@ final class PassThroughConnectionHandler<C> implements ConnectionHandlerAdapter<
 
   private final C connection;
   private final ConnectionProvider<C> connectionProvider;
+  private final ConnectionAcquisitionStatistics statistics;
   private final AtomicBoolean released = new AtomicBoolean(false);
 
   /**
@@ -34,10 +35,13 @@ final class PassThroughConnectionHandler<C> implements ConnectionHandlerAdapter<
    *
    * @param connection the connection to be returned by {@link #getConnection()}
    * @param connectionProvider the {@link ConnectionProvider} used to manage the connection
+   * @param statistics the statistics in which {@code this} instance is counted as active until it is released
    */
-  PassThroughConnectionHandler(C connection, ConnectionProvider<C> connectionProvider) {
+  PassThroughConnectionHandler(C connection, ConnectionProvider<C> connectionProvider,
+                               ConnectionAcquisitionStatistics statistics) {
     this.connection = connection;
     this.connectionProvider = connectionProvider;
+    this.statistics = statistics;
   }
 
   /**
@@ -63,7 +67,11 @@ final class PassThroughConnectionHandler<C> implements ConnectionHandlerAdapter<
   @Override
   public void release() {
     if (released.compareAndSet(false, true)) {
-      connectionProvider.disconnect(connection);
+      try {
+        connectionProvider.disconnect(connection);
+      } finally {
+        statistics.released();
+      }
     }
   }
 
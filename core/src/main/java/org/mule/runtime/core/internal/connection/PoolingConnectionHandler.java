@@ -32,6 +32,7 @@ final class PoolingConnectionHandler<C> implements ConnectionHandlerAdapter<C> {
   private final ObjectPool<C> pool;
   private final PoolingListener poolingListener;
   private final ConnectionProvider connectionProvider;
+  private final ConnectionAcquisitionStatistics statistics;
   private final AtomicBoolean released = new AtomicBoolean(false);
 
   /**
@@ -39,13 +40,15 @@ final class PoolingConnectionHandler<C> implements ConnectionHandlerAdapter<C> {
    *
    * @param connection the connection to be wrapped
    * @param pool       the pool from which the {@code connection} was obtained and to which it has to be returned
+   * @param statistics the statistics in which {@code this} instance is counted as active until it is released or invalidated
    */
   PoolingConnectionHandler(C connection, ObjectPool<C> pool, PoolingListener poolingListener,
-                           ConnectionProvider connectionProvider) {
+                           ConnectionProvider connectionProvider, ConnectionAcquisitionStatistics statistics) {
     this.connection = connection;
     this.pool = pool;
     this.poolingListener = poolingListener;
     this.connectionProvider = connectionProvider;
+    this.statistics = statistics;
   }
 
   /**
@@ -77,10 +80,11 @@ final class PoolingConnectionHandler<C> implements ConnectionHandlerAdapter<C> {
     } finally {
       try {
         if (!returnAttempted) {
-          invalidate();
+          invalidateConnection();
         }
       } finally {
         connection = null;
+        statistics.released();
       }
     }
   }
@@ -90,6 +94,18 @@ final class PoolingConnectionHandler<C> implements ConnectionHandlerAdapter<C> {
    */
   @Override
   public void invalidate() {
+    if (connection == null || released.getAndSet(true)) {
+      return;
+    }
+
+    try {
+      invalidateConnection();
+    } finally {
+      statistics.released();
+    }
+  }
+
+  private void invalidateConnection() {
     try {
       pool.invalidateObject(connection);
     } catch (Exception e) {
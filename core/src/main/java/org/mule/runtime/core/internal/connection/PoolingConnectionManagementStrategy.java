@@ -59,7 +59,7 @@ final class PoolingConnectionManagementStrategy<C> extends ConnectionManagementS
   @Override
   public ConnectionHandler<C> getConnectionHandler() throws ConnectionException {
     try {
-      return new PoolingConnectionHandler<>(borrowConnection(), pool, poolingListener, connectionProvider);
+      return new PoolingConnectionHandler<>(borrowConnection(), pool, poolingListener, connectionProvider, getStatistics());
     } catch (ConnectionException e) {
       throw e;
     } catch (NoSuchElementException e) {
@@ -440,6 +440,7 @@ public abstract class AbstractPipeline extends AbstractFlowConstruct implements
         }
         fireCompleteNotification(response, messagingException);
         baseEventContext.getProcessingTime().ifPresent(time -> time.addFlowExecutionBranchTime(startTime));
+        backpressureStrategySelector.signalCapacityAvailable();
       });
     };
   }
@@ -7,14 +7,19 @@
 package org.mule.runtime.core.internal.construct;
 
 import static java.lang.Thread.currentThread;
-import static java.lang.Thread.sleep;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.locks.LockSupport.parkNanos;
+import static org.mule.runtime.core.api.construct.BackPressureReason.MAX_CONCURRENCY_EXCEEDED;
 import static org.mule.runtime.core.api.source.MessageSource.BackPressureStrategy.WAIT;
 import static org.mule.runtime.core.internal.construct.FlowBackPressureException.createAndThrowIfNeeded;
+import static org.slf4j.LoggerFactory.getLogger;
 
 import org.mule.runtime.core.api.construct.BackPressureReason;
 import org.mule.runtime.core.api.event.CoreEvent;
 import org.mule.runtime.core.api.source.MessageSource;
 
+import org.slf4j.Logger;
+
 /**
  * Implements the different backpressure handling strategies, and checks against a
  * {@link org.mule.runtime.core.api.processor.strategy.ProcessingStrategy} whether or not backpressure is fired, before and event
@@ -24,34 +29,110 @@ import org.mule.runtime.core.api.source.MessageSource;
  */
 class BackPressureStrategySelector {
 
-  private static int EVENT_LOOP_SCHEDULER_BUSY_RETRY_INTERVAL_MS = 2;
+  private static final Logger LOGGER = getLogger(BackPressureStrategySelector.class);
+
+  // Capacity freed by something other than an event completing (i.e.: a busy scheduler) is not signalled, so the thread at the
+  // head of the queue still retries periodically.
+  private static final long HEAD_RETRY_INTERVAL_NANOS = MILLISECONDS.toNanos(2);
+  // The rest of the waiting threads are woken up when they get to the head of the queue.
+  private static final long WAITER_PARK_NANOS = MILLISECONDS.toNanos(100);
 
   private final AbstractPipeline abstractPipeline;
+  private final long headRetryIntervalNanos;
+  private final CapacityWaitQueue waitQueue = new CapacityWaitQueue();
+
+  private int waitingCount = 0;
+  private volatile BackPressureReason lastRejectionReason = MAX_CONCURRENCY_EXCEEDED;
 
   public BackPressureStrategySelector(AbstractPipeline abstractPipeline) {
+    this(abstractPipeline, HEAD_RETRY_INTERVAL_NANOS);
+  }
+
+  /**
+   * @param abstractPipeline       the pipeline to check the backpressure for
+   * @param headRetryIntervalNanos how long the thread at the head of the queue waits for a signal before checking again
+   */
+  BackPressureStrategySelector(AbstractPipeline abstractPipeline, long headRetryIntervalNanos) {
     this.abstractPipeline = abstractPipeline;
+    this.headRetryIntervalNanos = headRetryIntervalNanos;
   }
 
   /**
-   * Wait backpressure strategy. Implements a busy-wait strategy.
+   * Wait backpressure strategy. Threads that cannot be accepted wait in arrival order until capacity is signalled through
+   * {@link #signalCapacityAvailable()}.
    *
    * @param event the event about to begin processing
    * @throws FlowBackPressureException
    */
   protected void checkWithWaitStrategy(CoreEvent event)
       throws FlowBackPressureException {
-    boolean accepted = false;
-    while (!accepted) {
-      try {
-        abstractPipeline.getProcessingStrategy().checkBackpressureAccepting(event);
-        accepted = true;
-      } catch (FromFlowRejectedExecutionException ree) {
-        // TODO MULE-16106 Add a callback for WAIT back pressure applied on the source
+    // Don't overtake the threads already waiting
+    if (waitQueue.isEmpty() && tryAccept(event)) {
+      return;
+    }
+
+    final Thread waiter = currentThread();
+    waitQueue.enqueue(waiter);
+    waiterAdded();
+    try {
+      while (true) {
+        if (waitQueue.isHead(waiter)) {
+          if (tryAccept(event)) {
+            return;
+          }
+          parkNanos(this, headRetryIntervalNanos);
+        } else {
+          parkNanos(this, WAITER_PARK_NANOS);
+        }
+
+        if (waiter.isInterrupted()) {
+          createAndThrowIfNeeded(abstractPipeline, lastRejectionReason, new InterruptedException());
+        }
+      }
+    } finally {
+      waitQueue.remove(waiter);
+      waiterRemoved();
+    }
+  }
+
+  private boolean tryAccept(CoreEvent event) {
+    try {
+      abstractPipeline.getProcessingStrategy().checkBackpressureAccepting(event);
+      return true;
+    } catch (FromFlowRejectedExecutionException ree) {
+      lastRejectionReason = ree.getReason();
+      return false;
+    }
+  }
+
+  /**
+   * Notifies that the flow may have capacity to accept a new event, waking up the next thread waiting for it, if any.
+   */
+  public void signalCapacityAvailable() {
+    waitQueue.signal();
+  }
+
+  private void waiterAdded() {
+    final MessageSource source = abstractPipeline.getSource();
+    synchronized (waitQueue) {
+      if (waitingCount++ == 0 && source != null) {
+        try {
+          source.onBackPressureWaitStarted();
+        } catch (Exception e) {
+          LOGGER.warn("Exception notifying back pressure to source of flow '" + abstractPipeline.getName() + "'", e);
+        }
+      }
+    }
+  }
+
+  private void waiterRemoved() {
+    final MessageSource source = abstractPipeline.getSource();
+    synchronized (waitQueue) {
+      if (--waitingCount == 0 && source != null) {
         try {
-          sleep(EVENT_LOOP_SCHEDULER_BUSY_RETRY_INTERVAL_MS);
-        } catch (InterruptedException e) {
-          currentThread().interrupt();
-          createAndThrowIfNeeded(abstractPipeline, ree.getReason(), ree);
+          source.onBackPressureWaitFinished();
+        } catch (Exception e) {
+          LOGGER.warn("Exception notifying back pressure release to source of flow '" + abstractPipeline.getName() + "'", e);
         }
       }
     }
@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.construct;
+
+import static java.util.concurrent.locks.LockSupport.unpark;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * FIFO queue of the threads waiting for a flow to have capacity to accept an event.
+ * <p>
+ * Only the thread at the head of the queue is expected to check for capacity, so waiting threads are admitted in arrival order
+ * instead of all of them competing for each slot that frees up. When the head leaves the queue, the next thread is woken up to
+ * take its turn.
+ *
+ * @since 4.4
+ */
+final class CapacityWaitQueue {
+
+  private final Queue<Thread> waiters = new ConcurrentLinkedQueue<>();
+
+  boolean isEmpty() {
+    return waiters.isEmpty();
+  }
+
+  void enqueue(Thread waiter) {
+    waiters.add(waiter);
+  }
+
+  boolean isHead(Thread waiter) {
+    return waiters.peek() == waiter;
+  }
+
+  /**
+   * Removes the given thread from the queue, handing the turn to the next waiting thread if any.
+   */
+  void remove(Thread waiter) {
+    waiters.remove(waiter);
+    signal();
+  }
+
+  /**
+   * Wakes up the thread at the head of the queue, if any, so it checks for capacity again.
+   */
+  void signal() {
+    final Thread head = waiters.peek();
+    if (head != null) {
+      unpark(head);
+    }
+  }
+}
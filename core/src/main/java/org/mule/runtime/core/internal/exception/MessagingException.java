@@ -13,6 +13,7 @@ import static org.mule.runtime.core.internal.config.ExceptionHelper.traverseCaus
 
 import org.mule.runtime.api.component.Component;
 import org.mule.runtime.api.exception.MuleException;
+import org.mule.runtime.api.exception.MuleExceptionInfo;
 import org.mule.runtime.api.i18n.I18nMessage;
 import org.mule.runtime.api.message.Message;
 import org.mule.runtime.api.metadata.DataType;
@@ -24,7 +25,11 @@ import org.mule.runtime.core.privileged.exception.EventProcessingException;
 import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
+import java.io.ObjectStreamException;
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 /**
@@ -50,6 +55,7 @@ public class MessagingException extends EventProcessingException {
 
   private boolean handled;
   private transient Component failingComponent;
+  private transient List<Runnable> pendingEnrichments;
 
   public MessagingException(I18nMessage message, CoreEvent event) {
     super(message, event);
@@ -164,7 +170,7 @@ public class MessagingException extends EventProcessingException {
     if (processedEvent != null) {
       this.processedEvent = processedEvent;
       extractMuleMessage(processedEvent);
-      processedEvent.getError().ifPresent(e -> getExceptionInfo().setErrorType(e.getErrorType()));
+      processedEvent.getError().ifPresent(e -> getUnenrichedExceptionInfo().setErrorType(e.getErrorType()));
     } else {
       this.processedEvent = null;
       this.muleMessage = null;
@@ -259,6 +265,67 @@ public class MessagingException extends EventProcessingException {
     return failingComponent;
   }
 
+  /**
+   * Defers adding information to this exception's {@link MuleExceptionInfo} until it is actually read, logged or serialized.
+   * Deferred enrichments are applied in the same order they were added.
+   *
+   * @param enrichment adds information to the {@link MuleExceptionInfo} of this exception
+   * @since 4.4
+   */
+  public void deferEnrichment(Runnable enrichment) {
+    synchronized (this) {
+      if (pendingEnrichments == null) {
+        pendingEnrichments = new ArrayList<>(2);
+      }
+      pendingEnrichments.add(enrichment);
+    }
+  }
+
+  private void applyPendingEnrichments() {
+    List<Runnable> enrichments;
+    synchronized (this) {
+      enrichments = pendingEnrichments;
+      pendingEnrichments = null;
+    }
+    if (enrichments != null) {
+      enrichments.forEach(Runnable::run);
+    }
+  }
+
+  @Override
+  public MuleExceptionInfo getExceptionInfo() {
+    applyPendingEnrichments();
+    return super.getExceptionInfo();
+  }
+
+  @Override
+  public Map<String, Object> getInfo() {
+    applyPendingEnrichments();
+    return super.getInfo();
+  }
+
+  @Override
+  public String getDetailedMessage() {
+    applyPendingEnrichments();
+    return super.getDetailedMessage();
+  }
+
+  /**
+   * Provides the {@link MuleExceptionInfo} of this exception without applying the deferred enrichments, for reading or updating
+   * the parts of it that enrichments don't set, such as the error type or whether it was already logged.
+   *
+   * @return the {@link MuleExceptionInfo} of this exception
+   * @since 4.4
+   */
+  public MuleExceptionInfo getUnenrichedExceptionInfo() {
+    return super.getExceptionInfo();
+  }
+
+  protected Object writeReplace() throws ObjectStreamException {
+    applyPendingEnrichments();
+    return this;
+  }
+
   protected void extractMuleMessage(CoreEvent event) {
     this.muleMessage = event == null ? null : event.getMessage();
   }
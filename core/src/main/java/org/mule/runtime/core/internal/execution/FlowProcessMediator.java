@@ -75,9 +75,11 @@ import org.mule.runtime.core.privileged.event.BaseEventContext;
 import org.mule.runtime.core.privileged.event.context.FlowProcessMediatorContext;
 import org.mule.runtime.core.privileged.exception.ErrorTypeLocator;
 import org.mule.runtime.extension.api.runtime.operation.Result;
+import org.mule.runtime.policy.api.PolicyPointcutParameters;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -167,47 +169,90 @@ public class FlowProcessMediator implements Initialisable {
   public void process(FlowProcessTemplate template,
                       MessageProcessContext messageProcessContext) {
     try {
-
-      final MessageSource messageSource = messageProcessContext.getMessageSource();
       final Pipeline flowConstruct = (Pipeline) messageProcessContext.getFlowConstruct();
-      final CompletableFuture<Void> responseCompletion = new CompletableFuture<>();
-      final FlowProcessor flowExecutionProcessor =
-          new FlowProcessor(publisher -> applyWithChildContext(from(publisher), template::routeEventAsync, Optional.empty()),
-                            flowConstruct);
-      final CoreEvent event = createEvent(template, messageSource, responseCompletion, flowConstruct);
-      policyManager.addSourcePointcutParametersIntoEvent(messageSource, event.getMessage().getAttributes(),
-                                                         (InternalEvent) event);
+      process(template, messageProcessContext, createFlowExecutionProcessor(template, flowConstruct), null);
+    } catch (Exception e) {
+      phaseResultNotifier.phaseFailure(e);
+    }
+  }
+
+  /**
+   * Routes a batch of messages received by the same source through its flow. Each message gets its own event and is completed
+   * independently of the others, same as if each one was passed to {@link #process(FlowProcessTemplate, MessageProcessContext)},
+   * but the setup that doesn't depend on the message is done once for the whole batch:
+   * <ul>
+   * <li>the flow execution processor is created once and shared by all the messages.</li>
+   * <li>the source policy is resolved once for each distinct set of pointcut parameters in the batch.</li>
+   * <li>once a message is rejected due to back pressure, the ones after it are rejected with the same cause without being
+   * admitted into the flow, so they never overtake it.</li>
+   * </ul>
+   *
+   * @param templates             the templates of the messages, in the order they were received
+   * @param messageProcessContext the context of execution, shared by all the messages
+   * @since 4.4
+   */
+  public void processAll(List<? extends FlowProcessTemplate> templates, MessageProcessContext messageProcessContext) {
+    if (templates.isEmpty()) {
+      return;
+    }
 
+    final Pipeline flowConstruct = (Pipeline) messageProcessContext.getFlowConstruct();
+    final FlowProcessor flowExecutionProcessor = createFlowExecutionProcessor(templates.get(0), flowConstruct);
+    final BatchDispatch batch = new BatchDispatch();
+    for (FlowProcessTemplate template : templates) {
       try {
-        final SourcePolicy policy =
-            policyManager.createSourcePolicyInstance(messageSource, event, flowExecutionProcessor, template);
+        process(template, messageProcessContext, flowExecutionProcessor, batch);
+      } catch (Exception e) {
+        phaseResultNotifier.phaseFailure(e);
+      }
+    }
+  }
 
-        final DefaultFlowProcessMediatorContext phaseContext = new DefaultFlowProcessMediatorContext(template,
-                                                                                                     getTerminateConsumer(messageSource,
-                                                                                                                          template),
-                                                                                                     responseCompletion);
-        ((InternalEvent) event).setFlowProcessMediatorContext(phaseContext);
+  private FlowProcessor createFlowExecutionProcessor(FlowProcessTemplate template, Pipeline flowConstruct) {
+    return new FlowProcessor(publisher -> applyWithChildContext(from(publisher), template::routeEventAsync, Optional.empty()),
+                             flowConstruct);
+  }
 
-        dispatch(event, policy, flowConstruct, phaseContext);
-      } catch (Exception e) {
-        template.sendFailureResponseToClient(messageProcessContext.getMessagingExceptionResolver()
-            .resolve(new MessagingException(event, e), errorTypeLocator, exceptionContextProviders),
-                                             template.getFailedExecutionResponseParametersFunction().apply(event),
-                                             always(() -> phaseResultNotifier.phaseFailure(e)));
+  private void process(FlowProcessTemplate template, MessageProcessContext messageProcessContext,
+                       FlowProcessor flowExecutionProcessor, BatchDispatch batch) {
+    final MessageSource messageSource = messageProcessContext.getMessageSource();
+    final Pipeline flowConstruct = (Pipeline) messageProcessContext.getFlowConstruct();
+    final CompletableFuture<Void> responseCompletion = new CompletableFuture<>();
+    final CoreEvent event = createEvent(template, messageSource, responseCompletion, flowConstruct);
+    policyManager.addSourcePointcutParametersIntoEvent(messageSource, event.getMessage().getAttributes(),
+                                                       (InternalEvent) event);
 
-        ((BaseEventContext) event.getContext()).error(e);
-        responseCompletion.complete(null);
-      }
+    try {
+      final SourcePolicy policy = batch == null
+          ? policyManager.createSourcePolicyInstance(messageSource, event, flowExecutionProcessor, template)
+          : batch.resolvePolicy(messageSource, event, flowExecutionProcessor, template);
+
+      final DefaultFlowProcessMediatorContext phaseContext = new DefaultFlowProcessMediatorContext(template,
+                                                                                                   getTerminateConsumer(messageSource,
+                                                                                                                        template),
+                                                                                                   responseCompletion);
+      ((InternalEvent) event).setFlowProcessMediatorContext(phaseContext);
+
+      dispatch(event, policy, flowConstruct, phaseContext, batch);
     } catch (Exception e) {
-      phaseResultNotifier.phaseFailure(e);
+      template.sendFailureResponseToClient(messageProcessContext.getMessagingExceptionResolver()
+          .resolve(new MessagingException(event, e), errorTypeLocator, exceptionContextProviders),
+                                           template.getFailedExecutionResponseParametersFunction().apply(event),
+                                           always(() -> phaseResultNotifier.phaseFailure(e)));
+
+      ((BaseEventContext) event.getContext()).error(e);
+      responseCompletion.complete(null);
     }
   }
 
   private void dispatch(@Nonnull CoreEvent event, SourcePolicy sourcePolicy, Pipeline flowConstruct,
-                        DefaultFlowProcessMediatorContext ctx)
+                        DefaultFlowProcessMediatorContext ctx, BatchDispatch batch)
       throws Exception {
     try {
       onMessageReceived(event, flowConstruct, ctx);
+      if (batch != null && batch.backPressure != null) {
+        throw batch.backPressure;
+      }
       flowConstruct.checkBackpressure(event);
       ctx.template.getNotificationFunctions().forEach(notificationFunction -> notificationManager
           .fireNotification(notificationFunction.apply(event, flowConstruct.getSource())));
@@ -229,6 +274,9 @@ public class FlowProcessMediator implements Initialisable {
     } catch (Exception e) {
       e = (Exception) Exceptions.unwrap(e);
       if (e instanceof FlowBackPressureException) {
+        if (batch != null) {
+          batch.backPressure = (FlowBackPressureException) e;
+        }
         ((BaseEventContext) event.getContext()).error(e);
         dispatchResponse(flowConstruct, ctx,
                          mapBackPressureExceptionToPolicyFailureResult(ctx.template, event, (FlowBackPressureException) e));
@@ -561,6 +609,22 @@ public class FlowProcessMediator implements Initialisable {
     this.muleContext = context;
   }
 
+  /**
+   * State shared by the messages of a batch passed to {@link #processAll(List, MessageProcessContext)}.
+   */
+  private final class BatchDispatch {
+
+    private final Map<PolicyPointcutParameters, SourcePolicy> policies = new HashMap<>();
+    private FlowBackPressureException backPressure;
+
+    private SourcePolicy resolvePolicy(MessageSource messageSource, CoreEvent event, FlowProcessor flowExecutionProcessor,
+                                       FlowProcessTemplate template) {
+      return policies.computeIfAbsent(from(event).getPointcutParameters(),
+                                      params -> policyManager.createSourcePolicyInstance(messageSource, event,
+                                                                                         flowExecutionProcessor, template));
+    }
+  }
+
   /**
    * Container for passing relevant context between private methods to avoid long method signatures everywhere.
    */
@@ -8,6 +8,8 @@ package org.mule.runtime.core.internal.execution;
 
 import org.mule.runtime.core.api.source.MessageSource;
 
+import java.util.List;
+
 /**
  * In charge of processing messages through mule.
  *
@@ -25,4 +27,20 @@ public interface MessageProcessingManager {
    */
   void processMessage(FlowProcessTemplate messageProcessTemplate, MessageProcessContext messageProcessContext);
 
+  /**
+   * Process a batch of messages received by the same {@link MessageSource} by routing each of them through a flow. Each message
+   * is processed and completed independently, but implementations may share the setup that doesn't depend on the message.
+   * <p>
+   * Implementations may also reject all the messages after one that was rejected due to back pressure, without checking the
+   * flow again for each of them.
+   *
+   * @param messageProcessTemplates the templates of each message, in the order they were received
+   * @param messageProcessContext   defines the context of execution of the messages
+   * @since 4.4
+   */
+  default void processMessages(List<? extends FlowProcessTemplate> messageProcessTemplates,
+                               MessageProcessContext messageProcessContext) {
+    messageProcessTemplates.forEach(template -> processMessage(template, messageProcessContext));
+  }
+
 }
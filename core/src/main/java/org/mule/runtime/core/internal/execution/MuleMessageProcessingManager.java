@@ -16,6 +16,8 @@ import org.mule.runtime.core.api.MuleContext;
 import org.mule.runtime.core.api.exception.SystemExceptionHandler;
 import org.mule.runtime.core.internal.policy.PolicyManager;
 
+import java.util.List;
+
 import javax.inject.Inject;
 
 /**
@@ -50,6 +52,20 @@ public class MuleMessageProcessingManager implements MessageProcessingManager, I
     }
   }
 
+  @Override
+  public void processMessages(List<? extends FlowProcessTemplate> messageProcessTemplates,
+                              MessageProcessContext messageProcessContext) {
+    Thread currentThread = currentThread();
+    ClassLoader originalTCCL = currentThread.getContextClassLoader();
+    ClassLoader executionClassLoader = messageProcessContext.getExecutionClassLoader();
+    setContextClassLoader(currentThread, originalTCCL, executionClassLoader);
+    try {
+      mediator.processAll(messageProcessTemplates, messageProcessContext);
+    } finally {
+      setContextClassLoader(currentThread, executionClassLoader, originalTCCL);
+    }
+  }
+
   @Override
   public void phaseSuccessfully() {
 
@@ -0,0 +1,196 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.metadata;
+
+import static org.mule.runtime.api.metadata.DataType.OBJECT;
+import static org.mule.runtime.api.metadata.MediaType.ANY;
+import static org.mule.runtime.core.internal.metadata.DefaultDataTypeBuilder.isConsumable;
+import static org.mule.runtime.core.internal.metadata.DefaultDataTypeBuilder.resolveProxy;
+
+import org.mule.runtime.api.el.ExpressionFunction;
+import org.mule.runtime.api.metadata.DataType;
+import org.mule.runtime.api.metadata.MediaType;
+
+import java.nio.charset.Charset;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps a single instance of each {@link DataType} for a given java type and {@link MediaType}, so the data types used for each
+ * event can be obtained without allocating a builder or hashing one.
+ * <p>
+ * The instances are kept in two levels. The first one is attached to the java type through a {@link ClassValue}, so finding it
+ * takes no locks nor allocations, and it doesn't prevent the type from being unloaded. The second one is keyed by the
+ * {@link MediaType}, with {@link MediaType#ANY} having its own slot. Collections from the JDK with a given item type are kept
+ * with the item type, so that a collection of an application class doesn't keep that class loaded from a JDK class.
+ * <p>
+ * Only media types without parameters other than the charset are kept, since parameters may change each time (i.e.: the
+ * {@code boundary} of a multipart content), and a limited amount of them for each java type. For the rest,
+ * {@link DefaultDataTypeBuilder} is used instead.
+ *
+ * @since 4.4
+ */
+public final class DataTypeInternTable {
+
+  private static final int MAX_MEDIA_TYPES_PER_TYPE = 32;
+  private static final String CHARSET_PARAM = "charset";
+
+  private static final ClassValue<TypeEntry> ENTRIES = new ClassValue<TypeEntry>() {
+
+    @Override
+    protected TypeEntry computeValue(Class<?> type) {
+      return new TypeEntry(type);
+    }
+  };
+
+  private DataTypeInternTable() {
+    // Nothing to do
+  }
+
+  /**
+   * Equivalent to {@code DataType.builder().type(type).build()}.
+   *
+   * @param type the java type
+   * @return the {@link DataType} for the given {@code type}
+   */
+  public static DataType fromType(Class<?> type) {
+    return fromType(type, ANY);
+  }
+
+  /**
+   * Equivalent to {@code DataType.builder().type(type).mediaType(mediaType).build()}.
+   *
+   * @param type      the java type
+   * @param mediaType the media type
+   * @return the {@link DataType} for the given {@code type} and {@code mediaType}
+   */
+  public static DataType fromType(Class<?> type, MediaType mediaType) {
+    final DataType interned = ENTRIES.get(ENTRIES.get(type).resolvedType).get(mediaType);
+    return interned != null ? interned : DataType.builder().type(type).mediaType(mediaType).build();
+  }
+
+  /**
+   * Equivalent to {@code DataType.builder().collectionType(collectionType).itemType(itemType).build()}.
+   *
+   * @param collectionType the java collection type
+   * @param itemType       the java type of the items of the collection
+   * @return the {@link DataType} for a {@code collectionType} of {@code itemType}
+   */
+  public static DataType collectionOf(Class<? extends Collection> collectionType, Class<?> itemType) {
+    final DataType interned = collectionOf(ENTRIES.get(collectionType).resolvedType, fromType(itemType));
+    return interned != null
+        ? interned
+        : DataType.builder().collectionType(collectionType).itemType(itemType).build();
+  }
+
+  /**
+   * Looks up the interned {@link DataType} for a type and media type.
+   *
+   * @param type      a type already resolved with {@link DefaultDataTypeBuilder#resolveProxy(Class)}
+   * @param mediaType the media type
+   * @return the interned data type, or {@code null} if it can't be interned
+   */
+  static DataType intern(Class<?> type, MediaType mediaType) {
+    return ENTRIES.get(type).get(mediaType);
+  }
+
+  /**
+   * Looks up the interned {@link DataType} for a collection of items of the given {@link DataType}.
+   *
+   * @param collectionType a type already resolved with {@link DefaultDataTypeBuilder#resolveProxy(Class)}
+   * @param itemType       the data type of the items
+   * @return the interned data type, or {@code null} if it can't be interned
+   */
+  static DataType collectionOf(Class<?> collectionType, DataType itemType) {
+    if (collectionType.getClassLoader() != null
+        || !(Collection.class.isAssignableFrom(collectionType) || Iterator.class.isAssignableFrom(collectionType))) {
+      return null;
+    }
+
+    if (itemType == OBJECT) {
+      return intern(collectionType, ANY);
+    }
+
+    final TypeEntry itemEntry = ENTRIES.get(itemType.getType());
+    // Only the item types that are themselves interned can be used as keys
+    if (itemEntry.any != itemType) {
+      return null;
+    }
+    return itemEntry.collectionsOf.computeIfAbsent(collectionType,
+                                                   t -> new DefaultCollectionDataType(t, itemType, ANY, isConsumable(t)));
+  }
+
+  private static final class TypeEntry {
+
+    private final Class<?> resolvedType;
+    private final boolean internable;
+    private final boolean consumable;
+
+    private final DataType any;
+    private final Map<MediaType, DataType> byMediaType;
+    private final Map<Class<?>, DataType> collectionsOf;
+
+    private TypeEntry(Class<?> type) {
+      this.resolvedType = resolveProxy(type);
+      this.internable = resolvedType == type && !ExpressionFunction.class.isAssignableFrom(type);
+      this.consumable = isConsumable(type);
+
+      if (internable) {
+        this.any = create(ANY);
+        this.byMediaType = new ConcurrentHashMap<>(4);
+        this.collectionsOf = new ConcurrentHashMap<>(4);
+      } else {
+        this.any = null;
+        this.byMediaType = null;
+        this.collectionsOf = null;
+      }
+    }
+
+    private DataType get(MediaType mediaType) {
+      if (!internable) {
+        return null;
+      }
+      if (ANY.equals(mediaType)) {
+        return any;
+      }
+
+      final DataType interned = byMediaType.get(mediaType);
+      if (interned != null) {
+        return interned;
+      }
+      if (byMediaType.size() >= MAX_MEDIA_TYPES_PER_TYPE || !isJdkCharset(mediaType) || hasParameters(mediaType)) {
+        return null;
+      }
+      return byMediaType.computeIfAbsent(mediaType, this::create);
+    }
+
+    private boolean hasParameters(MediaType mediaType) {
+      for (String parameter : mediaType.getParameters().keySet()) {
+        if (!CHARSET_PARAM.equalsIgnoreCase(parameter)) {
+          return true;
+        }
+      }
+      return false;
+    }
+
+    private boolean isJdkCharset(MediaType mediaType) {
+      return mediaType.getCharset().map(Charset::getClass).map(c -> c.getClassLoader() == null).orElse(true);
+    }
+
+    private DataType create(MediaType mediaType) {
+      if (Collection.class.isAssignableFrom(resolvedType) || Iterator.class.isAssignableFrom(resolvedType)) {
+        return new DefaultCollectionDataType(resolvedType, OBJECT, mediaType, consumable);
+      } else if (Map.class.isAssignableFrom(resolvedType)) {
+        return new DefaultMapDataType(resolvedType, OBJECT, OBJECT, mediaType, consumable);
+      } else {
+        return new SimpleDataType(resolvedType, mediaType, consumable);
+      }
+    }
+  }
+}
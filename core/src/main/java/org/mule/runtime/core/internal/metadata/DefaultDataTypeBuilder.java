@@ -126,6 +126,10 @@ public class DefaultDataTypeBuilder
    * Special case where proxies are used for testing.
    */
   protected Class<?> handleProxy(Class<?> type) {
+    return resolveProxy(type);
+  }
+
+  static Class<?> resolveProxy(Class<?> type) {
     if (isProxyClass(type)) {
       return type.getInterfaces()[0];
     } else if (isCglibClass(type)) {
@@ -556,7 +560,23 @@ public class DefaultDataTypeBuilder
       valueType = valueTypeBuilder.build();
     }
 
-    return dataTypeCache.get(this);
+    final DataType interned = intern(type);
+    return interned != null ? interned : dataTypeCache.get(this);
+  }
+
+  /**
+   * The most common data types are kept in {@link DataTypeInternTable}, which is cheaper than hashing this builder.
+   */
+  private DataType intern(Class<?> type) {
+    if (keyTypeBuilder != null || valueTypeBuilder != null) {
+      return null;
+    } else if (itemTypeBuilder == null) {
+      return DataTypeInternTable.intern(type, mediaType);
+    } else if (MediaType.ANY.equals(mediaType)) {
+      return DataTypeInternTable.collectionOf(type, itemType);
+    } else {
+      return null;
+    }
   }
 
   protected DataType doBuild() {
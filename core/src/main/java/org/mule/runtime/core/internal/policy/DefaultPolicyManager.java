@@ -56,7 +56,6 @@ import java.util.Set;
 import java.util.concurrent.Future;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 import javax.inject.Inject;
 
@@ -120,7 +119,10 @@ public class DefaultPolicyManager implements PolicyManager, Lifecycle {
 
   private final Set<DeferredDisposableWeakReference> activePolicies = new HashSet<>();
 
-  private final ReentrantReadWriteLock cacheInvalidateLock = new ReentrantReadWriteLock();
+  // Holds the caches of the currently applied policies. When policies change, a new table is swapped in instead of invalidating
+  // the caches of the current one, so resolving a policy needs no locking. A thread still using the previous table may populate
+  // it, but those entries are no longer reachable from the new one.
+  private volatile PolicyResolutionTable resolutionTable = new PolicyResolutionTable(0);
 
   private volatile boolean stopped = true;
   private Future<?> taskHandle;
@@ -128,31 +130,6 @@ public class DefaultPolicyManager implements PolicyManager, Lifecycle {
   private SchedulerService schedulerService;
   private Scheduler scheduler;
 
-  private final Cache<String, SourcePolicy> noPolicySourceInstances =
-      Caffeine.newBuilder()
-          .build();
-
-  // These next caches contain the Composite Policies for a given sequence of policies to be applied.
-
-  private final Cache<Pair<String, List<Policy>>, SourcePolicy> sourcePolicyInnerCache =
-      Caffeine.newBuilder()
-          .build();
-  private final Cache<List<Policy>, OperationPolicy> operationPolicyInnerCache =
-      Caffeine.newBuilder()
-          .build();
-
-  // These next caches cache the actual composite policies for a given parameters. Since many parameters combinations may result
-  // in a same set of policies to be applied, many entries of this cache may reference the same composite policy instance.
-
-  private final Cache<Pair<String, PolicyPointcutParameters>, SourcePolicy> sourcePolicyOuterCache =
-      Caffeine.newBuilder()
-          .expireAfterAccess(60, SECONDS)
-          .build();
-  private final Cache<Pair<ComponentIdentifier, PolicyPointcutParameters>, OperationPolicy> operationPolicyOuterCache =
-      Caffeine.newBuilder()
-          .expireAfterAccess(60, SECONDS)
-          .build();
-
   private PolicyProvider policyProvider;
   private OperationPolicyProcessorFactory operationPolicyProcessorFactory;
   private SourcePolicyProcessorFactory sourcePolicyProcessorFactory;
@@ -165,15 +142,17 @@ public class DefaultPolicyManager implements PolicyManager, Lifecycle {
                                                  MessageSourceResponseParametersProcessor messageSourceResponseParametersProcessor) {
     final ComponentIdentifier sourceIdentifier = source.getLocation().getComponentIdentifier().getIdentifier();
 
+    final PolicyResolutionTable table = resolutionTable;
+
     if (!isSourcePoliciesAvailable.get()) {
-      final SourcePolicy policy = noPolicySourceInstances.getIfPresent(source.getRootContainerLocation().getGlobalName());
+      final SourcePolicy policy = table.noPolicySourceInstances.getIfPresent(source.getRootContainerLocation().getGlobalName());
 
       if (policy != null) {
         return policy;
       }
 
-      return noPolicySourceInstances.get(source.getLocation().getRootContainerName(),
-                                         k -> new NoSourcePolicy(flowExecutionProcessor));
+      return table.noPolicySourceInstances.get(source.getLocation().getRootContainerName(),
+                                               k -> new NoSourcePolicy(flowExecutionProcessor));
     }
 
     final SourcePolicyContext ctx = SourcePolicyContext.from(sourceEvent);
@@ -182,38 +161,30 @@ public class DefaultPolicyManager implements PolicyManager, Lifecycle {
     final Pair<String, PolicyPointcutParameters> policyKey =
         new Pair<>(source.getLocation().getRootContainerName(), sourcePointcutParameters);
 
-    final SourcePolicy policy = sourcePolicyOuterCache.getIfPresent(policyKey);
+    final SourcePolicy policy = table.sourcePolicyOuterCache.getIfPresent(policyKey);
     if (policy != null) {
       return policy;
     }
 
-    // Although cache is being written in the locked section, read Lock is being used since the intention is to avoid cache being
-    // invalidated while being populated and not to avoid multiple threads populating it at the same time.
-    cacheInvalidateLock.readLock().lock();
-
-    try {
-      if (LOGGER.isDebugEnabled()) {
-        LOGGER.debug("Source policy - populating outer cache for {}", policyKey);
-      }
-
-      SourcePolicy sourcePolicy = sourcePolicyOuterCache.get(policyKey, outerKey -> sourcePolicyInnerCache
-          .get(new Pair<>(source.getLocation().getRootContainerName(),
-                          policyProvider.findSourceParameterizedPolicies(sourcePointcutParameters)),
-               innerKey -> innerKey.getSecond().isEmpty()
-                   ? new NoSourcePolicy(flowExecutionProcessor)
-                   : compositePolicyFactory.createSourcePolicy(innerKey.getSecond(), flowExecutionProcessor,
-                                                               lookupSourceParametersTransformer(sourceIdentifier),
-                                                               sourcePolicyProcessorFactory,
-                                                               exception -> new MessagingExceptionResolver(source)
-                                                                   .resolve(exception, errorTypeLocator,
-                                                                            exceptionContextProviders))));
-
-      activePolicies.add(new DeferredDisposableWeakReference((DeferredDisposable) sourcePolicy, stalePoliciesQueue));
-
-      return sourcePolicy;
-    } finally {
-      cacheInvalidateLock.readLock().unlock();
+    if (LOGGER.isDebugEnabled()) {
+      LOGGER.debug("Source policy - populating outer cache for {} (epoch {})", policyKey, table.epoch);
     }
+
+    SourcePolicy sourcePolicy = table.sourcePolicyOuterCache.get(policyKey, outerKey -> table.sourcePolicyInnerCache
+        .get(new Pair<>(source.getLocation().getRootContainerName(),
+                        policyProvider.findSourceParameterizedPolicies(sourcePointcutParameters)),
+             innerKey -> innerKey.getSecond().isEmpty()
+                 ? new NoSourcePolicy(flowExecutionProcessor)
+                 : compositePolicyFactory.createSourcePolicy(innerKey.getSecond(), flowExecutionProcessor,
+                                                             lookupSourceParametersTransformer(sourceIdentifier),
+                                                             sourcePolicyProcessorFactory,
+                                                             exception -> new MessagingExceptionResolver(source)
+                                                                 .resolve(exception, errorTypeLocator,
+                                                                          exceptionContextProviders))));
+
+    registerActivePolicy((DeferredDisposable) sourcePolicy);
+
+    return sourcePolicy;
   }
 
   @Override
@@ -240,42 +211,42 @@ public class DefaultPolicyManager implements PolicyManager, Lifecycle {
     final Pair<ComponentIdentifier, PolicyPointcutParameters> policyKey =
         new Pair<>(operationIdentifier, operationPointcutParameters);
 
-    final OperationPolicy policy = operationPolicyOuterCache.getIfPresent(policyKey);
+    final PolicyResolutionTable table = resolutionTable;
+
+    final OperationPolicy policy = table.operationPolicyOuterCache.getIfPresent(policyKey);
     if (policy != null) {
       return policy;
     }
 
-    // Although cache is being written in the locked section, read Lock is being used since the intention is to avoid cache being
-    // invalidated while being populated and not to avoid multiple threads populating it at the same time.
-    cacheInvalidateLock.readLock().lock();
+    if (LOGGER.isDebugEnabled()) {
+      LOGGER.debug("Operation policy - populating outer cache for {} (epoch {})", policyKey, table.epoch);
+    }
 
-    try {
-      if (LOGGER.isDebugEnabled()) {
-        LOGGER.debug("Operation policy - populating outer cache for {}", policyKey);
-      }
+    OperationPolicy operationPolicy =
+        table.operationPolicyOuterCache.get(policyKey, outerKey -> table.operationPolicyInnerCache
+            .get(policyProvider.findOperationParameterizedPolicies(outerKey.getSecond()),
+                 innerKey -> innerKey.isEmpty()
+                     ? NO_POLICY_OPERATION
+                     : compositePolicyFactory.createOperationPolicy(operation, innerKey,
+                                                                    lookupOperationParametersTransformer(outerKey.getFirst()),
+                                                                    operationPolicyProcessorFactory,
+                                                                    muleContext.getConfiguration().getShutdownTimeout(),
+                                                                    muleContext.getSchedulerService()
+                                                                        .ioScheduler(muleContext.getSchedulerBaseConfig()
+                                                                            .withMaxConcurrentTasks(1)
+                                                                            .withName(operation.getLocation().getLocation()
+                                                                                + ".policy.flux.")))));
+
+    if (operationPolicy instanceof DeferredDisposable) {
+      registerActivePolicy((DeferredDisposable) operationPolicy);
+    }
 
-      OperationPolicy operationPolicy =
-          operationPolicyOuterCache.get(policyKey, outerKey -> operationPolicyInnerCache
-              .get(policyProvider.findOperationParameterizedPolicies(outerKey.getSecond()),
-                   innerKey -> innerKey.isEmpty()
-                       ? NO_POLICY_OPERATION
-                       : compositePolicyFactory.createOperationPolicy(operation, innerKey,
-                                                                      lookupOperationParametersTransformer(outerKey.getFirst()),
-                                                                      operationPolicyProcessorFactory,
-                                                                      muleContext.getConfiguration().getShutdownTimeout(),
-                                                                      muleContext.getSchedulerService()
-                                                                          .ioScheduler(muleContext.getSchedulerBaseConfig()
-                                                                              .withMaxConcurrentTasks(1)
-                                                                              .withName(operation.getLocation().getLocation()
-                                                                                  + ".policy.flux.")))));
-
-      if (operationPolicy instanceof DeferredDisposable) {
-        activePolicies.add(new DeferredDisposableWeakReference((DeferredDisposable) operationPolicy, stalePoliciesQueue));
-      }
+    return operationPolicy;
+  }
 
-      return operationPolicy;
-    } finally {
-      cacheInvalidateLock.readLock().unlock();
+  private void registerActivePolicy(DeferredDisposable policy) {
+    synchronized (activePolicies) {
+      activePolicies.add(new DeferredDisposableWeakReference(policy, stalePoliciesQueue));
     }
   }
 
@@ -337,18 +308,20 @@ public class DefaultPolicyManager implements PolicyManager, Lifecycle {
   }
 
   private void invalidateDisposedFlowFromCaches(String flowName) {
+    final PolicyResolutionTable table = resolutionTable;
+
     // Invalidate from "no policy cache"
-    noPolicySourceInstances.invalidate(flowName);
+    table.noPolicySourceInstances.invalidate(flowName);
 
     // Invalidate from inner "with policy cache"
-    sourcePolicyInnerCache.asMap().keySet().stream()
+    table.sourcePolicyInnerCache.asMap().keySet().stream()
         .filter(pair -> pair.getFirst().equals(flowName))
-        .forEach(matchingPair -> sourcePolicyInnerCache.invalidate(matchingPair));
+        .forEach(matchingPair -> table.sourcePolicyInnerCache.invalidate(matchingPair));
 
     // Invalidate from outer "with policy cache"
-    sourcePolicyOuterCache.asMap().keySet().stream()
+    table.sourcePolicyOuterCache.asMap().keySet().stream()
         .filter(pair -> pair.getFirst().equals(flowName))
-        .forEach(matchingPair -> sourcePolicyOuterCache.invalidate(matchingPair));
+        .forEach(matchingPair -> table.sourcePolicyOuterCache.invalidate(matchingPair));
   }
 
   @Override
@@ -390,45 +363,45 @@ public class DefaultPolicyManager implements PolicyManager, Lifecycle {
     evictCaches();
     scheduler.stop();
 
-    activePolicies.clear();
+    synchronized (activePolicies) {
+      activePolicies.clear();
+    }
   }
 
   private void disposePolicies() {
-    noPolicySourceInstances.asMap().values().forEach(policy -> {
+    final PolicyResolutionTable table = resolutionTable;
+
+    table.noPolicySourceInstances.asMap().values().forEach(policy -> {
       clearActive(policy);
       disposeIfNeeded(policy, LOGGER);
     });
-    sourcePolicyInnerCache.asMap().values().forEach(policy -> {
+    table.sourcePolicyInnerCache.asMap().values().forEach(policy -> {
       clearActive(policy);
       disposeIfNeeded(policy, LOGGER);
     });
-    operationPolicyInnerCache.asMap().values().forEach(policy -> {
+    table.operationPolicyInnerCache.asMap().values().forEach(policy -> {
       clearActive(policy);
       disposeIfNeeded(policy, LOGGER);
     });
   }
 
   private void clearActive(@NonNull Object policy) {
-    for (Iterator<DeferredDisposableWeakReference> iterator = activePolicies.iterator(); iterator.hasNext();) {
-      if (policy == iterator.next().get()) {
-        iterator.remove();
+    synchronized (activePolicies) {
+      for (Iterator<DeferredDisposableWeakReference> iterator = activePolicies.iterator(); iterator.hasNext();) {
+        if (policy == iterator.next().get()) {
+          iterator.remove();
+        }
       }
     }
   }
 
+  /**
+   * Swaps the current {@link PolicyResolutionTable} for an empty one of the next epoch. The entries in the discarded table are
+   * disposed through their weak references once no longer used, same as the ones evicted by expiration.
+   */
   private void evictCaches() {
-    cacheInvalidateLock.writeLock().lock();
-
-    try {
-      noPolicySourceInstances.invalidateAll();
-
-      sourcePolicyInnerCache.invalidateAll();
-      operationPolicyInnerCache.invalidateAll();
-
-      sourcePolicyOuterCache.invalidateAll();
-      operationPolicyOuterCache.invalidateAll();
-    } finally {
-      cacheInvalidateLock.writeLock().unlock();
+    synchronized (activePolicies) {
+      resolutionTable = new PolicyResolutionTable(resolutionTable.epoch + 1);
     }
   }
 
@@ -452,7 +425,9 @@ public class DefaultPolicyManager implements PolicyManager, Lifecycle {
         DeferredDisposableWeakReference stalePolicy = (DeferredDisposableWeakReference) stalePoliciesQueue.remove(POLL_INTERVAL);
         if (stalePolicy != null) {
           disposeIfNeeded(stalePolicy, LOGGER);
-          activePolicies.remove(stalePolicy);
+          synchronized (activePolicies) {
+            activePolicies.remove(stalePolicy);
+          }
         }
       } catch (InterruptedException e) {
         currentThread().interrupt();
@@ -463,6 +438,44 @@ public class DefaultPolicyManager implements PolicyManager, Lifecycle {
     }
   }
 
+  /**
+   * The caches of resolved policies for a given set of applied policies. Instances are discarded as a whole when policies change.
+   */
+  private static final class PolicyResolutionTable {
+
+    private final long epoch;
+
+    private final Cache<String, SourcePolicy> noPolicySourceInstances =
+        Caffeine.newBuilder()
+            .build();
+
+    // These next caches contain the Composite Policies for a given sequence of policies to be applied.
+
+    private final Cache<Pair<String, List<Policy>>, SourcePolicy> sourcePolicyInnerCache =
+        Caffeine.newBuilder()
+            .build();
+    private final Cache<List<Policy>, OperationPolicy> operationPolicyInnerCache =
+        Caffeine.newBuilder()
+            .build();
+
+    // These next caches cache the actual composite policies for a given parameters. Since many parameters combinations may
+    // result in a same set of policies to be applied, many entries of this cache may reference the same composite policy
+    // instance.
+
+    private final Cache<Pair<String, PolicyPointcutParameters>, SourcePolicy> sourcePolicyOuterCache =
+        Caffeine.newBuilder()
+            .expireAfterAccess(60, SECONDS)
+            .build();
+    private final Cache<Pair<ComponentIdentifier, PolicyPointcutParameters>, OperationPolicy> operationPolicyOuterCache =
+        Caffeine.newBuilder()
+            .expireAfterAccess(60, SECONDS)
+            .build();
+
+    private PolicyResolutionTable(long epoch) {
+      this.epoch = epoch;
+    }
+  }
+
   private static final class DeferredDisposableWeakReference extends WeakReference<DeferredDisposable> implements Disposable {
 
     private final Disposable deferredDispose;
@@ -21,6 +21,8 @@ import org.mule.runtime.policy.api.SourcePolicyPointcutParametersFactory;
 
 import java.util.Collection;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Responsible for the creation of {@link PolicyPointcutParameters} for both source and operation policies
@@ -30,6 +32,12 @@ public class PolicyPointcutParametersManager {
   private final Collection<SourcePolicyPointcutParametersFactory> sourcePointcutFactories;
   private final Collection<OperationPolicyPointcutParametersFactory> operationPointcutFactories;
 
+  // The factory that applies to a component only depends on its identifier, so it is resolved once per identifier.
+  private final Map<ComponentIdentifier, Optional<SourcePolicyPointcutParametersFactory>> sourceFactoriesByIdentifier =
+      new ConcurrentHashMap<>();
+  private final Map<ComponentIdentifier, Optional<OperationPolicyPointcutParametersFactory>> operationFactoriesByIdentifier =
+      new ConcurrentHashMap<>();
+
   public PolicyPointcutParametersManager(Collection<SourcePolicyPointcutParametersFactory> sourcePointcutFactories,
                                          Collection<OperationPolicyPointcutParametersFactory> operationPointcutFactories) {
     this.sourcePointcutFactories = sourcePointcutFactories;
@@ -47,15 +55,8 @@ public class PolicyPointcutParametersManager {
   public PolicyPointcutParameters createSourcePointcutParameters(Component source, TypedValue<?> attributes) {
     ComponentIdentifier sourceIdentifier = source.getLocation().getComponentIdentifier().getIdentifier();
 
-    SourcePolicyPointcutParametersFactory found = null;
-    for (SourcePolicyPointcutParametersFactory factory : sourcePointcutFactories) {
-      if (factory.supportsSourceIdentifier(sourceIdentifier)) {
-        if (found != null) {
-          throwMoreThanOneFactoryFoundException(sourceIdentifier, SourcePolicyPointcutParametersFactory.class);
-        }
-        found = factory;
-      }
-    }
+    SourcePolicyPointcutParametersFactory found =
+        sourceFactoriesByIdentifier.computeIfAbsent(sourceIdentifier, this::resolveSourceFactory).orElse(null);
 
     return found != null ? found.createPolicyPointcutParameters(source, attributes)
         : new PolicyPointcutParameters(source);
@@ -74,15 +75,8 @@ public class PolicyPointcutParametersManager {
                                                                     Map<String, Object> operationParameters) {
     ComponentIdentifier operationIdentifier = operation.getLocation().getComponentIdentifier().getIdentifier();
 
-    OperationPolicyPointcutParametersFactory found = null;
-    for (OperationPolicyPointcutParametersFactory factory : operationPointcutFactories) {
-      if (factory.supportsOperationIdentifier(operationIdentifier)) {
-        if (found != null) {
-          throwMoreThanOneFactoryFoundException(operationIdentifier, OperationPolicyPointcutParametersFactory.class);
-        }
-        found = factory;
-      }
-    }
+    OperationPolicyPointcutParametersFactory found =
+        operationFactoriesByIdentifier.computeIfAbsent(operationIdentifier, this::resolveOperationFactory).orElse(null);
 
     SourcePolicyContext ctx = from(event);
     PolicyPointcutParameters sourceParameters = ctx != null ? ctx.getPointcutParameters() : null;
@@ -98,6 +92,32 @@ public class PolicyPointcutParametersManager {
     }
   }
 
+  private Optional<SourcePolicyPointcutParametersFactory> resolveSourceFactory(ComponentIdentifier sourceIdentifier) {
+    SourcePolicyPointcutParametersFactory found = null;
+    for (SourcePolicyPointcutParametersFactory factory : sourcePointcutFactories) {
+      if (factory.supportsSourceIdentifier(sourceIdentifier)) {
+        if (found != null) {
+          throwMoreThanOneFactoryFoundException(sourceIdentifier, SourcePolicyPointcutParametersFactory.class);
+        }
+        found = factory;
+      }
+    }
+    return Optional.ofNullable(found);
+  }
+
+  private Optional<OperationPolicyPointcutParametersFactory> resolveOperationFactory(ComponentIdentifier operationIdentifier) {
+    OperationPolicyPointcutParametersFactory found = null;
+    for (OperationPolicyPointcutParametersFactory factory : operationPointcutFactories) {
+      if (factory.supportsOperationIdentifier(operationIdentifier)) {
+        if (found != null) {
+          throwMoreThanOneFactoryFoundException(operationIdentifier, OperationPolicyPointcutParametersFactory.class);
+        }
+        found = factory;
+      }
+    }
+    return Optional.ofNullable(found);
+  }
+
   private void throwMoreThanOneFactoryFoundException(ComponentIdentifier sourceIdentifier, Class factoryClass) {
     throw new MuleRuntimeException(createStaticMessage(format(
                                                               "More than one %s for component %s was found. There should be only one.",
@@ -57,10 +57,7 @@ public class ProactorStreamEmitterProcessingStrategyFactory extends AbstractStre
                                                        getSubscriberCount(),
                                                        cpuLightSchedulerSupplier,
                                                        cpuLightSchedulerSupplier,
-                                                       () -> muleContext.getSchedulerService()
-                                                           .ioScheduler(muleContext.getSchedulerBaseConfig()
-                                                               .withName(
-                                                                         schedulersNamePrefix + "." + BLOCKING.name())),
+                                                       getBlockingSchedulerSupplier(muleContext, schedulersNamePrefix),
                                                        () -> muleContext.getSchedulerService()
                                                            .cpuIntensiveScheduler(muleContext.getSchedulerBaseConfig()
                                                                .withName(schedulersNamePrefix + "."
@@ -72,6 +69,20 @@ public class ProactorStreamEmitterProcessingStrategyFactory extends AbstractStre
                                                        () -> muleContext.getConfiguration().getShutdownTimeout());
   }
 
+  /**
+   * Provides the scheduler that {@link ReactiveProcessor.ProcessingType#BLOCKING} and
+   * {@link ReactiveProcessor.ProcessingType#IO_RW} processors are run on.
+   *
+   * @param muleContext          the context of the artifact the processing strategy is created for
+   * @param schedulersNamePrefix the prefix for the names of the schedulers of the processing strategy
+   * @return the supplier of the scheduler for blocking processors
+   * @since 4.4
+   */
+  protected Supplier<Scheduler> getBlockingSchedulerSupplier(MuleContext muleContext, String schedulersNamePrefix) {
+    return () -> muleContext.getSchedulerService()
+        .ioScheduler(muleContext.getSchedulerBaseConfig().withName(schedulersNamePrefix + "." + BLOCKING.name()));
+  }
+
   @Override
   public Class<? extends ProcessingStrategy> getProcessingStrategyType() {
     return ProactorStreamEmitterProcessingStrategy.class;
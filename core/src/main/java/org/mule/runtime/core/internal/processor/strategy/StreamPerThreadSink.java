@@ -20,15 +20,13 @@ import org.mule.runtime.core.api.event.CoreEvent;
 import org.mule.runtime.core.api.processor.ReactiveProcessor;
 import org.mule.runtime.core.api.processor.Sink;
 import org.mule.runtime.core.internal.rx.FluxSinkRecorder;
+import org.mule.runtime.core.internal.util.rx.PerThreadSlots;
 
 import java.util.function.Consumer;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.github.benmanes.caffeine.cache.Cache;
-import com.github.benmanes.caffeine.cache.Caffeine;
-
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.FluxSink;
 
@@ -44,7 +42,8 @@ public class StreamPerThreadSink implements Sink, Disposable {
   private final FlowConstruct flowConstruct;
 
   private volatile boolean disposing = false;
-  private final Cache<Thread, FluxSink<CoreEvent>> sinks = Caffeine.newBuilder().weakKeys().build();
+  private final PerThreadSlots<FluxSink<CoreEvent>> sinks = new PerThreadSlots<>(sink -> {
+  });
 
   /**
    * Creates a {@link StreamPerThreadSink}.
@@ -65,17 +64,15 @@ public class StreamPerThreadSink implements Sink, Disposable {
       throw new IllegalStateException("Already disposed");
     }
 
-
-    final Thread currentThread = currentThread();
-    sinks.get(currentThread, t -> {
+    sinks.get(() -> {
       final FluxSinkRecorder<CoreEvent> recorder = new FluxSinkRecorder<>();
       recorder.flux()
           .doOnNext(request -> eventConsumer.accept(request))
           .transform(processor)
           .subscribe(null, e -> {
             LOGGER.error("Exception reached PS subscriber for flow '" + flowConstruct.getName() + "'", e);
-            sinks.invalidate(currentThread);
-          }, () -> sinks.invalidate(currentThread));
+            sinks.remove(recorder.getFluxSink());
+          }, () -> sinks.remove(recorder.getFluxSink()));
 
       return recorder.getFluxSink();
     })
@@ -91,12 +88,12 @@ public class StreamPerThreadSink implements Sink, Disposable {
   @Override
   public void dispose() {
     disposing = true;
-    sinks.asMap().values().forEach(sink -> sink.complete());
+    sinks.values().forEach(sink -> sink.complete());
 
     final long shutdownTimeout = flowConstruct.getMuleContext().getConfiguration().getShutdownTimeout();
     long startMillis = currentTimeMillis();
 
-    while (!sinks.asMap().isEmpty()
+    while (!sinks.isEmpty()
         && currentTimeMillis() <= shutdownTimeout + startMillis
         && !currentThread().isInterrupted()) {
       yield();
@@ -110,8 +107,8 @@ public class StreamPerThreadSink implements Sink, Disposable {
         LOGGER.warn("TX Subscribers of ProcessingStrategy for flow '{}' not completed before thread interruption",
                     flowConstruct.getName());
       }
-      sinks.invalidateAll();
-    } else if (!sinks.asMap().isEmpty()) {
+      sinks.clear();
+    } else if (!sinks.isEmpty()) {
       if (getProperty(MULE_LIFECYCLE_FAIL_ON_FIRST_DISPOSE_ERROR) != null) {
         throw new IllegalStateException(format("TX Subscribers of ProcessingStrategy for flow '%s' not completed in %d ms",
                                                flowConstruct.getName(),
@@ -120,7 +117,7 @@ public class StreamPerThreadSink implements Sink, Disposable {
         LOGGER.warn("TX Subscribers of ProcessingStrategy for flow '{}' not completed in {} ms", flowConstruct.getName(),
                     shutdownTimeout);
       }
-      sinks.invalidateAll();
+      sinks.clear();
     }
   }
 }
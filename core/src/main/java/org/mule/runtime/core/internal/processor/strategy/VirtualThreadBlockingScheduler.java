@@ -0,0 +1,261 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.processor.strategy;
+
+import static java.lang.Integer.MAX_VALUE;
+import static java.lang.System.nanoTime;
+import static java.lang.Thread.currentThread;
+import static java.util.concurrent.ConcurrentHashMap.newKeySet;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static org.slf4j.LoggerFactory.getLogger;
+
+import org.mule.runtime.api.scheduler.Scheduler;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Set;
+import java.util.TimeZone;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Callable;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+import org.slf4j.Logger;
+
+/**
+ * {@link Scheduler} that runs each task on a new virtual thread, for running blocking processors without being limited by the
+ * size of the IO pool.
+ * <p>
+ * Virtual threads are only available from Java 21, while this class is compiled for the baseline of the runtime. Their builder
+ * is looked up when this class is loaded, and {@link #isSupported()} tells whether that lookup succeeded.
+ * <p>
+ * The amount of tasks running at the same time is bounded by the {@code maxConcurrency} this scheduler is created with. When that
+ * many tasks are running, new tasks are rejected the same way a busy platform scheduler rejects them, so the processing strategy
+ * retries them and applies back-pressure as usual. Delayed and periodic tasks are run by the platform scheduler this one is
+ * created with, which is also stopped along with this one.
+ * <p>
+ * As with the schedulers of the scheduler service, {@link #stop()} waits for the running tasks to complete, up to the shutdown
+ * timeout, and interrupts the ones still running after that.
+ *
+ * @since 4.4
+ */
+final class VirtualThreadBlockingScheduler extends AbstractExecutorService implements Scheduler {
+
+  private static final Logger LOGGER = getLogger(VirtualThreadBlockingScheduler.class);
+
+  private static final Function<String, ThreadFactory> VIRTUAL_THREAD_FACTORY = lookupVirtualThreadFactory();
+
+  private final Scheduler platformScheduler;
+  private final ThreadFactory threadFactory;
+  private final Semaphore permits;
+  private final LongSupplier shutdownTimeoutMillis;
+  private final Set<Thread> runningThreads = newKeySet();
+
+  private volatile boolean shutdown = false;
+
+  /**
+   * @return whether the running JVM supports virtual threads.
+   */
+  static boolean isSupported() {
+    return VIRTUAL_THREAD_FACTORY != null;
+  }
+
+  /**
+   * Creates a scheduler that runs its tasks on virtual threads.
+   *
+   * @param platformScheduler runs the delayed and periodic tasks, and provides the name of the new scheduler.
+   * @param maxConcurrency        the maximum amount of tasks to run at the same time. {@link Integer#MAX_VALUE} means no limit.
+   * @param shutdownTimeoutMillis how long {@link #stop()} waits for the running tasks to complete, in milliseconds.
+   * @return the new scheduler
+   * @throws IllegalStateException if the running JVM doesn't support virtual threads.
+   */
+  static VirtualThreadBlockingScheduler create(Scheduler platformScheduler, int maxConcurrency,
+                                               LongSupplier shutdownTimeoutMillis) {
+    if (!isSupported()) {
+      throw new IllegalStateException("Virtual threads are not supported by the running JVM");
+    }
+    return new VirtualThreadBlockingScheduler(platformScheduler,
+                                              VIRTUAL_THREAD_FACTORY.apply(platformScheduler.getName() + ".virtual-"),
+                                              maxConcurrency, shutdownTimeoutMillis);
+  }
+
+  VirtualThreadBlockingScheduler(Scheduler platformScheduler, ThreadFactory threadFactory, int maxConcurrency,
+                                 LongSupplier shutdownTimeoutMillis) {
+    this.platformScheduler = platformScheduler;
+    this.threadFactory = threadFactory;
+    this.permits = maxConcurrency == MAX_VALUE ? null : new Semaphore(maxConcurrency);
+    this.shutdownTimeoutMillis = shutdownTimeoutMillis;
+  }
+
+  @Override
+  public void execute(Runnable command) {
+    if (shutdown) {
+      throw new RejectedExecutionException(getName() + " is stopped");
+    }
+    if (permits != null && !permits.tryAcquire()) {
+      throw new RejectedExecutionException(getName() + " is running the maximum allowed concurrent tasks");
+    }
+
+    try {
+      final Thread thread = threadFactory.newThread(() -> {
+        try {
+          command.run();
+        } finally {
+          release(currentThread());
+        }
+      });
+      runningThreads.add(thread);
+      thread.start();
+    } catch (RuntimeException | Error e) {
+      if (permits != null) {
+        permits.release();
+      }
+      throw new RejectedExecutionException(e);
+    }
+  }
+
+  private void release(Thread thread) {
+    runningThreads.remove(thread);
+    if (permits != null) {
+      permits.release();
+    }
+    if (runningThreads.isEmpty()) {
+      synchronized (this) {
+        notifyAll();
+      }
+    }
+  }
+
+  @Override
+  public ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
+    return platformScheduler.schedule(command, delay, unit);
+  }
+
+  @Override
+  public <V> ScheduledFuture<V> schedule(Callable<V> callable, long delay, TimeUnit unit) {
+    return platformScheduler.schedule(callable, delay, unit);
+  }
+
+  @Override
+  public ScheduledFuture<?> scheduleAtFixedRate(Runnable command, long initialDelay, long period, TimeUnit unit) {
+    return platformScheduler.scheduleAtFixedRate(command, initialDelay, period, unit);
+  }
+
+  @Override
+  public ScheduledFuture<?> scheduleWithFixedDelay(Runnable command, long initialDelay, long delay, TimeUnit unit) {
+    return platformScheduler.scheduleWithFixedDelay(command, initialDelay, delay, unit);
+  }
+
+  @Override
+  public ScheduledFuture<?> scheduleWithCronExpression(Runnable command, String cronExpression) {
+    return platformScheduler.scheduleWithCronExpression(command, cronExpression);
+  }
+
+  @Override
+  public ScheduledFuture<?> scheduleWithCronExpression(Runnable command, String cronExpression, TimeZone timeZone) {
+    return platformScheduler.scheduleWithCronExpression(command, cronExpression, timeZone);
+  }
+
+  /**
+   * Stops accepting tasks and waits for the ones running on virtual threads to complete, up to the shutdown timeout. The tasks
+   * still running after that are interrupted. Then the platform scheduler is stopped.
+   */
+  @Override
+  public void stop() {
+    shutdown = true;
+    try {
+      if (!awaitRunningThreads(MILLISECONDS.toNanos(shutdownTimeoutMillis.getAsLong()))) {
+        LOGGER.warn("{} didn't complete its running tasks within the shutdown timeout, interrupting them", getName());
+        runningThreads.forEach(Thread::interrupt);
+      }
+    } catch (InterruptedException e) {
+      currentThread().interrupt();
+      runningThreads.forEach(Thread::interrupt);
+    } finally {
+      platformScheduler.stop();
+    }
+  }
+
+  @Override
+  public void shutdown() {
+    shutdown = true;
+    platformScheduler.shutdown();
+  }
+
+  @Override
+  public List<Runnable> shutdownNow() {
+    shutdown = true;
+    runningThreads.forEach(Thread::interrupt);
+    return platformScheduler.shutdownNow();
+  }
+
+  @Override
+  public boolean isShutdown() {
+    return shutdown;
+  }
+
+  @Override
+  public boolean isTerminated() {
+    return shutdown && runningThreads.isEmpty() && platformScheduler.isTerminated();
+  }
+
+  @Override
+  public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+    final long deadline = nanoTime() + unit.toNanos(timeout);
+    return awaitRunningThreads(unit.toNanos(timeout)) && platformScheduler.awaitTermination(deadline - nanoTime(), NANOSECONDS);
+  }
+
+  private boolean awaitRunningThreads(long timeoutNanos) throws InterruptedException {
+    final long deadline = nanoTime() + timeoutNanos;
+    synchronized (this) {
+      long remaining;
+      while (!runningThreads.isEmpty() && (remaining = deadline - nanoTime()) > 0) {
+        NANOSECONDS.timedWait(this, remaining);
+      }
+    }
+    return runningThreads.isEmpty();
+  }
+
+  @Override
+  public String getName() {
+    return platformScheduler.getName();
+  }
+
+  @Override
+  public String toString() {
+    return "VirtualThreadBlockingScheduler{" + platformScheduler.toString() + "}";
+  }
+
+  private static Function<String, ThreadFactory> lookupVirtualThreadFactory() {
+    try {
+      final Method ofVirtual = Thread.class.getMethod("ofVirtual");
+      final Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+      final Method name = builderClass.getMethod("name", String.class, long.class);
+      final Method factory = builderClass.getMethod("factory");
+
+      final Function<String, ThreadFactory> virtualThreadFactory = prefix -> {
+        try {
+          return (ThreadFactory) factory.invoke(name.invoke(ofVirtual.invoke(null), prefix, 0L));
+        } catch (ReflectiveOperationException e) {
+          throw new IllegalStateException(e);
+        }
+      };
+      // Fails if virtual threads are a preview feature of the running JVM that is not enabled
+      virtualThreadFactory.apply("probe-");
+      return virtualThreadFactory;
+    } catch (ReflectiveOperationException | RuntimeException e) {
+      LOGGER.debug("Virtual threads are not available in the running JVM", e);
+      return null;
+    }
+  }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.processor.strategy;
+
+import static org.slf4j.LoggerFactory.getLogger;
+
+import org.mule.runtime.api.scheduler.Scheduler;
+import org.mule.runtime.core.api.MuleContext;
+import org.mule.runtime.core.api.processor.ReactiveProcessor;
+
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+
+/**
+ * Creates a processing strategy with same behavior as {@link TransactionAwareProactorStreamEmitterProcessingStrategyFactory},
+ * apart from running each {@link ReactiveProcessor.ProcessingType#BLOCKING} and {@link ReactiveProcessor.ProcessingType#IO_RW}
+ * processor on its own virtual thread instead of on the IO scheduler, with at most {@code maxConcurrency} of them running at the
+ * same time for each flow.
+ * <p>
+ * When the running JVM doesn't support virtual threads, the processing strategy created by this factory behaves exactly as the
+ * one of {@link TransactionAwareProactorStreamEmitterProcessingStrategyFactory}.
+ *
+ * @since 4.4
+ */
+public class VirtualThreadProactorStreamEmitterProcessingStrategyFactory
+    extends TransactionAwareProactorStreamEmitterProcessingStrategyFactory {
+
+  private static final Logger LOGGER = getLogger(VirtualThreadProactorStreamEmitterProcessingStrategyFactory.class);
+
+  static {
+    if (!VirtualThreadBlockingScheduler.isSupported()) {
+      LOGGER.warn("Virtual threads are not supported by the running JVM. Blocking processors will run on the IO scheduler.");
+    }
+  }
+
+  @Override
+  protected Supplier<Scheduler> getBlockingSchedulerSupplier(MuleContext muleContext, String schedulersNamePrefix) {
+    final Supplier<Scheduler> ioSchedulerSupplier = super.getBlockingSchedulerSupplier(muleContext, schedulersNamePrefix);
+    if (!VirtualThreadBlockingScheduler.isSupported()) {
+      return ioSchedulerSupplier;
+    }
+
+    final int maxConcurrency = getMaxConcurrency();
+    return () -> VirtualThreadBlockingScheduler.create(ioSchedulerSupplier.get(), maxConcurrency,
+                                                       () -> muleContext.getConfiguration().getShutdownTimeout());
+  }
+}
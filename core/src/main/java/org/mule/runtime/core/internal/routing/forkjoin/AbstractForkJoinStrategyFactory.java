@@ -11,6 +11,7 @@ import static java.time.Duration.ofMillis;
 import static java.util.Optional.empty;
 import static java.util.stream.Collectors.toList;
 import static org.mule.runtime.core.api.event.CoreEvent.builder;
+import static org.mule.runtime.core.internal.metadata.DataTypeInternTable.collectionOf;
 import static org.mule.runtime.core.internal.routing.ForkJoinStrategy.RoutingPair.of;
 import static org.mule.runtime.core.privileged.processor.MessageProcessors.processWithChildContextDontComplete;
 import static reactor.core.Exceptions.propagate;
@@ -23,7 +24,6 @@ import org.mule.runtime.api.message.Error;
 import org.mule.runtime.api.message.ErrorType;
 import org.mule.runtime.api.message.Message;
 import org.mule.runtime.api.metadata.CollectionDataType;
-import org.mule.runtime.api.metadata.DataType;
 import org.mule.runtime.api.metadata.TypedValue;
 import org.mule.runtime.api.scheduler.Scheduler;
 import org.mule.runtime.api.util.Pair;
@@ -223,8 +223,7 @@ public abstract class AbstractForkJoinStrategyFactory implements ForkJoinStrateg
             if (!(routeVars.get(key).getValue() instanceof List)) {
               List newList = new ArrayList();
               newList.add(routeVars.get(key).getValue());
-              routeVars.put(key, new TypedValue(newList, DataType.builder().collectionType(List.class)
-                  .itemType(routeVars.get(key).getDataType().getType()).build()));
+              routeVars.put(key, new TypedValue(newList, collectionOf(List.class, routeVars.get(key).getDataType().getType())));
             }
             List valueList = (List) routeVars.get(key).getValue();
             valueList.add(value.getValue());
@@ -233,7 +232,7 @@ public abstract class AbstractForkJoinStrategyFactory implements ForkJoinStrateg
               routeVars.put(key, new TypedValue(valueList, routeVars.get(key).getDataType()));
             } else {
               // Else Object item type is used.
-              routeVars.put(key, new TypedValue(valueList, DataType.builder().collectionType(List.class).build()));
+              routeVars.put(key, new TypedValue(valueList, collectionOf(List.class, Object.class)));
             }
           }
         }
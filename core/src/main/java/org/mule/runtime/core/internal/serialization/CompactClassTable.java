@@ -0,0 +1,392 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.serialization;
+
+import static java.lang.String.format;
+import static java.util.OptionalLong.empty;
+import static org.mule.runtime.api.metadata.DataType.BYTE_ARRAY;
+import static org.mule.runtime.api.util.Preconditions.checkArgument;
+import static org.mule.runtime.core.internal.metadata.DataTypeInternTable.fromType;
+
+import org.mule.runtime.api.message.Message;
+import org.mule.runtime.api.metadata.CollectionDataType;
+import org.mule.runtime.api.metadata.DataType;
+import org.mule.runtime.api.metadata.FunctionDataType;
+import org.mule.runtime.api.metadata.MapDataType;
+import org.mule.runtime.api.metadata.MediaType;
+import org.mule.runtime.api.metadata.TypedValue;
+import org.mule.runtime.api.serialization.SerializationException;
+import org.mule.runtime.core.api.MuleContext;
+import org.mule.runtime.core.internal.message.InternalMessage;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+
+/**
+ * Registry of the class ids known by the {@link CompactSerializationProtocol}. Each id maps to a {@link CompactCodec}. Types
+ * registered as exact are matched by their concrete class, while hierarchy types (such as {@link Message} or {@link DataType},
+ * whose implementations are not visible) are matched with {@code instanceof} in registration order.
+ * <p>
+ * Ids are part of the serialized format, so they must never be reassigned once released.
+ *
+ * @since 4.4
+ */
+final class CompactClassTable {
+
+  static final byte NULL_ID = 0;
+  static final byte JAVA_FALLBACK_ID = 1;
+
+  private static final byte STRING_ID = 2;
+  private static final byte INTEGER_ID = 3;
+  private static final byte LONG_ID = 4;
+  private static final byte BOOLEAN_ID = 5;
+  private static final byte DOUBLE_ID = 6;
+  private static final byte BYTE_ARRAY_ID = 7;
+  private static final byte MEDIA_TYPE_ID = 8;
+  private static final byte DATA_TYPE_ID = 9;
+  private static final byte TYPED_VALUE_ID = 10;
+  private static final byte MESSAGE_ID = 11;
+  private static final byte HASH_MAP_ID = 12;
+  private static final byte LINKED_HASH_MAP_ID = 13;
+  private static final byte ARRAY_LIST_ID = 14;
+
+  private static final CompactClassTable DEFAULT = createDefault();
+
+  /**
+   * @return the table with the codecs for the core types.
+   */
+  static CompactClassTable getDefault() {
+    return DEFAULT;
+  }
+
+  private final CompactCodec[] codecsById = new CompactCodec[Byte.MAX_VALUE + 1];
+  private final Map<Class<?>, Byte> idsByExactType = new IdentityHashMap<>();
+  private final List<HierarchyEntry> hierarchyEntries = new ArrayList<>();
+
+  private CompactClassTable() {}
+
+  private <T> void registerExact(byte id, Class<? extends T> type, CompactCodec<T> codec) {
+    register(id, codec);
+    idsByExactType.put(type, id);
+  }
+
+  private <T> void registerHierarchy(byte id, Class<? extends T> type, CompactCodec<T> codec) {
+    register(id, codec);
+    hierarchyEntries.add(new HierarchyEntry(type, id));
+  }
+
+  private void register(byte id, CompactCodec<?> codec) {
+    checkArgument(id > JAVA_FALLBACK_ID, "Class ids 0 and 1 are reserved");
+    checkArgument(codecsById[id] == null, format("Class id %d is already registered", id));
+    codecsById[id] = codec;
+  }
+
+  /**
+   * Resolves the id to use for writing the given non {@code null} {@code value}.
+   *
+   * @return the id of the matching codec, or {@link #JAVA_FALLBACK_ID} if none accepts the value
+   */
+  byte idFor(Object value) {
+    Byte id = idsByExactType.get(value.getClass());
+    if (id != null) {
+      return id;
+    }
+
+    for (HierarchyEntry entry : hierarchyEntries) {
+      if (entry.type.isInstance(value) && codecsById[entry.id].accepts(value)) {
+        return entry.id;
+      }
+    }
+
+    return JAVA_FALLBACK_ID;
+  }
+
+  CompactCodec codecFor(byte id) {
+    CompactCodec codec = id >= 0 ? codecsById[id] : null;
+    if (codec == null) {
+      throw new IllegalStateException(format("Unknown class id %d found in serialized data", id));
+    }
+    return codec;
+  }
+
+  private static final class HierarchyEntry {
+
+    private final Class<?> type;
+    private final byte id;
+
+    private HierarchyEntry(Class<?> type, byte id) {
+      this.type = type;
+      this.id = id;
+    }
+  }
+
+  private static CompactClassTable createDefault() {
+    CompactClassTable table = new CompactClassTable();
+
+    table.registerExact(STRING_ID, String.class, new CompactCodec<String>() {
+
+      @Override
+      public void write(String value, CompactOutput output) {
+        output.writeString(value);
+      }
+
+      @Override
+      public String read(CompactInput input) {
+        return input.readString();
+      }
+    });
+
+    table.registerExact(INTEGER_ID, Integer.class, new CompactCodec<Integer>() {
+
+      @Override
+      public void write(Integer value, CompactOutput output) {
+        output.writeSignedVarLong(value);
+      }
+
+      @Override
+      public Integer read(CompactInput input) {
+        return (int) input.readSignedVarLong();
+      }
+    });
+
+    table.registerExact(LONG_ID, Long.class, new CompactCodec<Long>() {
+
+      @Override
+      public void write(Long value, CompactOutput output) {
+        output.writeSignedVarLong(value);
+      }
+
+      @Override
+      public Long read(CompactInput input) {
+        return input.readSignedVarLong();
+      }
+    });
+
+    table.registerExact(BOOLEAN_ID, Boolean.class, new CompactCodec<Boolean>() {
+
+      @Override
+      public void write(Boolean value, CompactOutput output) {
+        output.writeByte(value ? 1 : 0);
+      }
+
+      @Override
+      public Boolean read(CompactInput input) {
+        return input.readByte() != 0;
+      }
+    });
+
+    table.registerExact(DOUBLE_ID, Double.class, new CompactCodec<Double>() {
+
+      @Override
+      public void write(Double value, CompactOutput output) {
+        output.writeDouble(value);
+      }
+
+      @Override
+      public Double read(CompactInput input) {
+        return input.readDouble();
+      }
+    });
+
+    table.registerExact(BYTE_ARRAY_ID, byte[].class, new CompactCodec<byte[]>() {
+
+      @Override
+      public void write(byte[] value, CompactOutput output) {
+        output.writeBytes(value);
+      }
+
+      @Override
+      public byte[] read(CompactInput input) {
+        return input.readBytes();
+      }
+    });
+
+    table.registerHierarchy(MEDIA_TYPE_ID, MediaType.class, new CompactCodec<MediaType>() {
+
+      @Override
+      public void write(MediaType value, CompactOutput output) {
+        output.writeString(value.toRfcString());
+      }
+
+      @Override
+      public MediaType read(CompactInput input) {
+        return MediaType.parse(input.readString());
+      }
+    });
+
+    table.registerHierarchy(DATA_TYPE_ID, DataType.class, new CompactCodec<DataType>() {
+
+      @Override
+      public boolean accepts(Object value) {
+        // parameterized types are rare in persisted data, those go through java serialization
+        return !(value instanceof CollectionDataType || value instanceof MapDataType || value instanceof FunctionDataType);
+      }
+
+      @Override
+      public void write(DataType value, CompactOutput output) {
+        output.writeString(value.getType().getName());
+        output.writeString(value.getMediaType().toRfcString());
+      }
+
+      @Override
+      public DataType read(CompactInput input) throws ClassNotFoundException {
+        Class<?> type = input.resolveClass(input.readString());
+        return fromType(type, MediaType.parse(input.readString()));
+      }
+    });
+
+    table.registerHierarchy(TYPED_VALUE_ID, TypedValue.class, new CompactCodec<TypedValue>() {
+
+      @Override
+      public void write(TypedValue value, CompactOutput output) throws Exception {
+        writeTypedValue(value, output);
+      }
+
+      @Override
+      public TypedValue read(CompactInput input) throws Exception {
+        return readTypedValue(input);
+      }
+    });
+
+    table.registerHierarchy(MESSAGE_ID, Message.class, new CompactCodec<Message>() {
+
+      @Override
+      public boolean accepts(Object value) {
+        if (!(value instanceof InternalMessage)) {
+          return false;
+        }
+
+        // Legacy properties and attachments are only supported by the java serialization of the message
+        InternalMessage message = (InternalMessage) value;
+        return message.getInboundPropertyNames().isEmpty()
+            && message.getOutboundPropertyNames().isEmpty()
+            && message.getInboundAttachmentNames().isEmpty()
+            && message.getOutboundAttachmentNames().isEmpty()
+            && isSerializable(message.getAttributes().getValue());
+      }
+
+      @Override
+      public void write(Message value, CompactOutput output) throws Exception {
+        TypedValue<?> payload = value.getPayload();
+        if (!isSerializable(payload.getValue())) {
+          payload = payloadAsByteArray(value, output.getMuleContext());
+        }
+        writeTypedValue(payload, output);
+        writeTypedValue(value.getAttributes(), output);
+      }
+
+      @Override
+      public Message read(CompactInput input) throws Exception {
+        return InternalMessage.builder()
+            .payload(readTypedValue(input))
+            .attributes(readTypedValue(input))
+            .build();
+      }
+    });
+
+    table.registerExact(HASH_MAP_ID, HashMap.class, new MapCodec() {
+
+      @Override
+      protected Map<Object, Object> createMap(int size) {
+        return new HashMap<>(size * 4 / 3 + 1);
+      }
+    });
+
+    table.registerExact(LINKED_HASH_MAP_ID, LinkedHashMap.class, new MapCodec() {
+
+      @Override
+      protected Map<Object, Object> createMap(int size) {
+        return new LinkedHashMap<>(size * 4 / 3 + 1);
+      }
+    });
+
+    table.registerExact(ARRAY_LIST_ID, ArrayList.class, new CompactCodec<ArrayList>() {
+
+      @Override
+      public void write(ArrayList value, CompactOutput output) throws Exception {
+        output.writeVarInt(value.size());
+        for (Object item : value) {
+          output.writeObject(item);
+        }
+      }
+
+      @Override
+      public ArrayList read(CompactInput input) throws Exception {
+        int size = input.readVarInt();
+        ArrayList<Object> list = new ArrayList<>(size);
+        for (int i = 0; i < size; ++i) {
+          list.add(input.readObject());
+        }
+        return list;
+      }
+    });
+
+    return table;
+  }
+
+  private static boolean isSerializable(Object value) {
+    return value == null || value instanceof Serializable;
+  }
+
+  /**
+   * Same as the java serialization of the message, streams and other non serializable payloads are written as their content.
+   */
+  private static TypedValue<byte[]> payloadAsByteArray(Message message, MuleContext muleContext) {
+    TypedValue<?> payload = message.getPayload();
+    if (muleContext == null) {
+      throw new SerializationException(format("Was expecting a Serializable type. %s was found instead",
+                                              payload.getDataType().getType().getName()));
+    }
+
+    byte[] content = (byte[]) muleContext.getTransformationService().transform(message, BYTE_ARRAY).getPayload().getValue();
+    return new TypedValue<>(content, DataType.builder(BYTE_ARRAY).mediaType(payload.getDataType().getMediaType()).build());
+  }
+
+  private static void writeTypedValue(TypedValue<?> value, CompactOutput output) throws Exception {
+    output.writeObject(value.getValue());
+    output.writeObject(value.getDataType());
+    OptionalLong length = value.getByteLength();
+    output.writeSignedVarLong(length.isPresent() ? length.getAsLong() : -1);
+  }
+
+  private static TypedValue<?> readTypedValue(CompactInput input) throws Exception {
+    Object value = input.readObject();
+    DataType dataType = (DataType) input.readObject();
+    long length = input.readSignedVarLong();
+    return new TypedValue<>(value, dataType, length >= 0 ? OptionalLong.of(length) : empty());
+  }
+
+  private static abstract class MapCodec implements CompactCodec<Map> {
+
+    protected abstract Map<Object, Object> createMap(int size);
+
+    @Override
+    public void write(Map value, CompactOutput output) throws Exception {
+      output.writeVarInt(value.size());
+      for (Object entry : value.entrySet()) {
+        output.writeObject(((Map.Entry) entry).getKey());
+        output.writeObject(((Map.Entry) entry).getValue());
+      }
+    }
+
+    @Override
+    public Map read(CompactInput input) throws Exception {
+      int size = input.readVarInt();
+      Map<Object, Object> map = createMap(size);
+      for (int i = 0; i < size; ++i) {
+        map.put(input.readObject(), input.readObject());
+      }
+      return map;
+    }
+  }
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.serialization;
+
+/**
+ * Hand-written binary codec for a type registered in a {@link CompactClassTable}.
+ *
+ * @param <T> the type this codec handles
+ * @since 4.4
+ */
+interface CompactCodec<T> {
+
+  /**
+   * Allows a codec registered for a type hierarchy to reject particular instances, in which case the value is handled by the
+   * Java serialization fallback.
+   *
+   * @param value a non {@code null} value of the registered type
+   * @return whether this codec is able to fully represent {@code value}
+   */
+  default boolean accepts(Object value) {
+    return true;
+  }
+
+  /**
+   * Writes the given {@code value} to the {@code output}. The class id has already been written.
+   */
+  void write(T value, CompactOutput output) throws Exception;
+
+  /**
+   * Reads a value previously written by {@link #write(Object, CompactOutput)}. The class id has already been consumed.
+   */
+  T read(CompactInput input) throws Exception;
+}
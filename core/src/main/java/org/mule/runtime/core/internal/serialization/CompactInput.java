@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.serialization;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.mule.runtime.core.internal.serialization.CompactClassTable.JAVA_FALLBACK_ID;
+import static org.mule.runtime.core.internal.serialization.CompactClassTable.NULL_ID;
+
+import org.mule.runtime.core.api.MuleContext;
+import org.mule.runtime.core.internal.util.SerializationUtils;
+
+import java.io.ByteArrayInputStream;
+import java.nio.ByteBuffer;
+
+import org.apache.commons.lang3.ClassUtils;
+
+/**
+ * Reads values written by a {@link CompactOutput} directly from a {@link ByteBuffer}.
+ *
+ * @since 4.4
+ */
+final class CompactInput {
+
+  private final ByteBuffer buffer;
+  private final CompactClassTable classTable;
+  private final ClassLoader classLoader;
+  private final MuleContext muleContext;
+
+  CompactInput(ByteBuffer buffer, CompactClassTable classTable, ClassLoader classLoader, MuleContext muleContext) {
+    this.buffer = buffer;
+    this.classTable = classTable;
+    this.classLoader = classLoader;
+    this.muleContext = muleContext;
+  }
+
+  /**
+   * Reads a class id and the value that follows it.
+   */
+  Object readObject() throws Exception {
+    byte id = readByte();
+    if (id == NULL_ID) {
+      return null;
+    } else if (id == JAVA_FALLBACK_ID) {
+      return SerializationUtils.deserialize(new ByteArrayInputStream(readBytes()), classLoader, muleContext);
+    } else {
+      return classTable.codecFor(id).read(this);
+    }
+  }
+
+  Class<?> resolveClass(String className) throws ClassNotFoundException {
+    return ClassUtils.getClass(classLoader, className);
+  }
+
+  byte readByte() {
+    return buffer.get();
+  }
+
+  double readDouble() {
+    return buffer.getDouble();
+  }
+
+  int readVarInt() {
+    int value = 0;
+    int shift = 0;
+    byte current;
+    do {
+      current = buffer.get();
+      value |= (current & 0x7F) << shift;
+      shift += 7;
+    } while ((current & 0x80) != 0);
+    return value;
+  }
+
+  long readSignedVarLong() {
+    long zigZag = 0;
+    int shift = 0;
+    byte current;
+    do {
+      current = buffer.get();
+      zigZag |= (long) (current & 0x7F) << shift;
+      shift += 7;
+    } while ((current & 0x80) != 0);
+    return (zigZag >>> 1) ^ -(zigZag & 1);
+  }
+
+  byte[] readBytes() {
+    byte[] bytes = new byte[readVarInt()];
+    buffer.get(bytes);
+    return bytes;
+  }
+
+  String readString() {
+    int length = readVarInt();
+    if (buffer.hasArray()) {
+      String value = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length, UTF_8);
+      buffer.position(buffer.position() + length);
+      return value;
+    }
+
+    byte[] bytes = new byte[length];
+    buffer.get(bytes);
+    return new String(bytes, UTF_8);
+  }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.serialization;
+
+import org.mule.runtime.api.serialization.ObjectSerializer;
+import org.mule.runtime.api.serialization.SerializationProtocol;
+import org.mule.runtime.core.api.MuleContext;
+import org.mule.runtime.core.api.context.MuleContextAware;
+
+/**
+ * Serializes objects using the {@link CompactSerializationProtocol} for the data that the runtime persists on its own (queues,
+ * object stores, journals), while keeping Java serialization as the external protocol.
+ * <p>
+ * An application selects it through the {@code defaultObjectSerializer-ref} attribute of its configuration, using the
+ * {@link #COMPACT_OBJECT_SERIALIZER_NAME} key under which it is registered.
+ *
+ * @since 4.4
+ */
+public class CompactObjectSerializer implements ObjectSerializer, MuleContextAware {
+
+  /**
+   * The registry key of the instance available on every artifact.
+   */
+  public static final String COMPACT_OBJECT_SERIALIZER_NAME = "_muleCompactObjectSerializer";
+
+  private volatile CompactSerializationProtocol internalProtocol = new CompactSerializationProtocol();
+  private volatile JavaExternalSerializerProtocol externalProtocol = new JavaExternalSerializerProtocol();
+
+  @Override
+  public SerializationProtocol getInternalProtocol() {
+    return internalProtocol;
+  }
+
+  @Override
+  public SerializationProtocol getExternalProtocol() {
+    return externalProtocol;
+  }
+
+  @Override
+  public void setMuleContext(MuleContext context) {
+    internalProtocol.setMuleContext(context);
+    externalProtocol.setMuleContext(context);
+  }
+}
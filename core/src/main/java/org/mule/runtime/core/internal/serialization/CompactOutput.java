@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.serialization;
+
+import static java.lang.Math.max;
+import static java.lang.String.format;
+import static java.nio.ByteBuffer.allocate;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.mule.runtime.core.internal.serialization.CompactClassTable.JAVA_FALLBACK_ID;
+import static org.mule.runtime.core.internal.serialization.CompactClassTable.NULL_ID;
+
+import org.mule.runtime.api.serialization.SerializationException;
+import org.mule.runtime.core.api.MuleContext;
+
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+
+/**
+ * Writes values in the format of the {@link CompactSerializationProtocol} into a heap {@link ByteBuffer} that grows as needed.
+ *
+ * @since 4.4
+ */
+final class CompactOutput {
+
+  private final CompactClassTable classTable;
+  private final MuleContext muleContext;
+  private ByteBuffer buffer;
+
+  CompactOutput(CompactClassTable classTable, int initialCapacity, MuleContext muleContext) {
+    this.classTable = classTable;
+    this.muleContext = muleContext;
+    this.buffer = allocate(initialCapacity);
+  }
+
+  /**
+   * @return the {@link MuleContext} of the serializing application, used to transform values that are not serializable.
+   */
+  MuleContext getMuleContext() {
+    return muleContext;
+  }
+
+  /**
+   * Writes the class id of the given {@code value} followed by its contents.
+   */
+  void writeObject(Object value) throws Exception {
+    if (value == null) {
+      writeByte(NULL_ID);
+      return;
+    }
+
+    byte id = classTable.idFor(value);
+    writeByte(id);
+    if (id == JAVA_FALLBACK_ID) {
+      writeJava(value);
+    } else {
+      classTable.codecFor(id).write(value, this);
+    }
+  }
+
+  private void writeJava(Object value) {
+    if (!(value instanceof Serializable)) {
+      throw new SerializationException(format("Was expecting a Serializable type. %s was found instead",
+                                              value.getClass().getName()));
+    }
+    writeBytes(org.apache.commons.lang3.SerializationUtils.serialize((Serializable) value));
+  }
+
+  void writeByte(int value) {
+    ensureCapacity(1);
+    buffer.put((byte) value);
+  }
+
+  void writeDouble(double value) {
+    ensureCapacity(8);
+    buffer.putDouble(value);
+  }
+
+  /**
+   * Writes a non negative int using 7 bits per byte.
+   */
+  void writeVarInt(int value) {
+    ensureCapacity(5);
+    while ((value & ~0x7F) != 0) {
+      buffer.put((byte) ((value & 0x7F) | 0x80));
+      value >>>= 7;
+    }
+    buffer.put((byte) value);
+  }
+
+  /**
+   * Writes a long using zig-zag encoding so that small negative values are also compact.
+   */
+  void writeSignedVarLong(long value) {
+    ensureCapacity(10);
+    long zigZag = (value << 1) ^ (value >> 63);
+    while ((zigZag & ~0x7FL) != 0) {
+      buffer.put((byte) ((zigZag & 0x7F) | 0x80));
+      zigZag >>>= 7;
+    }
+    buffer.put((byte) zigZag);
+  }
+
+  void writeBytes(byte[] value) {
+    writeVarInt(value.length);
+    ensureCapacity(value.length);
+    buffer.put(value);
+  }
+
+  void writeString(String value) {
+    writeBytes(value.getBytes(UTF_8));
+  }
+
+  /**
+   * @return the buffer holding the written data, flipped for reading
+   */
+  ByteBuffer toReadableBuffer() {
+    ByteBuffer readable = buffer.duplicate();
+    readable.flip();
+    return readable;
+  }
+
+  private void ensureCapacity(int bytes) {
+    if (buffer.remaining() < bytes) {
+      ByteBuffer expanded = allocate(max(buffer.capacity() * 2, buffer.position() + bytes));
+      buffer.flip();
+      expanded.put(buffer);
+      buffer = expanded;
+    }
+  }
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.serialization;
+
+import static java.util.Arrays.copyOfRange;
+import static org.mule.runtime.api.i18n.I18nMessageFactory.createStaticMessage;
+import static org.mule.runtime.api.util.Preconditions.checkArgument;
+import static org.mule.runtime.core.api.util.IOUtils.closeQuietly;
+import static org.mule.runtime.core.api.util.IOUtils.toByteArray;
+
+import org.mule.runtime.api.serialization.SerializationException;
+import org.mule.runtime.api.serialization.SerializationProtocol;
+import org.mule.runtime.api.streaming.bytes.CursorStream;
+import org.mule.runtime.api.streaming.bytes.CursorStreamProvider;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * Implementation of {@link SerializationProtocol} that uses a compact binary format.
+ * <p>
+ * Values whose type is registered in the {@link CompactClassTable} (messages, typed values, data and media types, strings,
+ * numbers and the common collections) are written by hand-written codecs after a one byte class id. Any other value is written
+ * using Java's default serialization mechanism, so the same restrictions regarding {@link java.io.Serializable} apply to those.
+ * <p>
+ * Besides the {@code byte[]} and stream based methods of {@link SerializationProtocol}, this protocol can write to and read from
+ * {@link ByteBuffer}s directly.
+ *
+ * @since 4.4
+ */
+public class CompactSerializationProtocol extends AbstractSerializationProtocol {
+
+  private static final byte FORMAT_VERSION = 1;
+  private static final int INITIAL_BUFFER_SIZE = 256;
+
+  private final CompactClassTable classTable = CompactClassTable.getDefault();
+
+  /**
+   * Serializes the given {@code object} into a new heap {@link ByteBuffer}.
+   *
+   * @param object the object to be serialized
+   * @return a buffer ready to be read, containing the serialized object
+   * @throws SerializationException in case of unexpected exception
+   */
+  public ByteBuffer serializeToBuffer(Object object) throws SerializationException {
+    try {
+      return write(object).toReadableBuffer();
+    } catch (SerializationException e) {
+      throw e;
+    } catch (Exception e) {
+      throw new SerializationException("Could not serialize object", e);
+    }
+  }
+
+  /**
+   * Deserializes the contents of the given {@code buffer}, starting at its current position, using the provided
+   * {@code classLoader}.
+   *
+   * @param buffer a buffer containing data written by this protocol
+   * @param classLoader the {@link ClassLoader} to deserialize with
+   * @param <T> the type of the deserialized object
+   * @return the deserialized object
+   * @throws SerializationException in case of unexpected exception
+   */
+  public <T> T deserialize(ByteBuffer buffer, ClassLoader classLoader) throws SerializationException {
+    checkArgument(buffer != null, "Cannot deserialize a null buffer");
+    checkArgument(classLoader != null, "Cannot deserialize with a null classloader");
+    try {
+      return read(buffer, classLoader);
+    } catch (SerializationException e) {
+      throw e;
+    } catch (Exception e) {
+      throw new SerializationException("Could not deserialize object", e);
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void serialize(Object object, OutputStream out) throws SerializationException {
+    try {
+      ByteBuffer buffer = serializeToBuffer(object);
+      out.write(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+      out.flush();
+    } catch (IOException e) {
+      throw new SerializationException("Could not write to output stream", e);
+    } finally {
+      closeQuietly(out);
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  protected byte[] doSerialize(Object object) throws Exception {
+    ByteBuffer buffer = write(object).toReadableBuffer();
+    return copyOfRange(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.arrayOffset() + buffer.limit());
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  protected <T> T doDeserialize(InputStream inputStream, ClassLoader classLoader) throws Exception {
+    return read(ByteBuffer.wrap(toByteArray(inputStream)), classLoader);
+  }
+
+  @Override
+  protected <T> T postInitialize(T object) {
+    // does nothing since values that go through java serialization are already initialized when read
+    return object;
+  }
+
+  private CompactOutput write(Object object) throws Exception {
+    //TODO: MULE-11939
+    if (object instanceof CursorStreamProvider) {
+      try (CursorStream cursor = ((CursorStreamProvider) object).openCursor()) {
+        object = toByteArray(cursor);
+      } catch (IOException e) {
+        throw new SerializationException(createStaticMessage("Could not serialize cursor stream"), e);
+      }
+    }
+
+    CompactOutput output = new CompactOutput(classTable, INITIAL_BUFFER_SIZE, muleContext);
+    output.writeByte(FORMAT_VERSION);
+    output.writeObject(object);
+    return output;
+  }
+
+  private <T> T read(ByteBuffer buffer, ClassLoader classLoader) throws Exception {
+    byte version = buffer.get();
+    if (version != FORMAT_VERSION) {
+      throw new SerializationException("Unsupported compact serialization format version " + version);
+    }
+
+    return (T) new CompactInput(buffer, classTable, classLoader, muleContext).readObject();
+  }
+}
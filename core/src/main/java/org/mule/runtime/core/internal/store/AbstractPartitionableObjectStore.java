@@ -14,11 +14,12 @@ import org.mule.runtime.api.store.ObjectStoreException;
 import org.mule.runtime.api.store.PartitionableObjectStore;
 
 import java.io.Serializable;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
 public abstract class AbstractPartitionableObjectStore<T extends Serializable> extends AbstractObjectStoreSupport<T>
-    implements PartitionableObjectStore<T> {
+    implements PartitionableObjectStore<T>, PagedObjectStore<T> {
 
   @Override
   public void open() throws ObjectStoreException {
@@ -40,6 +41,16 @@ public abstract class AbstractPartitionableObjectStore<T extends Serializable> e
     return retrieveAll(DEFAULT_PARTITION_NAME);
   }
 
+  @Override
+  public KeyCursor openKeyCursor(int pageSize) throws ObjectStoreException {
+    return PagedObjectStores.openKeyCursor(this, pageSize, DEFAULT_PARTITION_NAME);
+  }
+
+  @Override
+  public Map<String, T> retrieveAll(Collection<String> keys) throws ObjectStoreException {
+    return PagedObjectStores.retrieveAll(this, keys, DEFAULT_PARTITION_NAME);
+  }
+
   @Override
   public boolean contains(String key) throws ObjectStoreException {
     return contains(key, DEFAULT_PARTITION_NAME);
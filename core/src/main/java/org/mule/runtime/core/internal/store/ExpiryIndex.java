@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.store;
+
+import static java.util.Collections.emptyList;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * Time ordered index of the keys of an object store, used to expire its entries without loading their values.
+ * <p>
+ * Each key is kept along with the timestamp it was stored at, in any unit as long as it is the same for all the keys. Adding,
+ * removing and finding the oldest keys are all logarithmic on the number of keys, so expiring entries costs proportionally to
+ * the number of expired entries instead of to the size of the store.
+ * <p>
+ * This class is thread safe.
+ *
+ * @since 4.4
+ */
+public final class ExpiryIndex {
+
+  private final ConcurrentMap<String, Long> timestamps = new ConcurrentHashMap<>();
+  private final ConcurrentSkipListSet<Entry> entries = new ConcurrentSkipListSet<>();
+
+  /**
+   * Adds {@code key} to the index, replacing its previous timestamp if it was already indexed.
+   *
+   * @param key       the key of the stored entry
+   * @param timestamp the time the entry was stored at
+   */
+  public void add(String key, long timestamp) {
+    timestamps.compute(key, (k, previous) -> {
+      if (previous != null) {
+        entries.remove(new Entry(previous, k));
+      }
+      entries.add(new Entry(timestamp, k));
+      return timestamp;
+    });
+  }
+
+  /**
+   * Removes {@code key} from the index.
+   *
+   * @param key the key of the removed entry
+   * @return whether the key was indexed
+   */
+  public boolean remove(String key) {
+    boolean[] removed = new boolean[1];
+    timestamps.computeIfPresent(key, (k, timestamp) -> {
+      entries.remove(new Entry(timestamp, k));
+      removed[0] = true;
+      return null;
+    });
+    return removed[0];
+  }
+
+  /**
+   * @param key the key of a stored entry
+   * @return whether {@code key} is indexed
+   */
+  public boolean contains(String key) {
+    return timestamps.containsKey(key);
+  }
+
+  /**
+   * Removes from the index the keys stored before {@code threshold} that are not in {@code keys}. Keys stored at or after
+   * {@code threshold} are kept, since they may have been added after {@code keys} was obtained.
+   *
+   * @param keys      the keys to keep
+   * @param threshold the timestamp of the moment {@code keys} was obtained
+   * @return the number of removed keys
+   */
+  public int retainAll(Set<String> keys, long threshold) {
+    int removed = 0;
+    for (Entry entry : entries) {
+      if (entry.timestamp >= threshold) {
+        break;
+      }
+      if (!keys.contains(entry.key) && removeEntry(entry)) {
+        removed++;
+      }
+    }
+    return removed;
+  }
+
+  /**
+   * Removes from the index the keys stored at or before {@code threshold}, oldest first.
+   *
+   * @param threshold the most recent timestamp to consider expired
+   * @param limit     the maximum number of keys to remove
+   * @return the removed keys, oldest first
+   */
+  public List<String> removeExpired(long threshold, int limit) {
+    List<String> expired = emptyList();
+    Entry oldest;
+    while (expired.size() < limit && (oldest = first()) != null && oldest.timestamp <= threshold) {
+      if (removeEntry(oldest)) {
+        if (expired.isEmpty()) {
+          expired = new ArrayList<>();
+        }
+        expired.add(oldest.key);
+      }
+    }
+    return expired;
+  }
+
+  /**
+   * Removes the {@code count} oldest keys from the index.
+   *
+   * @param count the number of keys to remove
+   * @return the removed keys, oldest first
+   */
+  public List<String> removeOldest(int count) {
+    return removeExpired(Long.MAX_VALUE, count);
+  }
+
+  /**
+   * @return the number of indexed keys
+   */
+  public int size() {
+    return timestamps.size();
+  }
+
+  /**
+   * Removes all the keys from the index.
+   */
+  public void clear() {
+    timestamps.clear();
+    entries.clear();
+  }
+
+  private Entry first() {
+    return entries.ceiling(Entry.MIN);
+  }
+
+  private boolean removeEntry(Entry entry) {
+    boolean[] removed = new boolean[1];
+    timestamps.compute(entry.key, (k, timestamp) -> {
+      // An entry that doesn't match the indexed timestamp was left behind by a concurrent clear, so it is just discarded
+      entries.remove(entry);
+      if (timestamp != null && timestamp == entry.timestamp) {
+        removed[0] = true;
+        return null;
+      }
+      return timestamp;
+    });
+    return removed[0];
+  }
+
+  private static final class Entry implements Comparable<Entry> {
+
+    private static final Entry MIN = new Entry(Long.MIN_VALUE, "");
+
+    private final long timestamp;
+    private final String key;
+
+    private Entry(long timestamp, String key) {
+      this.timestamp = timestamp;
+      this.key = key;
+    }
+
+    @Override
+    public int compareTo(Entry o) {
+      int result = Long.compare(timestamp, o.timestamp);
+      return result != 0 ? result : key.compareTo(o.key);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof Entry)) {
+        return false;
+      }
+      Entry entry = (Entry) o;
+      return timestamp == entry.timestamp && key.equals(entry.key);
+    }
+
+    @Override
+    public int hashCode() {
+      return 31 * Long.hashCode(timestamp) + key.hashCode();
+    }
+  }
+}
@@ -0,0 +1,34 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.store;
+
+import org.mule.runtime.api.store.ObjectStoreException;
+
+import java.util.List;
+
+/**
+ * Walks through the keys of an object store one page at a time, so the whole key set doesn't need to be copied at once.
+ * <p>
+ * Cursors are weakly consistent: keys added or removed while walking through the store may or may not be returned, but no key is
+ * returned more than once. Cursors are not thread safe.
+ *
+ * @see PagedObjectStore
+ * @since 4.4
+ */
+public interface KeyCursor {
+
+  /**
+   * @return the next keys, up to the page size the cursor was opened with, or an empty list if there are no more keys.
+   * @throws ObjectStoreException if the keys could not be read from the store
+   */
+  List<String> nextPage() throws ObjectStoreException;
+
+  /**
+   * @return the number of keys the store held when this cursor was opened.
+   */
+  int getSize();
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.store;
+
+import org.mule.runtime.api.store.ObjectStore;
+import org.mule.runtime.api.store.ObjectStoreException;
+
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Optional capability of an {@link ObjectStore} to walk through its contents in pages, instead of copying all of its keys or
+ * values at once.
+ * <p>
+ * Use {@link PagedObjectStores} to access stores that may not implement this interface.
+ *
+ * @param <T> the type of the stored values
+ * @since 4.4
+ */
+public interface PagedObjectStore<T extends Serializable> {
+
+  /**
+   * Opens a cursor over the keys in this store.
+   *
+   * @param pageSize the maximum number of keys returned by each {@link KeyCursor#nextPage()} call
+   * @return a new {@link KeyCursor}
+   * @throws ObjectStoreException if the store could not be read
+   */
+  KeyCursor openKeyCursor(int pageSize) throws ObjectStoreException;
+
+  /**
+   * Retrieves the values of the given {@code keys} in one operation. Keys not present in the store are skipped.
+   *
+   * @param keys the keys to retrieve
+   * @return the found values by key, in the iteration order of {@code keys}
+   * @throws ObjectStoreException if the store could not be read
+   */
+  Map<String, T> retrieveAll(Collection<String> keys) throws ObjectStoreException;
+}
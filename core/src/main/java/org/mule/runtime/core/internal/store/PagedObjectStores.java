@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.store;
+
+import static java.util.Collections.emptyList;
+import static org.mule.runtime.api.util.Preconditions.checkArgument;
+
+import org.mule.runtime.api.store.ObjectDoesNotExistException;
+import org.mule.runtime.api.store.ObjectStore;
+import org.mule.runtime.api.store.ObjectStoreException;
+import org.mule.runtime.api.store.PartitionableObjectStore;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Utilities to walk through object stores in pages, through {@link PagedObjectStore} when the store implements it or through the
+ * plain {@link ObjectStore} operations otherwise.
+ *
+ * @since 4.4
+ */
+public final class PagedObjectStores {
+
+  private PagedObjectStores() {
+    // Nothing to do
+  }
+
+  /**
+   * Opens a cursor over the keys in {@code store}. If the store doesn't implement {@link PagedObjectStore}, its keys are copied
+   * upfront through {@link ObjectStore#allKeys()}.
+   *
+   * @param store    the store to walk through
+   * @param pageSize the maximum number of keys returned by each {@link KeyCursor#nextPage()} call
+   * @return a new {@link KeyCursor}
+   * @throws ObjectStoreException if the store could not be read
+   */
+  public static KeyCursor openKeyCursor(ObjectStore<?> store, int pageSize) throws ObjectStoreException {
+    checkArgument(pageSize > 0, "pageSize must be greater than 0");
+    if (store instanceof PagedObjectStore) {
+      return ((PagedObjectStore<?>) store).openKeyCursor(pageSize);
+    }
+
+    final List<String> keys = store.allKeys();
+    return new IteratorKeyCursor(keys.iterator(), keys.size(), pageSize);
+  }
+
+  /**
+   * Retrieves the values of the given {@code keys} from {@code store}, skipping the ones not present. If the store doesn't
+   * implement {@link PagedObjectStore}, each value is retrieved on its own.
+   *
+   * @param store the store to read from
+   * @param keys  the keys to retrieve
+   * @return the found values by key, in the iteration order of {@code keys}
+   * @throws ObjectStoreException if the store could not be read
+   */
+  @SuppressWarnings("unchecked")
+  public static <T extends Serializable> Map<String, T> retrieveAll(ObjectStore<T> store, Collection<String> keys)
+      throws ObjectStoreException {
+    if (store instanceof PagedObjectStore) {
+      return ((PagedObjectStore<T>) store).retrieveAll(keys);
+    }
+
+    final Map<String, T> values = new LinkedHashMap<>();
+    for (String key : keys) {
+      try {
+        values.put(key, store.retrieve(key));
+      } catch (ObjectDoesNotExistException e) {
+        // Removed since the key was read, just skip it
+      }
+    }
+    return values;
+  }
+
+  /**
+   * Partitioned counterpart of {@link #openKeyCursor(ObjectStore, int)}.
+   */
+  public static KeyCursor openKeyCursor(PartitionableObjectStore<?> store, int pageSize, String partitionName)
+      throws ObjectStoreException {
+    checkArgument(pageSize > 0, "pageSize must be greater than 0");
+    if (store instanceof PagedPartitionableObjectStore) {
+      return ((PagedPartitionableObjectStore<?>) store).openKeyCursor(pageSize, partitionName);
+    }
+
+    final List<String> keys = store.allKeys(partitionName);
+    return new IteratorKeyCursor(keys.iterator(), keys.size(), pageSize);
+  }
+
+  /**
+   * Partitioned counterpart of {@link #retrieveAll(ObjectStore, Collection)}.
+   */
+  @SuppressWarnings("unchecked")
+  public static <T extends Serializable> Map<String, T> retrieveAll(PartitionableObjectStore<T> store, Collection<String> keys,
+                                                                    String partitionName)
+      throws ObjectStoreException {
+    if (store instanceof PagedPartitionableObjectStore) {
+      return ((PagedPartitionableObjectStore<T>) store).retrieveAll(keys, partitionName);
+    }
+
+    final Map<String, T> values = new LinkedHashMap<>();
+    for (String key : keys) {
+      try {
+        values.put(key, store.retrieve(key, partitionName));
+      } catch (ObjectDoesNotExistException e) {
+        // Removed since the key was read, just skip it
+      }
+    }
+    return values;
+  }
+
+  /**
+   * {@link KeyCursor} that takes its pages from an {@link Iterator} over the keys.
+   */
+  public static final class IteratorKeyCursor implements KeyCursor {
+
+    private final Iterator<String> keys;
+    private final int size;
+    private final int pageSize;
+
+    public IteratorKeyCursor(Iterator<String> keys, int size, int pageSize) {
+      this.keys = keys;
+      this.size = size;
+      this.pageSize = pageSize;
+    }
+
+    @Override
+    public List<String> nextPage() {
+      if (!keys.hasNext()) {
+        return emptyList();
+      }
+
+      final List<String> page = new ArrayList<>(pageSize);
+      while (page.size() < pageSize && keys.hasNext()) {
+        page.add(keys.next());
+      }
+      return page;
+    }
+
+    @Override
+    public int getSize() {
+      return size;
+    }
+  }
+}
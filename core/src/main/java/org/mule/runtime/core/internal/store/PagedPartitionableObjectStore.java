@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.store;
+
+import org.mule.runtime.api.store.ObjectStoreException;
+import org.mule.runtime.api.store.PartitionableObjectStore;
+
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Partitioned counterpart of {@link PagedObjectStore}, for {@link PartitionableObjectStore}s.
+ *
+ * @param <T> the type of the stored values
+ * @since 4.4
+ */
+public interface PagedPartitionableObjectStore<T extends Serializable> {
+
+  /**
+   * Opens a cursor over the keys in the partition {@code partitionName}.
+   *
+   * @param pageSize      the maximum number of keys returned by each {@link KeyCursor#nextPage()} call
+   * @param partitionName the name of the partition
+   * @return a new {@link KeyCursor}
+   * @throws ObjectStoreException if the partition could not be read
+   */
+  KeyCursor openKeyCursor(int pageSize, String partitionName) throws ObjectStoreException;
+
+  /**
+   * Retrieves the values of the given {@code keys} from the partition {@code partitionName} in one operation. Keys not present
+   * in the partition are skipped.
+   *
+   * @param keys          the keys to retrieve
+   * @param partitionName the name of the partition
+   * @return the found values by key, in the iteration order of {@code keys}
+   * @throws ObjectStoreException if the partition could not be read
+   */
+  Map<String, T> retrieveAll(Collection<String> keys, String partitionName) throws ObjectStoreException;
+}
@@ -6,34 +6,35 @@
  */
 package org.mule.runtime.core.internal.store;
 
-import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.mule.runtime.core.internal.util.store.MonitoredObjectStoreWrapper.EXPIRY_BUDGET;
 import static org.mule.runtime.core.internal.util.store.MuleObjectStoreManager.UNBOUNDED;
 import org.mule.runtime.api.store.ObjectAlreadyExistsException;
 import org.mule.runtime.api.store.ObjectDoesNotExistException;
 import org.mule.runtime.api.store.ObjectStoreException;
 import org.mule.runtime.api.store.PartitionableExpirableObjectStore;
 import org.mule.runtime.core.api.component.InternalComponent;
+import org.mule.runtime.core.internal.store.PagedObjectStores.IteratorKeyCursor;
 
 import java.io.Serializable;
 import java.util.ArrayList;
-import java.util.Iterator;
+import java.util.Collection;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ConcurrentMap;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 public class PartitionedInMemoryObjectStore<T extends Serializable> extends AbstractPartitionableObjectStore<T>
-    implements PartitionableExpirableObjectStore<T>, InternalComponent {
+    implements PartitionableExpirableObjectStore<T>, PagedPartitionableObjectStore<T>, InternalComponent {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(PartitionedInMemoryObjectStore.class);
 
   private ConcurrentMap<String, ConcurrentMap<String, T>> partitions = new ConcurrentHashMap<>();
-  private ConcurrentMap<String, ConcurrentLinkedQueue<ExpiryEntry>> expiryInfoPartition = new ConcurrentHashMap<>();
+  private ConcurrentMap<String, ExpiryIndex> expiryInfoPartition = new ConcurrentHashMap<>();
 
   @Override
   public boolean isPersistent() {
@@ -55,7 +56,7 @@ public class PartitionedInMemoryObjectStore<T extends Serializable> extends Abst
     if (oldValue != null) {
       throw new ObjectAlreadyExistsException();
     }
-    getExpiryInfoPartition(partitionName).add(new ExpiryEntry(getCurrentNanoTime(), key));
+    getExpiryInfoPartition(partitionName).add(key, getCurrentNanoTime());
   }
 
   @Override
@@ -74,14 +75,7 @@ public class PartitionedInMemoryObjectStore<T extends Serializable> extends Abst
       throw new ObjectDoesNotExistException();
     }
 
-    Iterator<ExpiryEntry> iterator = getExpiryInfoPartition(partitionName).iterator();
-    while (iterator.hasNext()) {
-      ExpiryEntry entry = iterator.next();
-      if (key.equals(entry.getKey())) {
-        iterator.remove();
-        break;
-      }
-    }
+    getExpiryInfoPartition(partitionName).remove(key);
 
     return removedValue;
   }
@@ -96,6 +90,30 @@ public class PartitionedInMemoryObjectStore<T extends Serializable> extends Abst
     return new LinkedHashMap<>(getPartition(partitionName));
   }
 
+  /**
+   * {@inheritDoc}
+   * <p>
+   * The pages are taken from a weakly consistent iterator over the partition, so its keys are never copied all at once.
+   */
+  @Override
+  public KeyCursor openKeyCursor(int pageSize, String partitionName) throws ObjectStoreException {
+    ConcurrentMap<String, T> partition = getPartition(partitionName);
+    return new IteratorKeyCursor(partition.keySet().iterator(), partition.size(), pageSize);
+  }
+
+  @Override
+  public Map<String, T> retrieveAll(Collection<String> keys, String partitionName) throws ObjectStoreException {
+    ConcurrentMap<String, T> partition = getPartition(partitionName);
+    Map<String, T> values = new LinkedHashMap<>();
+    for (String key : keys) {
+      T value = partition.get(key);
+      if (value != null) {
+        values.put(key, value);
+      }
+    }
+    return values;
+  }
+
   @Override
   public void clear(String partitionName) throws ObjectStoreException {
     getPartition(partitionName).clear();
@@ -119,11 +137,11 @@ public class PartitionedInMemoryObjectStore<T extends Serializable> extends Abst
     return partition;
   }
 
-  private ConcurrentLinkedQueue<ExpiryEntry> getExpiryInfoPartition(String partitionName) {
-    ConcurrentLinkedQueue<ExpiryEntry> partition = expiryInfoPartition.get(partitionName);
+  private ExpiryIndex getExpiryInfoPartition(String partitionName) {
+    ExpiryIndex partition = expiryInfoPartition.get(partitionName);
     if (partition == null) {
-      partition = new ConcurrentLinkedQueue<>();
-      ConcurrentLinkedQueue<ExpiryEntry> previous = expiryInfoPartition.putIfAbsent(partitionName, partition);
+      partition = new ExpiryIndex();
+      ExpiryIndex previous = expiryInfoPartition.putIfAbsent(partitionName, partition);
       if (previous != null) {
         partition = previous;
       }
@@ -149,50 +167,39 @@ public class PartitionedInMemoryObjectStore<T extends Serializable> extends Abst
   @Override
   public void expire(long entryTTL, int maxEntries, String partitionName) throws ObjectStoreException {
     final long now = getCurrentNanoTime();
-    int expiredEntries = 0;
-    ExpiryEntry oldestEntry;
-    ConcurrentLinkedQueue<ExpiryEntry> store = getExpiryInfoPartition(partitionName);
+    ExpiryIndex store = getExpiryInfoPartition(partitionName);
     ConcurrentMap<String, T> partition = getPartition(partitionName);
 
-    trimToMaxSize(store, maxEntries, partition);
+    // Any entries left over the budget are expired on the following runs
+    final int budget = getExpiryBudget() - trimToMaxSize(store, maxEntries, partition, getExpiryBudget());
 
-    if (entryTTL == UNBOUNDED) {
+    if (entryTTL == UNBOUNDED || budget <= 0) {
       return;
     }
 
-    while ((oldestEntry = store.peek()) != null) {
-      if (NANOSECONDS.toMillis(now - oldestEntry.getTime()) >= entryTTL) {
-        oldestEntry = store.remove();
-        partition.remove(oldestEntry.getKey());
-        expiredEntries++;
-      } else {
-        break;
-      }
-    }
+    List<String> expiredKeys = store.removeExpired(now - MILLISECONDS.toNanos(entryTTL), budget);
+    expiredKeys.forEach(partition::remove);
 
     if (LOGGER.isDebugEnabled()) {
-      LOGGER.debug("Expired " + expiredEntries + " old entries");
+      LOGGER.debug("Expired " + expiredKeys.size() + " old entries");
     }
   }
 
-  private void trimToMaxSize(ConcurrentLinkedQueue<ExpiryEntry> store, int maxEntries, ConcurrentMap<String, T> partition) {
+  private int trimToMaxSize(ExpiryIndex store, int maxEntries, ConcurrentMap<String, T> partition, int budget) {
     if (maxEntries == UNBOUNDED) {
-      return;
+      return 0;
     }
 
-    int currentSize = store.size();
-    int excess = (currentSize - maxEntries);
+    int excess = Math.min(store.size() - maxEntries, budget);
     if (excess > 0) {
-      while (currentSize > maxEntries) {
-        ExpiryEntry toRemove = store.remove();
-        partition.remove(toRemove.getKey());
-        currentSize--;
-      }
+      store.removeOldest(excess).forEach(partition::remove);
 
       if (LOGGER.isDebugEnabled()) {
         LOGGER.debug("Expired " + excess + " excess entries");
       }
+      return excess;
     }
+    return 0;
   }
 
   @Override
@@ -202,7 +209,7 @@ public class PartitionedInMemoryObjectStore<T extends Serializable> extends Abst
       partition.clear();
     }
 
-    ConcurrentLinkedQueue<ExpiryEntry> entries = expiryInfoPartition.remove(partitionName);
+    ExpiryIndex entries = expiryInfoPartition.remove(partitionName);
     if (entries != null) {
       entries.clear();
     }
@@ -212,27 +219,15 @@ public class PartitionedInMemoryObjectStore<T extends Serializable> extends Abst
     return System.nanoTime();
   }
 
+  /**
+   * @return the maximum number of entries expired from a partition on each call to {@link #expire(long, int, String)}.
+   */
+  protected int getExpiryBudget() {
+    return EXPIRY_BUDGET;
+  }
+
   @Override
   public boolean shouldAlwaysExpire() {
     return true;
   }
-
-  private static class ExpiryEntry {
-
-    private final long time;
-    private final Serializable key;
-
-    public ExpiryEntry(long time, Serializable key) {
-      this.time = time;
-      this.key = key;
-    }
-
-    public long getTime() {
-      return time;
-    }
-
-    public Serializable getKey() {
-      return key;
-    }
-  }
 }
@@ -24,6 +24,7 @@ import java.io.File;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -31,7 +32,7 @@ import java.util.Map;
 import org.slf4j.Logger;
 
 public class PartitionedPersistentObjectStore<T extends Serializable> extends AbstractPartitionableObjectStore<T>
-    implements PartitionableExpirableObjectStore<T>, InternalComponent, MuleContextAware {
+    implements PartitionableExpirableObjectStore<T>, PagedPartitionableObjectStore<T>, InternalComponent, MuleContextAware {
 
   private static final Logger LOGGER = getLogger(PartitionedPersistentObjectStore.class);
   public static final String OBJECT_STORE_DIR = "objectstore";
@@ -132,6 +133,16 @@ public class PartitionedPersistentObjectStore<T extends Serializable> extends Ab
     return getPartitionObjectStore(partitionName).retrieveAll();
   }
 
+  @Override
+  public KeyCursor openKeyCursor(int pageSize, String partitionName) throws ObjectStoreException {
+    return getPartitionObjectStore(partitionName).openKeyCursor(pageSize);
+  }
+
+  @Override
+  public Map<String, T> retrieveAll(Collection<String> keys, String partitionName) throws ObjectStoreException {
+    return getPartitionObjectStore(partitionName).retrieveAll(keys);
+  }
+
   @Override
   public void clear(String partitionName) throws ObjectStoreException {
     getPartitionObjectStore(partitionName).clear();
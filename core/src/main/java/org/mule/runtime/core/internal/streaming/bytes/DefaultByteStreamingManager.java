@@ -6,8 +6,12 @@
  */
 package org.mule.runtime.core.internal.streaming.bytes;
 
+import static java.lang.Boolean.getBoolean;
+import static org.mule.runtime.api.util.MuleSystemProperties.SYSTEM_PROPERTY_PREFIX;
+
 import org.mule.runtime.core.api.streaming.bytes.ByteBufferManager;
 import org.mule.runtime.core.api.streaming.bytes.factory.InMemoryCursorStreamProviderFactory;
+import org.mule.runtime.core.internal.streaming.bytes.factory.FileStoreCursorStreamProviderFactory;
 import org.mule.runtime.core.internal.streaming.bytes.factory.NullCursorStreamProviderFactory;
 import org.mule.runtime.core.api.streaming.StreamingManager;
 import org.mule.runtime.core.api.streaming.bytes.ByteStreamingManager;
@@ -21,12 +25,22 @@ import org.mule.runtime.core.api.streaming.bytes.InMemoryCursorStreamConfig;
  */
 public class DefaultByteStreamingManager implements ByteStreamingManager {
 
+  /**
+   * When {@code true}, {@link #getDefaultCursorProviderFactory()} buffers on a temporal file past the default in memory size
+   * instead of failing.
+   *
+   * @since 4.4
+   */
+  public static final String DEFAULT_FILE_STORE_STREAMING_PROPERTY = SYSTEM_PROPERTY_PREFIX + "streaming.bytes.defaultFileStore";
+
   private final ByteBufferManager bufferManager;
   protected final StreamingManager streamingManager;
+  private final boolean defaultFileStore;
 
   public DefaultByteStreamingManager(ByteBufferManager bufferManager, StreamingManager streamingManager) {
     this.bufferManager = bufferManager;
     this.streamingManager = streamingManager;
+    this.defaultFileStore = getBoolean(DEFAULT_FILE_STORE_STREAMING_PROPERTY);
   }
 
   /**
@@ -37,6 +51,18 @@ public class DefaultByteStreamingManager implements ByteStreamingManager {
     return new InMemoryCursorStreamProviderFactory(bufferManager, config, streamingManager);
   }
 
+  /**
+   * Creates a factory of providers that buffer in memory up to {@link FileStoreCursorStreamConfig#getMaxInMemorySize()} and on a
+   * temporal file past it.
+   *
+   * @param config the config for the generated providers
+   * @return a new {@link CursorStreamProviderFactory}
+   * @since 4.4
+   */
+  public CursorStreamProviderFactory getFileStoreCursorProviderFactory(FileStoreCursorStreamConfig config) {
+    return new FileStoreCursorStreamProviderFactory(bufferManager, config, streamingManager);
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -50,6 +76,9 @@ public class DefaultByteStreamingManager implements ByteStreamingManager {
    */
   @Override
   public CursorStreamProviderFactory getDefaultCursorProviderFactory() {
+    if (defaultFileStore) {
+      return getFileStoreCursorProviderFactory(FileStoreCursorStreamConfig.getDefault());
+    }
     return new InMemoryCursorStreamProviderFactory(bufferManager, InMemoryCursorStreamConfig.getDefault(), streamingManager);
   }
 
@@ -0,0 +1,415 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.streaming.bytes;
+
+import static java.lang.Integer.getInteger;
+import static java.lang.Math.min;
+import static java.lang.Math.toIntExact;
+import static java.nio.ByteBuffer.wrap;
+import static java.nio.channels.FileChannel.MapMode.READ_ONLY;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+import static org.mule.runtime.api.i18n.I18nMessageFactory.createStaticMessage;
+import static org.mule.runtime.core.api.config.MuleProperties.SYSTEM_PROPERTY_PREFIX;
+import static org.mule.runtime.core.internal.streaming.TempBufferFileUtils.createBufferFile;
+import static org.mule.runtime.core.internal.util.compression.BlockCompression.fromSystemProperties;
+import static org.mule.runtime.core.internal.util.compression.BlockCompression.isBlockCompressionEnabled;
+import static org.slf4j.LoggerFactory.getLogger;
+
+import org.mule.runtime.api.exception.MuleRuntimeException;
+import org.mule.runtime.core.api.streaming.bytes.ByteBufferManager;
+import org.mule.runtime.core.api.streaming.bytes.ManagedByteBufferWrapper;
+import org.mule.runtime.core.internal.util.compression.BlockCompression;
+import org.mule.runtime.core.internal.util.compression.CompressionStatistics;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.slf4j.Logger;
+
+/**
+ * An implementation of {@link AbstractInputStreamBuffer} which holds the first bytes of the stream in memory and spills the rest
+ * to a temporal file, so streams of any size can be buffered while using a constant amount of memory.
+ * <p>
+ * The memory part is limited by {@link FileStoreCursorStreamConfig#getMaxInMemorySize()} and is allocated through the
+ * {@link ByteBufferManager} one bucket at a time, as the stream is consumed. The file is only created once the memory part is
+ * full.
+ * <p>
+ * Data in the file is read through memory mapped regions of a fixed size. A region is only mapped once the file holds all of
+ * it, and then it is kept mapped until the buffer is closed, so reads that fall within it are served as a slice of it without
+ * copying. Reads on the region still being written, or spanning more than one bucket or region, are copied.
+ * <p>
+ * If {@link BlockCompression} is enabled, the data is instead written to the file in compressed blocks of the bucket size. The
+ * last block is kept in memory until it is full. Reading from a block requires uncompressing all of it, so the last uncompressed
+ * block is kept to serve sequential reads, and the file is not mapped.
+ * <p>
+ * The file is deleted when this buffer is closed, which happens when the owning provider releases its resources.
+ *
+ * @since 4.4
+ */
+public class FileStoreStreamBuffer extends AbstractInputStreamBuffer {
+
+  public static final String MAPPED_REGION_SIZE_PROPERTY = SYSTEM_PROPERTY_PREFIX + "streaming.fileStore.mappedRegionSize";
+
+  private static final Logger LOGGER = getLogger(FileStoreStreamBuffer.class);
+  private static final int DEFAULT_MAPPED_REGION_SIZE = getInteger(MAPPED_REGION_SIZE_PROPERTY, 8 * 1024 * 1024);
+
+  private final int bucketSize;
+  private final long maxInMemorySize;
+  private final int mappedRegionSize;
+  private final List<ManagedByteBufferWrapper> buckets = new ArrayList<>();
+  private final ConcurrentMap<Long, ByteBuffer> mappedRegions = new ConcurrentHashMap<>();
+  private final BlockCompression compression;
+  private final List<Long> blockOffsets = new ArrayList<>();
+
+  private ManagedByteBufferWrapper spillBuffer;
+  private File bufferFile;
+  private FileChannel fileChannel;
+  private long bufferTip = 0;
+  private long fileTip = 0;
+  private volatile UncompressedBlock lastBlock;
+
+  /**
+   * Creates a new instance
+   *
+   * @param stream        the stream to be buffered
+   * @param config        this buffer's configuration.
+   * @param bufferManager the {@link ByteBufferManager} that will be used to allocate all buffers
+   */
+  public FileStoreStreamBuffer(InputStream stream, FileStoreCursorStreamConfig config, ByteBufferManager bufferManager) {
+    this(stream, config, bufferManager, DEFAULT_MAPPED_REGION_SIZE,
+         isBlockCompressionEnabled() ? fromSystemProperties() : null);
+  }
+
+  FileStoreStreamBuffer(InputStream stream, FileStoreCursorStreamConfig config, ByteBufferManager bufferManager,
+                        int mappedRegionSize) {
+    this(stream, config, bufferManager, mappedRegionSize, null);
+  }
+
+  FileStoreStreamBuffer(InputStream stream, FileStoreCursorStreamConfig config, ByteBufferManager bufferManager,
+                        int mappedRegionSize, BlockCompression compression) {
+    super(stream, bufferManager);
+    this.bucketSize = config.getBucketSize();
+    this.maxInMemorySize = (long) config.getBucketSize() * config.getBucketsCount();
+    this.mappedRegionSize = mappedRegionSize;
+    this.compression = compression;
+  }
+
+  @Override
+  protected ByteBuffer doGet(long position, int length) {
+    return doGet(position, length, true);
+  }
+
+  private ByteBuffer doGet(long position, int length, boolean consumeStreamIfNecessary) {
+    readLock.lock();
+    try {
+      ByteBuffer presentRead = getFromCurrentData(position, length);
+      if (presentRead != null) {
+        return presentRead;
+      }
+
+      if (consumeStreamIfNecessary) {
+        readLock.unlock();
+        writeLock.lock();
+
+        try {
+          ByteBuffer refetch = getFromCurrentData(position, length);
+          if (refetch != null) {
+            return refetch;
+          }
+
+          final long requiredUpperBound = position + length;
+          while (!streamFullyConsumed && bufferTip < requiredUpperBound) {
+            final int read = consumeForwardData();
+            if (read > 0) {
+              refetch = getFromCurrentData(position, min(length, read));
+              if (refetch != null) {
+                return refetch;
+              }
+            }
+          }
+          return doGet(position, length, false);
+        } catch (IOException e) {
+          throw new MuleRuntimeException(createStaticMessage("Could not read stream"), e);
+        } finally {
+          // classic lock downgrade
+          readLock.lock();
+          writeLock.unlock();
+        }
+      } else {
+        return getFromCurrentData(position, length);
+      }
+    } finally {
+      readLock.unlock();
+    }
+  }
+
+  private ByteBuffer getFromCurrentData(long position, int length) {
+    if (streamFullyConsumed && position > bufferTip) {
+      return null;
+    }
+
+    if (position < bufferTip) {
+      length = min(length, toIntExact(bufferTip - position));
+      return copy(position, length);
+    }
+
+    return null;
+  }
+
+  /**
+   * {@inheritDoc}
+   * Data is written to the last memory bucket while the memory part is not full, and to the file afterwards.
+   */
+  @Override
+  public int consumeForwardData() throws IOException {
+    final int read = bufferTip < maxInMemorySize ? consumeToMemory() : consumeToFile();
+    if (read > 0) {
+      bufferTip += read;
+    }
+    return read;
+  }
+
+  private int consumeToMemory() throws IOException {
+    ByteBuffer bucket = buckets.isEmpty() ? null : buckets.get(buckets.size() - 1).getDelegate();
+    if (bucket == null || !bucket.hasRemaining()) {
+      ManagedByteBufferWrapper newBucket = bufferManager.allocateManaged(bucketSize);
+      buckets.add(newBucket);
+      bucket = newBucket.getDelegate();
+    }
+
+    return consumeStream(bucket);
+  }
+
+  private int consumeToFile() throws IOException {
+    if (compression != null) {
+      return consumeToCompressedFile();
+    }
+
+    if (spillBuffer == null) {
+      spillBuffer = bufferManager.allocateManaged(bucketSize);
+    }
+
+    final ByteBuffer buffer = spillBuffer.getDelegate();
+    buffer.clear();
+    final int read = consumeStream(buffer);
+    if (read > 0) {
+      buffer.flip();
+      final FileChannel channel = getFileChannel();
+      long filePosition = bufferTip - maxInMemorySize;
+      while (buffer.hasRemaining()) {
+        filePosition += channel.write(buffer, filePosition);
+      }
+    }
+
+    return read;
+  }
+
+  private int consumeToCompressedFile() throws IOException {
+    if (spillBuffer == null) {
+      spillBuffer = bufferManager.allocateManaged(bucketSize);
+      spillBuffer.getDelegate().clear().limit(bucketSize);
+    }
+
+    final ByteBuffer buffer = spillBuffer.getDelegate();
+    final int read = consumeStream(buffer);
+    if (!buffer.hasRemaining()) {
+      final byte[] block = compression.compress(buffer.array(), buffer.arrayOffset(), bucketSize);
+      final FileChannel channel = getFileChannel();
+      final ByteBuffer blockBuffer = wrap(block);
+      blockOffsets.add(fileTip);
+      while (blockBuffer.hasRemaining()) {
+        fileTip += channel.write(blockBuffer, fileTip);
+      }
+      buffer.clear().limit(bucketSize);
+    }
+
+    return read;
+  }
+
+  private FileChannel getFileChannel() throws IOException {
+    if (fileChannel == null) {
+      bufferFile = createBufferFile("filestore");
+      fileChannel = FileChannel.open(bufferFile.toPath(), READ, WRITE);
+    }
+    return fileChannel;
+  }
+
+  @Override
+  protected ByteBuffer copy(long position, int length) {
+    if (position < maxInMemorySize) {
+      final ByteBuffer bucket = buckets.get(toIntExact(position / bucketSize)).getDelegate();
+      final int offset = toIntExact(position % bucketSize);
+      if (offset + length <= bucketSize) {
+        return slice(bucket, offset, length);
+      }
+    } else if (compression != null) {
+      final long filePosition = position - maxInMemorySize;
+      final int block = toIntExact(filePosition / bucketSize);
+      final int offset = toIntExact(filePosition % bucketSize);
+      if (offset + length <= bucketSize && block < blockOffsets.size()) {
+        return slice(getUncompressedBlock(block), offset, length);
+      }
+    } else {
+      final long filePosition = position - maxInMemorySize;
+      final long region = filePosition / mappedRegionSize;
+      final int offset = toIntExact(filePosition % mappedRegionSize);
+      if (offset + length <= mappedRegionSize && isFullyWritten(region)) {
+        return slice(getMappedRegion(region), offset, length);
+      }
+    }
+
+    return hardCopy(position, length);
+  }
+
+  private ByteBuffer hardCopy(long position, int length) {
+    byte[] b = new byte[length];
+    int copied = 0;
+
+    while (copied < length) {
+      final long current = position + copied;
+      final int toCopy;
+      if (current < maxInMemorySize) {
+        final int offset = toIntExact(current % bucketSize);
+        toCopy = min(length - copied, bucketSize - offset);
+        slice(buckets.get(toIntExact(current / bucketSize)).getDelegate(), offset, toCopy).get(b, copied, toCopy);
+      } else if (compression != null) {
+        final long filePosition = current - maxInMemorySize;
+        final int block = toIntExact(filePosition / bucketSize);
+        final int offset = toIntExact(filePosition % bucketSize);
+        toCopy = min(length - copied, bucketSize - offset);
+        // The last block is still in the spill buffer, which is reused, so it has to be copied
+        final ByteBuffer source = block < blockOffsets.size() ? getUncompressedBlock(block) : spillBuffer.getDelegate();
+        slice(source, offset, toCopy).get(b, copied, toCopy);
+      } else {
+        toCopy = length - copied;
+        readFromFile(current - maxInMemorySize, wrap(b, copied, toCopy));
+      }
+      copied += toCopy;
+    }
+
+    return wrap(b);
+  }
+
+  private void readFromFile(long filePosition, ByteBuffer dest) {
+    try {
+      while (dest.hasRemaining()) {
+        final int read = fileChannel.read(dest, filePosition);
+        if (read < 0) {
+          throw new IOException("Unexpected end of buffer file " + bufferFile.getAbsolutePath());
+        }
+        filePosition += read;
+      }
+    } catch (IOException e) {
+      throw new MuleRuntimeException(createStaticMessage("Could not read from buffer file"), e);
+    }
+  }
+
+  private ByteBuffer getUncompressedBlock(int block) {
+    final UncompressedBlock cached = lastBlock;
+    if (cached != null && cached.index == block) {
+      return cached.data;
+    }
+
+    final long start = blockOffsets.get(block);
+    final long end = block + 1 < blockOffsets.size() ? blockOffsets.get(block + 1) : fileTip;
+    final byte[] compressed = new byte[toIntExact(end - start)];
+    readFromFile(start, wrap(compressed));
+    try {
+      final ByteBuffer data = wrap(compression.uncompressByteArray(compressed));
+      lastBlock = new UncompressedBlock(block, data);
+      return data;
+    } catch (IOException e) {
+      throw new MuleRuntimeException(createStaticMessage("Could not uncompress buffer file block"), e);
+    }
+  }
+
+  private boolean isFullyWritten(long region) {
+    return bufferTip - maxInMemorySize >= (region + 1) * mappedRegionSize;
+  }
+
+  private ByteBuffer getMappedRegion(long region) {
+    return mappedRegions.computeIfAbsent(region, r -> {
+      try {
+        return fileChannel.map(READ_ONLY, r * mappedRegionSize, mappedRegionSize);
+      } catch (IOException e) {
+        throw new MuleRuntimeException(createStaticMessage("Could not map buffer file region"), e);
+      }
+    });
+  }
+
+  private ByteBuffer slice(ByteBuffer buffer, int offset, int length) {
+    ByteBuffer slice = buffer.duplicate();
+    slice.limit(offset + length).position(offset);
+    return slice.slice();
+  }
+
+  /**
+   * {@inheritDoc}
+   * Releases the memory buckets and deletes the buffer file.
+   */
+  @Override
+  public void doClose() {
+    if (compression != null && LOGGER.isDebugEnabled()) {
+      LOGGER.debug("Buffer file compression: {}", compression.getStatistics());
+    }
+
+    buckets.forEach(ManagedByteBufferWrapper::release);
+    buckets.clear();
+    if (spillBuffer != null) {
+      spillBuffer.release();
+      spillBuffer = null;
+    }
+
+    mappedRegions.clear();
+    blockOffsets.clear();
+    lastBlock = null;
+    if (fileChannel != null) {
+      try {
+        fileChannel.close();
+      } catch (IOException e) {
+        LOGGER.debug("Found exception trying to close buffer file channel", e);
+      }
+      fileChannel = null;
+    }
+
+    if (bufferFile != null) {
+      if (!bufferFile.delete()) {
+        // Mapped regions may keep the file open on some platforms until they are garbage collected
+        LOGGER.debug("Could not delete buffer file {}, it will be deleted on exit", bufferFile.getAbsolutePath());
+        bufferFile.deleteOnExit();
+      }
+      bufferFile = null;
+    }
+  }
+
+  File getBufferFile() {
+    return bufferFile;
+  }
+
+  CompressionStatistics getCompressionStatistics() {
+    return compression != null ? compression.getStatistics() : null;
+  }
+
+  private static final class UncompressedBlock {
+
+    private final int index;
+    private final ByteBuffer data;
+
+    private UncompressedBlock(int index, ByteBuffer data) {
+      this.index = index;
+      this.data = data;
+    }
+  }
+}
@@ -8,7 +8,6 @@ package org.mule.runtime.core.internal.streaming.bytes;
 
 import static java.lang.Math.min;
 import static java.lang.Math.toIntExact;
-import static java.lang.System.arraycopy;
 import static java.nio.ByteBuffer.wrap;
 import static org.mule.runtime.api.i18n.I18nMessageFactory.createStaticMessage;
 
@@ -21,6 +20,8 @@ import org.mule.runtime.core.api.streaming.bytes.ManagedByteBufferWrapper;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * An implementation of {@link AbstractInputStreamBuffer} which holds the buffered
@@ -30,6 +31,10 @@ import java.nio.ByteBuffer;
  * expanded up to a certain threshold configured in the constructor. Once that threshold
  * is reached, a {@link StreamingBufferSizeExceededException} will be thrown. If no threshold
  * is provided, then the buffer will be allowed to grow indefinitely.
+ * <p>
+ * The data is held in a list of chunks: the first one of the initial buffer size, and one of the buffer size increment
+ * for each expansion. Expanding only appends a new chunk, so the data already buffered is never copied and chunks are never
+ * reallocated. Reads that fall within one chunk are served as a slice of it, only reads spanning more than one chunk are copied.
  *
  * @since 4.0
  */
@@ -37,10 +42,12 @@ public class InMemoryStreamBuffer extends AbstractInputStreamBuffer {
 
   private static final int STREAM_FINISHED_PROBE = 10;
 
-  private ManagedByteBufferWrapper managedBuffer;
+  private final List<ManagedByteBufferWrapper> chunks = new ArrayList<>();
   private ByteBuffer actingBuffer;
+  private final int initialBufferSize;
   private final int bufferSizeIncrement;
   private final int maxBufferSize;
+  private long capacity;
   private long bufferTip = 0;
 
   /**
@@ -51,13 +58,13 @@ public class InMemoryStreamBuffer extends AbstractInputStreamBuffer {
    */
   public InMemoryStreamBuffer(InputStream stream, InMemoryCursorStreamConfig config, ByteBufferManager bufferManager) {
     super(stream, bufferManager);
-    managedBuffer = bufferManager.allocateManaged(config.getInitialBufferSize().toBytes());
-    actingBuffer = managedBuffer.getDelegate();
+    this.initialBufferSize = config.getInitialBufferSize().toBytes();
     this.bufferSizeIncrement = config.getBufferSizeIncrement() != null
         ? config.getBufferSizeIncrement().toBytes()
         : 0;
 
     this.maxBufferSize = config.getMaxBufferSize().toBytes();
+    addChunk(bufferManager.allocateManaged(initialBufferSize));
   }
 
   @Override
@@ -91,8 +98,6 @@ public class InMemoryStreamBuffer extends AbstractInputStreamBuffer {
               if (refetch != null) {
                 return refetch;
               }
-            } else {
-              actingBuffer.limit(actingBuffer.position());
             }
           }
           return doGet(position, length, false);
@@ -129,100 +134,133 @@ public class InMemoryStreamBuffer extends AbstractInputStreamBuffer {
    */
   @Override
   public void doClose() {
-    managedBuffer.release();
-    managedBuffer = null;
+    chunks.forEach(ManagedByteBufferWrapper::release);
+    chunks.clear();
+    actingBuffer = null;
   }
 
   /**
    * {@inheritDoc}
-   * If {@code buffer} doesn't have any remaining capacity, then {@link #expandBuffer()}
-   * is invoked before attempting to consume new information.
+   * If the last chunk doesn't have any remaining capacity, then a new one is added before
+   * attempting to consume new information.
    *
    * @throws StreamingBufferSizeExceededException if the buffer is not big enough and cannot be expanded
    */
   @Override
   public int consumeForwardData() throws IOException {
-    ManagedByteBufferWrapper b = managedBuffer;
-    ManagedByteBufferWrapper managedReadBuffer = b.getDelegate().hasRemaining()
-        ? b
-        : bufferManager.allocateManaged(bufferSizeIncrement > 0 ? bufferSizeIncrement : STREAM_FINISHED_PROBE);
+    if (actingBuffer.hasRemaining()) {
+      return consumeInto(actingBuffer);
+    }
 
-    ByteBuffer readBuffer = managedReadBuffer.getDelegate();
-    final boolean auxBuffer = managedReadBuffer != b;
-    final int read;
+    if (!canBeExpandedTo(capacity + bufferSizeIncrement)) {
+      return probeStreamFinished();
+    }
 
+    ManagedByteBufferWrapper chunk = bufferManager.allocateManaged(bufferSizeIncrement);
+    final int read;
     try {
-      read = consumeStream(readBuffer);
-
-      if (read > 0) {
-        if (auxBuffer) {
-          expandBuffer();
-          readBuffer.flip();
-          actingBuffer.put(readBuffer);
-        }
+      read = consumeStream(chunk.getDelegate());
+    } catch (IOException | RuntimeException e) {
+      chunk.release();
+      throw e;
+    }
 
-        bufferTip += read;
-      }
-    } finally {
-      if (auxBuffer) {
-        managedReadBuffer.release();
-      }
+    if (read > 0) {
+      addChunk(chunk);
+      bufferTip += read;
+    } else {
+      chunk.release();
     }
 
     return read;
   }
 
+  private int consumeInto(ByteBuffer buffer) throws IOException {
+    final int read = consumeStream(buffer);
+    if (read > 0) {
+      bufferTip += read;
+    }
+    return read;
+  }
+
   /**
-   * Expands the size of the buffer by {@link #bufferSizeIncrement}
+   * The buffer is full and can't be expanded, so this just checks whether there's any data left in the stream.
    *
-   * @return a new, expanded {@link ByteBuffer}
+   * @throws StreamingBufferSizeExceededException if there is
    */
-  private ManagedByteBufferWrapper expandBuffer() {
-    ManagedByteBufferWrapper oldManagedBuffer = managedBuffer;
-    ByteBuffer oldBuffer = oldManagedBuffer.getDelegate();
-    int newSize = oldBuffer.capacity() + bufferSizeIncrement;
-    if (!canBeExpandedTo(newSize)) {
-      throw new StreamingBufferSizeExceededException(maxBufferSize);
+  private int probeStreamFinished() throws IOException {
+    ManagedByteBufferWrapper probe = bufferManager.allocateManaged(STREAM_FINISHED_PROBE);
+    try {
+      final int read = consumeStream(probe.getDelegate());
+      if (read > 0) {
+        throw new StreamingBufferSizeExceededException(maxBufferSize);
+      }
+      return read;
+    } finally {
+      probe.release();
     }
+  }
 
-    ManagedByteBufferWrapper newManagedBuffer = bufferManager.allocateManaged(newSize);
-    ByteBuffer newBuffer = newManagedBuffer.getDelegate();
-    oldBuffer.position(0);
-    newBuffer.put(oldBuffer);
-
-    managedBuffer = newManagedBuffer;
-    actingBuffer = newBuffer;
-    oldManagedBuffer.release();
-
-    return newManagedBuffer;
+  private void addChunk(ManagedByteBufferWrapper chunk) {
+    chunks.add(chunk);
+    actingBuffer = chunk.getDelegate();
+    capacity += actingBuffer.capacity();
   }
 
   @Override
   protected ByteBuffer copy(long position, int length) {
-    return canDoSoftCopy() ? softCopy(position, length) : hardCopy(position, length);
+    final int chunkIndex = chunkIndex(position);
+    final int offset = offsetInChunk(position, chunkIndex);
+    final ByteBuffer chunk = chunks.get(chunkIndex).getDelegate();
+
+    if (offset + length <= chunk.capacity()) {
+      return slice(chunk, offset, length);
+    }
+    return hardCopy(position, length);
   }
 
-  private ByteBuffer softCopy(long position, int length) {
-    final int offset = toIntExact(position);
-    return wrap(actingBuffer.array(), offset, min(length, actingBuffer.limit() - offset)).slice();
+  private ByteBuffer slice(ByteBuffer chunk, int offset, int length) {
+    ByteBuffer slice = chunk.duplicate();
+    slice.limit(offset + length).position(offset);
+    return slice.slice();
   }
 
   protected ByteBuffer hardCopy(long position, int length) {
-    final int offset = toIntExact(position);
-    length = min(length, actingBuffer.limit() - offset);
-
     byte[] b = new byte[length];
-    arraycopy(actingBuffer.array(), offset, b, 0, length);
+    int copied = 0;
+    int chunkIndex = chunkIndex(position);
+    int offset = offsetInChunk(position, chunkIndex);
+
+    while (copied < length) {
+      ByteBuffer chunk = chunks.get(chunkIndex).getDelegate();
+      int toCopy = min(length - copied, chunk.capacity() - offset);
+      slice(chunk, offset, toCopy).get(b, copied, toCopy);
+
+      copied += toCopy;
+      chunkIndex++;
+      offset = 0;
+    }
     return wrap(b);
   }
 
-  private boolean canDoSoftCopy() {
-    return streamFullyConsumed
-        || actingBuffer.capacity() >= maxBufferSize
-        || bufferSizeIncrement == 0;
+  /**
+   * All chunks but the first one have the same size, so the chunk holding {@code position} is found without searching.
+   */
+  private int chunkIndex(long position) {
+    if (position < initialBufferSize) {
+      return 0;
+    }
+    return 1 + toIntExact((position - initialBufferSize) / bufferSizeIncrement);
+  }
+
+  private int offsetInChunk(long position, int chunkIndex) {
+    if (chunkIndex == 0) {
+      return toIntExact(position);
+    }
+    return toIntExact(position - initialBufferSize - (long) (chunkIndex - 1) * bufferSizeIncrement);
   }
 
-  private boolean canBeExpandedTo(int newSize) {
+  private boolean canBeExpandedTo(long newSize) {
     if (bufferSizeIncrement <= 0) {
       return false;
     } else if (maxBufferSize == 0) {
@@ -7,22 +7,31 @@
 
 package org.mule.runtime.core.internal.streaming.object.iterator;
 
+import static java.lang.String.format;
+import static java.util.Collections.emptyIterator;
+import static org.mule.runtime.core.internal.store.PagedObjectStores.openKeyCursor;
+import static org.mule.runtime.core.internal.store.PagedObjectStores.retrieveAll;
+
 import org.mule.runtime.api.store.ObjectStore;
-import org.mule.runtime.api.store.ObjectDoesNotExistException;
 import org.mule.runtime.api.store.ObjectStoreException;
 import org.mule.runtime.core.api.streaming.iterator.Producer;
+import org.mule.runtime.core.internal.store.KeyCursor;
+import org.mule.runtime.core.internal.store.PagedObjectStore;
 
 import java.io.IOException;
 import java.io.Serializable;
-import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
  * Implementation of {@link Producer} to stream the contents of a {@link ObjectStore}
+ * <p>
+ * The keys are read through a {@link KeyCursor} and their values retrieved in bulk one page at a time, so only a page of keys
+ * and values is held in memory at any time if the store implements {@link PagedObjectStore}.
  * 
  * @since 3.5.0
  */
@@ -30,20 +39,31 @@ public class ObjectStoreProducer<T extends Serializable> implements Producer<T>
 
   private static final Logger logger = LoggerFactory.getLogger(ObjectStoreProducer.class);
 
+  public static final int DEFAULT_PAGE_SIZE = 100;
+
   private ObjectStore<T> objectStore;
-  private Iterator<String> keys;
+  private KeyCursor keys;
+  private Iterator<T> page = emptyIterator();
   private int size;
 
   public ObjectStoreProducer(ObjectStore<T> objectStore) {
+    this(objectStore, DEFAULT_PAGE_SIZE);
+  }
+
+  /**
+   * @param objectStore the store to stream the values of
+   * @param pageSize    the number of values to retrieve at once
+   * @since 4.4
+   */
+  public ObjectStoreProducer(ObjectStore<T> objectStore, int pageSize) {
     if (objectStore == null) {
       throw new IllegalArgumentException("Cannot construct a producer with a null object store");
     }
 
     this.objectStore = objectStore;
     try {
-      List<String> allKeys = new ArrayList<>(objectStore.allKeys());
-      this.keys = allKeys.iterator();
-      this.size = allKeys.size();
+      this.keys = openKeyCursor(objectStore, pageSize);
+      this.size = keys.getSize();
     } catch (ObjectStoreException e) {
       throw new RuntimeException("Could not construct producer because exception was found retrieving keys", e);
     }
@@ -51,21 +71,26 @@ public class ObjectStoreProducer<T extends Serializable> implements Producer<T>
 
   @Override
   public T produce() {
-    if (this.objectStore == null || !this.keys.hasNext()) {
+    if (this.objectStore == null) {
       return null;
     }
 
-    String key = this.keys.next();
     try {
-      return this.objectStore.retrieve(key);
-    } catch (ObjectDoesNotExistException e) {
-      if (logger.isDebugEnabled()) {
-        logger.debug(String.format(
-                                   "key %s no longer available in objectstore. This is likely due to a concurrency issue. Will continue with next key if available",
-                                   key));
+      while (!page.hasNext()) {
+        List<String> pageKeys = keys.nextPage();
+        if (pageKeys.isEmpty()) {
+          return null;
+        }
+
+        Map<String, T> values = retrieveAll(objectStore, pageKeys);
+        if (values.size() < pageKeys.size() && logger.isDebugEnabled()) {
+          logger.debug(format("%d keys no longer available in objectstore. This is likely due to a concurrency issue. "
+              + "Will continue with next key if available", pageKeys.size() - values.size()));
+        }
+        page = values.values().iterator();
       }
 
-      return this.produce();
+      return page.next();
     } catch (ObjectStoreException e) {
       throw new RuntimeException(e);
     }
@@ -80,6 +105,7 @@ public class ObjectStoreProducer<T extends Serializable> implements Producer<T>
   public void close() throws IOException {
     this.objectStore = null;
     this.keys = null;
+    this.page = emptyIterator();
   }
 
 }
@@ -53,7 +53,7 @@ public final class InternalExceptionUtils {
     }
 
     if (!errorMappings.isEmpty() || isMessagingExceptionCause(me, cause)) {
-      Error newError = getErrorFromFailingProcessor(me.getExceptionInfo().getErrorType(), obj, cause, locator);
+      Error newError = getErrorFromFailingProcessor(me.getUnenrichedExceptionInfo().getErrorType(), obj, cause, locator);
       CoreEvent newEvent = quickCopy(newError, me.getEvent());
       me.setProcessedEvent(newEvent);
       return newEvent;
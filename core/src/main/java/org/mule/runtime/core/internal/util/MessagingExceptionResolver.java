@@ -7,9 +7,12 @@
 
 package org.mule.runtime.core.internal.util;
 
+import static java.lang.Boolean.getBoolean;
+import static java.util.Optional.empty;
 import static java.util.Optional.of;
 import static org.mule.runtime.api.exception.ExceptionHelper.getExceptionsAsList;
 import static org.mule.runtime.api.notification.EnrichedNotificationInfo.createInfo;
+import static org.mule.runtime.core.api.config.MuleProperties.SYSTEM_PROPERTY_PREFIX;
 import static org.mule.runtime.core.api.exception.Errors.CORE_NAMESPACE_NAME;
 import static org.mule.runtime.core.api.exception.Errors.Identifiers.CRITICAL_IDENTIFIER;
 import static org.mule.runtime.core.api.util.ExceptionUtils.getComponentIdentifierOf;
@@ -21,9 +24,10 @@ import static org.mule.runtime.core.internal.util.InternalExceptionUtils.createE
 
 import org.mule.runtime.api.component.Component;
 import org.mule.runtime.api.component.ComponentIdentifier;
+import org.mule.runtime.api.connection.ConnectionException;
 import org.mule.runtime.api.event.Event;
-import org.mule.runtime.api.exception.MuleException;
 import org.mule.runtime.api.message.Error;
+import org.mule.runtime.api.i18n.I18nMessage;
 import org.mule.runtime.api.message.ErrorType;
 import org.mule.runtime.api.notification.EnrichedNotificationInfo;
 import org.mule.runtime.api.util.Pair;
@@ -38,9 +42,10 @@ import org.mule.runtime.core.privileged.exception.ErrorTypeLocator;
 
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * Tries to resolve a new {@link MessagingException}s with the real cause of the problem from an incoming
@@ -50,8 +55,20 @@ import java.util.Optional;
  */
 public class MessagingExceptionResolver {
 
+  /**
+   * When {@code true}, the {@link MessagingException}s created by this resolver to carry the root cause of an error don't fill
+   * in their own stack trace, which would only point to this resolver. The stack trace of the root cause is kept.
+   *
+   * @since 4.4
+   */
+  public static final String STACKLESS_ERRORS_PROPERTY = SYSTEM_PROPERTY_PREFIX + "error.stackless";
+
+  private static final boolean STACKLESS_ERRORS = getBoolean(STACKLESS_ERRORS_PROPERTY);
+
   private final Component component;
 
+  private volatile ErrorTypeCache errorTypeCache;
+
   public MessagingExceptionResolver(Component component) {
     this.component = component;
   }
@@ -86,7 +103,8 @@ public class MessagingExceptionResolver {
     MessagingException result = resolveResultException(me, root, failingComponent, event);
 
     propagateAlreadyLogged(me, result);
-    return enrich(result, failingComponent, component, event, exceptionContextProviders);
+    enrich(result, failingComponent, event, exceptionContextProviders);
+    return result;
   }
 
   private MessagingException resolveResultException(final MessagingException me, Throwable root, Component failingComponent,
@@ -95,6 +113,10 @@ public class MessagingExceptionResolver {
     if (root instanceof MessagingException) {
       ((MessagingException) root).setProcessedEvent(event);
       result = ((MessagingException) root);
+    } else if (STACKLESS_ERRORS) {
+      result = me instanceof FlowExecutionException
+          ? new StacklessFlowExecutionException(event, root, failingComponent)
+          : new StacklessMessagingException(event, root, failingComponent);
     } else {
       result = me instanceof FlowExecutionException
           ? new FlowExecutionException(event, root, failingComponent)
@@ -127,15 +149,26 @@ public class MessagingExceptionResolver {
     return errorType;
   }
 
-  private void propagateAlreadyLogged(MessagingException origin, MuleException result) {
-    result.getExceptionInfo().setAlreadyLogged(origin.getExceptionInfo().isAlreadyLogged());
+  private void propagateAlreadyLogged(MessagingException origin, MessagingException result) {
+    result.getUnenrichedExceptionInfo().setAlreadyLogged(origin.getUnenrichedExceptionInfo().isAlreadyLogged());
   }
 
   private Optional<Pair<Throwable, ErrorType>> findRoot(Component obj, MessagingException me, ErrorTypeLocator locator) {
-    List<Pair<Throwable, ErrorType>> errors = collectUnsuppressedErrors(obj, me, locator);
+    // The error types of the causes are looked up just once, for both the unsuppressed and the critical errors
+    List<Pair<Throwable, ErrorType>> errors = new ArrayList<>(4);
+    Pair<Throwable, ErrorType> critical = null;
+    for (Throwable e : getExceptionsAsList(me)) {
+      ErrorType type = errorTypeFromException(obj, locator, e);
+      if (isCriticalMuleError(type)) {
+        // The deepest critical error is the one to report when there are no unsuppressed errors
+        critical = new Pair<>(e, type);
+      } else if (!isUnknownMuleError(type)) {
+        errors.add(new Pair<>(e, type));
+      }
+    }
 
     if (errors.isEmpty()) {
-      return collectCritical(obj, me, locator).stream().findFirst();
+      return critical != null ? of(critical) : empty();
     }
 
     if (errors.size() == 1) {
@@ -145,34 +178,12 @@ public class MessagingExceptionResolver {
     // We look if there is a more specific error in the chain that matches with the root error (is child or has the same error)
     SingleErrorTypeMatcher matcher = new SingleErrorTypeMatcher(errors.get(errors.size() - 1).getSecond());
 
-    return errors.stream()
-        .filter(p -> matcher.match(p.getSecond()))
-        .findFirst();
-  }
-
-  private List<Pair<Throwable, ErrorType>> collectUnsuppressedErrors(Component obj, MessagingException me,
-                                                                     ErrorTypeLocator locator) {
-    List<Pair<Throwable, ErrorType>> errors = new ArrayList<>(4);
-    final List<Throwable> exceptionsAsList = getExceptionsAsList(me);
-    for (Throwable e : exceptionsAsList) {
-      ErrorType type = errorTypeFromException(obj, locator, e);
-      if (!isUnknownMuleError(type) && !isCriticalMuleError(type)) {
-        errors.add(new Pair<>(e, type));
+    for (Pair<Throwable, ErrorType> error : errors) {
+      if (matcher.match(error.getSecond())) {
+        return of(error);
       }
     }
-    return errors;
-  }
-
-  private List<Pair<Throwable, ErrorType>> collectCritical(Component obj, MessagingException me, ErrorTypeLocator locator) {
-    List<Pair<Throwable, ErrorType>> errors = new LinkedList<>();
-    final List<Throwable> exceptionsAsList = getExceptionsAsList(me);
-    for (Throwable e : exceptionsAsList) {
-      ErrorType type = errorTypeFromException(obj, locator, e);
-      if (isCriticalMuleError(type)) {
-        errors.add(0, new Pair<>(e, type));
-      }
-    }
-    return errors;
+    return empty();
   }
 
   private MessagingException updateCurrent(MessagingException me, Component processor, ErrorTypeLocator locator,
@@ -183,13 +194,18 @@ public class MessagingExceptionResolver {
     MessagingException updated;
     if (errorEvent == me.getEvent() && failingProcessor == me.getFailingComponent()) {
       updated = me;
+    } else if (STACKLESS_ERRORS) {
+      updated = me instanceof FlowExecutionException
+          ? new StacklessFlowExecutionException(errorEvent, me.getCause(), failingProcessor)
+          : new StacklessMessagingException(me.getI18nMessage(), errorEvent, me.getCause(), failingProcessor);
     } else {
       updated = me instanceof FlowExecutionException
           ? new FlowExecutionException(errorEvent, me.getCause(), failingProcessor)
           : new MessagingException(me.getI18nMessage(), errorEvent, me.getCause(), failingProcessor);
     }
 
-    return enrich(updated, failingProcessor, processor, errorEvent, exceptionContextProviders);
+    enrich(updated, failingProcessor, errorEvent, exceptionContextProviders);
+    return updated;
   }
 
   private Component getFailingProcessor(MessagingException me, Throwable root) {
@@ -209,7 +225,7 @@ public class MessagingExceptionResolver {
       if (eventError.isPresent()) {
         mapped = eventError.get().getErrorType();
       } else {
-        mapped = ((MessagingException) e).getExceptionInfo().getErrorType();
+        mapped = ((MessagingException) e).getUnenrichedExceptionInfo().getErrorType();
       }
     } else {
       mapped = errorTypeFromNotMessagingException(failing, locator, e);
@@ -219,6 +235,20 @@ public class MessagingExceptionResolver {
   }
 
   private ErrorType errorTypeFromNotMessagingException(Component failing, ErrorTypeLocator locator, Throwable e) {
+    if (failing != component || e instanceof ConnectionException) {
+      // Connection exceptions may carry their own error type, so those can't be cached by class
+      return lookupComponentErrorType(failing, locator, e);
+    }
+
+    ErrorTypeCache cache = errorTypeCache;
+    if (cache == null || cache.locator != locator) {
+      cache = new ErrorTypeCache(locator, getComponentIdentifierOf(component));
+      errorTypeCache = cache;
+    }
+    return cache.get(e);
+  }
+
+  private ErrorType lookupComponentErrorType(Component failing, ErrorTypeLocator locator, Throwable e) {
     final ComponentIdentifier identifier = getComponentIdentifierOf(failing);
 
     if (identifier != null) {
@@ -228,16 +258,83 @@ public class MessagingExceptionResolver {
     }
   }
 
-  private <T extends MuleException> T enrich(T me, Component failing, Component handling, CoreEvent event,
-                                             Collection<ExceptionContextProvider> exceptionContextProviders) {
-    EnrichedNotificationInfo notificationInfo = createInfo(event, me, null);
-    for (ExceptionContextProvider exceptionContextProvider : exceptionContextProviders) {
-      exceptionContextProvider.putContextInfo(me.getExceptionInfo(), notificationInfo, failing);
+  private void enrich(MessagingException me, Component failing, CoreEvent event,
+                      Collection<ExceptionContextProvider> exceptionContextProviders) {
+    if (exceptionContextProviders.isEmpty()) {
+      return;
     }
-    return me;
+
+    // Building the notification info and running the providers is only worth it if the exception info is ever read
+    me.deferEnrichment(() -> {
+      EnrichedNotificationInfo notificationInfo = createInfo(event, me, null);
+      for (ExceptionContextProvider exceptionContextProvider : exceptionContextProviders) {
+        exceptionContextProvider.putContextInfo(me.getUnenrichedExceptionInfo(), notificationInfo, failing);
+      }
+    });
   }
 
   private boolean isCriticalMuleError(ErrorType type) {
     return type.getNamespace().equals(CORE_NAMESPACE_NAME) && type.getIdentifier().equals(CRITICAL_IDENTIFIER);
   }
+
+  /**
+   * Caches the error types of the exceptions thrown by {@link #component} by exception class, valid for a single
+   * {@link ErrorTypeLocator}.
+   */
+  private static final class ErrorTypeCache {
+
+    private final ErrorTypeLocator locator;
+    private final ComponentIdentifier identifier;
+    private final ConcurrentMap<Class<? extends Throwable>, ErrorType> errorTypes = new ConcurrentHashMap<>();
+
+    private ErrorTypeCache(ErrorTypeLocator locator, ComponentIdentifier identifier) {
+      this.locator = locator;
+      this.identifier = identifier;
+    }
+
+    private ErrorType get(Throwable e) {
+      ErrorType errorType = errorTypes.get(e.getClass());
+      if (errorType == null) {
+        errorType = identifier != null
+            ? locator.lookupComponentErrorType(identifier, e.getClass())
+            : locator.lookupErrorType(e.getClass());
+        if (errorType != null) {
+          errorTypes.putIfAbsent(e.getClass(), errorType);
+        }
+      }
+      return errorType;
+    }
+  }
+
+  private static final class StacklessMessagingException extends MessagingException {
+
+    private static final long serialVersionUID = -5146873093472961842L;
+
+    private StacklessMessagingException(CoreEvent event, Throwable cause, Component failingComponent) {
+      super(event, cause, failingComponent);
+    }
+
+    private StacklessMessagingException(I18nMessage message, CoreEvent event, Throwable cause, Component failingComponent) {
+      super(message, event, cause, failingComponent);
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+      return this;
+    }
+  }
+
+  private static final class StacklessFlowExecutionException extends FlowExecutionException {
+
+    private static final long serialVersionUID = 2740417236357196458L;
+
+    private StacklessFlowExecutionException(CoreEvent event, Throwable cause, Component failingComponent) {
+      super(event, cause, failingComponent);
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+      return this;
+    }
+  }
 }
@@ -0,0 +1,370 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.util.compression;
+
+import static java.lang.Boolean.getBoolean;
+import static java.lang.Integer.getInteger;
+import static java.lang.Runtime.getRuntime;
+import static java.lang.System.arraycopy;
+import static java.lang.System.nanoTime;
+import static java.util.Arrays.copyOf;
+import static java.util.Arrays.copyOfRange;
+import static java.util.zip.Deflater.BEST_COMPRESSION;
+import static java.util.zip.Deflater.BEST_SPEED;
+import static java.util.zip.Deflater.DEFAULT_COMPRESSION;
+import static org.mule.runtime.api.util.MuleSystemProperties.SYSTEM_PROPERTY_PREFIX;
+import static org.mule.runtime.core.api.util.IOUtils.toByteArray;
+
+import org.mule.runtime.core.api.util.compression.CompressionStrategy;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterInputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * {@link CompressionStrategy} for records that are written to and read from local files, such as queue entries, object store
+ * values or the blocks of a buffered stream.
+ * <p>
+ * Each record is deflated on its own, with a short header in front. Records smaller than a threshold, or that don't get any
+ * smaller when deflated, are kept as they are, without any header, so reading them costs nothing. Records without the header are
+ * also returned as they are when uncompressing, so data written before enabling compression can still be read after it, and the
+ * other way around.
+ * <p>
+ * {@link Deflater}s and {@link Inflater}s are pooled, since creating them is expensive and they are only needed while a record is
+ * being processed. The pools are shared by all the instances and bounded, and the ones that don't fit in them are ended right
+ * away, so their native memory is not left for finalization to release.
+ * <p>
+ * Compression is disabled by default, and it is enabled for all the stores with the {@link #BLOCK_COMPRESSION_PROPERTY} system
+ * property.
+ *
+ * @since 4.4
+ */
+public final class BlockCompression implements CompressionStrategy {
+
+  public static final String BLOCK_COMPRESSION_PROPERTY = SYSTEM_PROPERTY_PREFIX + "blockCompression";
+  public static final String BLOCK_COMPRESSION_LEVEL_PROPERTY = BLOCK_COMPRESSION_PROPERTY + ".level";
+  public static final String BLOCK_COMPRESSION_THRESHOLD_PROPERTY = BLOCK_COMPRESSION_PROPERTY + ".threshold";
+
+  private static final boolean ENABLED = getBoolean(BLOCK_COMPRESSION_PROPERTY);
+  private static final int DEFAULT_LEVEL = getInteger(BLOCK_COMPRESSION_LEVEL_PROPERTY, BEST_SPEED);
+  private static final int DEFAULT_THRESHOLD = getInteger(BLOCK_COMPRESSION_THRESHOLD_PROPERTY, 1024);
+
+  private static final byte[] MAGIC = {(byte) 0xFE, 'M', 'B', 'C'};
+  private static final byte STORED = 0;
+  private static final byte DEFLATED = 1;
+  private static final byte STREAMED = 2;
+  private static final int HEADER_LENGTH = MAGIC.length + 1 + 4;
+
+  private static final int POOL_SIZE = getRuntime().availableProcessors() * 2;
+  private static final Queue<Inflater> INFLATERS = new ArrayBlockingQueue<>(POOL_SIZE);
+  // One pool for each compression level, from DEFAULT_COMPRESSION to BEST_COMPRESSION
+  private static final Queue<Deflater>[] DEFLATERS = new Queue[BEST_COMPRESSION - DEFAULT_COMPRESSION + 1];
+
+  static {
+    for (int i = 0; i < DEFLATERS.length; ++i) {
+      DEFLATERS[i] = new ArrayBlockingQueue<>(POOL_SIZE);
+    }
+  }
+
+  private final boolean enabled;
+  private final int level;
+  private final int threshold;
+  private final Queue<Deflater> deflaters;
+  private final CompressionStatistics statistics = new CompressionStatistics();
+
+  /**
+   * @return whether the {@link #BLOCK_COMPRESSION_PROPERTY} system property is set.
+   */
+  public static boolean isBlockCompressionEnabled() {
+    return ENABLED;
+  }
+
+  /**
+   * @return a new instance configured through system properties, which only compresses if
+   *         {@link #isBlockCompressionEnabled()}.
+   */
+  public static BlockCompression fromSystemProperties() {
+    return new BlockCompression(ENABLED, DEFAULT_LEVEL, DEFAULT_THRESHOLD);
+  }
+
+  /**
+   * Creates a new instance
+   *
+   * @param enabled   whether records are compressed. If {@code false}, records are still uncompressed when read.
+   * @param level     the {@link Deflater} compression level
+   * @param threshold the minimum size of the records to compress
+   */
+  public BlockCompression(boolean enabled, int level, int threshold) {
+    if (level < DEFAULT_COMPRESSION || level > BEST_COMPRESSION) {
+      throw new IllegalArgumentException("Invalid compression level " + level);
+    }
+    this.enabled = enabled;
+    this.level = level;
+    this.threshold = threshold;
+    this.deflaters = DEFLATERS[level - DEFAULT_COMPRESSION];
+  }
+
+  /**
+   * @return whether records are compressed when written.
+   */
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * @return the statistics of the records compressed and uncompressed by this instance.
+   */
+  public CompressionStatistics getStatistics() {
+    return statistics;
+  }
+
+  @Override
+  public boolean isCompressed(byte[] bytes) {
+    return bytes != null && startsWithMagic(bytes, 0, bytes.length);
+  }
+
+  @Override
+  public byte[] compressByteArray(byte[] bytes) {
+    return bytes == null ? null : compress(bytes, 0, bytes.length);
+  }
+
+  /**
+   * Compresses a part of a byte array.
+   *
+   * @param bytes  the bytes to compress.
+   * @param offset the offset of the first byte to compress.
+   * @param length the amount of bytes to compress.
+   * @return the record to write.
+   */
+  public byte[] compress(byte[] bytes, int offset, int length) {
+    if (enabled && length >= threshold) {
+      final long start = nanoTime();
+      final byte[] deflated = deflate(bytes, offset, length);
+      if (deflated != null) {
+        statistics.recordCompressed(length, deflated.length, nanoTime() - start);
+        return deflated;
+      }
+    }
+
+    final byte[] stored;
+    if (startsWithMagic(bytes, offset, length)) {
+      // The header is required so it is not taken as compressed when read
+      stored = new byte[HEADER_LENGTH + length];
+      writeHeader(stored, STORED, length);
+      arraycopy(bytes, offset, stored, HEADER_LENGTH, length);
+    } else if (offset == 0 && length == bytes.length) {
+      stored = bytes;
+    } else {
+      stored = copyOfRange(bytes, offset, offset + length);
+    }
+    statistics.recordStored(length, stored.length);
+    return stored;
+  }
+
+  private byte[] deflate(byte[] bytes, int offset, int length) {
+    final Deflater deflater = borrowDeflater();
+    try {
+      deflater.setInput(bytes, offset, length);
+      deflater.finish();
+
+      // Only worth keeping if it is smaller than the original
+      final byte[] output = new byte[length];
+      int written = HEADER_LENGTH;
+      while (!deflater.finished() && written < output.length) {
+        written += deflater.deflate(output, written, output.length - written);
+      }
+      if (!deflater.finished()) {
+        return null;
+      }
+
+      writeHeader(output, DEFLATED, length);
+      return copyOf(output, written);
+    } finally {
+      deflater.reset();
+      if (!deflaters.offer(deflater)) {
+        deflater.end();
+      }
+    }
+  }
+
+  @Override
+  public byte[] uncompressByteArray(byte[] bytes) throws IOException {
+    if (!isCompressed(bytes)) {
+      return bytes;
+    }
+
+    final long start = nanoTime();
+    final int length = readLength(bytes);
+    final byte[] uncompressed;
+    switch (bytes[MAGIC.length]) {
+      case STORED:
+        return copyOfRange(bytes, HEADER_LENGTH, HEADER_LENGTH + length);
+      case DEFLATED:
+        uncompressed = inflate(bytes, length);
+        break;
+      case STREAMED:
+        // The stream records its own decompression when closed
+        try (InputStream uncompressedStream = uncompressInputStream(new ByteArrayInputStream(bytes))) {
+          return toByteArray(uncompressedStream);
+        }
+      default:
+        throw new IOException("Unknown compressed record type " + bytes[MAGIC.length]);
+    }
+    statistics.recordDecompressed(nanoTime() - start);
+    return uncompressed;
+  }
+
+  private byte[] inflate(byte[] bytes, int length) throws IOException {
+    final Inflater inflater = borrowInflater();
+    try {
+      inflater.setInput(bytes, HEADER_LENGTH, bytes.length - HEADER_LENGTH);
+      final byte[] output = new byte[length];
+      int read = 0;
+      while (read < length) {
+        final int inflated = inflater.inflate(output, read, length - read);
+        if (inflated == 0 && (inflater.finished() || inflater.needsInput() || inflater.needsDictionary())) {
+          throw new IOException("Truncated compressed record, expected " + length + " bytes but got " + read);
+        }
+        read += inflated;
+      }
+      return output;
+    } catch (DataFormatException e) {
+      throw new IOException("Corrupted compressed record", e);
+    } finally {
+      inflater.reset();
+      if (!INFLATERS.offer(inflater)) {
+        inflater.end();
+      }
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Unlike records compressed with {@link #compressByteArray(byte[])}, streams are always compressed, since their size is not
+   * known upfront.
+   */
+  @Override
+  public InputStream compressInputStream(InputStream is) {
+    final byte[] header = new byte[HEADER_LENGTH];
+    writeHeader(header, STREAMED, -1);
+    final Deflater deflater = new Deflater(level);
+    return new SequenceInputStream(new ByteArrayInputStream(header), new DeflaterInputStream(is, deflater) {
+
+      @Override
+      public void close() throws IOException {
+        try {
+          super.close();
+        } finally {
+          deflater.end();
+        }
+      }
+    });
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Streams that weren't compressed by this strategy are returned with their content untouched, although not necessarily the
+   * same instance. For the ones that were, the time spent reading them is added to the {@link #getStatistics() statistics} when
+   * they are closed.
+   */
+  @Override
+  public InputStream uncompressInputStream(InputStream is) throws IOException {
+    final InputStream in = is.markSupported() ? is : new BufferedInputStream(is, HEADER_LENGTH);
+    in.mark(HEADER_LENGTH);
+    final byte[] header = new byte[HEADER_LENGTH];
+    int read = 0;
+    int current;
+    while (read < HEADER_LENGTH && (current = in.read(header, read, HEADER_LENGTH - read)) != -1) {
+      read += current;
+    }
+
+    if (!startsWithMagic(header, 0, read)) {
+      in.reset();
+      return in;
+    } else if (header[MAGIC.length] == STORED) {
+      return in;
+    }
+
+    final Inflater inflater = new Inflater();
+    return new InflaterInputStream(in, inflater) {
+
+      private long nanos;
+      private boolean closed;
+
+      @Override
+      public int read(byte[] b, int off, int len) throws IOException {
+        final long start = nanoTime();
+        try {
+          return super.read(b, off, len);
+        } finally {
+          nanos += nanoTime() - start;
+        }
+      }
+
+      @Override
+      public void close() throws IOException {
+        if (closed) {
+          return;
+        }
+        closed = true;
+        try {
+          super.close();
+        } finally {
+          inflater.end();
+          statistics.recordDecompressed(nanos);
+        }
+      }
+    };
+  }
+
+  private Deflater borrowDeflater() {
+    final Deflater deflater = deflaters.poll();
+    return deflater != null ? deflater : new Deflater(level);
+  }
+
+  private static Inflater borrowInflater() {
+    final Inflater inflater = INFLATERS.poll();
+    return inflater != null ? inflater : new Inflater();
+  }
+
+  private static boolean startsWithMagic(byte[] bytes, int offset, int length) {
+    if (length < HEADER_LENGTH) {
+      return false;
+    }
+    for (int i = 0; i < MAGIC.length; ++i) {
+      if (bytes[offset + i] != MAGIC[i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static void writeHeader(byte[] output, byte type, int length) {
+    arraycopy(MAGIC, 0, output, 0, MAGIC.length);
+    output[MAGIC.length] = type;
+    output[MAGIC.length + 1] = (byte) (length >>> 24);
+    output[MAGIC.length + 2] = (byte) (length >>> 16);
+    output[MAGIC.length + 3] = (byte) (length >>> 8);
+    output[MAGIC.length + 4] = (byte) length;
+  }
+
+  private static int readLength(byte[] bytes) {
+    return ((bytes[MAGIC.length + 1] & 0xFF) << 24) | ((bytes[MAGIC.length + 2] & 0xFF) << 16)
+        | ((bytes[MAGIC.length + 3] & 0xFF) << 8) | (bytes[MAGIC.length + 4] & 0xFF);
+  }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.util.compression;
+
+import static java.lang.String.format;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Statistics about the records written and read through a {@link BlockCompression}.
+ *
+ * @since 4.4
+ */
+public final class CompressionStatistics {
+
+  private final LongAdder records = new LongAdder();
+  private final LongAdder compressedRecords = new LongAdder();
+  private final LongAdder uncompressedBytes = new LongAdder();
+  private final LongAdder compressedBytes = new LongAdder();
+  private final LongAdder compressionNanos = new LongAdder();
+  private final LongAdder decompressedRecords = new LongAdder();
+  private final LongAdder decompressionNanos = new LongAdder();
+
+  void recordStored(int length, int storedLength) {
+    records.increment();
+    uncompressedBytes.add(length);
+    compressedBytes.add(storedLength);
+  }
+
+  void recordCompressed(int length, int compressedLength, long nanos) {
+    records.increment();
+    compressedRecords.increment();
+    uncompressedBytes.add(length);
+    compressedBytes.add(compressedLength);
+    compressionNanos.add(nanos);
+  }
+
+  void recordDecompressed(long nanos) {
+    decompressedRecords.increment();
+    decompressionNanos.add(nanos);
+  }
+
+  /**
+   * @return the amount of records written, whether they were compressed or not.
+   */
+  public long getRecords() {
+    return records.sum();
+  }
+
+  /**
+   * @return the amount of records written that were compressed.
+   */
+  public long getCompressedRecords() {
+    return compressedRecords.sum();
+  }
+
+  /**
+   * @return the size of the records written, before compressing them.
+   */
+  public long getUncompressedBytes() {
+    return uncompressedBytes.sum();
+  }
+
+  /**
+   * @return the size of the records written, after compressing them.
+   */
+  public long getCompressedBytes() {
+    return compressedBytes.sum();
+  }
+
+  /**
+   * @return how many times larger the written records would be without compression, or {@code 1} if nothing was written.
+   */
+  public double getCompressionRatio() {
+    final long compressed = getCompressedBytes();
+    return compressed == 0 ? 1 : (double) getUncompressedBytes() / compressed;
+  }
+
+  /**
+   * @return the time spent compressing records, in nanoseconds.
+   */
+  public long getCompressionNanos() {
+    return compressionNanos.sum();
+  }
+
+  /**
+   * @return the amount of compressed records read.
+   */
+  public long getDecompressedRecords() {
+    return decompressedRecords.sum();
+  }
+
+  /**
+   * @return the time spent decompressing records, in nanoseconds.
+   */
+  public long getDecompressionNanos() {
+    return decompressionNanos.sum();
+  }
+
+  @Override
+  public String toString() {
+    return format("%d records written (%d compressed), %d bytes compressed to %d (ratio %.2f) in %d ms; "
+        + "%d records decompressed in %d ms",
+                  getRecords(), getCompressedRecords(), getUncompressedBytes(), getCompressedBytes(), getCompressionRatio(),
+                  NANOSECONDS.toMillis(getCompressionNanos()), getDecompressedRecords(),
+                  NANOSECONDS.toMillis(getDecompressionNanos()));
+  }
+}
@@ -0,0 +1,297 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.util.queue;
+
+import static java.lang.Long.MAX_VALUE;
+import static java.lang.System.nanoTime;
+import static java.lang.Thread.currentThread;
+import static java.util.Collections.emptyList;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static java.util.concurrent.locks.LockSupport.park;
+import static java.util.concurrent.locks.LockSupport.parkNanos;
+import static java.util.concurrent.locks.LockSupport.unpark;
+import static org.mule.runtime.api.util.Preconditions.checkArgument;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Queue delegate for transient queues that doesn't lock.
+ * <p>
+ * Items are kept in a {@link ConcurrentLinkedDeque}, so {@link #untake(Serializable)} can put an item back at the head. The
+ * capacity is enforced by reserving a slot on the item counter with a CAS before adding. Threads waiting for an item or for room
+ * are parked in FIFO queues, and each change wakes up only the one waiting thread that can make progress instead of all of them.
+ *
+ * @since 4.4
+ */
+public class ConcurrentQueueStoreDelegate implements QueueStoreDelegate {
+
+  private static final long NO_DEADLINE = MAX_VALUE;
+  private static final long MAX_TIMEOUT_MILLIS = NANOSECONDS.toMillis(MAX_VALUE / 2);
+
+  private final int capacity;
+  private final ConcurrentLinkedDeque<Serializable> items = new ConcurrentLinkedDeque<>();
+  /**
+   * Number of items in the queue, including the ones whose slot was reserved but are still being added.
+   */
+  private final AtomicInteger size = new AtomicInteger();
+  private final Queue<Waiter> itemWaiters = new ConcurrentLinkedQueue<>();
+  private final Queue<Waiter> roomWaiters = new ConcurrentLinkedQueue<>();
+
+  public ConcurrentQueueStoreDelegate(int capacity) {
+    this.capacity = capacity;
+  }
+
+  @Override
+  public void putNow(Serializable o) {
+    size.incrementAndGet();
+    items.offerLast(o);
+    signalItemWaiter();
+  }
+
+  @Override
+  public boolean offer(Serializable o, int room, long timeout) throws InterruptedException {
+    checkInterrupted();
+    final boolean add = o != null;
+    if (capacity > 0) {
+      if (capacity <= room) {
+        throw new IllegalStateException("Can not add more objects than the capacity in one time");
+      }
+      final int limit = capacity - room;
+      if (!tryReserve(limit, add)) {
+        if (timeout == 0) {
+          return false;
+        }
+        // If timeout is negative then wait until there is room without a timeout.
+        final long deadline = timeout < 0 ? NO_DEADLINE : deadline(timeout);
+        do {
+          if (!await(roomWaiters, new Waiter(limit), () -> size.get() >= limit, deadline, this::signalRoomWaiter)) {
+            return false;
+          }
+        } while (!tryReserve(limit, add));
+      }
+    } else if (add) {
+      size.incrementAndGet();
+    }
+
+    if (add) {
+      items.offerLast(o);
+      signalItemWaiter();
+    }
+    return true;
+  }
+
+  @Override
+  public Serializable poll(long timeout) throws InterruptedException {
+    checkInterrupted();
+    Serializable item = items.pollFirst();
+    if (item == null && timeout > 0) {
+      final long deadline = deadline(timeout);
+      do {
+        if (!await(itemWaiters, new Waiter(0), items::isEmpty, deadline, this::signalItemWaiter)) {
+          return null;
+        }
+        item = items.pollFirst();
+      } while (item == null);
+    }
+
+    if (item != null) {
+      onRemoved(1);
+    }
+    return item;
+  }
+
+  /**
+   * Waits up to {@code timeout} milliseconds for an item, and then removes it along with the items that follow it, without
+   * waiting for more.
+   *
+   * @param maxItems the maximum number of items to remove
+   * @param timeout  the maximum time to wait for the first item, in milliseconds
+   * @return the removed items in queue order, empty if none became available in time
+   */
+  @Override
+  public List<Serializable> poll(int maxItems, long timeout) throws InterruptedException {
+    checkArgument(maxItems > 0, "maxItems must be greater than 0");
+    final Serializable first = poll(timeout);
+    if (first == null) {
+      return emptyList();
+    }
+
+    final List<Serializable> batch = new ArrayList<>();
+    batch.add(first);
+    Serializable item;
+    while (batch.size() < maxItems && (item = items.pollFirst()) != null) {
+      batch.add(item);
+    }
+    onRemoved(batch.size() - 1);
+    return batch;
+  }
+
+  @Override
+  public Serializable peek() throws InterruptedException {
+    checkInterrupted();
+    return items.peekFirst();
+  }
+
+  @Override
+  public void untake(Serializable item) throws InterruptedException {
+    checkInterrupted();
+    size.incrementAndGet();
+    items.offerFirst(item);
+    signalItemWaiter();
+  }
+
+  @Override
+  public int getSize() {
+    return size.get();
+  }
+
+  @Override
+  public void clear() throws InterruptedException {
+    checkInterrupted();
+    doClear();
+  }
+
+  @Override
+  public boolean addAll(Collection<? extends Serializable> itemsToAdd) {
+    size.addAndGet(itemsToAdd.size());
+    final boolean result = items.addAll(itemsToAdd);
+    for (int i = 0; i < itemsToAdd.size(); ++i) {
+      signalItemWaiter();
+    }
+    return result;
+  }
+
+  @Override
+  public void dispose() {
+    doClear();
+  }
+
+  private void doClear() {
+    int removed = 0;
+    while (items.pollFirst() != null) {
+      ++removed;
+    }
+    onRemoved(removed);
+  }
+
+  private boolean tryReserve(int limit, boolean add) {
+    int current;
+    do {
+      current = size.get();
+      if (current >= limit) {
+        return false;
+      }
+    } while (add && !size.compareAndSet(current, current + 1));
+    return true;
+  }
+
+  private void onRemoved(int removed) {
+    if (removed == 0) {
+      return;
+    }
+
+    size.addAndGet(-removed);
+    if (capacity > 0) {
+      for (int i = 0; i < removed; ++i) {
+        signalRoomWaiter();
+      }
+    }
+  }
+
+  private void signalItemWaiter() {
+    final Waiter waiter = itemWaiters.poll();
+    if (waiter != null) {
+      waiter.wakeUp();
+    }
+  }
+
+  /**
+   * Wakes up the first thread waiting for room that fits in the queue now. Waiting threads may need a different amount of room
+   * when offering within a transaction, so just taking the first one could wake up a thread that still can't proceed.
+   */
+  private void signalRoomWaiter() {
+    for (Waiter waiter : roomWaiters) {
+      if (size.get() < waiter.limit && roomWaiters.remove(waiter)) {
+        waiter.wakeUp();
+        return;
+      }
+    }
+  }
+
+  /**
+   * Parks the current thread in {@code waiters} while {@code blocked} holds, until woken up by a signal or until the
+   * {@code deadline} (as per {@link System#nanoTime()}) is reached.
+   *
+   * @return {@code false} if the deadline was reached, {@code true} if the caller should try again.
+   */
+  private boolean await(Queue<Waiter> waiters, Waiter waiter, BooleanSupplier blocked, long deadline, Runnable resignal)
+      throws InterruptedException {
+    waiters.add(waiter);
+    boolean retry = false;
+    try {
+      // Checked again once queued, so a signal sent before queueing is not missed
+      if (!blocked.getAsBoolean()) {
+        retry = true;
+        return true;
+      }
+
+      if (deadline == NO_DEADLINE) {
+        park(this);
+      } else {
+        final long remaining = deadline - nanoTime();
+        if (remaining <= 0) {
+          return false;
+        }
+        parkNanos(this, remaining);
+      }
+      checkInterrupted();
+
+      retry = waiter.signalled || deadline == NO_DEADLINE || deadline - nanoTime() > 0;
+      return retry;
+    } finally {
+      if (!waiters.remove(waiter) && !retry) {
+        // This thread was signalled but is giving up, so the signal is handed to another waiting thread
+        resignal.run();
+      }
+    }
+  }
+
+  private static long deadline(long timeoutMillis) {
+    return timeoutMillis >= MAX_TIMEOUT_MILLIS ? NO_DEADLINE : nanoTime() + MILLISECONDS.toNanos(timeoutMillis);
+  }
+
+  private void checkInterrupted() throws InterruptedException {
+    if (Thread.interrupted()) {
+      throw new InterruptedException();
+    }
+  }
+
+  private static final class Waiter {
+
+    private final Thread thread = currentThread();
+    private final int limit;
+    private volatile boolean signalled;
+
+    private Waiter(int limit) {
+      this.limit = limit;
+    }
+
+    private void wakeUp() {
+      signalled = true;
+      unpark(thread);
+    }
+  }
+}
@@ -11,6 +11,7 @@ import org.mule.runtime.core.api.util.queue.DefaultQueueConfiguration;
 import org.mule.runtime.core.api.util.queue.QueueConfiguration;
 
 import java.io.Serializable;
+import java.util.List;
 
 import org.apache.commons.lang3.NotImplementedException;
 
@@ -46,7 +47,7 @@ public class DefaultQueueStore implements RecoverableQueueStore {
       delegate = new DualRandomAccessFileQueueStoreDelegate(this.name, muleContext.getConfiguration().getWorkingDirectory(),
                                                             muleContext, this.config.getCapacity());
     } else {
-      delegate = new DefaultQueueStoreDelegate(this.config.getCapacity());
+      delegate = new ConcurrentQueueStoreDelegate(this.config.getCapacity());
     }
   }
 
@@ -76,6 +77,11 @@ public class DefaultQueueStore implements RecoverableQueueStore {
     return delegate.poll(timeout);
   }
 
+  @Override
+  public List<Serializable> poll(int maxItems, long timeout) throws InterruptedException {
+    return delegate.poll(maxItems, timeout);
+  }
+
   public Serializable peek() throws InterruptedException {
     return delegate.peek();
   }
@@ -6,14 +6,21 @@
  */
 package org.mule.runtime.core.internal.util.queue;
 
+import static org.mule.runtime.api.i18n.I18nMessageFactory.createStaticMessage;
+import static org.mule.runtime.core.internal.util.compression.BlockCompression.fromSystemProperties;
+
+import org.mule.runtime.api.exception.MuleRuntimeException;
 import org.mule.runtime.api.serialization.ObjectSerializer;
 import org.mule.runtime.api.util.Preconditions;
 import org.mule.runtime.core.api.MuleContext;
+import org.mule.runtime.core.internal.util.compression.BlockCompression;
+import org.mule.runtime.core.internal.util.compression.CompressionStatistics;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.File;
+import java.io.IOException;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -29,6 +36,8 @@ import java.util.concurrent.locks.ReentrantReadWriteLock;
  * Entries are stored in the queue file until a certain size in the file. After that size is reached a new file is created and
  * used to store new entries until the previous file queue entries are consumed, in which case the file is cleaned and reused for
  * new entries once the second files gets full.
+ * <p/>
+ * Entries are compressed with a {@link BlockCompression} when it is enabled.
  */
 public class DualRandomAccessFileQueueStoreDelegate extends AbstractQueueStoreDelegate
     implements TransactionalQueueStoreDelegate {
@@ -43,7 +52,9 @@ public class DualRandomAccessFileQueueStoreDelegate extends AbstractQueueStoreDe
   private static final Object QUEUE_DATA_CONTROL_SUFFIX = "-crl";
 
   protected final Logger logger = LoggerFactory.getLogger(this.getClass());
+  private final String queueName;
   private final ObjectSerializer serializer;
+  private final BlockCompression compression = fromSystemProperties();
   private final ReadWriteLock filesLock;
   private final QueueControlDataFile queueControlDataFile;
   private RandomAccessFileQueueStore writeFile;
@@ -54,6 +65,7 @@ public class DualRandomAccessFileQueueStoreDelegate extends AbstractQueueStoreDe
   public DualRandomAccessFileQueueStoreDelegate(String queueName, String workingDirectory, MuleContext muleContext,
                                                 int capacity) {
     super(capacity);
+    this.queueName = queueName;
     serializer = muleContext.getObjectSerializer();
     File queuesDirectory = getQueuesDirectory(workingDirectory);
     if (!queuesDirectory.exists()) {
@@ -93,18 +105,27 @@ public class DualRandomAccessFileQueueStoreDelegate extends AbstractQueueStoreDe
     return new File(getQueuesDirectory(workingDirectory), queueName + QUEUE_STORE_1_SUFFIX);
   }
 
+  /**
+   * @return the statistics of the compression of the entries of this queue.
+   */
+  public CompressionStatistics getCompressionStatistics() {
+    return compression.getStatistics();
+  }
+
   @Override
   protected void addFirst(Serializable item) throws InterruptedException {
     switchWriteFileIfFull();
-    byte[] serialiazedObject = serializer.getInternalProtocol().serialize(item);
-    readFile.addFirst(serialiazedObject);
+    readFile.addFirst(serialize(item));
   }
 
   @Override
   protected void add(Serializable item) {
     switchWriteFileIfFull();
-    byte[] serialiazedObject = serializer.getInternalProtocol().serialize(item);
-    writeFile.addLast(serialiazedObject);
+    writeFile.addLast(serialize(item));
+  }
+
+  private byte[] serialize(Serializable item) {
+    return compression.compressByteArray(serializer.getInternalProtocol().serialize(item));
   }
 
   @Override
@@ -207,7 +228,11 @@ public class DualRandomAccessFileQueueStoreDelegate extends AbstractQueueStoreDe
   }
 
   private Serializable deserialize(byte[] valuesAsBytes) {
-    return serializer.getInternalProtocol().deserialize(valuesAsBytes);
+    try {
+      return serializer.getInternalProtocol().deserialize(compression.uncompressByteArray(valuesAsBytes));
+    } catch (IOException e) {
+      throw new MuleRuntimeException(createStaticMessage("Could not uncompress queue entry"), e);
+    }
   }
 
   @Override
@@ -312,6 +337,9 @@ public class DualRandomAccessFileQueueStoreDelegate extends AbstractQueueStoreDe
   }
 
   private void doClose() {
+    if (compression.isEnabled() && logger.isDebugEnabled()) {
+      logger.debug(String.format("Queue %s compression: %s", queueName, compression.getStatistics()));
+    }
     randomAccessFileQueueStore1.close();
     randomAccessFileQueueStore2.close();
     queueControlDataFile.close();
@@ -7,6 +7,8 @@
 package org.mule.runtime.core.internal.util.queue;
 
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Internal queue interface that hold queue configuration that will execute operations directly to the queue storage. Stores
@@ -22,6 +24,22 @@ public interface QueueStore {
 
   Serializable poll(long timeout) throws InterruptedException;
 
+  /**
+   * Removes up to {@code maxItems} items, waiting up to {@code timeout} milliseconds for the first one.
+   *
+   * @return the removed items in queue order, empty if there were none
+   * @since 4.4
+   */
+  default List<Serializable> poll(int maxItems, long timeout) throws InterruptedException {
+    List<Serializable> items = new ArrayList<>();
+    Serializable item = poll(timeout);
+    while (item != null) {
+      items.add(item);
+      item = items.size() < maxItems ? poll(0) : null;
+    }
+    return items;
+  }
+
   Serializable peek() throws InterruptedException;
 
   void untake(Serializable item) throws InterruptedException;
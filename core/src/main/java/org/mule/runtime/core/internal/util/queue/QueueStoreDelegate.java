@@ -8,7 +8,9 @@
 package org.mule.runtime.core.internal.util.queue;
 
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 
 /**
  * A DefaultQueueStore delegates the actual work of processing its queue to one of these.
@@ -30,6 +32,25 @@ public interface QueueStoreDelegate {
    */
   Serializable poll(long timeout) throws InterruptedException;
 
+  /**
+   * Poll the queue for up to {@code maxItems} members, waiting up to {@code timeout} for the first one to be available, and
+   * remove and return them.
+   *
+   * @param maxItems the maximum number of members to remove
+   * @param timeout the maximum time to wait for the first member, in milliseconds
+   * @return the removed members in queue order, empty if there were none
+   * @since 4.4
+   */
+  default List<Serializable> poll(int maxItems, long timeout) throws InterruptedException {
+    List<Serializable> items = new ArrayList<>();
+    Serializable item = poll(timeout);
+    while (item != null) {
+      items.add(item);
+      item = items.size() < maxItems ? poll(0) : null;
+    }
+    return items;
+  }
+
   /**
    * return, but do not remove, the first member of the queue
    */
@@ -6,6 +6,7 @@
  */
 package org.mule.runtime.core.internal.util.queue;
 
+import static java.util.Collections.emptyList;
 import static org.slf4j.LoggerFactory.getLogger;
 
 import org.mule.runtime.api.exception.MuleException;
@@ -14,6 +15,8 @@ import org.mule.runtime.core.api.util.queue.Queue;
 import org.mule.runtime.core.privileged.store.DeserializationPostInitialisable;
 
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.slf4j.Logger;
 
@@ -92,6 +95,36 @@ public class TransactionAwareQueueStore implements Queue {
     }
   }
 
+  @Override
+  public List<Serializable> poll(int maxItems, long timeout) throws InterruptedException {
+    if (transactionContextProvider.isTransactional()) {
+      // Each item has to go through the transaction context so it is restored on rollback
+      return Queue.super.poll(maxItems, timeout);
+    }
+
+    try {
+      List<Serializable> items = queue.poll(maxItems, timeout);
+      if (items.isEmpty()) {
+        return items;
+      }
+
+      List<Serializable> result = new ArrayList<>(items.size());
+      for (Serializable item : items) {
+        item = postProcessIfNeeded(item);
+        if (item != null) {
+          result.add(item);
+        }
+      }
+      return result;
+    } catch (InterruptedException iex) {
+      if (!muleContext.isStopping()) {
+        throw iex;
+      }
+      // if stopping, ignore
+      return emptyList();
+    }
+  }
+
   @Override
   public Serializable peek() throws InterruptedException {
     if (transactionContextProvider.isTransactional()) {
@@ -0,0 +1,260 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.util.rx;
+
+import static java.lang.Math.max;
+import static java.lang.Thread.currentThread;
+import static java.util.Collections.newSetFromMap;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Keeps a value for each thread that uses it, such as the sink a thread emits its events to.
+ * <p>
+ * Every thread that uses any instance of this class is assigned a slot index, unique among the live threads, that doesn't
+ * change for as long as the thread lives. Each instance keeps its values in an array indexed by that slot, so getting the value
+ * of the current thread is an array read, with no hashing or cache bookkeeping involved.
+ * <p>
+ * The slot of a thread is released once the thread terminates and is garbage collected, and it is then reused for a new thread.
+ * The values left by the terminated thread are removed from all the instances the next time any instance is used after that.
+ * All the values of an instance are removed when it is {@link #clear() cleared}. Removed values are handed to the
+ * {@code onRemoval} callback of the instance.
+ * <p>
+ * This class is thread safe.
+ *
+ * @param <T> the type of the values
+ *
+ * @since 4.4
+ */
+public final class PerThreadSlots<T> {
+
+  private static final int INITIAL_CAPACITY = 16;
+
+  private static final Object SLOTS_LOCK = new Object();
+  private static final ReferenceQueue<Thread> TERMINATED_THREADS = new ReferenceQueue<>();
+  // Keeps the slots reachable after their thread terminates, so they are enqueued in TERMINATED_THREADS
+  private static final Set<ThreadSlot> ASSIGNED_SLOTS = new HashSet<>();
+  private static final Deque<Integer> RELEASED_INDEXES = new ArrayDeque<>();
+  private static final Set<PerThreadSlots<?>> INSTANCES = newSetFromMap(new WeakHashMap<>());
+  private static int nextIndex = 0;
+
+  private static final ThreadLocal<ThreadSlot> CURRENT_SLOT = ThreadLocal.withInitial(PerThreadSlots::assignSlot);
+
+  private final Consumer<T> onRemoval;
+  private volatile AtomicReferenceArray<Entry<T>> entries = new AtomicReferenceArray<>(INITIAL_CAPACITY);
+
+  /**
+   * Creates a new instance.
+   *
+   * @param onRemoval called with each value removed from this instance, either because its thread terminated or because this
+   *                  instance was cleared.
+   */
+  public PerThreadSlots(Consumer<T> onRemoval) {
+    this.onRemoval = onRemoval;
+    synchronized (SLOTS_LOCK) {
+      INSTANCES.add(this);
+    }
+  }
+
+  /**
+   * Provides the value of the current thread, creating it with {@code factory} if the thread has none yet.
+   *
+   * @param factory creates the value for the current thread. It is called without holding any lock.
+   * @return the value of the current thread
+   */
+  public T get(Supplier<T> factory) {
+    expungeTerminatedThreads();
+
+    final ThreadSlot slot = CURRENT_SLOT.get();
+    final AtomicReferenceArray<Entry<T>> current = entries;
+    if (slot.index < current.length()) {
+      final Entry<T> entry = current.get(slot.index);
+      if (entry != null && entry.slot == slot) {
+        return entry.value;
+      }
+    }
+
+    return create(slot, factory);
+  }
+
+  private T create(ThreadSlot slot, Supplier<T> factory) {
+    final T value = factory.get();
+
+    final Entry<T> replaced;
+    synchronized (this) {
+      if (slot.index >= entries.length()) {
+        final AtomicReferenceArray<Entry<T>> grown =
+            new AtomicReferenceArray<>(max(slot.index + 1, entries.length() * 2));
+        for (int i = 0; i < entries.length(); ++i) {
+          grown.set(i, entries.get(i));
+        }
+        entries = grown;
+      }
+      replaced = entries.getAndSet(slot.index, new Entry<>(slot, value));
+    }
+
+    if (replaced != null) {
+      // Left by a terminated thread whose slot was reused before this instance was cleaned up
+      onRemoval.accept(replaced.value);
+    }
+    return value;
+  }
+
+  /**
+   * Removes {@code value} from this instance, whichever the thread it belongs to. {@code onRemoval} is not called for it.
+   *
+   * @param value the value to remove
+   * @return whether the value was found
+   */
+  public boolean remove(T value) {
+    synchronized (this) {
+      for (int i = 0; i < entries.length(); ++i) {
+        final Entry<T> entry = entries.get(i);
+        if (entry != null && entry.value == value) {
+          entries.set(i, null);
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+  /**
+   * @return the values of all the threads, at the moment of calling this method.
+   */
+  public List<T> values() {
+    expungeTerminatedThreads();
+
+    final AtomicReferenceArray<Entry<T>> current = entries;
+    final List<T> values = new ArrayList<>();
+    for (int i = 0; i < current.length(); ++i) {
+      final Entry<T> entry = current.get(i);
+      if (entry != null) {
+        values.add(entry.value);
+      }
+    }
+    return values;
+  }
+
+  /**
+   * @return {@code true} if no thread has a value in this instance.
+   */
+  public boolean isEmpty() {
+    expungeTerminatedThreads();
+
+    final AtomicReferenceArray<Entry<T>> current = entries;
+    for (int i = 0; i < current.length(); ++i) {
+      if (current.get(i) != null) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Removes the values of all the threads, calling {@code onRemoval} for each of them.
+   */
+  public void clear() {
+    expungeTerminatedThreads();
+
+    final List<T> removed = new ArrayList<>();
+    synchronized (this) {
+      for (int i = 0; i < entries.length(); ++i) {
+        final Entry<T> entry = entries.getAndSet(i, null);
+        if (entry != null) {
+          removed.add(entry.value);
+        }
+      }
+    }
+    removed.forEach(onRemoval);
+  }
+
+  private static ThreadSlot assignSlot() {
+    expungeTerminatedThreads();
+
+    synchronized (SLOTS_LOCK) {
+      final ThreadSlot slot =
+          new ThreadSlot(currentThread(), RELEASED_INDEXES.isEmpty() ? nextIndex++ : RELEASED_INDEXES.pop());
+      ASSIGNED_SLOTS.add(slot);
+      return slot;
+    }
+  }
+
+  /**
+   * Removes the values of the threads that terminated from all the instances, and releases their slots. Checking whether there
+   * are any is a single read, so this is done every time an instance is used.
+   */
+  private static void expungeTerminatedThreads() {
+    ThreadSlot terminated = (ThreadSlot) TERMINATED_THREADS.poll();
+    if (terminated == null) {
+      return;
+    }
+
+    final List<Runnable> removalNotifications = new ArrayList<>();
+    synchronized (SLOTS_LOCK) {
+      do {
+        ASSIGNED_SLOTS.remove(terminated);
+        for (PerThreadSlots<?> instance : INSTANCES) {
+          removalNotifications.add(instance.releaseSlot(terminated));
+        }
+        RELEASED_INDEXES.push(terminated.index);
+      } while ((terminated = (ThreadSlot) TERMINATED_THREADS.poll()) != null);
+    }
+
+    // Callbacks are called without holding any lock, since they may use values of other instances
+    removalNotifications.forEach(Runnable::run);
+  }
+
+  private Runnable releaseSlot(ThreadSlot slot) {
+    synchronized (this) {
+      if (slot.index < entries.length()) {
+        final Entry<T> entry = entries.get(slot.index);
+        if (entry != null && entry.slot == slot) {
+          entries.set(slot.index, null);
+          return () -> onRemoval.accept(entry.value);
+        }
+      }
+    }
+    return () -> {
+    };
+  }
+
+  /**
+   * The slot assigned to a thread. It only references the thread weakly, so it can tell when it terminated.
+   */
+  private static final class ThreadSlot extends WeakReference<Thread> {
+
+    private final int index;
+
+    private ThreadSlot(Thread thread, int index) {
+      super(thread, TERMINATED_THREADS);
+      this.index = index;
+    }
+  }
+
+  private static final class Entry<T> {
+
+    private final ThreadSlot slot;
+    private final T value;
+
+    private Entry(ThreadSlot slot, T value) {
+      this.slot = slot;
+      this.value = value;
+    }
+  }
+}
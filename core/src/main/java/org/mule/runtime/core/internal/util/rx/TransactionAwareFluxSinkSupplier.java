@@ -6,15 +6,10 @@
  */
 package org.mule.runtime.core.internal.util.rx;
 
-import static java.lang.Thread.currentThread;
 import static org.mule.runtime.core.api.transaction.TransactionCoordination.isTransactionActive;
 
 import java.util.function.Supplier;
 
-import com.github.benmanes.caffeine.cache.Cache;
-import com.github.benmanes.caffeine.cache.Caffeine;
-import com.github.benmanes.caffeine.cache.RemovalCause;
-
 import reactor.core.publisher.FluxSink;
 
 /**
@@ -29,10 +24,7 @@ public class TransactionAwareFluxSinkSupplier<T> implements FluxSinkSupplier<T>
 
   private final Supplier<FluxSink<T>> newSinkFactory;
   private final FluxSinkSupplier<T> delegate;
-  private final Cache<Thread, FluxSink<T>> sinks = Caffeine.newBuilder()
-      .weakKeys()
-      .removalListener((Thread key, FluxSink<T> value, RemovalCause cause) -> value.complete())
-      .build();
+  private final PerThreadSlots<FluxSink<T>> sinks = new PerThreadSlots<>(FluxSink::complete);
 
   public TransactionAwareFluxSinkSupplier(Supplier<FluxSink<T>> sinkFactory, FluxSinkSupplier<T> delegate) {
     this.newSinkFactory = sinkFactory;
@@ -47,7 +39,7 @@ public class TransactionAwareFluxSinkSupplier<T> implements FluxSinkSupplier<T>
     // then process the queued event without having the tx bound (so it will process as if it wasn't a tx in the
     // beginning).
     if (isTransactionActive()) {
-      return sinks.get(currentThread(), t -> newSinkFactory.get());
+      return sinks.get(newSinkFactory);
     } else {
       return delegate.get();
     }
@@ -56,6 +48,6 @@ public class TransactionAwareFluxSinkSupplier<T> implements FluxSinkSupplier<T>
   @Override
   public void dispose() {
     delegate.dispose();
-    sinks.invalidateAll();
+    sinks.clear();
   }
 }
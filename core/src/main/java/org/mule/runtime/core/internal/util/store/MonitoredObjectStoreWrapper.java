@@ -6,11 +6,12 @@
  */
 package org.mule.runtime.core.internal.util.store;
 
+import static java.lang.Integer.getInteger;
 import static java.lang.System.currentTimeMillis;
-import static java.util.Comparator.comparing;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static java.util.stream.Collectors.toMap;
 import static org.mule.runtime.api.store.ObjectStoreManager.BASE_PERSISTENT_OBJECT_STORE_KEY;
+import static org.mule.runtime.core.api.config.MuleProperties.SYSTEM_PROPERTY_PREFIX;
 import static org.mule.runtime.core.api.config.i18n.CoreMessages.propertyHasInvalidValue;
 
 import org.mule.runtime.api.exception.DefaultMuleException;
@@ -24,17 +25,23 @@ import org.mule.runtime.api.store.ObjectStore;
 import org.mule.runtime.api.store.ObjectStoreException;
 import org.mule.runtime.api.store.ObjectStoreSettings;
 import org.mule.runtime.api.store.TemplateObjectStore;
-import org.mule.runtime.api.util.Pair;
 import org.mule.runtime.core.api.MuleContext;
 import org.mule.runtime.core.api.context.MuleContextAware;
 import org.mule.runtime.core.api.util.UUID;
 import org.mule.runtime.core.internal.context.MuleContextWithRegistry;
+import org.mule.runtime.core.internal.store.ExpiryIndex;
+import org.mule.runtime.core.internal.store.KeyCursor;
+import org.mule.runtime.core.internal.store.PagedObjectStore;
+import org.mule.runtime.core.internal.store.PagedObjectStores;
 import org.mule.runtime.core.privileged.store.DeserializationPostInitialisable;
 
 import java.io.Serializable;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.PriorityQueue;
+import java.util.Set;
 import java.util.concurrent.ScheduledFuture;
 
 import org.slf4j.Logger;
@@ -42,17 +49,45 @@ import org.slf4j.LoggerFactory;
 
 /**
  * The MonitoredObjectStoreWrapper wraps an ObjectStore which does not support direct expiry and adds this behavior
+ * <p>
+ * The keys stored through this wrapper are kept in an {@link ExpiryIndex} along with their timestamps, so expiry doesn't need to
+ * retrieve the values from the wrapped store. The index is built from the contents of the wrapped store on the first expiry run,
+ * and again whenever this node becomes the primary polling instance.
+ * <p>
+ * The wrapped store may be shared with other nodes, which keep storing and removing entries while this one is the primary. So,
+ * every {@link #EXPIRY_INDEX_RESYNC_RUNS_PROPERTY} expiry runs, the index is synchronized with the keys of the wrapped store.
+ * Only the values of the keys not yet indexed are retrieved, so for a store only used by this node it just costs listing its
+ * keys.
  */
 public class MonitoredObjectStoreWrapper<T extends Serializable> extends TemplateObjectStore<T>
-    implements Runnable, MuleContextAware, Initialisable, Disposable {
+    implements PagedObjectStore<T>, Runnable, MuleContextAware, Initialisable, Disposable {
 
   private static Logger LOGGER = LoggerFactory.getLogger(MonitoredObjectStoreWrapper.class);
 
+  /**
+   * The maximum number of entries expired from a store, or from a partition of an in memory store, on each expiry run. Any
+   * further expired entries are removed on the following runs.
+   */
+  public static final String EXPIRY_BUDGET_PROPERTY = SYSTEM_PROPERTY_PREFIX + "objectStore.expiryBudget";
+  public static final int EXPIRY_BUDGET = getInteger(EXPIRY_BUDGET_PROPERTY, 10000);
+
+  /**
+   * The number of expiry runs after which the expiry index is synchronized with the keys of the wrapped store, to account for
+   * the entries stored or removed by other nodes.
+   */
+  public static final String EXPIRY_INDEX_RESYNC_RUNS_PROPERTY = SYSTEM_PROPERTY_PREFIX + "objectStore.expiryIndexResyncRuns";
+  static final int EXPIRY_INDEX_RESYNC_RUNS = getInteger(EXPIRY_INDEX_RESYNC_RUNS_PROPERTY, 60);
+
   protected MuleContext context;
   private Scheduler scheduler;
+  private boolean ownsScheduler;
   private ScheduledFuture<?> scheduledTask;
   ObjectStore<StoredObject<T>> baseStore;
 
+  private final ExpiryIndex expiryIndex = new ExpiryIndex();
+  private volatile boolean expiryIndexLoaded = false;
+  private int runsSinceExpiryIndexSync = 0;
+
   /**
    * the maximum number of entries that this store keeps around. Specify <em>-1</em> if the store is supposed to be "unbounded".
    */
@@ -92,6 +127,7 @@ public class MonitoredObjectStoreWrapper<T extends Serializable> extends Templat
   protected void doStore(String key, T value) throws ObjectStoreException {
     Long time = Long.valueOf(System.currentTimeMillis());
     getStore().store(key, new StoredObject<>(value, time, key));
+    expiryIndex.add(key, time);
   }
 
   @Override
@@ -107,11 +143,13 @@ public class MonitoredObjectStoreWrapper<T extends Serializable> extends Templat
   @Override
   public void clear() throws ObjectStoreException {
     this.getStore().clear();
+    expiryIndex.clear();
   }
 
   @Override
   protected T doRemove(String key) throws ObjectStoreException {
     StoredObject<T> object = getStore().remove(key);
+    expiryIndex.remove(key);
     if (object == null) {
       return null;
     } else {
@@ -139,6 +177,18 @@ public class MonitoredObjectStoreWrapper<T extends Serializable> extends Templat
     return getStore().allKeys();
   }
 
+  @Override
+  public KeyCursor openKeyCursor(int pageSize) throws ObjectStoreException {
+    return PagedObjectStores.openKeyCursor(getStore(), pageSize);
+  }
+
+  @Override
+  public Map<String, T> retrieveAll(Collection<String> keys) throws ObjectStoreException {
+    Map<String, T> values = new LinkedHashMap<>();
+    PagedObjectStores.retrieveAll(getStore(), keys).forEach((key, stored) -> values.put(key, stored.getItem()));
+    return values;
+  }
+
   private ObjectStore<StoredObject<T>> getStore() {
     return baseStore;
   }
@@ -152,6 +202,9 @@ public class MonitoredObjectStoreWrapper<T extends Serializable> extends Templat
   public void run() {
     if (context.isPrimaryPollingInstance()) {
       expire();
+    } else {
+      // Other nodes may store entries while this one is not the primary, so those have to be indexed when it becomes the primary
+      expiryIndexLoaded = false;
     }
   }
 
@@ -159,44 +212,70 @@ public class MonitoredObjectStoreWrapper<T extends Serializable> extends Templat
     try {
       LOGGER.debug("Starting expiry on {}...", getStore());
 
-      final long now = currentTimeMillis();
-      List<String> keys = allKeys();
-      int excess = maxEntries != null ? (keys.size() - maxEntries) : 0;
-
-      PriorityQueue<Pair<String, Long>> sortedMaxEntries = null;
-
-      if (excess > 0) {
-        LOGGER.trace("Will expire {} entries from {}", excess, getStore());
-        sortedMaxEntries = new PriorityQueue<>(excess, comparing(Pair::getSecond));
+      if (!expiryIndexLoaded) {
+        loadExpiryIndex();
+        expiryIndexLoaded = true;
+        runsSinceExpiryIndexSync = 0;
+      } else if (++runsSinceExpiryIndexSync >= EXPIRY_INDEX_RESYNC_RUNS) {
+        syncExpiryIndex();
+        runsSinceExpiryIndexSync = 0;
       }
 
-      for (String key : keys) {
-        StoredObject<T> obj = expiryRetrieve(key);
-        if (obj == null) {
-          excess--;
-          continue;
+      int budget = EXPIRY_BUDGET;
+      if (maxEntries != null) {
+        int excess = expiryIndex.size() - maxEntries;
+        if (excess > 0) {
+          LOGGER.trace("Will expire {} entries from {}", excess, getStore());
+          for (String key : expiryIndex.removeOldest(Math.min(excess, budget))) {
+            LOGGER.trace("Expiring entry '{}' from {} due to size excess...", key, getStore());
+            expiryRemove(key);
+            budget--;
+          }
         }
+      }
 
-        if (entryTtl != null && now - obj.getTimestamp() >= entryTtl) {
+      if (entryTtl != null && budget > 0) {
+        for (String key : expiryIndex.removeExpired(currentTimeMillis() - entryTtl, budget)) {
           LOGGER.trace("Expiring entry '{}' from {} due to TTL...", key, getStore());
           expiryRemove(key);
-        } else if (maxEntries != null && excess > 0) {
-          sortedMaxEntries.offer(new Pair<>(obj.getKey(), obj.getTimestamp()));
         }
       }
+    } catch (Exception e) {
+      LOGGER.warn("Running expiry on " + getStore() + " threw " + e.getClass().getName() + ":" + e.getMessage(), e);
+    }
+  }
+
+  /**
+   * Reads the timestamps of all the entries in the wrapped store into the expiry index. This is the only time values are
+   * retrieved from the wrapped store for expiry purposes.
+   */
+  private void loadExpiryIndex() throws ObjectStoreException {
+    for (String key : allKeys()) {
+      StoredObject<T> obj = expiryRetrieve(key);
+      if (obj != null) {
+        expiryIndex.add(key, obj.getTimestamp());
+      }
+    }
+  }
 
-      if (sortedMaxEntries != null) {
-        Pair<String, Long> obj = sortedMaxEntries.poll();
-        while (obj != null && excess > 0) {
-          LOGGER.trace("Expiring entry '{}' from {} due to size excess...", obj.getFirst(), getStore());
-          excess--;
-          expiryRemove(obj.getFirst());
-          obj = sortedMaxEntries.poll();
+  /**
+   * Adds to the expiry index the entries of the wrapped store that were stored by other nodes, and removes from it the ones that
+   * other nodes removed.
+   */
+  private void syncExpiryIndex() throws ObjectStoreException {
+    long syncStart = currentTimeMillis();
+    Set<String> keys = new HashSet<>(allKeys());
+    for (String key : keys) {
+      if (!expiryIndex.contains(key)) {
+        StoredObject<T> obj = expiryRetrieve(key);
+        if (obj != null) {
+          expiryIndex.add(key, obj.getTimestamp());
         }
       }
-    } catch (Exception e) {
-      LOGGER.warn("Running expiry on " + getStore() + " threw " + e.getClass().getName() + ":" + e.getMessage(), e);
     }
+
+    int removed = expiryIndex.retainAll(keys, syncStart);
+    LOGGER.debug("Synchronized expiry index of {}, {} keys no longer in the store", getStore(), removed);
   }
 
   private StoredObject<T> expiryRetrieve(String key) throws ObjectStoreException {
@@ -216,11 +295,23 @@ public class MonitoredObjectStoreWrapper<T extends Serializable> extends Templat
     }
   }
 
+  /**
+   * Sets the scheduler to run the expiry of this store in, shared with other stores. If not set, a scheduler for this store only
+   * is created when it is initialised.
+   *
+   * @param scheduler the scheduler to run the expiry in.
+   */
+  public void setScheduler(Scheduler scheduler) {
+    this.scheduler = scheduler;
+  }
+
   @Override
   public void dispose() {
     if (scheduledTask != null) {
       scheduledTask.cancel(true);
-      scheduler.stop();
+      if (ownsScheduler) {
+        scheduler.stop();
+      }
     }
   }
 
@@ -238,9 +329,12 @@ public class MonitoredObjectStoreWrapper<T extends Serializable> extends Templat
       throw new IllegalArgumentException(propertyHasInvalidValue("expirationInterval", new Long(expirationInterval)).toString());
     }
 
-    if (scheduler == null) {
-      this.scheduler = context.getSchedulerService()
-          .customScheduler(context.getSchedulerBaseConfig().withName(name + "-Monitor").withMaxConcurrentTasks(1));
+    if (scheduledTask == null) {
+      if (scheduler == null) {
+        this.scheduler = context.getSchedulerService()
+            .customScheduler(context.getSchedulerBaseConfig().withName(name + "-Monitor").withMaxConcurrentTasks(1));
+        ownsScheduler = true;
+      }
       scheduledTask = scheduler.scheduleWithFixedDelay(this, 0, expirationInterval, MILLISECONDS);
     }
   }
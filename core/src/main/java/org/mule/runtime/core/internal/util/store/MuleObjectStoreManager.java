@@ -7,9 +7,13 @@
 
 package org.mule.runtime.core.internal.util.store;
 
+import static java.lang.Integer.getInteger;
+import static java.lang.Math.max;
+import static java.lang.Runtime.getRuntime;
 import static java.lang.String.format;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static org.mule.runtime.api.i18n.I18nMessageFactory.createStaticMessage;
+import static org.mule.runtime.core.api.config.MuleProperties.SYSTEM_PROPERTY_PREFIX;
 import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.disposeIfNeeded;
 import static org.slf4j.LoggerFactory.getLogger;
 
@@ -32,6 +36,7 @@ import java.io.Serializable;
 import java.util.NoSuchElementException;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ScheduledFuture;
 
 import javax.inject.Inject;
 
@@ -43,12 +48,22 @@ public class MuleObjectStoreManager implements ObjectStoreManager, Initialisable
   private static Logger LOGGER = getLogger(MuleObjectStoreManager.class);
   public static final int UNBOUNDED = 0;
 
+  /**
+   * The maximum number of stores whose expiry may run at the same time in the scheduler shared by all the stores of this
+   * manager.
+   */
+  public static final String EXPIRY_MAX_CONCURRENT_TASKS_PROPERTY =
+      SYSTEM_PROPERTY_PREFIX + "objectStore.expiryMaxConcurrentTasks";
+  private static final int EXPIRY_MAX_CONCURRENT_TASKS =
+      getInteger(EXPIRY_MAX_CONCURRENT_TASKS_PROPERTY, max(2, getRuntime().availableProcessors()));
+
   private SchedulerService schedulerService;
   private Registry registry;
   private MuleContext muleContext;
 
   private final ConcurrentMap<String, ObjectStore<?>> stores = new ConcurrentHashMap<>();
-  private final ConcurrentMap<String, Scheduler> expirationSchedulers = new ConcurrentHashMap<>();
+  private final ConcurrentMap<String, ScheduledFuture<?>> expirationTasks = new ConcurrentHashMap<>();
+  private Scheduler expirationScheduler;
 
   private String baseTransientStoreKey = BASE_IN_MEMORY_OBJECT_STORE_KEY;
   private String basePersistentStoreKey = BASE_PERSISTENT_OBJECT_STORE_KEY;
@@ -82,10 +97,10 @@ public class MuleObjectStoreManager implements ObjectStoreManager, Initialisable
   public void dispose() {
     LOGGER.debug("Disposing MuleObjectStoreManager: {}", this);
 
-    for (Scheduler scheduler : expirationSchedulers.values()) {
-      scheduler.stop();
+    for (ScheduledFuture<?> task : expirationTasks.values()) {
+      task.cancel(true);
     }
-    expirationSchedulers.clear();
+    expirationTasks.clear();
 
     basePersistentPartition = null;
     baseTransientPartition = null;
@@ -94,6 +109,13 @@ public class MuleObjectStoreManager implements ObjectStoreManager, Initialisable
 
     stores.values().forEach(store -> disposeIfNeeded(store, LOGGER));
     stores.clear();
+
+    synchronized (this) {
+      if (expirationScheduler != null) {
+        expirationScheduler.stop();
+        expirationScheduler = null;
+      }
+    }
   }
 
   @Override
@@ -193,16 +215,14 @@ public class MuleObjectStoreManager implements ObjectStoreManager, Initialisable
                                                                                     T store,
                                                                                     ObjectStoreSettings settings) {
     if (baseStore instanceof PartitionableExpirableObjectStore) {
-      Scheduler scheduler = schedulerService.customScheduler(muleContext.getSchedulerBaseConfig()
-          .withName("ObjectStoreManager-Monitor-" + name).withMaxConcurrentTasks(1));
-
-      scheduler.scheduleWithFixedDelay(new Monitor(name,
-                                                   (PartitionableExpirableObjectStore) baseStore,
-                                                   settings.getEntryTTL().orElse(0L),
-                                                   settings.getMaxEntries().orElse(UNBOUNDED)),
-                                       0,
-                                       settings.getExpirationInterval(), MILLISECONDS);
-      expirationSchedulers.put(name, scheduler);
+      ScheduledFuture<?> task =
+          getExpirationScheduler().scheduleWithFixedDelay(new Monitor(name,
+                                                                      (PartitionableExpirableObjectStore) baseStore,
+                                                                      settings.getEntryTTL().orElse(0L),
+                                                                      settings.getMaxEntries().orElse(UNBOUNDED)),
+                                                          0,
+                                                          settings.getExpirationInterval(), MILLISECONDS);
+      expirationTasks.put(name, task);
       return store;
     } else {
       MonitoredObjectStoreWrapper monObjectStore;
@@ -212,6 +232,7 @@ public class MuleObjectStoreManager implements ObjectStoreManager, Initialisable
       synchronized (this) {
         monObjectStore = new MonitoredObjectStoreWrapper(store, settings);
         monObjectStore.setMuleContext(muleContext);
+        monObjectStore.setScheduler(getExpirationScheduler());
         try {
           monObjectStore.initialise();
         } catch (InitialisationException e) {
@@ -222,6 +243,18 @@ public class MuleObjectStoreManager implements ObjectStoreManager, Initialisable
     }
   }
 
+  /**
+   * The expiry of all the stores runs in the same scheduler, instead of having a thread for each store that is idle most of the
+   * time. The expiry of each store still never overlaps with itself, since it is scheduled with a fixed delay.
+   */
+  private synchronized Scheduler getExpirationScheduler() {
+    if (expirationScheduler == null) {
+      expirationScheduler = schedulerService.customScheduler(muleContext.getSchedulerBaseConfig()
+          .withName("ObjectStoreManager-Monitor").withMaxConcurrentTasks(EXPIRY_MAX_CONCURRENT_TASKS));
+    }
+    return expirationScheduler;
+  }
+
   public void clearStoreCache() {
     stores.clear();
   }
@@ -248,9 +281,9 @@ public class MuleObjectStoreManager implements ObjectStoreManager, Initialisable
         String partitionName = partition.getPartitionName();
         partition.getBaseStore().disposePartition(partitionName);
 
-        Scheduler scheduler = expirationSchedulers.remove(partitionName);
-        if (scheduler != null) {
-          scheduler.stop();
+        ScheduledFuture<?> task = expirationTasks.remove(partitionName);
+        if (task != null) {
+          task.cancel(true);
         }
       } else {
         try {
@@ -299,7 +332,7 @@ public class MuleObjectStoreManager implements ObjectStoreManager, Initialisable
   }
 
   int getMonitorsCount() {
-    return expirationSchedulers.size();
+    return expirationTasks.size();
   }
 
   public void setBasePersistentStoreKey(String basePersistentStoreKey) {
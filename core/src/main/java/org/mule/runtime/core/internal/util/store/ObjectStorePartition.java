@@ -12,14 +12,19 @@ import org.mule.runtime.api.lifecycle.Disposable;
 import org.mule.runtime.api.store.ObjectStoreException;
 import org.mule.runtime.api.store.TemplateObjectStore;
 import org.mule.runtime.api.store.PartitionableObjectStore;
+import org.mule.runtime.core.internal.store.KeyCursor;
+import org.mule.runtime.core.internal.store.PagedObjectStore;
+import org.mule.runtime.core.internal.store.PagedObjectStores;
 
 import java.io.Serializable;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
 import org.slf4j.Logger;
 
-public class ObjectStorePartition<T extends Serializable> extends TemplateObjectStore<T> implements Disposable {
+public class ObjectStorePartition<T extends Serializable> extends TemplateObjectStore<T>
+    implements PagedObjectStore<T>, Disposable {
 
   private static final Logger LOGGER = getLogger(ObjectStorePartition.class);
 
@@ -86,6 +91,16 @@ public class ObjectStorePartition<T extends Serializable> extends TemplateObject
     return partitionedObjectStore.retrieveAll(partitionName);
   }
 
+  @Override
+  public KeyCursor openKeyCursor(int pageSize) throws ObjectStoreException {
+    return PagedObjectStores.openKeyCursor(partitionedObjectStore, pageSize, partitionName);
+  }
+
+  @Override
+  public Map<String, T> retrieveAll(Collection<String> keys) throws ObjectStoreException {
+    return PagedObjectStores.retrieveAll(partitionedObjectStore, keys, partitionName);
+  }
+
   public PartitionableObjectStore<T> getBaseStore() {
     return partitionedObjectStore;
   }
@@ -15,6 +15,7 @@ import static org.mule.runtime.api.i18n.I18nMessageFactory.createStaticMessage;
 import static org.mule.runtime.core.api.config.i18n.CoreMessages.failedToCreate;
 import static org.mule.runtime.core.api.util.FileUtils.cleanDirectory;
 import static org.mule.runtime.core.api.util.FileUtils.newFile;
+import static org.mule.runtime.core.internal.util.compression.BlockCompression.fromSystemProperties;
 import static org.mule.runtime.core.internal.util.store.MuleObjectStoreManager.UNBOUNDED;
 
 import org.mule.runtime.api.exception.MuleRuntimeException;
@@ -27,16 +28,22 @@ import org.mule.runtime.api.store.ObjectStoreNotAvailableException;
 import org.mule.runtime.api.store.TemplateObjectStore;
 import org.mule.runtime.core.api.MuleContext;
 import org.mule.runtime.core.api.util.UUID;
+import org.mule.runtime.core.internal.store.KeyCursor;
+import org.mule.runtime.core.internal.store.PagedObjectStore;
+import org.mule.runtime.core.internal.util.compression.BlockCompression;
+import org.mule.runtime.core.internal.util.compression.CompressionStatistics;
 import org.mule.runtime.core.privileged.store.DeserializationPostInitialisable;
 
 import java.io.BufferedInputStream;
 import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileFilter;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
@@ -44,17 +51,19 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
 
-import org.apache.commons.collections.BidiMap;
-import org.apache.commons.collections.bidimap.TreeBidiMap;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 public class PersistentObjectStorePartition<T extends Serializable> extends TemplateObjectStore<T>
-    implements ExpirableObjectStore<T> {
+    implements ExpirableObjectStore<T>, PagedObjectStore<T> {
 
   private static final String OBJECT_FILE_EXTENSION = ".obj";
   private static final String PARTITION_DESCRIPTOR_FILE = "partition-descriptor";
@@ -64,12 +73,18 @@ public class PersistentObjectStorePartition<T extends Serializable> extends Temp
 
   private final MuleContext muleContext;
   private final ObjectSerializer serializer;
+  private final BlockCompression compression = fromSystemProperties();
 
   private boolean loaded = false;
 
   private File partitionDirectory;
   private String partitionName;
-  private final BidiMap realKeyToUUIDIndex = new TreeBidiMap();
+  /**
+   * Sorted, so {@link KeyCursor}s can resume from the last key they returned even if it was removed since. Guarded by itself,
+   * along with {@link #uuidToRealKeyIndex}.
+   */
+  private final NavigableMap<String, String> realKeyToUUIDIndex = new TreeMap<>();
+  private final Map<String, String> uuidToRealKeyIndex = new HashMap<>();
 
   public PersistentObjectStorePartition(MuleContext muleContext, String partitionName, File partitionDirectory) {
     this.muleContext = muleContext;
@@ -108,6 +123,10 @@ public class PersistentObjectStorePartition<T extends Serializable> extends Temp
 
   @Override
   public void close() throws ObjectStoreException {
+    if (compression.isEnabled() && LOGGER.isDebugEnabled()) {
+      LOGGER.debug(format("Object store partition %s compression: %s", partitionName, compression.getStatistics()));
+    }
+
     synchronized (realKeyToUUIDIndex) {
       try {
         cleanDirectory(this.partitionDirectory);
@@ -117,6 +136,7 @@ public class PersistentObjectStorePartition<T extends Serializable> extends Temp
       }
 
       realKeyToUUIDIndex.clear();
+      uuidToRealKeyIndex.clear();
     }
   }
 
@@ -147,7 +167,7 @@ public class PersistentObjectStorePartition<T extends Serializable> extends Temp
         throw new ObjectAlreadyExistsException();
       }
       File newFile = createFileToStoreObject();
-      realKeyToUUIDIndex.put(key, newFile.getName());
+      index(key, newFile.getName());
       serialize(newFile, new StoreValue<T>(key, value));
     }
   }
@@ -163,6 +183,7 @@ public class PersistentObjectStorePartition<T extends Serializable> extends Temp
       }
 
       realKeyToUUIDIndex.clear();
+      uuidToRealKeyIndex.clear();
     }
   }
 
@@ -184,8 +205,7 @@ public class PersistentObjectStorePartition<T extends Serializable> extends Temp
 
     synchronized (realKeyToUUIDIndex) {
       Map<String, T> values = new LinkedHashMap<>(realKeyToUUIDIndex.size());
-      for (Object k : realKeyToUUIDIndex.keySet()) {
-        String key = (String) k;
+      for (String key : realKeyToUUIDIndex.keySet()) {
         values.put(key, load(key));
       }
 
@@ -193,8 +213,38 @@ public class PersistentObjectStorePartition<T extends Serializable> extends Temp
     }
   }
 
+  @Override
+  public Map<String, T> retrieveAll(Collection<String> keys) throws ObjectStoreException {
+    assureLoaded();
+
+    synchronized (realKeyToUUIDIndex) {
+      Map<String, T> values = new LinkedHashMap<>();
+      for (String key : keys) {
+        if (realKeyToUUIDIndex.containsKey(key)) {
+          values.put(key, load(key));
+        }
+      }
+
+      return values;
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Each page is read from the key index from where the previous one left, so neither the keys nor the values are loaded upfront.
+   */
+  @Override
+  public KeyCursor openKeyCursor(int pageSize) throws ObjectStoreException {
+    assureLoaded();
+
+    synchronized (realKeyToUUIDIndex) {
+      return new PartitionKeyCursor(pageSize, realKeyToUUIDIndex.size());
+    }
+  }
+
   private T load(String key) throws ObjectStoreException {
-    String filename = (String) realKeyToUUIDIndex.get(key);
+    String filename = realKeyToUUIDIndex.get(key);
     File file = getValueFile(filename);
     return deserialize(file).getValue();
   }
@@ -205,7 +255,7 @@ public class PersistentObjectStorePartition<T extends Serializable> extends Temp
 
     synchronized (realKeyToUUIDIndex) {
       T value = retrieve(key);
-      deleteStoreFile(getValueFile((String) realKeyToUUIDIndex.get(key)));
+      deleteStoreFile(getValueFile(realKeyToUUIDIndex.get(key)));
       return value;
     }
   }
@@ -290,7 +340,7 @@ public class PersistentObjectStorePartition<T extends Serializable> extends Temp
         for (File file : files) {
           try {
             StoreValue<T> storeValue = deserialize(file);
-            realKeyToUUIDIndex.put(storeValue.getKey(), file.getName());
+            index(storeValue.getKey().toString(), file.getName());
           } catch (ObjectStoreException e) {
             if (LOGGER.isWarnEnabled()) {
               LOGGER
@@ -313,6 +363,13 @@ public class PersistentObjectStorePartition<T extends Serializable> extends Temp
     return partitionDirectory;
   }
 
+  /**
+   * @return the statistics of the compression of the values of this partition.
+   */
+  public CompressionStatistics getCompressionStatistics() {
+    return compression.getStatistics();
+  }
+
   private File[] listValuesFiles() {
     File[] files =
         partitionDirectory.listFiles((FileFilter) file -> !file.isDirectory() && file.getName().endsWith(OBJECT_FILE_EXTENSION));
@@ -366,6 +423,11 @@ public class PersistentObjectStorePartition<T extends Serializable> extends Temp
   }
 
   protected void serialize(File outputFile, StoreValue<T> storeValue) throws ObjectStoreException {
+    if (compression.isEnabled()) {
+      serializeCompressed(outputFile, storeValue);
+      return;
+    }
+
     try (
         FileOutputStream fileOutputStream = new FileOutputStream(outputFile);
         BufferedOutputStream bufferedOutputStream = new BufferedOutputStream(fileOutputStream);
@@ -377,12 +439,29 @@ public class PersistentObjectStorePartition<T extends Serializable> extends Temp
     }
   }
 
+  private void serializeCompressed(File outputFile, StoreValue<T> storeValue) throws ObjectStoreException {
+    // The whole value is needed to decide whether to compress it
+    final ByteArrayOutputStream serialized = new ByteArrayOutputStream();
+    try (ObjectOutputStream objectOutputStream = new ObjectOutputStream(serialized)) {
+      serializer.getInternalProtocol().serialize(storeValue, objectOutputStream);
+    } catch (Exception se) {
+      throw new ObjectStoreException(se);
+    }
+
+    try (FileOutputStream fileOutputStream = new FileOutputStream(outputFile)) {
+      fileOutputStream.write(compression.compressByteArray(serialized.toByteArray()));
+    } catch (Exception se) {
+      throw new ObjectStoreException(se);
+    }
+  }
+
   @SuppressWarnings("unchecked")
   protected StoreValue<T> deserialize(File file) throws ObjectStoreException {
     try (
         FileInputStream fileInputStream = new FileInputStream(file);
         BufferedInputStream bufferedInputStream = new BufferedInputStream(fileInputStream);
-        ObjectInputStream objectInputStream = new ObjectInputStream(bufferedInputStream)) {
+        InputStream uncompressedInputStream = compression.uncompressInputStream(bufferedInputStream);
+        ObjectInputStream objectInputStream = new ObjectInputStream(uncompressedInputStream)) {
       StoreValue<T> storedValue = serializer.getInternalProtocol().deserialize(objectInputStream);
       if (storedValue.getValue() instanceof DeserializationPostInitialisable) {
         DeserializationPostInitialisable.Implementation.init(storedValue.getValue(), muleContext);
@@ -398,12 +477,28 @@ public class PersistentObjectStorePartition<T extends Serializable> extends Temp
       if (!file.delete()) {
         throw new ObjectStoreException(createStaticMessage("Deleting " + file.getAbsolutePath() + " failed"));
       }
-      realKeyToUUIDIndex.removeValue(file.getName());
+      String key = uuidToRealKeyIndex.remove(file.getName());
+      if (key != null) {
+        realKeyToUUIDIndex.remove(key);
+      }
     } else {
       throw new ObjectDoesNotExistException();
     }
   }
 
+  private void index(String key, String filename) {
+    // Keep both maps in sync when a key or file is indexed again, as when the same key is found in more than one file on load.
+    // Otherwise, deleting the file no longer indexed would remove the key from the index.
+    String previousFilename = realKeyToUUIDIndex.put(key, filename);
+    if (previousFilename != null && !previousFilename.equals(filename)) {
+      uuidToRealKeyIndex.remove(previousFilename);
+    }
+    String previousKey = uuidToRealKeyIndex.put(filename, key);
+    if (previousKey != null && !previousKey.equals(key)) {
+      realKeyToUUIDIndex.remove(previousKey, filename);
+    }
+  }
+
   private int trimToMaxSize(File[] files, int maxEntries) throws ObjectStoreException {
     if (maxEntries == UNBOUNDED) {
       return 0;
@@ -423,6 +518,43 @@ public class PersistentObjectStorePartition<T extends Serializable> extends Temp
     return partitionName;
   }
 
+  private class PartitionKeyCursor implements KeyCursor {
+
+    private final int pageSize;
+    private final int size;
+    private String lastKey;
+
+    private PartitionKeyCursor(int pageSize, int size) {
+      this.pageSize = pageSize;
+      this.size = size;
+    }
+
+    @Override
+    public List<String> nextPage() {
+      synchronized (realKeyToUUIDIndex) {
+        NavigableMap<String, String> remaining =
+            lastKey == null ? realKeyToUUIDIndex : realKeyToUUIDIndex.tailMap(lastKey, false);
+        List<String> page = new ArrayList<>();
+        for (String key : remaining.keySet()) {
+          if (page.size() == pageSize) {
+            break;
+          }
+          page.add(key);
+        }
+
+        if (!page.isEmpty()) {
+          lastKey = page.get(page.size() - 1);
+        }
+        return page;
+      }
+    }
+
+    @Override
+    public int getSize() {
+      return size;
+    }
+  }
+
   public static class StoreValue<T> implements Serializable {
 
     private Serializable key;
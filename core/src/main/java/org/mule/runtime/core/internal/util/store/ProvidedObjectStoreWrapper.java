@@ -10,8 +10,12 @@ import org.mule.runtime.api.lifecycle.Disposable;
 import org.mule.runtime.api.store.ObjectStore;
 import org.mule.runtime.api.store.ObjectStoreException;
 import org.mule.runtime.api.store.TemplateObjectStore;
+import org.mule.runtime.core.internal.store.KeyCursor;
+import org.mule.runtime.core.internal.store.PagedObjectStore;
+import org.mule.runtime.core.internal.store.PagedObjectStores;
 
 import java.io.Serializable;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Supplier;
@@ -23,7 +27,8 @@ import java.util.function.Supplier;
  * In the case the factory is used and a fresh object store is created, its lifecycle management will be delegated by this
  * wrapper.
  */
-public class ProvidedObjectStoreWrapper<T extends Serializable> extends TemplateObjectStore<T> implements Disposable {
+public class ProvidedObjectStoreWrapper<T extends Serializable> extends TemplateObjectStore<T>
+    implements PagedObjectStore<T>, Disposable {
 
   private ObjectStore<T> wrapped;
   private final boolean provided;
@@ -102,6 +107,16 @@ public class ProvidedObjectStoreWrapper<T extends Serializable> extends Template
     return getWrapped().retrieveAll();
   }
 
+  @Override
+  public KeyCursor openKeyCursor(int pageSize) throws ObjectStoreException {
+    return PagedObjectStores.openKeyCursor(getWrapped(), pageSize);
+  }
+
+  @Override
+  public Map<String, T> retrieveAll(Collection<String> keys) throws ObjectStoreException {
+    return PagedObjectStores.retrieveAll(getWrapped(), keys);
+  }
+
   protected ObjectStore<T> getWrapped() {
     return wrapped;
   }
@@ -8,9 +8,13 @@ package org.mule.runtime.core.internal.util.store;
 
 import org.mule.runtime.api.store.ObjectStoreException;
 import org.mule.runtime.core.internal.store.AbstractPartitionableObjectStore;
+import org.mule.runtime.core.internal.store.KeyCursor;
+import org.mule.runtime.core.internal.store.PagedObjectStores;
+import org.mule.runtime.core.internal.store.PagedPartitionableObjectStore;
 import org.mule.runtime.api.store.PartitionableObjectStore;
 
 import java.io.Serializable;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Supplier;
@@ -22,7 +26,8 @@ import java.util.function.Supplier;
  * In the case the factory is used and a fresh object store is created, its lifecycle management will be delegated by this
  * wrapper.
  */
-public class ProvidedPartitionableObjectStoreWrapper<T extends Serializable> extends AbstractPartitionableObjectStore<T> {
+public class ProvidedPartitionableObjectStoreWrapper<T extends Serializable> extends AbstractPartitionableObjectStore<T>
+    implements PagedPartitionableObjectStore<T> {
 
   private PartitionableObjectStore<T> wrapped;
 
@@ -93,6 +98,16 @@ public class ProvidedPartitionableObjectStoreWrapper<T extends Serializable> ext
     return wrapped.retrieveAll(partitionName);
   }
 
+  @Override
+  public KeyCursor openKeyCursor(int pageSize, String partitionName) throws ObjectStoreException {
+    return PagedObjectStores.openKeyCursor(wrapped, pageSize, partitionName);
+  }
+
+  @Override
+  public Map<String, T> retrieveAll(Collection<String> keys, String partitionName) throws ObjectStoreException {
+    return PagedObjectStores.retrieveAll(wrapped, keys, partitionName);
+  }
+
   @Override
   public List<String> allPartitions() throws ObjectStoreException {
     return wrapped.allPartitions();
@@ -6,11 +6,13 @@
  */
 package org.mule.runtime.core.privileged.processor;
 
+import static java.lang.Boolean.getBoolean;
 import static java.lang.Thread.currentThread;
 import static java.util.Arrays.asList;
 import static java.util.Optional.empty;
 import static org.mule.runtime.api.functional.Either.left;
 import static org.mule.runtime.api.functional.Either.right;
+import static org.mule.runtime.api.util.MuleSystemProperties.SYSTEM_PROPERTY_PREFIX;
 import static org.mule.runtime.core.api.rx.Exceptions.propagateWrappingFatal;
 import static org.mule.runtime.core.api.rx.Exceptions.rxExceptionToMuleException;
 import static org.mule.runtime.core.api.rx.Exceptions.unwrap;
@@ -42,6 +44,7 @@ import org.mule.runtime.core.internal.context.notification.DefaultFlowCallStack;
 import org.mule.runtime.core.internal.event.EventContextDeepNestingException;
 import org.mule.runtime.core.internal.exception.MessagingException;
 import org.mule.runtime.core.internal.processor.strategy.TransactionAwareProactorStreamEmitterProcessingStrategyFactory;
+import org.mule.runtime.core.internal.processor.strategy.VirtualThreadProactorStreamEmitterProcessingStrategyFactory;
 import org.mule.runtime.core.internal.rx.FluxSinkRecorder;
 import org.mule.runtime.core.internal.rx.FluxSinkRecorderToReactorSinkAdapter;
 import org.mule.runtime.core.internal.rx.MonoSinkRecorder;
@@ -75,6 +78,15 @@ public class MessageProcessors {
   protected static final String WITHIN_PROCESS_WITH_CHILD_CONTEXT = "messageProcessors.withinProcessWithChildContext";
   private static final Logger LOGGER = LoggerFactory.getLogger(MessageProcessors.class);
 
+  /**
+   * When {@code true}, the default processing strategy runs blocking processors on virtual threads if the JVM supports them.
+   *
+   * @since 4.4
+   */
+  public static final String VIRTUAL_THREADS_BLOCKING_PROPERTY = SYSTEM_PROPERTY_PREFIX + "processingStrategy.virtualThreads";
+
+  private static final boolean VIRTUAL_THREADS_BLOCKING = getBoolean(VIRTUAL_THREADS_BLOCKING_PROPERTY);
+
   private MessageProcessors() {
     // do not instantiate
   }
@@ -680,6 +692,9 @@ public class MessageProcessors {
   }
 
   public static ProcessingStrategyFactory createDefaultProcessingStrategyFactory() {
+    if (VIRTUAL_THREADS_BLOCKING) {
+      return new VirtualThreadProactorStreamEmitterProcessingStrategyFactory();
+    }
     return new TransactionAwareProactorStreamEmitterProcessingStrategyFactory();
   }
 
@@ -6,6 +6,7 @@
  */
 package org.mule.runtime.core.privileged.processor.chain;
 
+import static java.lang.Boolean.getBoolean;
 import static java.lang.String.format;
 import static java.lang.Thread.currentThread;
 import static java.util.stream.Collectors.toList;
@@ -15,11 +16,13 @@ import static org.mule.runtime.api.functional.Either.right;
 import static org.mule.runtime.api.notification.MessageProcessorNotification.MESSAGE_PROCESSOR_POST_INVOKE;
 import static org.mule.runtime.api.notification.MessageProcessorNotification.MESSAGE_PROCESSOR_PRE_INVOKE;
 import static org.mule.runtime.api.notification.MessageProcessorNotification.createFrom;
+import static org.mule.runtime.core.api.config.MuleProperties.SYSTEM_PROPERTY_PREFIX;
 import static org.mule.runtime.core.api.config.i18n.CoreMessages.isStopped;
 import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.disposeIfNeeded;
 import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.initialiseIfNeeded;
 import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.setMuleContextIfNeeded;
 import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.stopIfNeeded;
+import static org.mule.runtime.core.api.processor.ReactiveProcessor.ProcessingType.CPU_LITE;
 import static org.mule.runtime.core.api.rx.Exceptions.propagateWrappingFatal;
 import static org.mule.runtime.core.api.rx.Exceptions.unwrap;
 import static org.mule.runtime.core.api.util.StreamingUtils.updateEventForStreaming;
@@ -46,6 +49,7 @@ import org.mule.runtime.api.functional.Either;
 import org.mule.runtime.api.lifecycle.InitialisationException;
 import org.mule.runtime.api.lifecycle.LifecycleException;
 import org.mule.runtime.api.lifecycle.Startable;
+import org.mule.runtime.api.notification.MessageProcessorNotification;
 import org.mule.runtime.core.api.MuleContext;
 import org.mule.runtime.core.api.context.notification.MuleContextListener;
 import org.mule.runtime.core.api.context.notification.ServerNotificationHandler;
@@ -55,6 +59,7 @@ import org.mule.runtime.core.api.exception.FlowExceptionHandler;
 import org.mule.runtime.core.api.execution.ExceptionContextProvider;
 import org.mule.runtime.core.api.processor.Processor;
 import org.mule.runtime.core.api.processor.ReactiveProcessor;
+import org.mule.runtime.core.api.processor.ReactiveProcessor.ProcessingType;
 import org.mule.runtime.core.api.processor.strategy.ProcessingStrategy;
 import org.mule.runtime.core.api.streaming.StreamingManager;
 import org.mule.runtime.core.internal.context.DefaultMuleContext;
@@ -80,6 +85,7 @@ import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
@@ -106,6 +112,9 @@ abstract class AbstractMessageProcessorChain extends AbstractExecutableComponent
   private static final String UNEXPECTED_ERROR_HANDLER_STATE_MESSAGE =
       "Unexpected state. Error handler should be invoked with either an Event instance or a MessagingException";
 
+  private static final boolean PROCESSOR_FUSION_DISABLED = getBoolean(SYSTEM_PROPERTY_PREFIX + "processorChain.disableFusion");
+  private static final int MIN_FUSED_RUN_LENGTH = 2;
+
   private static Class<ClassLoader> appClClass;
 
   private static final Logger LOGGER = getLogger(AbstractMessageProcessorChain.class);
@@ -223,7 +232,19 @@ abstract class AbstractMessageProcessorChain extends AbstractExecutableComponent
                                        List<ReactiveInterceptor> interceptors,
                                        BiConsumer<BaseEventContext, ? super Exception> errorBubbler) {
     Flux<CoreEvent> stream = from(publisher);
-    for (Processor processor : getProcessorsToExecute()) {
+    final List<Processor> processorsToExecute = new ArrayList<>(getProcessorsToExecute());
+    final boolean fusionEnabled = isFusionEnabled();
+    int index = 0;
+    while (index < processorsToExecute.size()) {
+      final int runEnd = fusionEnabled ? findFusableRunEnd(processorsToExecute, index) : index;
+      if (runEnd - index >= MIN_FUSED_RUN_LENGTH) {
+        // Consecutive simple processors are executed in a plain loop within a single operator.
+        stream = stream.transform(fuse(processorsToExecute.subList(index, runEnd), errorBubbler));
+        index = runEnd;
+        continue;
+      }
+
+      final Processor processor = processorsToExecute.get(index++);
       // Perform assembly for processor chain by transforming the existing publisher with a publisher function for each processor
       // along with the interceptors that decorate it.
       stream = stream.transform(applyInterceptors(interceptors, processor))
@@ -251,6 +272,131 @@ abstract class AbstractMessageProcessorChain extends AbstractExecutableComponent
     return stream;
   }
 
+  /**
+   * Processors can be fused when there is nothing that has to be done around each one of them other than what {@link #fuse} does:
+   * no processor interceptors are registered and no thread logging is done.
+   */
+  private boolean isFusionEnabled() {
+    return !PROCESSOR_FUSION_DISABLED
+        && additionalInterceptors.isEmpty()
+        && !muleContext.getConfiguration().isThreadLoggingEnabled();
+  }
+
+  /**
+   * @return the index after the last processor of the run of fusable processors starting at {@code from}.
+   */
+  private static int findFusableRunEnd(List<Processor> processors, int from) {
+    int end = from;
+    while (end < processors.size() && isFusable(processors.get(end))) {
+      ++end;
+    }
+    return end;
+  }
+
+  /**
+   * A processor is fusable if it is {@link ProcessingType#CPU_LITE} and relies on the default {@link Processor#apply(Publisher)},
+   * meaning that it is just a blocking call to {@link Processor#process(CoreEvent)} that doesn't use the reactor context. The
+   * processing strategies don't change the thread for such processors, so a run of them may be executed in a single operator.
+   */
+  private static boolean isFusable(Processor processor) {
+    if (processor.getProcessingType() != CPU_LITE) {
+      return false;
+    }
+
+    try {
+      return processor.getClass().getMethod("apply", Publisher.class).getDeclaringClass() == Processor.class;
+    } catch (NoSuchMethodException e) {
+      return false;
+    }
+  }
+
+  /**
+   * Builds a single operator that calls the given processors one after the other for each event, doing for each of them what the
+   * interceptors from {@link #resolveInterceptors()} and the error handling from {@link #doApply} would do. The TCCL switch and
+   * the processing strategy are applied once for the whole run.
+   */
+  private ReactiveProcessor fuse(List<Processor> run, BiConsumer<BaseEventContext, ? super Exception> errorBubbler) {
+    final int size = run.size();
+    final Processor[] fusedProcessors = run.toArray(new Processor[size]);
+    final String[] processorPaths = new String[size];
+    final BiFunction<Throwable, Object, Throwable>[] errorHooks = new BiFunction[size];
+    final BiConsumer<Throwable, Object>[] errorHandlers = new BiConsumer[size];
+    for (int i = 0; i < size; ++i) {
+      final Processor processor = fusedProcessors[i];
+      processorPaths[i] = resolveProcessorPath(processor);
+      errorHooks[i] = getLocalOperatorErrorHook(processor, errorTypeLocator, exceptionContextProviders);
+      errorHandlers[i] = getContinueStrategyErrorHandler(processor, errorBubbler);
+    }
+
+    final ReactiveProcessor fused = stream -> from(stream).handle((event, sink) -> {
+      CoreEvent current = event;
+      for (int i = 0; i < size; ++i) {
+        try {
+          current = processFused(current, fusedProcessors[i], processorPaths[i]);
+        } catch (Throwable t) {
+          final Throwable resolved = errorHooks[i].apply(t, current);
+          if (resolved instanceof LifecycleException) {
+            sink.error(resolved);
+          } else {
+            errorHandlers[i].accept(resolved, current);
+          }
+          return;
+        }
+
+        if (current == null) {
+          // Same as the default Processor#apply, the event is dropped
+          return;
+        }
+      }
+      sink.next(current);
+    });
+
+    final ReactiveProcessor withTccl = stream -> from(stream)
+        .transform(doOnNextOrErrorWithContext(TCCL_REACTOR_CTX_CONSUMER)
+            .andThen(fused)
+            .andThen(doOnNextOrErrorWithContext(TCCL_ORIGINAL_REACTOR_CTX_CONSUMER)));
+
+    return processingStrategy != null
+        ? processingStrategy.onProcessor(new InterceptedReactiveProcessor(fused, withTccl, null))
+        : withTccl;
+  }
+
+  private CoreEvent processFused(CoreEvent event, Processor processor, String processorPath) throws MuleException {
+    if (!canProcessMessage) {
+      throw new MessagingException(event, new LifecycleException(isStopped(name), event.getMessage()));
+    }
+    if (processorPath != null) {
+      MDC.put("processorPath", processorPath);
+    }
+    try {
+      preNotification(event, processor);
+      currentMuleContext.set(muleContext);
+      setCurrentEvent((PrivilegedEvent) event);
+
+      final CoreEvent result = processor.process(event);
+      if (result == null) {
+        return null;
+      }
+
+      postNotification(processor).accept(result);
+      setCurrentEvent((PrivilegedEvent) result);
+      // If the processor returns a CursorProvider, then have the StreamingManager manage it
+      return updateEventForStreaming(streamingManager).apply(result);
+    } finally {
+      if (processorPath != null) {
+        MDC.remove("processorPath");
+      }
+    }
+  }
+
+  private static String resolveProcessorPath(ReactiveProcessor processor) {
+    if (processor instanceof Component && ((Component) processor).getLocation() != null) {
+      return ((Component) processor).getLocation().getLocation();
+    } else {
+      return null;
+    }
+  }
+
   /*
    * Used to process failed events which are dropped from the reactor stream due to error. Errors are processed by invoking the
    * current EventContext error callback.
@@ -353,12 +499,7 @@ abstract class AbstractMessageProcessorChain extends AbstractExecutableComponent
 
     // #4 Wrap execution, before processing strategy, on flow thread.
     interceptors.add((processor, next) -> {
-      String processorPath;
-      if (processor instanceof Component && ((Component) processor).getLocation() != null) {
-        processorPath = ((Component) processor).getLocation().getLocation();
-      } else {
-        processorPath = null;
-      }
+      String processorPath = resolveProcessorPath(processor);
 
       return stream -> from(stream)
           .doOnNext(event -> {
@@ -450,14 +591,14 @@ abstract class AbstractMessageProcessorChain extends AbstractExecutableComponent
   }
 
   private void preNotification(CoreEvent event, Processor processor) {
-    if (((PrivilegedEvent) event).isNotificationsEnabled()) {
+    if (isMessageProcessorNotificationEnabled(event)) {
       fireNotification(event, processor, null, MESSAGE_PROCESSOR_PRE_INVOKE);
     }
   }
 
   private Consumer<CoreEvent> postNotification(Processor processor) {
     return event -> {
-      if (((PrivilegedEvent) event).isNotificationsEnabled()) {
+      if (isMessageProcessorNotificationEnabled(event)) {
         fireNotification(event, processor, null, MESSAGE_PROCESSOR_POST_INVOKE);
 
       }
@@ -467,13 +608,19 @@ abstract class AbstractMessageProcessorChain extends AbstractExecutableComponent
   private Consumer<Exception> errorNotification(Processor processor) {
     return exception -> {
       if (exception instanceof MessagingException
-          && ((PrivilegedEvent) ((MessagingException) exception).getEvent()).isNotificationsEnabled()) {
+          && isMessageProcessorNotificationEnabled(((MessagingException) exception).getEvent())) {
         fireNotification(((MessagingException) exception).getEvent(), processor, (MessagingException) exception,
                          MESSAGE_PROCESSOR_POST_INVOKE);
       }
     };
   }
 
+  private boolean isMessageProcessorNotificationEnabled(CoreEvent event) {
+    return ((PrivilegedEvent) event).isNotificationsEnabled()
+        && serverNotificationHandler != null
+        && serverNotificationHandler.isNotificationEnabled(MessageProcessorNotification.class);
+  }
+
   private void fireNotification(CoreEvent event, Processor processor,
                                 MessagingException exceptionThrown, int action) {
     if (serverNotificationHandler != null) {
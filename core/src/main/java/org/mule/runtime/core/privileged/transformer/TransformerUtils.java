@@ -10,6 +10,7 @@ import static java.lang.String.format;
 import static org.apache.commons.lang3.StringUtils.capitalize;
 import static org.mule.runtime.core.api.config.i18n.CoreMessages.objectNotRegistered;
 import static org.mule.runtime.core.api.config.i18n.CoreMessages.transformUnexpectedType;
+import static org.mule.runtime.core.internal.metadata.DataTypeInternTable.fromType;
 
 import org.mule.runtime.api.exception.DefaultMuleException;
 import org.mule.runtime.api.exception.MuleException;
@@ -132,7 +133,7 @@ public class TransformerUtils {
   }
 
   public static <T> Object transformToAny(T input, MuleContext muleContext, DataType... supportedTypes) {
-    final DataType sourceType = DataType.fromType(input.getClass());
+    final DataType sourceType = fromType(input.getClass());
     Object transformedData = null;
 
     for (DataType supportedType : supportedTypes) {
@@ -6,6 +6,7 @@
  */
 package org.mule.runtime.core.privileged.util;
 
+import static com.github.benmanes.caffeine.cache.Caffeine.newBuilder;
 import static java.lang.String.format;
 import static org.mule.runtime.api.util.collection.SmallMap.forSize;
 import static org.mule.runtime.api.util.collection.SmallMap.of;
@@ -15,6 +16,8 @@ import org.mule.runtime.api.util.collection.SmallMap;
 import org.mule.runtime.core.api.util.CaseInsensitiveHashMap;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Stack;
@@ -24,6 +27,8 @@ import java.util.regex.Pattern;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.github.benmanes.caffeine.cache.Cache;
+
 /**
  * <code>TemplateParser</code> is a simple string parser that will substitute tokens in a string with values supplied in a Map.
  */
@@ -42,6 +47,7 @@ public final class TemplateParser {
   private static final String QUOTATION_NOT_CLOSED_ERROR_MSG =
       "\tQuotation (%c) at line %d, column %d is not closed. Remember to use backslash (\\) if you are trying to use that character as a literal";
   private static final String PARSING_TEMPLATE_ERROR = "Error while parsing template:\n";
+  private static final int COMPILED_TEMPLATES_CACHE_SIZE = 4096;
 
   private static final Map<String, PatternInfo> patterns = of(
                                                               ANT_TEMPLATE_STYLE,
@@ -62,6 +68,15 @@ public final class TemplateParser {
                                                               new PatternInfo(WIGGLY_MULE_TEMPLATE_STYLE,
                                                                               "#\\[((?:#?\\[(?:#?\\[(?:#?\\[(?:#?\\[(?:#?\\[.*?\\]|[^\\[\\]])*?\\]|[^\\[\\]])*?\\]|[^\\[\\]])*?\\]|[^\\[\\]])*?\\]|[^\\[\\]])*?)\\]",
                                                                               "#[", "]"));
+  // Templates are compiled once for each style, regardless of how many parsers of that style are created
+  private static final Map<String, Cache<String, CompiledTemplate>> compiledTemplatesByStyle = new HashMap<>();
+
+  static {
+    for (String styleName : patterns.keySet()) {
+      compiledTemplatesByStyle.put(styleName, newBuilder().maximumSize(COMPILED_TEMPLATES_CACHE_SIZE).build());
+    }
+  }
+
   /**
    * logger used by this class
    */
@@ -71,6 +86,7 @@ public final class TemplateParser {
   private final int pre;
   private final int post;
   private final PatternInfo style;
+  private final Cache<String, CompiledTemplate> compiledTemplates;
 
 
   public static TemplateParser createAntStyleParser() {
@@ -94,6 +110,7 @@ public final class TemplateParser {
     pattern = style.getPattern();
     pre = style.getPrefix().length();
     post = style.getSuffix().length();
+    compiledTemplates = compiledTemplatesByStyle.get(styleName);
   }
 
   /**
@@ -120,7 +137,37 @@ public final class TemplateParser {
     return parse(null, template, callback);
   }
 
-  private String parseMule(Map<?, ?> props, String template, TemplateCallback callback, boolean insideExpression) {
+  private String renderMule(CompiledTemplate compiled, Map<?, ?> props, TemplateCallback callback) {
+    if (compiled.placeholders == 0 && compiled.segments.length == 1) {
+      return compiled.segments[0].text;
+    }
+
+    StringBuilder result = new StringBuilder();
+    for (TemplateSegment segment : compiled.segments) {
+      if (!segment.placeholder || callback == null) {
+        result.append(segment.text);
+        continue;
+      }
+
+      Object value = callback.match(segment.text);
+      if (value == null) {
+        result.append(NULL_AS_STRING);
+      } else {
+        // The value is evaluated itself, but it is not compiled through the cache since it is not part of the template
+        CompiledTemplate valueTemplate =
+            compileMule(escapeValue(segment.text, value.toString()), value.equals(segment.text));
+        result.append(renderMule(valueTemplate, props, callback));
+      }
+    }
+
+    return result.toString();
+  }
+
+  /**
+   * Splits a template of the mule style into its literal parts and its top level expressions, applying the escaping rules to the
+   * literal parts. Nested expressions are kept as part of the text of the expression that contains them.
+   */
+  private CompiledTemplate compileMule(String template, boolean insideExpression) {
     validateBalanceMuleStyle(template);
 
     boolean lastIsBackSlash = false;
@@ -128,6 +175,7 @@ public final class TemplateParser {
     boolean inExpression = insideExpression;
     boolean openSingleQuotes = false;
 
+    CompiledTemplateBuilder builder = new CompiledTemplateBuilder(style.getPrefix());
     StringBuilder result = new StringBuilder();
     int currentPosition = 0;
     while (currentPosition < template.length()) {
@@ -155,18 +203,9 @@ public final class TemplateParser {
 
       if (c == OPEN_EXPRESSION && lastStartedExpression && (!insideExpression || !openSingleQuotes)) {
         int closing = closingBracesPosition(template, currentPosition);
-        String enclosingTemplate = template.substring(currentPosition + 1, closing);
-
-        Object value = enclosingTemplate;
-        if (callback != null) {
-          value = callback.match(enclosingTemplate);
-          if (value == null) {
-            value = NULL_AS_STRING;
-          } else {
-            value = parseMule(props, escapeValue(enclosingTemplate, value.toString()), callback, value.equals(enclosingTemplate));
-          }
-        }
-        result.append(value);
+        builder.literal(result.toString());
+        builder.placeholder(template.substring(currentPosition + 1, closing), null);
+        result.setLength(0);
 
         currentPosition = closing;
       } else if ((c != START_EXPRESSION || lastIsBackSlash) && c != '\\') {
@@ -178,7 +217,8 @@ public final class TemplateParser {
       currentPosition++;
     }
 
-    return result.toString();
+    builder.literal(result.toString());
+    return builder.build();
   }
 
   private int closingBracesPosition(String template, int startingPosition) {
@@ -215,22 +255,26 @@ public final class TemplateParser {
 
   protected String parse(Map<?, ?> props, String template, TemplateCallback callback) {
     if (styleIs(WIGGLY_MULE_TEMPLATE_STYLE)) {
-      return parseMule(props, template, callback, false);
+      return renderMule(compiledTemplates.get(template, t -> compileMule(t, false)), props, callback);
     }
-    String result = template;
+
+    CompiledTemplate compiled = compiledTemplates.get(template, this::compile);
+    if (compiled.placeholders == 0 || (props == null && callback == null)) {
+      return template;
+    }
+
     Map<?, ?> newProps = props;
     if (props != null && !(props instanceof CaseInsensitiveHashMap)) {
       newProps = new CaseInsensitiveHashMap(props);
     }
 
-    Matcher m = pattern.matcher(result);
-
-    while (m.find()) {
+    // Each distinct placeholder is resolved once, in the order it first appears in the template
+    String[] values = new String[compiled.distinctPlaceholders.length];
+    boolean valuesContainPrefix = false;
+    for (int i = 0; i < values.length; ++i) {
+      String propname = compiled.distinctPlaceholders[i].name;
       Object value = null;
 
-      String match = m.group();
-      String propname = match.substring(pre, match.length() - post);
-
       if (callback != null) {
         value = callback.match(propname);
         if (value == null) {
@@ -245,17 +289,64 @@ public final class TemplateParser {
           logger.debug("Value " + propname + " not found in context");
         }
       } else {
-        String matchRegex = Pattern.quote(match);
-        String valueString = value.toString();
-        valueString = replaceBackSlash(valueString);
-        valueString = replaceDollarSign(valueString);
+        values[i] = value.toString();
+        valuesContainPrefix = valuesContainPrefix || containsAnyPrefixChar(values[i]);
+      }
+    }
+
+    if (compiled.literalsContainPrefix || valuesContainPrefix) {
+      return replaceSequentially(template, compiled, values);
+    }
+
+    StringBuilder result = new StringBuilder(template.length());
+    for (TemplateSegment segment : compiled.segments) {
+      String value = segment.placeholder ? values[segment.distinctIndex] : null;
+      result.append(value != null ? value : segment.text);
+    }
+    return result.toString();
+  }
 
-        result = result.replaceAll(matchRegex, valueString);
+  /**
+   * Replaces each placeholder with its value across the whole partial result, one after the other. This is how templates were
+   * always resolved, and it differs from a single pass over the template only when the text resulting from a replacement forms
+   * another placeholder, which may happen when the literals or the values contain the prefix of the style.
+   */
+  private String replaceSequentially(String template, CompiledTemplate compiled, String[] values) {
+    String result = template;
+    for (TemplateSegment segment : compiled.segments) {
+      if (segment.placeholder && values[segment.distinctIndex] != null) {
+        result = result.replace(segment.text, values[segment.distinctIndex]);
       }
     }
     return result;
   }
 
+  private CompiledTemplate compile(String template) {
+    CompiledTemplateBuilder builder = new CompiledTemplateBuilder(style.getPrefix());
+    Matcher m = pattern.matcher(template);
+    int lastMatchEnd = 0;
+    while (m.find()) {
+      builder.literal(template.substring(lastMatchEnd, m.start()));
+
+      String match = m.group();
+      builder.placeholder(match, match.substring(pre, match.length() - post));
+      lastMatchEnd = m.end();
+    }
+    builder.literal(template.substring(lastMatchEnd));
+
+    return builder.build();
+  }
+
+  private boolean containsAnyPrefixChar(String value) {
+    String prefix = style.getPrefix();
+    for (int i = 0; i < prefix.length(); ++i) {
+      if (value.indexOf(prefix.charAt(i)) != -1) {
+        return true;
+      }
+    }
+    return false;
+  }
+
   private boolean styleIs(String style) {
     return this.getStyle().getName().equals(style);
   }
@@ -341,21 +432,6 @@ public final class TemplateParser {
     throw new IllegalArgumentException(errorMsg);
   }
 
-  private String replaceDollarSign(String valueString) {
-    if (valueString.indexOf('$') != -1) {
-      valueString = valueString.replace("$", "\\$");
-    }
-    return valueString;
-  }
-
-  private String replaceBackSlash(String valueString) {
-
-    if (valueString.indexOf("\\") != -1) {
-      valueString = valueString.replace("\\", "\\\\");
-    }
-    return valueString;
-  }
-
   /**
    * Matches one or more templates against a Map of key value pairs. If a value for a template is not found in the map the
    * template is left as is in the return String
@@ -428,6 +504,77 @@ public final class TemplateParser {
     style.validate(expression);
   }
 
+  /**
+   * A template split into its literal parts and its placeholders, so it can be resolved without scanning it again.
+   */
+  private static final class CompiledTemplate {
+
+    private final TemplateSegment[] segments;
+    private final TemplateSegment[] distinctPlaceholders;
+    private final int placeholders;
+    private final boolean literalsContainPrefix;
+
+    private CompiledTemplate(TemplateSegment[] segments, TemplateSegment[] distinctPlaceholders, int placeholders,
+                             boolean literalsContainPrefix) {
+      this.segments = segments;
+      this.distinctPlaceholders = distinctPlaceholders;
+      this.placeholders = placeholders;
+      this.literalsContainPrefix = literalsContainPrefix;
+    }
+  }
+
+  private static final class TemplateSegment {
+
+    private final String text;
+    private final boolean placeholder;
+    private final String name;
+    private final int distinctIndex;
+
+    private TemplateSegment(String text, boolean placeholder, String name, int distinctIndex) {
+      this.text = text;
+      this.placeholder = placeholder;
+      this.name = name;
+      this.distinctIndex = distinctIndex;
+    }
+  }
+
+  private static final class CompiledTemplateBuilder {
+
+    private final String prefix;
+    private final List<TemplateSegment> segments = new ArrayList<>();
+    private final Map<String, TemplateSegment> distinctPlaceholders = new LinkedHashMap<>();
+    private int placeholders = 0;
+    private boolean literalsContainPrefix = false;
+
+    private CompiledTemplateBuilder(String prefix) {
+      this.prefix = prefix;
+    }
+
+    private void literal(String text) {
+      if (!text.isEmpty()) {
+        segments.add(new TemplateSegment(text, false, null, -1));
+        literalsContainPrefix = literalsContainPrefix || text.contains(prefix);
+      }
+    }
+
+    /**
+     * @param text the text of the placeholder, as it appears in the template
+     * @param name the name to resolve the value of the placeholder with
+     */
+    private void placeholder(String text, String name) {
+      TemplateSegment first = distinctPlaceholders
+          .computeIfAbsent(text, t -> new TemplateSegment(t, true, name, distinctPlaceholders.size()));
+      segments.add(first);
+      ++placeholders;
+    }
+
+    private CompiledTemplate build() {
+      return new CompiledTemplate(segments.toArray(new TemplateSegment[segments.size()]),
+                                  distinctPlaceholders.values().toArray(new TemplateSegment[distinctPlaceholders.size()]),
+                                  placeholders, literalsContainPrefix);
+    }
+  }
+
   @FunctionalInterface
   public interface TemplateCallback {
 
@@ -441,10 +588,12 @@ public final class TemplateParser {
     String regEx;
     String prefix;
     String suffix;
+    private final Pattern pattern;
 
     PatternInfo(String name, String regEx, String prefix, String suffix) {
       this.name = name;
       this.regEx = regEx;
+      this.pattern = Pattern.compile(regEx, Pattern.CASE_INSENSITIVE);
       if (prefix.length() < 1 || prefix.length() > 2) {
         throw new IllegalArgumentException("Prefix can only be one or two characters long: " + prefix);
       }
@@ -472,7 +621,7 @@ public final class TemplateParser {
     }
 
     public Pattern getPattern() {
-      return Pattern.compile(regEx, Pattern.CASE_INSENSITIVE);
+      return pattern;
     }
 
     public void validate(String expression) throws IllegalArgumentException {
@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.module.deployment.impl.internal.artifact;
+
+import static java.util.stream.Collectors.toSet;
+import static org.slf4j.LoggerFactory.getLogger;
+
+import org.mule.runtime.api.meta.model.ExtensionModel;
+import org.mule.runtime.deployment.model.api.plugin.LoaderDescriber;
+import org.mule.runtime.module.artifact.api.classloader.ArtifactClassLoader;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+
+/**
+ * Keeps the {@link ExtensionModel}s loaded for each plugin, so a plugin is not introspected again each time an artifact using
+ * the same plugin {@link ArtifactClassLoader} is created, as happens with each instance of a policy template.
+ * <p>
+ * A model references the classes of the class loader it was loaded with, so it is only reused for that same class loader, and
+ * it is discarded once that class loader is disposed. Besides the class loader, models are keyed by the loader and attributes
+ * used to load them and by the extensions that were available when loading them.
+ *
+ * @since 4.4
+ */
+final class ExtensionModelCache {
+
+  private static final Logger LOGGER = getLogger(ExtensionModelCache.class);
+
+  private static final ExtensionModelCache NODE_CACHE = new ExtensionModelCache();
+
+  private final ConcurrentMap<ArtifactClassLoader, ConcurrentMap<CacheKey, ExtensionModel>> models = new ConcurrentHashMap<>();
+
+  /**
+   * @return the cache shared by all the artifacts deployed in this node.
+   */
+  static ExtensionModelCache getNodeExtensionModelCache() {
+    return NODE_CACHE;
+  }
+
+  /**
+   * Obtains the {@link ExtensionModel} of a plugin, loading it if it is not already cached.
+   *
+   * @param pluginClassLoader the class loader of the plugin
+   * @param loaderDescriber   the descriptor of the loader for the plugin's {@link ExtensionModel}
+   * @param extensions        the extensions available when loading the plugin's {@link ExtensionModel}
+   * @param loader            loads the {@link ExtensionModel} if it is not cached
+   * @return the plugin's {@link ExtensionModel}
+   */
+  ExtensionModel get(ArtifactClassLoader pluginClassLoader, LoaderDescriber loaderDescriber, Set<ExtensionModel> extensions,
+                     Supplier<ExtensionModel> loader) {
+    final ConcurrentMap<CacheKey, ExtensionModel> pluginModels = models.computeIfAbsent(pluginClassLoader, classLoader -> {
+      classLoader.addShutdownListener(() -> models.remove(classLoader));
+      return new ConcurrentHashMap<>();
+    });
+
+    final CacheKey key = new CacheKey(loaderDescriber, extensions);
+    final ExtensionModel cached = pluginModels.get(key);
+    if (cached != null) {
+      if (LOGGER.isDebugEnabled()) {
+        LOGGER.debug("Reusing extension model '{}' for plugin '{}'", cached.getName(), pluginClassLoader.getArtifactId());
+      }
+      return cached;
+    }
+
+    // Not computed within the map, since loading a model may take long, and concurrent loads of the same one are unlikely
+    final ExtensionModel loaded = loader.get();
+    if (loaded == null) {
+      return null;
+    }
+    final ExtensionModel previous = pluginModels.putIfAbsent(key, loaded);
+    return previous != null ? previous : loaded;
+  }
+
+  private static final class CacheKey {
+
+    private final String loaderId;
+    private final Map<String, Object> attributes;
+    private final Set<String> extensions;
+    private final int hashCode;
+
+    private CacheKey(LoaderDescriber loaderDescriber, Set<ExtensionModel> extensions) {
+      this.loaderId = loaderDescriber.getId();
+      this.attributes = new HashMap<>(loaderDescriber.getAttributes());
+      this.extensions = extensions.stream().map(extension -> extension.getName() + ":" + extension.getVersion()).collect(toSet());
+      this.hashCode = Objects.hash(loaderId, attributes, this.extensions);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof CacheKey)) {
+        return false;
+      }
+      CacheKey that = (CacheKey) o;
+      return loaderId.equals(that.loaderId) && attributes.equals(that.attributes) && extensions.equals(that.extensions);
+    }
+
+    @Override
+    public int hashCode() {
+      return hashCode;
+    }
+  }
+}
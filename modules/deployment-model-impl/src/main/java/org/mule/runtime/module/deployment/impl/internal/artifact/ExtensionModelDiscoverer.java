@@ -7,36 +7,84 @@
 
 package org.mule.runtime.module.deployment.impl.internal.artifact;
 
+import static java.lang.Boolean.parseBoolean;
+import static java.lang.Math.min;
+import static java.lang.Runtime.getRuntime;
 import static java.lang.String.format;
+import static java.lang.System.getProperty;
+import static java.lang.Thread.currentThread;
+import static java.util.concurrent.CompletableFuture.allOf;
+import static java.util.concurrent.Executors.newFixedThreadPool;
 import static java.util.stream.Collectors.toSet;
 import static org.mule.runtime.api.dsl.DslResolvingContext.getDefault;
+import static org.mule.runtime.api.util.MuleSystemProperties.SYSTEM_PROPERTY_PREFIX;
+import static org.mule.runtime.module.artifact.api.descriptor.BundleDescriptorUtils.isCompatibleVersion;
+import static org.mule.runtime.module.deployment.impl.internal.artifact.ExtensionModelCache.getNodeExtensionModelCache;
 import org.mule.runtime.api.deployment.meta.MulePluginModel;
+import org.mule.runtime.api.exception.MuleRuntimeException;
 import org.mule.runtime.api.meta.model.ExtensionModel;
 import org.mule.runtime.api.util.Pair;
 import org.mule.runtime.core.api.extension.MuleExtensionModelProvider;
 import org.mule.runtime.core.api.registry.SpiServiceRegistry;
 import org.mule.runtime.core.api.extension.RuntimeExtensionModelProvider;
+import org.mule.runtime.core.api.util.concurrent.NamedThreadFactory;
 import org.mule.runtime.deployment.model.api.plugin.ArtifactPluginDescriptor;
 import org.mule.runtime.deployment.model.api.plugin.LoaderDescriber;
 import org.mule.runtime.extension.api.loader.ExtensionModelLoader;
 import org.mule.runtime.module.artifact.api.classloader.ArtifactClassLoader;
+import org.mule.runtime.module.artifact.api.descriptor.BundleDependency;
+import org.mule.runtime.module.artifact.api.descriptor.BundleDescriptor;
 import org.mule.runtime.module.extension.internal.loader.ExtensionModelLoaderRepository;
 
 import com.google.common.collect.ImmutableSet;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
 
 /**
  * Discover the {@link ExtensionModel} based on the {@link ExtensionModelLoader} type.
+ * <p>
+ * Loaded models are kept in an {@link ExtensionModelCache} shared by the whole node. When
+ * {@link #PARALLEL_EXTENSION_MODEL_LOADING_PROPERTY} is enabled, the {@link ExtensionModel}s of plugins that don't depend on
+ * each other are loaded in parallel, each one as soon as the ones of the plugins it depends on are available.
  *
  * @since 4.0
  */
 public class ExtensionModelDiscoverer {
 
+  /**
+   * Setting this system property to {@code true} loads the {@link ExtensionModel}s of plugins that don't depend on each other in
+   * parallel. Each model is then loaded with only the models of the plugins its plugin depends on, directly or transitively,
+   * available. By default, models are loaded one after another, each one with the models of all the plugins before it available.
+   *
+   * @since 4.4
+   */
+  public static final String PARALLEL_EXTENSION_MODEL_LOADING_PROPERTY =
+      SYSTEM_PROPERTY_PREFIX + "extensionModelDiscoverer.parallelLoading";
+
+  private static final boolean PARALLEL_EXTENSION_MODEL_LOADING =
+      parseBoolean(getProperty(PARALLEL_EXTENSION_MODEL_LOADING_PROPERTY, "false"));
+
+  private final ExtensionModelCache extensionModelCache;
+  private final boolean parallelLoading;
+
+  public ExtensionModelDiscoverer() {
+    this(getNodeExtensionModelCache(), PARALLEL_EXTENSION_MODEL_LOADING);
+  }
+
+  ExtensionModelDiscoverer(ExtensionModelCache extensionModelCache, boolean parallelLoading) {
+    this.extensionModelCache = extensionModelCache;
+    this.parallelLoading = parallelLoading;
+  }
+
   /**
    * For each artifactPlugin discovers the {@link ExtensionModel}.
    *
@@ -64,26 +112,119 @@ public class ExtensionModelDiscoverer {
   public Set<Pair<ArtifactPluginDescriptor, ExtensionModel>> discoverPluginsExtensionModels(ExtensionModelLoaderRepository loaderRepository,
                                                                                             List<Pair<ArtifactPluginDescriptor, ArtifactClassLoader>> artifactPlugins,
                                                                                             Set<ExtensionModel> parentArtifactExtensions) {
+    if (parallelLoading && artifactPlugins.size() > 1) {
+      return discoverPluginsExtensionModelsInParallel(loaderRepository, artifactPlugins, parentArtifactExtensions);
+    }
+
     final Set<Pair<ArtifactPluginDescriptor, ExtensionModel>> descriptorsWithExtensions = new HashSet<>();
     artifactPlugins.forEach(artifactPlugin -> {
       Set<ExtensionModel> extensions = descriptorsWithExtensions.stream().map(Pair::getSecond).collect(toSet());
       extensions.addAll(parentArtifactExtensions);
-      final ArtifactPluginDescriptor artifactPluginDescriptor = artifactPlugin.getFirst();
-      Optional<LoaderDescriber> loaderDescriber = artifactPluginDescriptor.getExtensionModelDescriptorProperty();
-      ClassLoader artifactClassloader = artifactPlugin.getSecond().getClassLoader();
-      String artifactName = artifactPluginDescriptor.getName();
-      ExtensionModel extension = loaderDescriber
-          .map(describer -> discoverExtensionThroughJsonDescriber(loaderRepository, describer,
-                                                                  extensions, artifactClassloader,
-                                                                  artifactName))
-          .orElse(null);
+      ExtensionModel extension = discoverPluginExtensionModel(loaderRepository, artifactPlugin, extensions);
       if (extension != null) {
-        descriptorsWithExtensions.add(new Pair<>(artifactPluginDescriptor, extension));
+        descriptorsWithExtensions.add(new Pair<>(artifactPlugin.getFirst(), extension));
       }
     });
     return descriptorsWithExtensions;
   }
 
+  /**
+   * Loads the {@link ExtensionModel}s of the plugins that don't depend on each other in parallel. Each one is loaded once the
+   * ones of the plugins it depends on, directly or transitively, are loaded, and with those available. Only the plugins before
+   * it in {@code artifactPlugins} are taken as its dependencies, as it is sorted in dependency order.
+   */
+  private Set<Pair<ArtifactPluginDescriptor, ExtensionModel>> discoverPluginsExtensionModelsInParallel(ExtensionModelLoaderRepository loaderRepository,
+                                                                                                       List<Pair<ArtifactPluginDescriptor, ArtifactClassLoader>> artifactPlugins,
+                                                                                                       Set<ExtensionModel> parentArtifactExtensions) {
+    final ExecutorService executor =
+        newFixedThreadPool(min(artifactPlugins.size(), getRuntime().availableProcessors()),
+                           new NamedThreadFactory("extension-model-discoverer", currentThread().getContextClassLoader()));
+    try {
+      final List<CompletableFuture<ExtensionModel>> extensions = new ArrayList<>(artifactPlugins.size());
+      final List<Set<Integer>> dependencies = new ArrayList<>(artifactPlugins.size());
+      for (Pair<ArtifactPluginDescriptor, ArtifactClassLoader> artifactPlugin : artifactPlugins) {
+        final Set<Integer> pluginDependencies = resolveDependencies(artifactPlugin.getFirst(), artifactPlugins, dependencies);
+        dependencies.add(pluginDependencies);
+
+        final CompletableFuture<?>[] dependenciesExtensions =
+            pluginDependencies.stream().map(extensions::get).toArray(CompletableFuture[]::new);
+        extensions.add(allOf(dependenciesExtensions).thenApplyAsync(v -> {
+          final Set<ExtensionModel> availableExtensions = new HashSet<>(parentArtifactExtensions);
+          for (CompletableFuture<?> dependencyExtension : dependenciesExtensions) {
+            final ExtensionModel extension = (ExtensionModel) dependencyExtension.join();
+            if (extension != null) {
+              availableExtensions.add(extension);
+            }
+          }
+          return discoverPluginExtensionModel(loaderRepository, artifactPlugin, availableExtensions);
+        }, executor));
+      }
+
+      final Set<Pair<ArtifactPluginDescriptor, ExtensionModel>> descriptorsWithExtensions = new HashSet<>();
+      for (int i = 0; i < artifactPlugins.size(); ++i) {
+        final ExtensionModel extension = extensions.get(i).join();
+        if (extension != null) {
+          descriptorsWithExtensions.add(new Pair<>(artifactPlugins.get(i).getFirst(), extension));
+        }
+      }
+      return descriptorsWithExtensions;
+    } catch (CompletionException e) {
+      final Throwable cause = e.getCause();
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      } else if (cause instanceof Error) {
+        throw (Error) cause;
+      }
+      throw new MuleRuntimeException(cause);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  /**
+   * @return the indexes of the plugins before {@code pluginDescriptor} in {@code artifactPlugins} that it depends on, directly
+   *         or transitively. A plugin matches a dependency the same way plugin dependencies are resolved on deployment: same
+   *         group and artifact, and a compatible version.
+   */
+  private Set<Integer> resolveDependencies(ArtifactPluginDescriptor pluginDescriptor,
+                                           List<Pair<ArtifactPluginDescriptor, ArtifactClassLoader>> artifactPlugins,
+                                           List<Set<Integer>> previousPluginsDependencies) {
+    final Set<Integer> dependencies = new LinkedHashSet<>();
+    for (BundleDependency dependency : pluginDescriptor.getClassLoaderModel().getDependencies()) {
+      if (!dependency.getDescriptor().isPlugin()) {
+        continue;
+      }
+      for (int i = 0; i < previousPluginsDependencies.size(); ++i) {
+        final BundleDescriptor candidate = artifactPlugins.get(i).getFirst().getBundleDescriptor();
+        if (candidate != null && isResolvedBy(dependency.getDescriptor(), candidate)) {
+          dependencies.add(i);
+          dependencies.addAll(previousPluginsDependencies.get(i));
+        }
+      }
+    }
+    return dependencies;
+  }
+
+  private static boolean isResolvedBy(BundleDescriptor expected, BundleDescriptor available) {
+    return available.getGroupId().equals(expected.getGroupId()) && available.getArtifactId().equals(expected.getArtifactId())
+        && isCompatibleVersion(available.getVersion(), expected.getVersion());
+  }
+
+  private ExtensionModel discoverPluginExtensionModel(ExtensionModelLoaderRepository loaderRepository,
+                                                      Pair<ArtifactPluginDescriptor, ArtifactClassLoader> artifactPlugin,
+                                                      Set<ExtensionModel> extensions) {
+    final ArtifactPluginDescriptor artifactPluginDescriptor = artifactPlugin.getFirst();
+    Optional<LoaderDescriber> loaderDescriber = artifactPluginDescriptor.getExtensionModelDescriptorProperty();
+    ArtifactClassLoader artifactClassLoader = artifactPlugin.getSecond();
+    String artifactName = artifactPluginDescriptor.getName();
+    return loaderDescriber
+        .map(describer -> extensionModelCache
+            .get(artifactClassLoader, describer, extensions,
+                 () -> discoverExtensionThroughJsonDescriber(loaderRepository, describer, extensions,
+                                                             artifactClassLoader.getClassLoader(), artifactName)))
+        .orElse(null);
+  }
+
   /**
    * Discover the extension models provided by the runtime.
    *
@@ -112,9 +253,9 @@ public class ExtensionModelDiscoverer {
    * @param artifactName the name of the artifact being loaded.
    * @throws IllegalArgumentException there is no {@link ExtensionModelLoader} for the ID in the {@link MulePluginModel}.
    */
-  private ExtensionModel discoverExtensionThroughJsonDescriber(ExtensionModelLoaderRepository extensionModelLoaderRepository,
-                                                               LoaderDescriber loaderDescriber, Set<ExtensionModel> extensions,
-                                                               ClassLoader artifactClassloader, String artifactName) {
+  ExtensionModel discoverExtensionThroughJsonDescriber(ExtensionModelLoaderRepository extensionModelLoaderRepository,
+                                                       LoaderDescriber loaderDescriber, Set<ExtensionModel> extensions,
+                                                       ClassLoader artifactClassloader, String artifactName) {
     ExtensionModelLoader loader = extensionModelLoaderRepository.getExtensionModelLoader(loaderDescriber)
         .orElseThrow(() -> new IllegalArgumentException(format("The identifier '%s' does not match with the describers available "
             + "to generate an ExtensionModel (working with the plugin '%s')", loaderDescriber.getId(), artifactName)));
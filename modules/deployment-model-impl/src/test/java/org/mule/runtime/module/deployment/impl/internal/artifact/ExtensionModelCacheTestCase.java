@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+
+package org.mule.runtime.module.deployment.impl.internal.artifact;
+
+import static java.util.Collections.emptySet;
+import static java.util.Collections.singleton;
+import static java.util.Collections.singletonMap;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mule.runtime.api.meta.model.ExtensionModel;
+import org.mule.runtime.deployment.model.api.plugin.LoaderDescriber;
+import org.mule.runtime.module.artifact.api.classloader.ArtifactClassLoader;
+import org.mule.runtime.module.artifact.api.classloader.ShutdownListener;
+import org.mule.tck.junit4.AbstractMuleTestCase;
+import org.mule.tck.size.SmallTest;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+@SmallTest
+public class ExtensionModelCacheTestCase extends AbstractMuleTestCase {
+
+  private final ExtensionModelCache cache = new ExtensionModelCache();
+  private final ArtifactClassLoader pluginClassLoader = mock(ArtifactClassLoader.class);
+  private final LoaderDescriber loaderDescriber = new LoaderDescriber("test");
+  private final AtomicInteger loads = new AtomicInteger();
+
+  @Test
+  public void reusedForSamePlugin() {
+    ExtensionModel first = cache.get(pluginClassLoader, loaderDescriber, emptySet(), loader());
+    ExtensionModel second = cache.get(pluginClassLoader, loaderDescriber, emptySet(), loader());
+
+    assertThat(second, is(sameInstance(first)));
+    assertThat(loads.get(), is(1));
+  }
+
+  @Test
+  public void notSharedBetweenClassLoaders() {
+    ExtensionModel first = cache.get(pluginClassLoader, loaderDescriber, emptySet(), loader());
+    ExtensionModel second = cache.get(mock(ArtifactClassLoader.class), loaderDescriber, emptySet(), loader());
+
+    assertThat(second, is(not(first)));
+    assertThat(loads.get(), is(2));
+  }
+
+  @Test
+  public void differentAttributes() {
+    LoaderDescriber otherLoaderDescriber = new LoaderDescriber("test");
+    otherLoaderDescriber.addAttributes(singletonMap("type", "other"));
+
+    cache.get(pluginClassLoader, loaderDescriber, emptySet(), loader());
+    cache.get(pluginClassLoader, otherLoaderDescriber, emptySet(), loader());
+
+    assertThat(loads.get(), is(2));
+  }
+
+  @Test
+  public void differentAvailableExtensions() {
+    ExtensionModel dependency = mock(ExtensionModel.class);
+    when(dependency.getName()).thenReturn("dependency");
+    when(dependency.getVersion()).thenReturn("1.0.0");
+
+    cache.get(pluginClassLoader, loaderDescriber, emptySet(), loader());
+    cache.get(pluginClassLoader, loaderDescriber, singleton(dependency), loader());
+    cache.get(pluginClassLoader, loaderDescriber, singleton(dependency), loader());
+
+    assertThat(loads.get(), is(2));
+  }
+
+  @Test
+  public void discardedWhenClassLoaderDisposed() {
+    cache.get(pluginClassLoader, loaderDescriber, emptySet(), loader());
+
+    ArgumentCaptor<ShutdownListener> shutdownListener = ArgumentCaptor.forClass(ShutdownListener.class);
+    verify(pluginClassLoader).addShutdownListener(shutdownListener.capture());
+    shutdownListener.getValue().execute();
+
+    cache.get(pluginClassLoader, loaderDescriber, emptySet(), loader());
+    assertThat(loads.get(), is(2));
+  }
+
+  @Test
+  public void noExtensionModelNotCached() {
+    assertThat(cache.get(pluginClassLoader, loaderDescriber, emptySet(), () -> null), is(nullValue()));
+
+    cache.get(pluginClassLoader, loaderDescriber, emptySet(), loader());
+    assertThat(loads.get(), is(1));
+  }
+
+  private Supplier<ExtensionModel> loader() {
+    return () -> {
+      loads.incrementAndGet();
+      return mock(ExtensionModel.class);
+    };
+  }
+}
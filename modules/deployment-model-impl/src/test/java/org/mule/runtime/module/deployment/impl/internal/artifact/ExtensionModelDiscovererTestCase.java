@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+
+package org.mule.runtime.module.deployment.impl.internal.artifact;
+
+import static java.util.Arrays.asList;
+import static java.util.Arrays.stream;
+import static java.util.stream.Collectors.toSet;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mule.runtime.deployment.model.api.plugin.ArtifactPluginDescriptor.MULE_PLUGIN_CLASSIFIER;
+import org.mule.runtime.api.meta.model.ExtensionModel;
+import org.mule.runtime.api.util.Pair;
+import org.mule.runtime.deployment.model.api.plugin.ArtifactPluginDescriptor;
+import org.mule.runtime.deployment.model.api.plugin.LoaderDescriber;
+import org.mule.runtime.module.artifact.api.classloader.ArtifactClassLoader;
+import org.mule.runtime.module.artifact.api.descriptor.BundleDependency;
+import org.mule.runtime.module.artifact.api.descriptor.BundleDescriptor;
+import org.mule.runtime.module.artifact.api.descriptor.ClassLoaderModel.ClassLoaderModelBuilder;
+import org.mule.runtime.module.extension.internal.loader.ExtensionModelLoaderRepository;
+import org.mule.tck.junit4.AbstractMuleTestCase;
+import org.mule.tck.size.SmallTest;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+@SmallTest
+public class ExtensionModelDiscovererTestCase extends AbstractMuleTestCase {
+
+  private static final String GROUP_ID = "org.mule.test";
+
+  @Rule
+  public ExpectedException expectedException = ExpectedException.none();
+
+  private final ExtensionModelLoaderRepository loaderRepository = mock(ExtensionModelLoaderRepository.class);
+  private final Map<String, Set<String>> availableExtensions = new ConcurrentHashMap<>();
+
+  @Test
+  public void parallelLoadingWaitsForDependencies() {
+    List<Pair<ArtifactPluginDescriptor, ArtifactClassLoader>> plugins =
+        asList(plugin("a", "1.1.0"), plugin("b", "1.0.0", "a:1.0.0"), plugin("c", "1.0.0", "b:1.0.0"));
+
+    Set<Pair<ArtifactPluginDescriptor, ExtensionModel>> extensions =
+        discoverer(true).discoverPluginsExtensionModels(loaderRepository, plugins);
+
+    assertThat(extensions, hasSize(3));
+    assertThat(availableExtensions.get("a"), is(empty()));
+    assertThat(availableExtensions.get("b"), containsInAnyOrder("a"));
+    assertThat(availableExtensions.get("c"), containsInAnyOrder("a", "b"));
+  }
+
+  @Test
+  public void parallelLoadingOnlySeesDependencies() {
+    List<Pair<ArtifactPluginDescriptor, ArtifactClassLoader>> plugins =
+        asList(plugin("a", "1.0.0"), plugin("b", "1.0.0"), plugin("c", "1.0.0", "a:2.0.0"));
+
+    discoverer(true).discoverPluginsExtensionModels(loaderRepository, plugins);
+
+    assertThat(availableExtensions.get("b"), is(empty()));
+    assertThat(availableExtensions.get("c"), is(empty()));
+  }
+
+  @Test
+  public void sequentialLoadingSeesPreviousPlugins() {
+    List<Pair<ArtifactPluginDescriptor, ArtifactClassLoader>> plugins =
+        asList(plugin("a", "1.0.0"), plugin("b", "1.0.0"), plugin("c", "1.0.0"));
+
+    discoverer(false).discoverPluginsExtensionModels(loaderRepository, plugins);
+
+    assertThat(availableExtensions.get("b"), containsInAnyOrder("a"));
+    assertThat(availableExtensions.get("c"), containsInAnyOrder("a", "b"));
+  }
+
+  @Test
+  public void parallelLoadingPropagatesLoadFailure() {
+    List<Pair<ArtifactPluginDescriptor, ArtifactClassLoader>> plugins =
+        asList(plugin("a", "1.0.0"), plugin("failing", "1.0.0", "a:1.0.0"), plugin("c", "1.0.0", "failing:1.0.0"));
+
+    expectedException.expect(IllegalStateException.class);
+    expectedException.expectMessage("Could not load failing");
+    discoverer(true).discoverPluginsExtensionModels(loaderRepository, plugins);
+  }
+
+  private ExtensionModelDiscoverer discoverer(boolean parallelLoading) {
+    return new ExtensionModelDiscoverer(new ExtensionModelCache(), parallelLoading) {
+
+      @Override
+      ExtensionModel discoverExtensionThroughJsonDescriber(ExtensionModelLoaderRepository extensionModelLoaderRepository,
+                                                           LoaderDescriber loaderDescriber, Set<ExtensionModel> extensions,
+                                                           ClassLoader artifactClassloader, String artifactName) {
+        if (artifactName.equals("failing")) {
+          throw new IllegalStateException("Could not load " + artifactName);
+        }
+        availableExtensions.put(artifactName, extensions.stream().map(ExtensionModel::getName).collect(toSet()));
+
+        ExtensionModel extensionModel = mock(ExtensionModel.class);
+        when(extensionModel.getName()).thenReturn(artifactName);
+        when(extensionModel.getVersion()).thenReturn("1.0.0");
+        return extensionModel;
+      }
+    };
+  }
+
+  /**
+   * @param dependencies the plugins the created one depends on, as {@code artifactId:version}
+   */
+  private static Pair<ArtifactPluginDescriptor, ArtifactClassLoader> plugin(String artifactId, String version,
+                                                                            String... dependencies) {
+    ArtifactPluginDescriptor descriptor = new ArtifactPluginDescriptor(artifactId);
+    descriptor.setBundleDescriptor(bundleDescriptor(artifactId, version));
+    descriptor.setExtensionModelDescriptorProperty(new LoaderDescriber("test"));
+    Set<BundleDependency> bundleDependencies = stream(dependencies)
+        .map(dependency -> dependency.split(":"))
+        .map(dependency -> new BundleDependency.Builder().setDescriptor(bundleDescriptor(dependency[0], dependency[1])).build())
+        .collect(toSet());
+    descriptor.setClassLoaderModel(new ClassLoaderModelBuilder().dependingOn(bundleDependencies).build());
+
+    return new Pair<>(descriptor, mock(ArtifactClassLoader.class));
+  }
+
+  private static BundleDescriptor bundleDescriptor(String artifactId, String version) {
+    return new BundleDescriptor.Builder().setGroupId(GROUP_ID).setArtifactId(artifactId).setVersion(version)
+        .setClassifier(MULE_PLUGIN_CLASSIFIER).build();
+  }
+}
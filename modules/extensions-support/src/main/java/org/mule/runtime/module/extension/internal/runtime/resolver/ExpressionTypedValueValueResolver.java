@@ -7,6 +7,7 @@
 package org.mule.runtime.module.extension.internal.runtime.resolver;
 
 import static org.mule.runtime.core.api.util.ClassUtils.isInstance;
+import static org.mule.runtime.core.internal.metadata.DataTypeInternTable.fromType;
 
 import org.mule.runtime.api.exception.MuleException;
 import org.mule.runtime.api.lifecycle.Initialisable;
@@ -43,11 +44,7 @@ public class ExpressionTypedValueValueResolver<T> extends ExpressionValueResolve
   public TypedValue<T> resolve(ValueResolvingContext context) throws MuleException {
     TypedValue<T> typedValue = resolveTypedValue(context);
     if (!isInstance(expectedClass, typedValue.getValue())) {
-      DataType expectedDataType =
-          DataType.builder()
-              .type(expectedClass)
-              .mediaType(typedValue.getDataType().getMediaType())
-              .build();
+      DataType expectedDataType = fromType(expectedClass, typedValue.getDataType().getMediaType());
       return new TypedValue<>(typeSafeTransformer.<T>transform(typedValue.getValue(), typedValue.getDataType(), expectedDataType),
                               expectedDataType);
     }
@@ -11,6 +11,7 @@ import static org.mule.metadata.api.utils.MetadataTypeUtils.getDefaultValue;
 import static org.mule.metadata.java.api.utils.JavaTypeUtils.getType;
 import static org.mule.runtime.api.util.Preconditions.checkArgument;
 import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.initialiseIfNeeded;
+import static org.mule.runtime.core.internal.metadata.DataTypeInternTable.fromType;
 import static org.mule.runtime.module.extension.internal.loader.java.property.stackabletypes.StackedTypesModelProperty.getStackedTypesModelProperty;
 import static org.mule.runtime.module.extension.internal.util.IntrospectionUtils.isParameterResolver;
 import static org.mule.runtime.module.extension.internal.util.IntrospectionUtils.isTypedValue;
@@ -22,7 +23,6 @@ import org.mule.runtime.api.exception.MuleException;
 import org.mule.runtime.api.exception.MuleRuntimeException;
 import org.mule.runtime.api.lifecycle.InitialisationException;
 import org.mule.runtime.api.meta.model.parameter.ParameterModel;
-import org.mule.runtime.api.metadata.DataType;
 import org.mule.runtime.api.metadata.TypedValue;
 import org.mule.runtime.api.streaming.Cursor;
 import org.mule.runtime.api.streaming.CursorProvider;
@@ -135,10 +135,8 @@ public class ResolverUtils {
 
     if (objectValue instanceof CursorProvider) {
       Cursor cursor = ((CursorProvider) objectValue).openCursor();
-      return new TypedValue<>(cursor, DataType.builder()
-          .type(cursor.getClass())
-          .mediaType(typedValue.getDataType().getMediaType())
-          .build(), typedValue.getByteLength());
+      return new TypedValue<>(cursor, fromType(cursor.getClass(), typedValue.getDataType().getMediaType()),
+                              typedValue.getByteLength());
     }
 
     return typedValue;
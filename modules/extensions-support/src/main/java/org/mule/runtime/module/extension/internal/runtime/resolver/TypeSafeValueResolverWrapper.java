@@ -7,6 +7,7 @@
 package org.mule.runtime.module.extension.internal.runtime.resolver;
 
 import static org.mule.runtime.core.api.util.ClassUtils.isInstance;
+import static org.mule.runtime.core.internal.metadata.DataTypeInternTable.fromType;
 import org.mule.runtime.api.exception.MuleException;
 import org.mule.runtime.api.lifecycle.Initialisable;
 import org.mule.runtime.api.lifecycle.InitialisationException;
@@ -63,7 +64,7 @@ public class TypeSafeValueResolverWrapper<T> implements ValueResolver<T>, Initia
       Object resolvedValue = valueResolverDelegate.resolve(context);
       return isInstance(expectedType, resolvedValue)
           ? (T) resolvedValue
-          : typeSafeTransformer.transform(resolvedValue, DataType.fromObject(resolvedValue), DataType.fromType(expectedType));
+          : typeSafeTransformer.transform(resolvedValue, DataType.fromObject(resolvedValue), fromType(expectedType));
     };
 
     if (!valueResolverDelegate.isDynamic() && !InputStream.class.isAssignableFrom(expectedType)) {
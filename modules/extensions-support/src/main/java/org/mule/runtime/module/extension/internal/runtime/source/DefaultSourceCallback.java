@@ -43,6 +43,8 @@ import org.mule.runtime.extension.api.runtime.source.SourceCallbackContext;
 import org.mule.runtime.module.extension.internal.runtime.transaction.TransactionSourceBinder;
 
 import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
@@ -238,6 +240,29 @@ class DefaultSourceCallback<T, A> implements SourceCallbackAdapter<T, A> {
   @Override
   public void handle(Result<T, A> result, SourceCallbackContext context) {
     resolveInitializationParams.runOnce();
+    messageProcessingManager.processMessage(createTemplate(result, context), messageProcessContext);
+    ((SourceCallbackContextAdapter) context).dispatched();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void handle(List<Result<T, A>> results) {
+    resolveInitializationParams.runOnce();
+    List<SourceCallbackContext> contexts = new ArrayList<>(results.size());
+    List<ExtensionsFlowProcessingTemplate> templates = new ArrayList<>(results.size());
+    for (Result<T, A> result : results) {
+      SourceCallbackContext context = createContext();
+      contexts.add(context);
+      templates.add(createTemplate(result, context));
+    }
+
+    messageProcessingManager.processMessages(templates, messageProcessContext);
+    contexts.forEach(context -> ((SourceCallbackContextAdapter) context).dispatched());
+  }
+
+  private ExtensionsFlowProcessingTemplate createTemplate(Result<T, A> result, SourceCallbackContext context) {
     checkArgument(context instanceof SourceCallbackContextAdapter, "The supplied context was not created through this callback, "
         + "you naughty developer");
 
@@ -253,8 +278,8 @@ class DefaultSourceCallback<T, A> implements SourceCallbackAdapter<T, A> {
         new SourceResultAdapter(result, cursorProviderFactory, mediaType, returnsListOfMessages,
                                 context.getCorrelationId(), payloadMediaTypeResolver);
 
-    executeFlow(context, messageProcessContext, resultAdapter);
-    contextAdapter.dispatched();
+    return new ExtensionsFlowProcessingTemplate(resultAdapter, listener, contextAdapter.getNotificationsFunctions(),
+                                                completionHandlerFactory.createCompletionHandler(contextAdapter));
   }
 
   private void validateNotifications(SourceCallbackContextAdapter contextAdapter) {
@@ -265,17 +290,6 @@ class DefaultSourceCallback<T, A> implements SourceCallbackAdapter<T, A> {
     });
   }
 
-  private void executeFlow(SourceCallbackContext context, MessageProcessContext messageProcessContext,
-                           SourceResultAdapter resultAdapter) {
-    SourceCallbackContextAdapter contextAdapter = (SourceCallbackContextAdapter) context;
-    messageProcessingManager.processMessage(
-                                            new ExtensionsFlowProcessingTemplate(resultAdapter, listener,
-                                                                                 contextAdapter.getNotificationsFunctions(),
-                                                                                 completionHandlerFactory
-                                                                                     .createCompletionHandler(contextAdapter)),
-                                            messageProcessContext);
-  }
-
   protected MediaType resolveMediaType(Object value) {
     Charset existingEncoding = encodingParam;
     MediaType mediaType = mimeTypeInitParam;
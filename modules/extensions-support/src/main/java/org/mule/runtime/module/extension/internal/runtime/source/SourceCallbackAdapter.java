@@ -9,10 +9,14 @@ package org.mule.runtime.module.extension.internal.runtime.source;
 import org.mule.runtime.api.component.location.ComponentLocation;
 import org.mule.runtime.core.api.transaction.TransactionConfig;
 import org.mule.runtime.extension.api.runtime.config.ConfigurationInstance;
+import org.mule.runtime.extension.api.runtime.operation.Result;
 import org.mule.runtime.extension.api.runtime.source.Source;
 import org.mule.runtime.extension.api.runtime.source.SourceCallback;
+import org.mule.runtime.extension.api.runtime.source.SourceCallbackContext;
 import org.mule.runtime.module.extension.internal.runtime.transaction.TransactionSourceBinder;
 
+import java.util.List;
+
 import javax.transaction.TransactionManager;
 
 /**
@@ -25,6 +29,19 @@ import javax.transaction.TransactionManager;
  */
 public interface SourceCallbackAdapter<T, A> extends SourceCallback<T, A> {
 
+  /**
+   * Handles a batch of {@link Result}s received together, each one on its own new {@link SourceCallbackContext}, in order. The
+   * setup of the flow execution which does not depend on the message is done only once for the whole batch.
+   * <p>
+   * Unlike invoking {@link #handle(Result)} for each of them, back pressure is not applied to each message on its own: once a
+   * message of the batch is rejected due to back pressure, all the ones after it are rejected with the same cause, even if the
+   * flow would have had capacity for them by then.
+   *
+   * @param results the results to handle, in the order they were received
+   * @since 4.4
+   */
+  void handle(List<Result<T, A>> results);
+
   /**
    * @return The {@link TransactionSourceBinder} to be used when binding a transaction
    */
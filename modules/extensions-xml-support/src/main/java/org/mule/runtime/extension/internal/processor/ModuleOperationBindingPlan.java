@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.internal.processor;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.mule.metadata.api.model.MetadataFormat.JAVA;
+import static org.mule.runtime.api.el.BindingContextUtils.NULL_BINDING_CONTEXT;
+
+import org.mule.metadata.api.model.MetadataType;
+import org.mule.runtime.api.component.location.ComponentLocation;
+import org.mule.runtime.api.metadata.DataType;
+import org.mule.runtime.api.metadata.TypedValue;
+import org.mule.runtime.api.util.Pair;
+import org.mule.runtime.core.api.el.ExpressionManager;
+import org.mule.runtime.core.api.event.CoreEvent;
+import org.mule.runtime.core.api.util.CaseInsensitiveHashMap;
+import org.mule.runtime.core.internal.message.InternalEvent;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+/**
+ * Binds the properties and parameters of an XML SDK operation as variables of the event processed by its inner chain, with all
+ * the work that doesn't depend on the event done once when the operation is initialised.
+ * <p>
+ * Values are classified as literals or expressions only once. Literals are wrapped into {@link TypedValue}s up front and kept in
+ * an immutable map shared by all the invocations, so an operation without expressions binds its variables without creating or
+ * copying any of them. Expressions are evaluated on each invocation, with their expected output type already resolved from the
+ * {@link MetadataType} of the property or parameter.
+ *
+ * @since 4.4
+ */
+final class ModuleOperationBindingPlan {
+
+  private final CaseInsensitiveHashMap<String, TypedValue<?>> literals;
+  private final List<ExpressionBinding> expressions;
+
+  /**
+   * Creates the plan for the given properties and parameters. When both have an entry with the same name, the parameter wins.
+   *
+   * @param expressionManager used to tell literals from expressions
+   * @param properties        the properties of the operation, along with their types
+   * @param parameters        the parameters of the operation, along with their types
+   */
+  ModuleOperationBindingPlan(ExpressionManager expressionManager,
+                             Map<String, Pair<String, MetadataType>> properties,
+                             Map<String, Pair<String, MetadataType>> parameters) {
+    final Map<String, Pair<String, MetadataType>> bindings = new LinkedHashMap<>(properties);
+    bindings.putAll(parameters);
+
+    final CaseInsensitiveHashMap<String, TypedValue<?>> literals = new CaseInsensitiveHashMap<>();
+    final List<ExpressionBinding> expressions = new ArrayList<>();
+    for (Entry<String, Pair<String, MetadataType>> binding : bindings.entrySet()) {
+      final String value = binding.getValue().getFirst();
+      if (expressionManager.isExpression(value)) {
+        expressions.add(new ExpressionBinding(binding.getKey(), value, binding.getValue().getSecond()));
+      } else {
+        literals.put(binding.getKey(), new TypedValue<>(value, DataType.fromObject(value)));
+      }
+    }
+
+    this.literals = literals.toImmutableCaseInsensitiveMap();
+    this.expressions = expressions;
+  }
+
+  /**
+   * Adds the bound properties and parameters as variables to {@code builder}, evaluating the expressions against {@code event}.
+   *
+   * @param event             the event the operation was invoked with
+   * @param builder           the builder of the event for the inner chain of the operation
+   * @param expressionManager used to evaluate the expressions
+   * @param location          the location to evaluate the expressions at
+   */
+  void bind(CoreEvent event, InternalEvent.Builder builder, ExpressionManager expressionManager, ComponentLocation location) {
+    if (!literals.isEmpty()) {
+      builder.variablesTyped(literals);
+    }
+    for (ExpressionBinding expression : expressions) {
+      builder.addVariable(expression.name, expression.evaluate(event, expressionManager, location));
+    }
+  }
+
+  private static final class ExpressionBinding {
+
+    private final String name;
+    private final String expression;
+    private final DataType expectedOutputType;
+
+    private ExpressionBinding(String name, String expression, MetadataType metadataType) {
+      this.name = name;
+      this.expression = expression;
+      if (JAVA.equals(metadataType.getMetadataFormat())) {
+        this.expectedOutputType = null;
+      } else {
+        this.expectedOutputType = DataType.builder()
+            .type(String.class)
+            .mediaType(metadataType.getMetadataFormat().getValidMimeTypes().iterator().next())
+            .charset(UTF_8)
+            .build();
+      }
+    }
+
+    private TypedValue<?> evaluate(CoreEvent event, ExpressionManager expressionManager, ComponentLocation location) {
+      if (expectedOutputType == null) {
+        return expressionManager.evaluate(expression, event, location);
+      } else {
+        return expressionManager.evaluate(expression, expectedOutputType, NULL_BINDING_CONTEXT, event, location, false);
+      }
+    }
+  }
+}
@@ -6,13 +6,10 @@
  */
 package org.mule.runtime.extension.internal.processor;
 
-import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.Collections.singletonList;
 import static java.util.Optional.empty;
 import static java.util.Optional.of;
 import static java.util.Optional.ofNullable;
-import static org.mule.metadata.api.model.MetadataFormat.JAVA;
-import static org.mule.runtime.api.el.BindingContextUtils.NULL_BINDING_CONTEXT;
 import static org.mule.runtime.api.el.BindingContextUtils.getTargetBindingContext;
 import static org.mule.runtime.api.meta.model.parameter.ParameterRole.CONTENT;
 import static org.mule.runtime.api.meta.model.parameter.ParameterRole.PRIMARY_CONTENT;
@@ -47,7 +44,6 @@ import org.mule.runtime.api.meta.model.ExtensionModel;
 import org.mule.runtime.api.meta.model.operation.OperationModel;
 import org.mule.runtime.api.meta.model.parameter.ParameterModel;
 import org.mule.runtime.api.metadata.DataType;
-import org.mule.runtime.api.metadata.TypedValue;
 import org.mule.runtime.api.notification.EnrichedNotificationInfo;
 import org.mule.runtime.api.util.Pair;
 import org.mule.runtime.core.api.context.notification.FlowStackElement;
@@ -119,6 +115,8 @@ public class ModuleOperationMessageProcessor extends AbstractMessageProcessorOwn
   private final String targetValue;
   private final List<EnrichedErrorMapping> errorMappings;
   private CompiledExpression targetValueExpression;
+  private ModuleOperationBindingPlan bindingPlan;
+  private ComponentLocation headLocation;
 
   public ModuleOperationMessageProcessor(Map<String, String> properties,
                                          Map<String, String> parameters,
@@ -154,7 +152,7 @@ public class ModuleOperationMessageProcessor extends AbstractMessageProcessorOwn
    *
    * @param parameters list of parameters taken from the XML
    * @param parameterModels collection of elements taken from the matching {@link ExtensionModel}
-   * @return a collection of parameters to be later consumed in {@link #getEvaluatedValue(CoreEvent, String, MetadataType)}
+   * @return a collection of parameters to be later bound through a {@link ModuleOperationBindingPlan}
    */
   private Map<String, Pair<String, MetadataType>> parseParameters(Map<String, String> parameters,
                                                                   List<ParameterModel> parameterModels) {
@@ -322,8 +320,7 @@ public class ModuleOperationMessageProcessor extends AbstractMessageProcessorOwn
   private CoreEvent createEventWithParameters(CoreEvent event) {
     InternalEvent.Builder builder = InternalEvent.builder(event.getContext());
     builder.message(builder().nullValue().build());
-    addVariables(event, builder, properties);
-    addVariables(event, builder, parameters);
+    bindingPlan.bind(event, builder, expressionManager, headLocation);
     builder.internalParameters(((InternalEvent) event).getInternalParameters());
     builder.addInternalParameter(getParameterId(ORIGINAL_EVENT_KEY, event), event);
     builder.securityContext(event.getSecurityContext());
@@ -332,43 +329,6 @@ public class ModuleOperationMessageProcessor extends AbstractMessageProcessorOwn
     return newEvent;
   }
 
-  private void addVariables(CoreEvent event, CoreEvent.Builder builder,
-                            Map<String, Pair<String, MetadataType>> unevaluatedMap) {
-    unevaluatedMap.entrySet().stream()
-        .forEach(entry -> {
-          final boolean isExpression = expressionManager.isExpression(entry.getValue().getFirst());
-          if (isExpression) {
-            final TypedValue<?> evaluatedValue =
-                getEvaluatedValue(event, entry.getValue().getFirst(), entry.getValue().getSecond());
-            builder.addVariable(entry.getKey(), evaluatedValue);
-          } else {
-            builder.addVariable(entry.getKey(), entry.getValue().getFirst());
-          }
-        });
-  }
-
-  private TypedValue<?> getEvaluatedValue(CoreEvent event, String value, MetadataType metadataType) {
-    ComponentLocation headLocation;
-    final Processor head = nestedChain.getMessageProcessors().get(0);
-    headLocation = ((Component) head).getLocation();
-
-    TypedValue<?> evaluatedResult;
-    if (JAVA.equals(metadataType.getMetadataFormat())) {
-      evaluatedResult = expressionManager.evaluate(value, event, headLocation);
-    } else {
-      final String mediaType = metadataType.getMetadataFormat().getValidMimeTypes().iterator().next();
-      final DataType expectedOutputType =
-          DataType.builder()
-              .type(String.class)
-              .mediaType(mediaType)
-              .charset(UTF_8)
-              .build();
-      evaluatedResult = expressionManager
-          .evaluate(value, expectedOutputType, NULL_BINDING_CONTEXT, event, headLocation, false);
-    }
-    return evaluatedResult;
-  }
-
   /**
    * Configure the nested {@link Processor}'s of the XML SDK operation.
    *
@@ -385,6 +345,8 @@ public class ModuleOperationMessageProcessor extends AbstractMessageProcessorOwn
     if (targetValue != null) {
       targetValueExpression = compile(targetValue, expressionManager);
     }
+    bindingPlan = new ModuleOperationBindingPlan(expressionManager, properties, parameters);
+    headLocation = ((Component) nestedChain.getMessageProcessors().get(0)).getLocation();
   }
 
   @Override
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.internal.processor;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mule.metadata.api.model.MetadataFormat.JAVA;
+
+import org.mule.metadata.api.model.MetadataType;
+import org.mule.runtime.api.component.location.ComponentLocation;
+import org.mule.runtime.api.metadata.TypedValue;
+import org.mule.runtime.api.util.Pair;
+import org.mule.runtime.core.api.el.ExpressionManager;
+import org.mule.runtime.core.api.event.CoreEvent;
+import org.mule.runtime.core.internal.message.InternalEvent;
+import org.mule.tck.junit4.AbstractMuleTestCase;
+import org.mule.tck.size.SmallTest;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+@SmallTest
+public class ModuleOperationBindingPlanTestCase extends AbstractMuleTestCase {
+
+  private final ExpressionManager expressionManager = mock(ExpressionManager.class);
+  private final MetadataType javaType = mock(MetadataType.class);
+  private final CoreEvent event = mock(CoreEvent.class);
+  private final ComponentLocation location = mock(ComponentLocation.class);
+
+  @Before
+  public void before() {
+    when(javaType.getMetadataFormat()).thenReturn(JAVA);
+    when(expressionManager.isExpression(anyString())).then(inv -> inv.getArgument(0, String.class).startsWith("#["));
+  }
+
+  @Test
+  public void literalsAreSharedAcrossInvocations() {
+    Map<String, Pair<String, MetadataType>> parameters = new HashMap<>();
+    parameters.put("literal", new Pair<>("value", javaType));
+    ModuleOperationBindingPlan plan = new ModuleOperationBindingPlan(expressionManager, new HashMap<>(), parameters);
+
+    Map<String, TypedValue<?>> firstBinding = bindVariables(plan);
+    Map<String, TypedValue<?>> secondBinding = bindVariables(plan);
+
+    assertThat(firstBinding, sameInstance(secondBinding));
+    assertThat(firstBinding.get("literal").getValue(), is("value"));
+    verify(expressionManager, times(1)).isExpression("value");
+    verify(expressionManager, never()).evaluate(anyString(), any(CoreEvent.class), any(ComponentLocation.class));
+  }
+
+  @Test
+  public void expressionsAreEvaluatedOnEachInvocation() {
+    TypedValue<String> evaluated = TypedValue.of("evaluated");
+    when(expressionManager.evaluate("#[vars.value]", event, location)).thenReturn(evaluated);
+    Map<String, Pair<String, MetadataType>> parameters = new HashMap<>();
+    parameters.put("expression", new Pair<>("#[vars.value]", javaType));
+    ModuleOperationBindingPlan plan = new ModuleOperationBindingPlan(expressionManager, new HashMap<>(), parameters);
+
+    InternalEvent.Builder builder = mock(InternalEvent.Builder.class);
+    plan.bind(event, builder, expressionManager, location);
+    plan.bind(event, builder, expressionManager, location);
+
+    verify(builder, times(2)).addVariable("expression", evaluated);
+    verify(builder, never()).variablesTyped(any());
+    verify(expressionManager, times(2)).evaluate("#[vars.value]", event, location);
+  }
+
+  @Test
+  public void parameterOverridesPropertyWithSameName() {
+    Map<String, Pair<String, MetadataType>> properties = new HashMap<>();
+    properties.put("name", new Pair<>("#[vars.property]", javaType));
+    Map<String, Pair<String, MetadataType>> parameters = new HashMap<>();
+    parameters.put("name", new Pair<>("parameter", javaType));
+    ModuleOperationBindingPlan plan = new ModuleOperationBindingPlan(expressionManager, properties, parameters);
+
+    Map<String, TypedValue<?>> variables = bindVariables(plan);
+
+    assertThat(variables.get("name").getValue(), is("parameter"));
+    verify(expressionManager, never()).evaluate(eq("#[vars.property]"), any(CoreEvent.class), any(ComponentLocation.class));
+  }
+
+  private Map<String, TypedValue<?>> bindVariables(ModuleOperationBindingPlan plan) {
+    InternalEvent.Builder builder = mock(InternalEvent.Builder.class);
+    plan.bind(event, builder, expressionManager, location);
+
+    ArgumentCaptor<Map> captor = ArgumentCaptor.forClass(Map.class);
+    verify(builder).variablesTyped(captor.capture());
+    return captor.getValue();
+  }
+}
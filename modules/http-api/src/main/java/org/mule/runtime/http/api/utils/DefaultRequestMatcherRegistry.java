@@ -0,0 +1,437 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.http.api.utils;
+
+import static java.lang.String.format;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.singletonList;
+import static java.util.Collections.unmodifiableList;
+import static java.util.Collections.unmodifiableMap;
+import static java.util.Collections.unmodifiableSet;
+import static java.util.Comparator.comparing;
+import static org.mule.runtime.api.i18n.I18nMessageFactory.createStaticMessage;
+
+import org.mule.runtime.http.api.domain.message.request.HttpRequest;
+import org.mule.runtime.http.api.server.MethodRequestMatcher;
+import org.mule.runtime.http.api.server.PathAndMethodRequestMatcher;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * {@link RequestMatcherRegistry} that keeps its entries in a trie of path segments.
+ * <p>
+ * Each node of the trie has a child for each literal segment, a single child for uri params (i.e. {@code {id}}) and wildcard
+ * ({@code *}) segments, and the entries whose path ends at that node, either exactly or followed by a trailing wildcard. An entry
+ * is preferred over another one if its path has a literal segment where the other one has a uri param, at the first position
+ * where they differ, and trailing wildcards come after anything that matches more segments.
+ * <p>
+ * Lookups don't walk the trie, since a literal segment that matches could lead to a branch where nothing matches the rest of the
+ * path, needing to backtrack to the uri param of the same node. Instead, the trie is compiled into a deterministic structure
+ * in which each node merges all the trie nodes that match the same path prefix, and has the entries for the paths ending there
+ * already sorted by precedence. A lookup then follows a single node per segment of the requested path, so its cost depends on the
+ * depth of the path and not on how many entries are registered. The compiled structure is bigger than the trie only where
+ * literal and uri param segments share positions.
+ * <p>
+ * Both structures are immutable, so lookups don't lock at all. Adding or removing entries builds a new copy of the trie nodes in
+ * the affected branch, compiles the new trie and then publishes it.
+ *
+ * @param <T> the type of object associated to the registry
+ * @since 4.4
+ */
+class DefaultRequestMatcherRegistry<T> implements RequestMatcherRegistry<T> {
+
+  private static final String SLASH = "/";
+  private static final String WILDCARD = "*";
+
+  // How a candidate entry matches the requested path at each position, in order of precedence
+  private static final char EXACT_MATCH = '0';
+  private static final char LITERAL_SEGMENT = '1';
+  private static final char PARAM_SEGMENT = '2';
+  private static final char WILDCARD_MATCH = '3';
+
+  private final Supplier<T> methodMismatchSupplier;
+  private final Supplier<T> notFoundSupplier;
+  private final Supplier<T> invalidRequestSupplier;
+  private final Supplier<T> disabledSupplier;
+
+  private Node<T> root = new Node<>();
+  private volatile CompiledNode<T> compiledRoot = compile(root);
+
+  DefaultRequestMatcherRegistry(Supplier<T> methodMismatchSupplier, Supplier<T> notFoundSupplier,
+                                Supplier<T> invalidRequestSupplier, Supplier<T> disabledSupplier) {
+    this.methodMismatchSupplier = methodMismatchSupplier;
+    this.notFoundSupplier = notFoundSupplier;
+    this.invalidRequestSupplier = invalidRequestSupplier;
+    this.disabledSupplier = disabledSupplier;
+  }
+
+  @Override
+  public synchronized RequestMatcherRegistryEntry add(PathAndMethodRequestMatcher matcher, T item) {
+    final Entry<T> entry = new Entry<>(this, matcher, item, segmentsOf(matcher.getPath()));
+    root = root.add(entry, 0);
+    compiledRoot = compile(root);
+    return entry;
+  }
+
+  private synchronized void remove(Entry<T> entry) {
+    root = root.remove(entry, 0);
+    compiledRoot = compile(root);
+  }
+
+  @Override
+  public T find(HttpRequest request) {
+    return find(request.getMethod(), request.getPath());
+  }
+
+  @Override
+  public T find(String method, String path) {
+    if (path == null || !path.startsWith(SLASH) || method == null) {
+      return invalidRequestSupplier.get();
+    }
+
+    final List<Entry<T>> entries = compiledRoot.find(path);
+    if (entries.isEmpty()) {
+      return notFoundSupplier.get();
+    }
+
+    final String upperCaseMethod = method.toUpperCase();
+    for (Entry<T> entry : entries) {
+      if (entry.acceptsMethod(upperCaseMethod)) {
+        return entry.enabled ? entry.item : disabledSupplier.get();
+      }
+    }
+    return methodMismatchSupplier.get();
+  }
+
+  private static String[] segmentsOf(String path) {
+    final List<String> segments = new ArrayList<>();
+    for (String segment : path.split(SLASH)) {
+      if (!segment.isEmpty()) {
+        segments.add(segment);
+      }
+    }
+    return segments.toArray(new String[segments.size()]);
+  }
+
+  private static boolean isParamSegment(String segment) {
+    return WILDCARD.equals(segment) || (segment.startsWith("{") && segment.endsWith("}"));
+  }
+
+  private static <T> CompiledNode<T> compile(Node<T> root) {
+    return compile(singletonList(new Branch<>(root, "")), emptyList());
+  }
+
+  /**
+   * Compiles the trie nodes that match the same path prefix into a single node.
+   *
+   * @param branches           the trie nodes matching the prefix, with the choices taken to reach each of them
+   * @param inheritedWildcards the trailing wildcard entries of the shorter prefixes, which match any path below this one
+   */
+  private static <T> CompiledNode<T> compile(List<Branch<T>> branches, List<Candidate<T>> inheritedWildcards) {
+    final List<Candidate<T>> wildcards = new ArrayList<>(inheritedWildcards);
+    final List<Candidate<T>> candidates = new ArrayList<>();
+    final Set<String> literals = new LinkedHashSet<>();
+    final List<Branch<T>> paramBranches = new ArrayList<>();
+    for (Branch<T> branch : branches) {
+      for (Entry<T> entry : branch.node.entries) {
+        candidates.add(new Candidate<>(branch.choices + EXACT_MATCH, entry));
+      }
+      for (Entry<T> entry : branch.node.wildcardEntries) {
+        wildcards.add(new Candidate<>(branch.choices + WILDCARD_MATCH, entry));
+      }
+      literals.addAll(branch.node.children.keySet());
+      if (branch.node.paramChild != null) {
+        paramBranches.add(new Branch<>(branch.node.paramChild, branch.choices + PARAM_SEGMENT));
+      }
+    }
+    candidates.addAll(wildcards);
+
+    final Map<String, CompiledNode<T>> children = new HashMap<>();
+    for (String literal : literals) {
+      // A request with this segment may also be matched by the uri params at the same position, with lower precedence
+      final List<Branch<T>> childBranches = new ArrayList<>();
+      for (Branch<T> branch : branches) {
+        final Node<T> child = branch.node.children.get(literal);
+        if (child != null) {
+          childBranches.add(new Branch<>(child, branch.choices + LITERAL_SEGMENT));
+        }
+        if (branch.node.paramChild != null) {
+          childBranches.add(new Branch<>(branch.node.paramChild, branch.choices + PARAM_SEGMENT));
+        }
+      }
+      children.put(literal, compile(childBranches, wildcards));
+    }
+
+    return new CompiledNode<>(children.isEmpty() ? emptyMap() : unmodifiableMap(children),
+                              paramBranches.isEmpty() ? null : compile(paramBranches, wildcards),
+                              byPrecedence(candidates), byPrecedence(wildcards));
+  }
+
+  private static <T> List<Entry<T>> byPrecedence(List<Candidate<T>> candidates) {
+    if (candidates.isEmpty()) {
+      return emptyList();
+    }
+
+    // The sort is stable, so entries of the same node keep their order, with the ones for specific methods first
+    candidates.sort(comparing(candidate -> candidate.choices));
+    final List<Entry<T>> entries = new ArrayList<>(candidates.size());
+    for (Candidate<T> candidate : candidates) {
+      entries.add(candidate.entry);
+    }
+    return unmodifiableList(entries);
+  }
+
+  /**
+   * A trie node matching a path prefix, along with the choices taken to reach it: one character for each segment, telling
+   * whether the literal child or the uri param child was followed.
+   */
+  private static final class Branch<T> {
+
+    private final Node<T> node;
+    private final String choices;
+
+    private Branch(Node<T> node, String choices) {
+      this.node = node;
+      this.choices = choices;
+    }
+  }
+
+  /**
+   * An entry matching a path, along with the choices taken to reach its node followed by how the rest of the path is matched.
+   * Sorting the candidates of a path by their choices sorts them by precedence.
+   */
+  private static final class Candidate<T> {
+
+    private final String choices;
+    private final Entry<T> entry;
+
+    private Candidate(String choices, Entry<T> entry) {
+      this.choices = choices;
+      this.entry = entry;
+    }
+  }
+
+  /**
+   * Immutable node of the compiled structure used for lookups. It stands for all the trie nodes that match a path prefix.
+   */
+  private static final class CompiledNode<T> {
+
+    private final Map<String, CompiledNode<T>> children;
+    private final CompiledNode<T> paramChild;
+    private final List<Entry<T>> entries;
+    private final List<Entry<T>> wildcardEntries;
+
+    /**
+     * @param children        the node to follow for each literal segment
+     * @param paramChild      the node to follow for any other segment, or {@code null} if no uri param is at this position
+     * @param entries         the entries matching a path that ends at this node, by precedence
+     * @param wildcardEntries the entries matching a path that continues past this node through a segment without a child, by
+     *                        precedence
+     */
+    private CompiledNode(Map<String, CompiledNode<T>> children, CompiledNode<T> paramChild, List<Entry<T>> entries,
+                         List<Entry<T>> wildcardEntries) {
+      this.children = children;
+      this.paramChild = paramChild;
+      this.entries = entries;
+      this.wildcardEntries = wildcardEntries;
+    }
+
+    private List<Entry<T>> find(String path) {
+      CompiledNode<T> node = this;
+      int start = 0;
+      while (true) {
+        while (start < path.length() && path.charAt(start) == '/') {
+          start++;
+        }
+        if (start == path.length()) {
+          return node.entries;
+        }
+
+        int end = path.indexOf('/', start);
+        if (end == -1) {
+          end = path.length();
+        }
+
+        CompiledNode<T> next = node.children.isEmpty() ? null : node.children.get(path.substring(start, end));
+        if (next == null) {
+          next = node.paramChild;
+          if (next == null) {
+            return node.wildcardEntries;
+          }
+        }
+        node = next;
+        start = end;
+      }
+    }
+  }
+
+  /**
+   * Immutable node of the trie. Updates return a new node, sharing the unchanged children with the original one.
+   */
+  private static final class Node<T> {
+
+    private final Map<String, Node<T>> children;
+    private final Node<T> paramChild;
+    private final List<Entry<T>> entries;
+    private final List<Entry<T>> wildcardEntries;
+
+    private Node() {
+      this(emptyMap(), null, emptyList(), emptyList());
+    }
+
+    private Node(Map<String, Node<T>> children, Node<T> paramChild, List<Entry<T>> entries, List<Entry<T>> wildcardEntries) {
+      this.children = children;
+      this.paramChild = paramChild;
+      this.entries = entries;
+      this.wildcardEntries = wildcardEntries;
+    }
+
+    private boolean isEmpty() {
+      return children.isEmpty() && paramChild == null && entries.isEmpty() && wildcardEntries.isEmpty();
+    }
+
+    private Node<T> add(Entry<T> entry, int index) {
+      final String[] segments = entry.segments;
+      if (index == segments.length) {
+        return new Node<>(children, paramChild, withEntry(entries, entry), wildcardEntries);
+      }
+
+      final String segment = segments[index];
+      if (index == segments.length - 1 && WILDCARD.equals(segment)) {
+        return new Node<>(children, paramChild, entries, withEntry(wildcardEntries, entry));
+      } else if (isParamSegment(segment)) {
+        final Node<T> child = paramChild != null ? paramChild : new Node<>();
+        return new Node<>(children, child.add(entry, index + 1), entries, wildcardEntries);
+      } else {
+        final Node<T> child = children.getOrDefault(segment, new Node<>());
+        final Map<String, Node<T>> newChildren = new HashMap<>(children);
+        newChildren.put(segment, child.add(entry, index + 1));
+        return new Node<>(unmodifiableMap(newChildren), paramChild, entries, wildcardEntries);
+      }
+    }
+
+    private Node<T> remove(Entry<T> entry, int index) {
+      final String[] segments = entry.segments;
+      if (index == segments.length) {
+        return new Node<>(children, paramChild, withoutEntry(entries, entry), wildcardEntries);
+      }
+
+      final String segment = segments[index];
+      if (index == segments.length - 1 && WILDCARD.equals(segment)) {
+        return new Node<>(children, paramChild, entries, withoutEntry(wildcardEntries, entry));
+      } else if (isParamSegment(segment)) {
+        if (paramChild == null) {
+          return this;
+        }
+        final Node<T> child = paramChild.remove(entry, index + 1);
+        return new Node<>(children, child.isEmpty() ? null : child, entries, wildcardEntries);
+      } else {
+        final Node<T> child = children.get(segment);
+        if (child == null) {
+          return this;
+        }
+        final Node<T> newChild = child.remove(entry, index + 1);
+        final Map<String, Node<T>> newChildren = new HashMap<>(children);
+        if (newChild.isEmpty()) {
+          newChildren.remove(segment);
+        } else {
+          newChildren.put(segment, newChild);
+        }
+        return new Node<>(unmodifiableMap(newChildren), paramChild, entries, wildcardEntries);
+      }
+    }
+
+    /**
+     * Adds the entry, keeping the ones that accept all methods last so the ones for specific methods are matched first.
+     */
+    private static <T> List<Entry<T>> withEntry(List<Entry<T>> entries, Entry<T> entry) {
+      final MethodRequestMatcher methodMatcher = entry.matcher.getMethodRequestMatcher();
+      for (Entry<T> existing : entries) {
+        if (existing.matcher.getMethodRequestMatcher().intersectsWith(methodMatcher)) {
+          throw new MatcherCollisionException(createStaticMessage(format("Already exists a listener matching that path and methods."
+              + " Listener matching %s new listener %s", existing.matcher, entry.matcher)));
+        }
+      }
+
+      final List<Entry<T>> newEntries = new ArrayList<>(entries);
+      if (methodMatcher.acceptsAll()) {
+        newEntries.add(entry);
+      } else {
+        int i = 0;
+        while (i < newEntries.size() && !newEntries.get(i).matcher.getMethodRequestMatcher().acceptsAll()) {
+          i++;
+        }
+        newEntries.add(i, entry);
+      }
+      return unmodifiableList(newEntries);
+    }
+
+    private static <T> List<Entry<T>> withoutEntry(List<Entry<T>> entries, Entry<T> entry) {
+      final List<Entry<T>> newEntries = new ArrayList<>(entries);
+      newEntries.remove(entry);
+      return newEntries.isEmpty() ? emptyList() : unmodifiableList(newEntries);
+    }
+  }
+
+  private static final class Entry<T> implements RequestMatcherRegistryEntry {
+
+    private final DefaultRequestMatcherRegistry<T> registry;
+    private final PathAndMethodRequestMatcher matcher;
+    private final T item;
+    private final String[] segments;
+    private final boolean acceptsAllMethods;
+    private final Set<String> methods;
+
+    private volatile boolean enabled = true;
+
+    private Entry(DefaultRequestMatcherRegistry<T> registry, PathAndMethodRequestMatcher matcher, T item, String[] segments) {
+      this.registry = registry;
+      this.matcher = matcher;
+      this.item = item;
+      this.segments = segments;
+      this.acceptsAllMethods = matcher.getMethodRequestMatcher().acceptsAll();
+
+      final Set<String> methods = new HashSet<>();
+      for (String method : matcher.getMethodRequestMatcher().getMethods()) {
+        methods.add(method.toUpperCase());
+      }
+      this.methods = unmodifiableSet(methods);
+    }
+
+    private boolean acceptsMethod(String method) {
+      return acceptsAllMethods || methods.contains(method);
+    }
+
+    @Override
+    public void disable() {
+      enabled = false;
+    }
+
+    @Override
+    public void enable() {
+      enabled = true;
+    }
+
+    @Override
+    public void remove() {
+      registry.remove(this);
+    }
+
+    @Override
+    public String toString() {
+      return "RequestMatcherRegistryEntry{" + matcher + "}";
+    }
+  }
+}
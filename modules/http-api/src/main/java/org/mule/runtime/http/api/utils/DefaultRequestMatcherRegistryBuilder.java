@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.http.api.utils;
+
+import static java.util.Objects.requireNonNull;
+
+import org.mule.runtime.http.api.HttpService;
+import org.mule.runtime.http.api.utils.RequestMatcherRegistry.RequestMatcherRegistryBuilder;
+
+import java.util.function.Supplier;
+
+/**
+ * {@link RequestMatcherRegistryBuilder} of registries that match requests in a time proportional to the depth of the request
+ * path, regardless of how many entries are registered.
+ * <p>
+ * This is meant for {@link HttpService} implementations to return from {@link HttpService#getRequestMatcherRegistryBuilder()}.
+ *
+ * @param <T> the type of object associated to the registry
+ * @since 4.4
+ */
+public final class DefaultRequestMatcherRegistryBuilder<T> implements RequestMatcherRegistryBuilder<T> {
+
+  private Supplier<T> methodMismatchSupplier = () -> null;
+  private Supplier<T> notFoundSupplier = () -> null;
+  private Supplier<T> invalidRequestSupplier = () -> null;
+  private Supplier<T> disabledSupplier = () -> null;
+
+  @Override
+  public RequestMatcherRegistryBuilder<T> onMethodMismatch(Supplier<T> itemSupplier) {
+    this.methodMismatchSupplier = requireNonNull(itemSupplier);
+    return this;
+  }
+
+  @Override
+  public RequestMatcherRegistryBuilder<T> onNotFound(Supplier<T> itemSupplier) {
+    this.notFoundSupplier = requireNonNull(itemSupplier);
+    return this;
+  }
+
+  @Override
+  public RequestMatcherRegistryBuilder<T> onInvalidRequest(Supplier<T> itemSupplier) {
+    this.invalidRequestSupplier = requireNonNull(itemSupplier);
+    return this;
+  }
+
+  @Override
+  public RequestMatcherRegistryBuilder<T> onDisabled(Supplier<T> itemSupplier) {
+    this.disabledSupplier = requireNonNull(itemSupplier);
+    return this;
+  }
+
+  @Override
+  public RequestMatcherRegistry<T> build() {
+    return new DefaultRequestMatcherRegistry<>(methodMismatchSupplier, notFoundSupplier, invalidRequestSupplier,
+                                               disabledSupplier);
+  }
+}
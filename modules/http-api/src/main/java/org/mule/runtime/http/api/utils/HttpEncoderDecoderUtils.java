@@ -6,16 +6,16 @@
  */
 package org.mule.runtime.http.api.utils;
 
+import static com.github.benmanes.caffeine.cache.Caffeine.newBuilder;
 import static java.net.URLEncoder.encode;
 import static java.nio.charset.StandardCharsets.UTF_8;
-import static java.util.Collections.emptyMap;
 import static java.util.regex.Pattern.compile;
-import static org.mule.runtime.api.util.MultiMap.emptyMultiMap;
+import static org.mule.runtime.http.api.utils.UrlEncodedDecoder.decodeUrlEncoded;
 
 import org.mule.runtime.api.exception.MuleRuntimeException;
 import org.mule.runtime.api.util.MultiMap;
-import org.mule.runtime.api.util.MultiMap.StringMultiMap;
-import org.mule.runtime.api.util.collection.SmallMap;
+
+import com.github.benmanes.caffeine.cache.Cache;
 
 import java.io.UnsupportedEncodingException;
 import java.net.URLDecoder;
@@ -38,6 +38,9 @@ public final class HttpEncoderDecoderUtils {
 
   private static final Pattern SPACES_MATCHER = compile(" ");
   private static final String SPACE_ENTITY = "%20";
+  private static final int MAX_URI_TEMPLATES_CACHE_SIZE = 2000;
+
+  private static final Cache<String, UriTemplate> URI_TEMPLATES = newBuilder().maximumSize(MAX_URI_TEMPLATES_CACHE_SIZE).build();
 
   /**
    * Extracts the path (what's left of the {@code ?} character) from the passed uri.
@@ -103,68 +106,20 @@ public final class HttpEncoderDecoderUtils {
    * @return a map representation of the {@code queryString}
    */
   public static MultiMap<String, String> decodeUrlEncodedBody(String queryString, Charset encoding) {
-    if (queryString != null && queryString.trim().length() > 0) {
-      MultiMap<String, String> queryParams = new StringMultiMap();
-
-      String[] pairs = queryString.split("&");
-      for (String pair : pairs) {
-        int idx = pair.indexOf("=");
-
-        if (idx != -1) {
-          addParam(queryParams, pair.substring(0, idx), pair.substring(idx + 1), encoding);
-        } else {
-          addParam(queryParams, pair, null, encoding);
-
-        }
-      }
-      return queryParams;
-    } else {
-      return emptyMultiMap();
-    }
+    return decodeUrlEncoded(queryString, encoding);
   }
 
   /**
    * Decodes uri params from a request path
+   * <p>
+   * Listeners should rather keep the {@link UriTemplate} for their path, instead of calling this method for each request.
    *
    * @param pathWithUriParams path with uri param place holders
    * @param requestPath request path
    * @return a map with the uri params present in the request path with the values decoded.
    */
   public static Map<String, String> decodeUriParams(String pathWithUriParams, String requestPath) {
-    if (pathWithUriParams.contains("{")) {
-      Map<String, String> uriParams = new SmallMap<>();
-
-      final String[] requestPathParts = requestPath.split("/");
-      final String[] listenerPathParts = pathWithUriParams.split("/");
-      int longerPathSize = Math.min(requestPathParts.length, listenerPathParts.length);
-      // split will return an empty string as first path before /
-      for (int i = 1; i < longerPathSize; i++) {
-        final String listenerPart = listenerPathParts[i];
-        if (listenerPart.startsWith("{") && listenerPart.endsWith("}")) {
-          String parameterName = listenerPart.substring(1, listenerPart.length() - 1);
-          String parameterValue = requestPathParts[i];
-          uriParams.put(parameterName, decode(parameterValue, UTF_8));
-        }
-      }
-      return uriParams;
-    } else {
-      return emptyMap();
-    }
-  }
-
-  private static void addParam(MultiMap<String, String> queryParams, String name, String value, Charset encoding) {
-    queryParams.put(decode(name, encoding), decode(value, encoding));
-  }
-
-  private static String decode(String text, Charset encoding) {
-    if (text == null) {
-      return null;
-    }
-    try {
-      return URLDecoder.decode(text, encoding.name());
-    } catch (UnsupportedEncodingException e) {
-      throw new MuleRuntimeException(e);
-    }
+    return URI_TEMPLATES.get(pathWithUriParams, UriTemplate::compile).decodeUriParams(requestPath);
   }
 
   /**
@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.http.api.utils;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Collections.emptyMap;
+import static org.mule.runtime.http.api.utils.UrlEncodedDecoder.decode;
+
+import org.mule.runtime.api.util.collection.SmallMap;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A listener path with uri param place holders (i.e. {@code /api/orders/{orderId}}), compiled once so the uri params of each
+ * request path can be extracted without splitting the listener path again.
+ * <p>
+ * Instances are immutable and thread safe, so they are meant to be created once per listener path and reused for all the
+ * requests it receives.
+ *
+ * @since 4.4
+ */
+public final class UriTemplate {
+
+  private final String path;
+  private final boolean hasPlaceHolders;
+  private final int segmentsCount;
+  private final int[] paramSegments;
+  private final String[] paramNames;
+
+  /**
+   * Compiles the given listener path.
+   *
+   * @param pathWithUriParams path with uri param place holders
+   * @return the compiled template
+   */
+  public static UriTemplate compile(String pathWithUriParams) {
+    return new UriTemplate(pathWithUriParams);
+  }
+
+  private UriTemplate(String pathWithUriParams) {
+    this.path = pathWithUriParams;
+    this.hasPlaceHolders = pathWithUriParams.contains("{");
+
+    final String[] listenerPathParts = pathWithUriParams.split("/");
+    final List<Integer> segments = new ArrayList<>();
+    final List<String> names = new ArrayList<>();
+    // split will return an empty string as first path before /
+    for (int i = 1; i < listenerPathParts.length; i++) {
+      final String listenerPart = listenerPathParts[i];
+      if (listenerPart.startsWith("{") && listenerPart.endsWith("}")) {
+        segments.add(i);
+        names.add(listenerPart.substring(1, listenerPart.length() - 1));
+      }
+    }
+
+    this.segmentsCount = listenerPathParts.length;
+    this.paramSegments = segments.stream().mapToInt(Integer::intValue).toArray();
+    this.paramNames = names.toArray(new String[names.size()]);
+  }
+
+  /**
+   * @return the listener path this template was compiled from.
+   */
+  public String getPath() {
+    return path;
+  }
+
+  /**
+   * Decodes uri params from a request path. The request path is scanned once, and only the parts that correspond to a uri param
+   * are extracted from it.
+   *
+   * @param requestPath request path
+   * @return a map with the uri params present in the request path with the values decoded.
+   */
+  public Map<String, String> decodeUriParams(String requestPath) {
+    if (!hasPlaceHolders) {
+      return emptyMap();
+    }
+
+    final Map<String, String> uriParams = new SmallMap<>();
+    if (paramSegments.length == 0) {
+      return uriParams;
+    }
+
+    // Trailing slashes don't make a part of the path, same as when splitting it
+    int end = requestPath.length();
+    while (end > 0 && requestPath.charAt(end - 1) == '/') {
+      end--;
+    }
+
+    int segment = 0;
+    int segmentStart = 0;
+    int param = 0;
+    while (param < paramSegments.length && segment < segmentsCount) {
+      int segmentEnd = requestPath.indexOf('/', segmentStart);
+      if (segmentEnd == -1 || segmentEnd > end) {
+        segmentEnd = end;
+      }
+
+      if (segment == paramSegments[param]) {
+        uriParams.put(paramNames[param], decode(requestPath, segmentStart, segmentEnd, UTF_8));
+        param++;
+      }
+
+      if (segmentEnd == end) {
+        break;
+      }
+      segmentStart = segmentEnd + 1;
+      segment++;
+    }
+    return uriParams;
+  }
+
+  @Override
+  public String toString() {
+    return "UriTemplate{" + path + "}";
+  }
+}
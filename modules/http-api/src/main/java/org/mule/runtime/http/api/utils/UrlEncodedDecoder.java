@@ -0,0 +1,241 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.http.api.utils;
+
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.mule.runtime.api.util.MultiMap.emptyMultiMap;
+
+import org.mule.runtime.api.exception.MuleRuntimeException;
+import org.mule.runtime.api.util.MultiMap;
+import org.mule.runtime.api.util.MultiMap.StringMultiMap;
+
+import java.io.UnsupportedEncodingException;
+import java.net.URLDecoder;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+
+/**
+ * Decodes {@code application/x-www-form-urlencoded} content, such as query strings and form bodies, in a single pass over the
+ * input and without splitting it first.
+ * <p>
+ * The results are the same as decoding each name and value with {@link URLDecoder#decode(String, String)}: {@code +} is decoded
+ * as a space and each run of {@code %XX} escapes is decoded as bytes of the given encoding. Names and values without anything to
+ * decode are taken as they are from the input. Malformed escapes are handed to {@link URLDecoder}, so they fail the same way.
+ *
+ * @since 4.4
+ */
+public final class UrlEncodedDecoder {
+
+  private UrlEncodedDecoder() {
+    // Nothing to do
+  }
+
+  /**
+   * Converts url-encoded content into a {@link MultiMap} with a given encoding.
+   *
+   * @param content  the content to decode
+   * @param encoding the encoding of the escaped characters
+   * @return a map representation of the {@code content}
+   */
+  public static MultiMap<String, String> decodeUrlEncoded(CharSequence content, Charset encoding) {
+    if (content == null || isBlank(content)) {
+      return emptyMultiMap();
+    }
+
+    final MultiMap<String, String> params = new StringMultiMap();
+    final int length = content.length();
+    // Empty pairs at the end are ignored, so the ones found are only added once a non empty pair follows them
+    int pendingEmptyPairs = 0;
+    int pairStart = 0;
+    while (pairStart <= length) {
+      int pairEnd = indexOf(content, '&', pairStart, length);
+      if (pairEnd == -1) {
+        pairEnd = length;
+      }
+
+      if (pairEnd == pairStart) {
+        pendingEmptyPairs++;
+      } else {
+        for (; pendingEmptyPairs > 0; --pendingEmptyPairs) {
+          params.put("", null);
+        }
+
+        final int separator = indexOf(content, '=', pairStart, pairEnd);
+        if (separator == -1) {
+          params.put(decode(content, pairStart, pairEnd, encoding), null);
+        } else {
+          params.put(decode(content, pairStart, separator, encoding), decode(content, separator + 1, pairEnd, encoding));
+        }
+      }
+
+      pairStart = pairEnd + 1;
+    }
+    return params;
+  }
+
+  /**
+   * Converts url-encoded content into a {@link MultiMap} with a given encoding. The position of {@code content} is not changed.
+   *
+   * @param content  the content to decode
+   * @param encoding the encoding of {@code content}, and of the escaped characters within it
+   * @return a map representation of the {@code content}
+   */
+  public static MultiMap<String, String> decodeUrlEncoded(ByteBuffer content, Charset encoding) {
+    if (content == null) {
+      return emptyMultiMap();
+    }
+    if (isAsciiCompatible(encoding) && isAscii(content)) {
+      return decodeUrlEncoded(new AsciiCharSequence(content, content.position(), content.limit()), encoding);
+    }
+    return decodeUrlEncoded(encoding.decode(content.duplicate()), encoding);
+  }
+
+  /**
+   * Decodes a url-encoded name or value.
+   *
+   * @param text     the text to decode
+   * @param encoding the encoding of the escaped characters
+   * @return the decoded text, or {@code null} if {@code text} is {@code null}
+   */
+  public static String decode(CharSequence text, Charset encoding) {
+    return text == null ? null : decode(text, 0, text.length(), encoding);
+  }
+
+  static String decode(CharSequence text, int start, int end, Charset encoding) {
+    int firstToDecode = start;
+    while (firstToDecode < end && text.charAt(firstToDecode) != '%' && text.charAt(firstToDecode) != '+') {
+      firstToDecode++;
+    }
+    if (firstToDecode == end) {
+      return text.subSequence(start, end).toString();
+    }
+
+    final StringBuilder decoded = new StringBuilder(end - start);
+    decoded.append(text, start, firstToDecode);
+    byte[] bytes = null;
+    int i = firstToDecode;
+    while (i < end) {
+      final char c = text.charAt(i);
+      if (c == '+') {
+        decoded.append(' ');
+        i++;
+      } else if (c == '%') {
+        if (bytes == null) {
+          bytes = new byte[(end - i) / 3];
+        }
+        int count = 0;
+        while (i < end && text.charAt(i) == '%') {
+          final int high = i + 2 < end ? hexValue(text.charAt(i + 1)) : -1;
+          final int low = high != -1 ? hexValue(text.charAt(i + 2)) : -1;
+          if (low == -1) {
+            return decodeMalformed(text, start, end, encoding);
+          }
+          bytes[count++] = (byte) ((high << 4) + low);
+          i += 3;
+        }
+        decoded.append(new String(bytes, 0, count, encoding));
+      } else {
+        decoded.append(c);
+        i++;
+      }
+    }
+    return decoded.toString();
+  }
+
+  private static String decodeMalformed(CharSequence text, int start, int end, Charset encoding) {
+    try {
+      return URLDecoder.decode(text.subSequence(start, end).toString(), encoding.name());
+    } catch (UnsupportedEncodingException e) {
+      throw new MuleRuntimeException(e);
+    }
+  }
+
+  private static int hexValue(char c) {
+    if (c >= '0' && c <= '9') {
+      return c - '0';
+    } else if (c >= 'a' && c <= 'f') {
+      return c - 'a' + 10;
+    } else if (c >= 'A' && c <= 'F') {
+      return c - 'A' + 10;
+    }
+    return -1;
+  }
+
+  private static int indexOf(CharSequence content, char c, int from, int to) {
+    for (int i = from; i < to; i++) {
+      if (content.charAt(i) == c) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  private static boolean isBlank(CharSequence content) {
+    for (int i = 0; i < content.length(); i++) {
+      // Same criteria as String#trim
+      if (content.charAt(i) > ' ') {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean isAsciiCompatible(Charset encoding) {
+    return UTF_8.equals(encoding) || ISO_8859_1.equals(encoding) || US_ASCII.equals(encoding);
+  }
+
+  private static boolean isAscii(ByteBuffer content) {
+    for (int i = content.position(); i < content.limit(); i++) {
+      if (content.get(i) < 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * A view of the ASCII bytes of a {@link ByteBuffer} as characters, so they can be decoded without copying them first.
+   */
+  private static final class AsciiCharSequence implements CharSequence {
+
+    private final ByteBuffer bytes;
+    private final int start;
+    private final int end;
+
+    private AsciiCharSequence(ByteBuffer bytes, int start, int end) {
+      this.bytes = bytes;
+      this.start = start;
+      this.end = end;
+    }
+
+    @Override
+    public int length() {
+      return end - start;
+    }
+
+    @Override
+    public char charAt(int index) {
+      return (char) bytes.get(start + index);
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+      return new AsciiCharSequence(bytes, this.start + start, this.start + end);
+    }
+
+    @Override
+    public String toString() {
+      final byte[] chars = new byte[length()];
+      for (int i = 0; i < chars.length; i++) {
+        chars[i] = bytes.get(start + i);
+      }
+      return new String(chars, US_ASCII);
+    }
+  }
+}
@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.http.api.utils;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsNull.nullValue;
+import static org.junit.Assert.assertThat;
+import static org.mule.test.allure.AllureConstants.HttpFeature.HTTP_SERVICE;
+
+import org.mule.runtime.http.api.server.MethodRequestMatcher;
+import org.mule.runtime.http.api.server.PathAndMethodRequestMatcher;
+import org.mule.runtime.http.api.utils.RequestMatcherRegistry.RequestMatcherRegistryEntry;
+
+import io.qameta.allure.Feature;
+import org.junit.Test;
+
+@Feature(HTTP_SERVICE)
+public class DefaultRequestMatcherRegistryTestCase {
+
+  private static final String METHOD_MISMATCH = "methodMismatch";
+  private static final String NOT_FOUND = "notFound";
+  private static final String INVALID = "invalid";
+  private static final String DISABLED = "disabled";
+
+  private final RequestMatcherRegistry<String> registry = new DefaultRequestMatcherRegistryBuilder<String>()
+      .onMethodMismatch(() -> METHOD_MISMATCH)
+      .onNotFound(() -> NOT_FOUND)
+      .onInvalidRequest(() -> INVALID)
+      .onDisabled(() -> DISABLED)
+      .build();
+
+  @Test
+  public void exactPath() {
+    registry.add(matcher("/api/orders"), "orders");
+
+    assertThat(registry.find("GET", "/api/orders"), is("orders"));
+    assertThat(registry.find("GET", "/api/orders/"), is("orders"));
+    assertThat(registry.find("GET", "/api"), is(NOT_FOUND));
+    assertThat(registry.find("GET", "/api/orders/1"), is(NOT_FOUND));
+  }
+
+  @Test
+  public void literalPreferredOverUriParam() {
+    registry.add(matcher("/api/{resource}/items"), "param");
+    registry.add(matcher("/api/orders/items"), "literal");
+
+    assertThat(registry.find("GET", "/api/orders/items"), is("literal"));
+    assertThat(registry.find("GET", "/api/invoices/items"), is("param"));
+  }
+
+  @Test
+  public void backtracksToUriParam() {
+    registry.add(matcher("/api/orders/pending"), "pending");
+    registry.add(matcher("/api/{resource}/items"), "items");
+
+    assertThat(registry.find("GET", "/api/orders/items"), is("items"));
+  }
+
+  @Test
+  public void interleavedLiteralsAndUriParams() {
+    registry.add(matcher("/a/b/c/d"), "literals");
+    registry.add(matcher("/a/{p1}/c/{p2}/e"), "alternate");
+    registry.add(matcher("/{p1}/b/{p2}/d/e/f"), "alternateLonger");
+    registry.add(matcher("/{p1}/{p2}/{p3}/{p4}"), "params");
+    registry.add(matcher("/{p1}/*"), "catchAll");
+
+    assertThat(registry.find("GET", "/a/b/c/d"), is("literals"));
+    assertThat(registry.find("GET", "/a/b/c/d/e"), is("alternate"));
+    assertThat(registry.find("GET", "/a/x/c/y/e"), is("alternate"));
+    assertThat(registry.find("GET", "/a/b/c/d/e/f"), is("alternateLonger"));
+    assertThat(registry.find("GET", "/a/b/x/d"), is("params"));
+    assertThat(registry.find("GET", "/z/b/c/d"), is("params"));
+    assertThat(registry.find("GET", "/z/b/c/d/e"), is("catchAll"));
+    assertThat(registry.find("GET", "/"), is(NOT_FOUND));
+  }
+
+  @Test
+  public void trailingWildcardOfLiteralPreferredOverLongerUriParamMatch() {
+    registry.add(matcher("/{p1}/b/c"), "params");
+    registry.add(matcher("/a/*"), "catchAll");
+    registry.add(matcher("/a/b/d", "POST"), "post");
+
+    assertThat(registry.find("GET", "/a/b/c"), is("catchAll"));
+    assertThat(registry.find("GET", "/a/b/d"), is("catchAll"));
+    assertThat(registry.find("POST", "/a/b/d"), is("post"));
+    assertThat(registry.find("GET", "/z/b/c"), is("params"));
+    assertThat(registry.find("GET", "/z/b/d"), is(NOT_FOUND));
+  }
+
+  @Test
+  public void wildcards() {
+    registry.add(matcher("/api/*"), "catchAll");
+    registry.add(matcher("/api/*/items"), "items");
+
+    assertThat(registry.find("GET", "/api"), is("catchAll"));
+    assertThat(registry.find("GET", "/api/orders/items"), is("items"));
+    assertThat(registry.find("GET", "/api/orders/other/items"), is("catchAll"));
+    assertThat(registry.find("GET", "/other"), is(NOT_FOUND));
+  }
+
+  @Test
+  public void specificMethodsPreferredOverAll() {
+    registry.add(PathAndMethodRequestMatcher.builder().path("/api").build(), "all");
+    registry.add(matcher("/api", "GET"), "get");
+
+    assertThat(registry.find("get", "/api"), is("get"));
+    assertThat(registry.find("POST", "/api"), is("all"));
+  }
+
+  @Test
+  public void methodMismatch() {
+    registry.add(matcher("/api", "GET", "PUT"), "api");
+
+    assertThat(registry.find("PUT", "/api"), is("api"));
+    assertThat(registry.find("POST", "/api"), is(METHOD_MISMATCH));
+  }
+
+  @Test(expected = MatcherCollisionException.class)
+  public void collision() {
+    registry.add(matcher("/api/{id}", "GET", "PUT"), "api");
+    registry.add(matcher("/api/{other}/", "PUT"), "other");
+  }
+
+  @Test
+  public void noCollisionForDifferentMethods() {
+    registry.add(matcher("/api/{id}", "GET"), "get");
+    registry.add(matcher("/api/{other}", "PUT"), "put");
+
+    assertThat(registry.find("GET", "/api/1"), is("get"));
+    assertThat(registry.find("PUT", "/api/1"), is("put"));
+  }
+
+  @Test
+  public void invalidRequest() {
+    assertThat(registry.find("GET", "api"), is(INVALID));
+  }
+
+  @Test
+  public void disableAndRemove() {
+    RequestMatcherRegistryEntry entry = registry.add(matcher("/api/orders"), "orders");
+    registry.add(matcher("/api/*"), "catchAll");
+
+    entry.disable();
+    assertThat(registry.find("GET", "/api/orders"), is(DISABLED));
+
+    entry.enable();
+    assertThat(registry.find("GET", "/api/orders"), is("orders"));
+
+    entry.remove();
+    assertThat(registry.find("GET", "/api/orders"), is("catchAll"));
+
+    registry.add(matcher("/api/orders"), "ordersAgain");
+    assertThat(registry.find("GET", "/api/orders"), is("ordersAgain"));
+  }
+
+  @Test
+  public void nullByDefault() {
+    RequestMatcherRegistry<String> registry = new DefaultRequestMatcherRegistryBuilder<String>().build();
+
+    assertThat(registry.find("GET", "/api"), is(nullValue()));
+  }
+
+  private PathAndMethodRequestMatcher matcher(String path, String... methods) {
+    MethodRequestMatcher methodMatcher = methods.length == 0
+        ? MethodRequestMatcher.acceptAll()
+        : MethodRequestMatcher.builder(asList(methods)).build();
+    return PathAndMethodRequestMatcher.builder().path(path).methodRequestMatcher(methodMatcher).build();
+  }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.http.api.utils;
+
+import static java.net.URLDecoder.decode;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.Matchers.aMapWithSize;
+import static org.hamcrest.Matchers.hasEntry;
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
+import static org.mule.test.allure.AllureConstants.HttpFeature.HTTP_SERVICE;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import io.qameta.allure.Feature;
+import org.junit.Test;
+
+@Feature(HTTP_SERVICE)
+public class UriTemplateTestCase {
+
+  @Test
+  public void decodesUriParams() {
+    UriTemplate template = UriTemplate.compile("/api/{resource}/items/{id}");
+
+    Map<String, String> uriParams = template.decodeUriParams("/api/orders/items/a%20b");
+
+    assertThat(uriParams, is(aMapWithSize(2)));
+    assertThat(uriParams, hasEntry("resource", "orders"));
+    assertThat(uriParams, hasEntry("id", "a b"));
+  }
+
+  @Test
+  public void ignoresMissingParts() {
+    UriTemplate template = UriTemplate.compile("/api/{resource}/{id}");
+
+    Map<String, String> uriParams = template.decodeUriParams("/api/orders/");
+
+    assertThat(uriParams, is(aMapWithSize(1)));
+    assertThat(uriParams, hasEntry("resource", "orders"));
+  }
+
+  @Test
+  public void keepsEmptyInnerParts() {
+    UriTemplate template = UriTemplate.compile("/api/{resource}/{id}");
+
+    Map<String, String> uriParams = template.decodeUriParams("/api//1");
+
+    assertThat(uriParams, hasEntry("resource", ""));
+    assertThat(uriParams, hasEntry("id", "1"));
+  }
+
+  @Test
+  public void decodesPlusAndMultiByteCharacters() {
+    Map<String, String> uriParams = UriTemplate.compile("/{a}/b/{c}").decodeUriParams("/x+y/b/%C3%A9");
+
+    assertThat(uriParams, is(aMapWithSize(2)));
+    assertThat(uriParams, hasEntry("a", "x y"));
+    assertThat(uriParams, hasEntry("c", "\u00e9"));
+  }
+
+  @Test
+  public void sameAsSplitAndUrlDecoder() throws Exception {
+    String[][] cases = {
+        {"/{a}/b/{c}", "/x+y/b/%C3%A9"},
+        {"/api/{resource}/{id}", "/api/orders/"},
+        {"/api/{resource}/{id}", "/api/orders//"},
+        {"/api/{resource}/{id}", "/api//1"},
+        {"/api/{resource}/{id}", "/api/orders/1/extra"},
+        {"/api/{resource}", "/api"},
+        {"/{a}/{b}", "//x/y"},
+        {"/{a}", "/%2F%20%25"},
+        {"/api/*/{id}", "/api/any/1"},
+        {"/api/{id}/", "/api/1/"}};
+
+    for (String[] testCase : cases) {
+      assertThat(testCase[0] + " " + testCase[1], new HashMap<>(UriTemplate.compile(testCase[0]).decodeUriParams(testCase[1])),
+                 is(splitAndUrlDecode(testCase[0], testCase[1])));
+    }
+  }
+
+  @Test
+  public void noUriParams() {
+    assertThat(UriTemplate.compile("/api/orders").decodeUriParams("/api/orders").isEmpty(), is(true));
+  }
+
+  /**
+   * The algorithm {@link HttpEncoderDecoderUtils#decodeUriParams(String, String)} used before {@link UriTemplate}.
+   */
+  private static Map<String, String> splitAndUrlDecode(String pathWithUriParams, String requestPath) throws Exception {
+    Map<String, String> uriParams = new HashMap<>();
+    String[] requestPathParts = requestPath.split("/");
+    String[] listenerPathParts = pathWithUriParams.split("/");
+    for (int i = 1; i < Math.min(requestPathParts.length, listenerPathParts.length); i++) {
+      String listenerPart = listenerPathParts[i];
+      if (listenerPart.startsWith("{") && listenerPart.endsWith("}")) {
+        uriParams.put(listenerPart.substring(1, listenerPart.length() - 1), decode(requestPathParts[i], UTF_8.name()));
+      }
+    }
+    return uriParams;
+  }
+}
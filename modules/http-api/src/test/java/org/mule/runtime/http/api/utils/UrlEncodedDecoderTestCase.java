@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.http.api.utils;
+
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
+import static org.mule.runtime.http.api.utils.UrlEncodedDecoder.decode;
+import static org.mule.runtime.http.api.utils.UrlEncodedDecoder.decodeUrlEncoded;
+import static org.mule.test.allure.AllureConstants.HttpFeature.HTTP_SERVICE;
+
+import org.mule.runtime.api.util.MultiMap;
+
+import java.nio.ByteBuffer;
+
+import io.qameta.allure.Feature;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+@Feature(HTTP_SERVICE)
+public class UrlEncodedDecoderTestCase {
+
+  @Rule
+  public ExpectedException expectedException = ExpectedException.none();
+
+  @Test
+  public void decodesNamesAndValues() {
+    MultiMap<String, String> params = decodeUrlEncoded("na%20me=a+b&other=%C3%A9&na%20me=c", UTF_8);
+
+    assertThat(params.getAll("na me"), contains("a b", "c"));
+    assertThat(params.get("other"), is("é"));
+  }
+
+  @Test
+  public void nameWithoutValue() {
+    MultiMap<String, String> params = decodeUrlEncoded("flag&&name=", UTF_8);
+
+    assertThat(params.get("flag"), is(nullValue()));
+    assertThat(params.containsKey(""), is(true));
+    assertThat(params.get("name"), is(""));
+  }
+
+  @Test
+  public void ignoresTrailingEmptyPairs() {
+    MultiMap<String, String> params = decodeUrlEncoded("a=1&&", UTF_8);
+
+    assertThat(params.keySet(), contains("a"));
+  }
+
+  @Test
+  public void blankContent() {
+    assertThat(decodeUrlEncoded(" ", UTF_8).isEmpty(), is(true));
+  }
+
+  @Test
+  public void decodesByteBufferWithoutConsumingIt() {
+    ByteBuffer content = ByteBuffer.wrap("a=%E9&b=café".getBytes(ISO_8859_1));
+
+    MultiMap<String, String> params = decodeUrlEncoded(content, ISO_8859_1);
+
+    assertThat(params.get("a"), is("é"));
+    assertThat(params.get("b"), is("café"));
+    assertThat(content.position(), is(0));
+  }
+
+  @Test
+  public void textWithoutEscapesIsKept() {
+    assertThat(decode("plain", UTF_8), is("plain"));
+  }
+
+  @Test
+  public void malformedEscape() {
+    expectedException.expect(IllegalArgumentException.class);
+    decode("100%", UTF_8);
+  }
+}
@@ -0,0 +1,254 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.module.launcher.log4j2;
+
+import static java.lang.Thread.currentThread;
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.locks.LockSupport.parkNanos;
+import static java.util.concurrent.locks.LockSupport.unpark;
+import static org.apache.logging.log4j.Level.INFO;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.appender.AbstractAppender;
+import org.apache.logging.log4j.core.config.AppenderControl;
+import org.apache.logging.log4j.core.config.Property;
+
+/**
+ * Appender that decouples the threads that log from the appenders that actually write the log events of an artifact.
+ * <p>
+ * Events are put in a {@link LogEventRingBuffer} and dispatched to the delegate appenders by a single thread owned by this
+ * appender. What happens when the buffer is full is determined by the {@link OverflowPolicy}.
+ * <p>
+ * Once the appender is stopping, events are written synchronously by the logging thread, and those that made it into the buffer
+ * after the final flush of the dispatcher are written by whoever notices them first, so no event is lost on shutdown.
+ * <p>
+ * Counters for the dispatched, discarded and blocked events are kept, and logged when the appender stops.
+ *
+ * @since 4.4
+ */
+final class ArtifactAsyncAppender extends AbstractAppender {
+
+  /**
+   * What to do with an event when the buffer is full.
+   */
+  enum OverflowPolicy {
+    /**
+     * The logging thread waits until there is room in the buffer.
+     */
+    BLOCK,
+
+    /**
+     * The event is discarded.
+     */
+    DISCARD,
+
+    /**
+     * Events of level {@code INFO} or lower are discarded, while more severe ones wait until there is room in the buffer.
+     */
+    DISCARD_BELOW_WARN
+  }
+
+  static final String ASYNC_APPENDER_NAME = "artifactAsyncAppender";
+
+  private static final long IDLE_PARK_NANOS = MILLISECONDS.toNanos(10);
+  private static final long BLOCKED_PARK_NANOS = MICROSECONDS.toNanos(100);
+
+  private final String artifactName;
+  private final List<AppenderControl> delegates;
+  private final OverflowPolicy overflowPolicy;
+  private final LogEventRingBuffer buffer;
+  private final Thread dispatcher;
+
+  private volatile boolean dispatcherIdle = false;
+  private volatile boolean stopRequested = false;
+
+  // Guards the polls from the buffer once the dispatcher leaves its loop, since the buffer supports a single consumer only
+  private final Object drainLock = new Object();
+  private boolean dispatcherDone = false;
+
+  private final LongAdder dispatchedCount = new LongAdder();
+  private final LongAdder discardedCount = new LongAdder();
+  private final LongAdder blockedCount = new LongAdder();
+
+  ArtifactAsyncAppender(String artifactName, List<AppenderControl> delegates, int bufferSize, OverflowPolicy overflowPolicy) {
+    super(ASYNC_APPENDER_NAME, null, null, true, Property.EMPTY_ARRAY);
+    this.artifactName = artifactName;
+    this.delegates = delegates;
+    this.overflowPolicy = overflowPolicy;
+    this.buffer = new LogEventRingBuffer(bufferSize);
+
+    dispatcher = new Thread(this::dispatch, "[" + artifactName + "].log-dispatcher");
+    dispatcher.setDaemon(true);
+    // Avoid keeping a reference to the classloader of the thread that configured the logging context
+    dispatcher.setContextClassLoader(ArtifactAsyncAppender.class.getClassLoader());
+  }
+
+  @Override
+  public void start() {
+    dispatcher.start();
+    super.start();
+  }
+
+  @Override
+  public void append(LogEvent event) {
+    if (currentThread() == dispatcher) {
+      // Logging done by the delegate appenders themselves, cannot wait for the dispatcher
+      callDelegates(event);
+      return;
+    }
+
+    if (stopRequested) {
+      // The dispatcher may have already done its final flush
+      callDelegates(event);
+      return;
+    }
+
+    final LogEvent immutableEvent = event.toImmutable();
+    if (buffer.offer(immutableEvent)) {
+      offered();
+      return;
+    }
+
+    if (overflowPolicy == OverflowPolicy.DISCARD
+        || (overflowPolicy == OverflowPolicy.DISCARD_BELOW_WARN && event.getLevel().isLessSpecificThan(INFO))) {
+      discardedCount.increment();
+      return;
+    }
+
+    blockedCount.increment();
+    while (!buffer.offer(immutableEvent)) {
+      if (stopRequested || !dispatcher.isAlive()) {
+        callDelegates(immutableEvent);
+        return;
+      }
+      signalDispatcher();
+      parkNanos(this, BLOCKED_PARK_NANOS);
+    }
+    offered();
+  }
+
+  private void offered() {
+    signalDispatcher();
+    if (stopRequested) {
+      // Stop was requested while the event was being offered, make sure it doesn't stay in the buffer
+      drainAfterDispatcher();
+    }
+  }
+
+  private void signalDispatcher() {
+    if (dispatcherIdle) {
+      unpark(dispatcher);
+    }
+  }
+
+  private void dispatch() {
+    while (!stopRequested) {
+      LogEvent event = buffer.poll();
+      if (event != null) {
+        callDelegates(event);
+        continue;
+      }
+
+      dispatcherIdle = true;
+      if (buffer.size() == 0 && !stopRequested) {
+        parkNanos(this, IDLE_PARK_NANOS);
+      }
+      dispatcherIdle = false;
+    }
+
+    // Flush what is left before stopping
+    synchronized (drainLock) {
+      flush();
+      dispatcherDone = true;
+    }
+  }
+
+  /**
+   * Writes the events left in the buffer, if the dispatcher has already done its final flush. Otherwise the dispatcher will write
+   * them itself.
+   */
+  private void drainAfterDispatcher() {
+    synchronized (drainLock) {
+      if (dispatcherDone) {
+        flush();
+      }
+    }
+  }
+
+  private void flush() {
+    LogEvent event;
+    while ((event = buffer.poll()) != null) {
+      callDelegates(event);
+    }
+  }
+
+  private void callDelegates(LogEvent event) {
+    for (AppenderControl delegate : delegates) {
+      try {
+        delegate.callAppender(event);
+      } catch (Exception e) {
+        error("Unable to dispatch log event to appender " + delegate.getAppenderName(), event, e);
+      }
+    }
+    dispatchedCount.increment();
+  }
+
+  @Override
+  public boolean stop(long timeout, TimeUnit timeUnit) {
+    setStopping();
+    stopRequested = true;
+    unpark(dispatcher);
+    try {
+      dispatcher.join(timeout > 0 ? timeUnit.toMillis(timeout) : 0);
+    } catch (InterruptedException e) {
+      currentThread().interrupt();
+    }
+    drainAfterDispatcher();
+
+    LOGGER.debug("Async logging of artifact '{}' stopped. Dispatched: {}, discarded: {}, blocked: {}, pending: {}",
+                 artifactName, getDispatchedCount(), getDiscardedCount(), getBlockedCount(), getPendingCount());
+    setStopped();
+    return !dispatcher.isAlive();
+  }
+
+  /**
+   * @return the amount of events written to the delegate appenders
+   */
+  long getDispatchedCount() {
+    return dispatchedCount.sum();
+  }
+
+  /**
+   * @return the amount of events discarded because the buffer was full
+   */
+  long getDiscardedCount() {
+    return discardedCount.sum();
+  }
+
+  /**
+   * @return the amount of events for which the logging thread had to wait because the buffer was full
+   */
+  long getBlockedCount() {
+    return blockedCount.sum();
+  }
+
+  /**
+   * @return an estimate of the amount of events waiting to be dispatched
+   */
+  int getPendingCount() {
+    return buffer.size();
+  }
+
+  String getArtifactName() {
+    return artifactName;
+  }
+}
@@ -36,6 +36,7 @@ import org.apache.logging.log4j.spi.ExtendedLogger;
 import org.apache.logging.log4j.util.MessageSupplier;
 import org.apache.logging.log4j.util.Supplier;
 
+import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.LoadingCache;
 
 /**
@@ -63,6 +64,14 @@ abstract class DispatchingLogger extends Logger {
       .weakValues()
       .build(key -> new Reference<>());
 
+  // Fast path keyed by the context classloader, skipping the lookups in both the ArtifactAwareContextSelector and the
+  // loggerCache. Maintenance runs on the calling thread, so caffeine internal threads never reference an app classloader.
+  private final Cache<ClassLoader, Logger> resolvedLoggers = newBuilder()
+      .weakKeys()
+      .weakValues()
+      .executor(Runnable::run)
+      .build();
+
   private Method updateConfigurationMethod = null;
 
   DispatchingLogger(Logger originalLogger, int ownerClassLoaderHash, LoggerContext loggerContext, ContextSelector contextSelector,
@@ -74,11 +83,25 @@ abstract class DispatchingLogger extends Logger {
   }
 
   private Logger getLogger() {
-    return getLogger(resolveLoggerContextClassLoader(currentThread().getContextClassLoader()));
+    final ClassLoader ctxClassLoader = currentThread().getContextClassLoader();
+
+    if (ctxClassLoader != null) {
+      final Logger logger = resolvedLoggers.getIfPresent(ctxClassLoader);
+      if (logger != null) {
+        return logger;
+      }
+    }
+
+    return getLogger(ctxClassLoader, resolveLoggerContextClassLoader(ctxClassLoader));
   }
 
   private Logger getLogger(final ClassLoader resolvedCtxClassLoader) {
+    return getLogger(null, resolvedCtxClassLoader);
+  }
+
+  private Logger getLogger(final ClassLoader ctxClassLoader, final ClassLoader resolvedCtxClassLoader) {
     if (useThisLoggerContextClassLoader(resolvedCtxClassLoader)) {
+      rememberLogger(ctxClassLoader, originalLogger);
       return originalLogger;
     }
 
@@ -111,9 +134,16 @@ abstract class DispatchingLogger extends Logger {
         }
       }
     }
+    rememberLogger(ctxClassLoader, logger);
     return logger;
   }
 
+  private void rememberLogger(ClassLoader ctxClassLoader, Logger logger) {
+    if (ctxClassLoader != null) {
+      resolvedLoggers.put(ctxClassLoader, logger);
+    }
+  }
+
   private Logger resolveLogger(ClassLoader resolvedCtxClassLoader) {
     Logger logger;
     // trick - this is probably a logger declared in a static field
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.module.launcher.log4j2;
+
+import static java.lang.Integer.highestOneBit;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.apache.logging.log4j.core.LogEvent;
+
+/**
+ * Bounded, lock-free ring buffer of {@link LogEvent}s for many producers and a single consumer.
+ * <p>
+ * Each slot has a sequence number that tells producers and the consumer whether the slot is free to be written or ready to be
+ * read for a given lap around the ring, so neither of them needs to lock.
+ *
+ * @since 4.4
+ */
+final class LogEventRingBuffer {
+
+  private final int capacity;
+  private final int mask;
+  private final AtomicReferenceArray<LogEvent> events;
+  private final AtomicLongArray sequences;
+
+  private final AtomicLong producerPosition = new AtomicLong();
+  private final AtomicLong consumerPosition = new AtomicLong();
+
+  /**
+   * @param requestedCapacity the minimum capacity of the buffer. It is rounded up to the next power of 2.
+   */
+  LogEventRingBuffer(int requestedCapacity) {
+    capacity = requestedCapacity <= 1 ? 2 : highestOneBit(requestedCapacity - 1) << 1;
+    mask = capacity - 1;
+    events = new AtomicReferenceArray<>(capacity);
+    sequences = new AtomicLongArray(capacity);
+    for (int i = 0; i < capacity; ++i) {
+      sequences.set(i, i);
+    }
+  }
+
+  /**
+   * Adds the given {@code event} if there is room for it.
+   *
+   * @return {@code false} if the buffer is full
+   */
+  boolean offer(LogEvent event) {
+    long position = producerPosition.get();
+    while (true) {
+      int index = (int) (position & mask);
+      long available = sequences.get(index) - position;
+      if (available == 0) {
+        if (producerPosition.compareAndSet(position, position + 1)) {
+          events.lazySet(index, event);
+          sequences.set(index, position + 1);
+          return true;
+        }
+        position = producerPosition.get();
+      } else if (available < 0) {
+        return false;
+      } else {
+        position = producerPosition.get();
+      }
+    }
+  }
+
+  /**
+   * Removes the oldest event. Must only be called from the consumer thread.
+   *
+   * @return the oldest event, or {@code null} if the buffer is empty
+   */
+  LogEvent poll() {
+    long position = consumerPosition.get();
+    int index = (int) (position & mask);
+    if (sequences.get(index) != position + 1) {
+      return null;
+    }
+
+    LogEvent event = events.get(index);
+    events.lazySet(index, null);
+    sequences.set(index, position + capacity);
+    consumerPosition.lazySet(position + 1);
+    return event;
+  }
+
+  /**
+   * @return an estimate of the amount of events waiting to be consumed
+   */
+  int size() {
+    return (int) Math.max(0, producerPosition.get() - consumerPosition.get());
+  }
+
+  int capacity() {
+    return capacity;
+  }
+}
@@ -13,11 +13,15 @@ import static java.lang.System.getProperty;
 import static java.util.zip.Deflater.NO_COMPRESSION;
 import static org.mule.runtime.api.i18n.I18nMessageFactory.createStaticMessage;
 import static org.mule.runtime.api.util.MuleSystemProperties.MULE_FORCE_CONSOLE_LOG;
+import static org.mule.runtime.core.api.config.MuleDeploymentProperties.MULE_ASYNC_APP_LOGS_BUFFER_SIZE_DEPLOYMENT_PROPERTY;
+import static org.mule.runtime.core.api.config.MuleDeploymentProperties.MULE_ASYNC_APP_LOGS_DEPLOYMENT_PROPERTY;
+import static org.mule.runtime.core.api.config.MuleDeploymentProperties.MULE_ASYNC_APP_LOGS_OVERFLOW_POLICY_DEPLOYMENT_PROPERTY;
 import static org.mule.runtime.core.api.config.MuleDeploymentProperties.MULE_MUTE_APP_LOGS_DEPLOYMENT_PROPERTY;
 import static org.mule.runtime.core.api.config.MuleProperties.MULE_LOG_DEFAULT_POLICY_INTERVAL;
 import static org.mule.runtime.core.api.config.MuleProperties.MULE_LOG_DEFAULT_STRATEGY_MAX;
 import static org.mule.runtime.core.api.config.MuleProperties.MULE_LOG_DEFAULT_STRATEGY_MIN;
 import static org.mule.runtime.core.privileged.event.PrivilegedEvent.CORRELATION_ID_MDC_KEY;
+import static org.mule.runtime.module.launcher.log4j2.ArtifactAsyncAppender.ASYNC_APPENDER_NAME;
 import static org.mule.runtime.module.reboot.api.MuleContainerBootstrapUtils.getMuleBase;
 import static org.mule.runtime.module.reboot.api.MuleContainerBootstrapUtils.getMuleConfDir;
 
@@ -27,13 +31,16 @@ import org.mule.runtime.core.api.util.FileUtils;
 import org.mule.runtime.module.artifact.api.classloader.ArtifactClassLoader;
 import org.mule.runtime.module.artifact.api.classloader.ShutdownListener;
 import org.mule.runtime.module.artifact.api.descriptor.ArtifactDescriptor;
+import org.mule.runtime.module.launcher.log4j2.ArtifactAsyncAppender.OverflowPolicy;
 
 import java.io.File;
 import java.io.Serializable;
 import java.net.MalformedURLException;
 import java.net.URI;
 import java.net.URL;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 import java.util.function.Function;
 
@@ -49,6 +56,8 @@ import org.apache.logging.log4j.core.appender.RollingFileAppender;
 import org.apache.logging.log4j.core.appender.rolling.DefaultRolloverStrategy;
 import org.apache.logging.log4j.core.appender.rolling.TimeBasedTriggeringPolicy;
 import org.apache.logging.log4j.core.config.AbstractConfiguration;
+import org.apache.logging.log4j.core.config.AppenderControl;
+import org.apache.logging.log4j.core.config.AppenderRef;
 import org.apache.logging.log4j.core.config.Configuration;
 import org.apache.logging.log4j.core.config.ConfigurationFileWatcher;
 import org.apache.logging.log4j.core.config.ConfigurationListener;
@@ -71,6 +80,7 @@ import org.apache.logging.log4j.core.util.FileWatcher;
  * <li>if the configuration did not include a monitorInterval, then one is set to a default value of 60</li>
  * <li>if the context is standalone, then it adds a rolling file appender associated to the artifact</li>
  * <li>if the context is not standalone, then it just logs to a file named mule-main.log</li>
+ * <li>if async logging is enabled for the artifact, then its appenders are wrapped by an {@link ArtifactAsyncAppender}</li>
  * </ul>
  *
  * @since 3.6.0
@@ -89,6 +99,7 @@ final class LoggerContextConfigurer {
 
   static final String FORCED_CONSOLE_APPENDER_NAME = "Forced-Console";
   static final String PER_APP_FILE_APPENDER_NAME = "defaultFileAppender";
+  static final int DEFAULT_ASYNC_BUFFER_SIZE = 8192;
 
   protected void configure(MuleLoggerContext context) {
     disableShutdownHook(context);
@@ -114,6 +125,11 @@ final class LoggerContextConfigurer {
     if (forceConsoleLog && !hasAppender(context, ConsoleAppender.class)) {
       forceConsoleAppender(context);
     }
+
+    if (context.isArtifactClassloader() && parseBoolean(getArtifactProperty(context, MULE_ASYNC_APP_LOGS_DEPLOYMENT_PROPERTY,
+                                                                            "false"))) {
+      enableAsyncLogging(context);
+    }
   }
 
   public boolean shouldConfigureContext(MuleLoggerContext context) {
@@ -129,6 +145,62 @@ final class LoggerContextConfigurer {
     return !parseBoolean(properties.getProperty(MULE_MUTE_APP_LOGS_DEPLOYMENT_PROPERTY, "false"));
   }
 
+  private String getArtifactProperty(MuleLoggerContext context, String propertyName, String defaultValue) {
+    ArtifactDescriptor descriptor = context.getArtifactDescriptor();
+    if (descriptor != null && descriptor.getDeploymentProperties().isPresent()) {
+      String value = descriptor.getDeploymentProperties().get().getProperty(propertyName);
+      if (value != null) {
+        return value;
+      }
+    }
+    return getProperty(propertyName, defaultValue);
+  }
+
+  /**
+   * Moves the appenders of the root logger behind an {@link ArtifactAsyncAppender}, so that the logging threads of the artifact
+   * do not wait for the I/O of its appenders.
+   */
+  private void enableAsyncLogging(MuleLoggerContext context) {
+    if (context.isStopping()) {
+      return;
+    }
+
+    LoggerConfig rootLogger = getRootLogger(context);
+    Map<String, Appender> appenders = rootLogger.getAppenders();
+    if (appenders.isEmpty() || appenders.containsKey(ASYNC_APPENDER_NAME)) {
+      return;
+    }
+
+    List<AppenderControl> delegates = new ArrayList<>(appenders.size());
+    for (Appender appender : appenders.values()) {
+      AppenderRef ref = findAppenderRef(rootLogger, appender.getName());
+      delegates.add(new AppenderControl(appender, ref != null ? ref.getLevel() : null, ref != null ? ref.getFilter() : null));
+    }
+
+    ArtifactAsyncAppender asyncAppender =
+        new ArtifactAsyncAppender(context.getArtifactName(),
+                                  delegates,
+                                  Integer.parseInt(getArtifactProperty(context, MULE_ASYNC_APP_LOGS_BUFFER_SIZE_DEPLOYMENT_PROPERTY,
+                                                                       String.valueOf(DEFAULT_ASYNC_BUFFER_SIZE))),
+                                  OverflowPolicy.valueOf(getArtifactProperty(context,
+                                                                             MULE_ASYNC_APP_LOGS_OVERFLOW_POLICY_DEPLOYMENT_PROPERTY,
+                                                                             OverflowPolicy.BLOCK.name())));
+
+    for (AppenderControl delegate : delegates) {
+      rootLogger.removeAppender(delegate.getAppenderName());
+    }
+    doAddAppender(context, asyncAppender);
+  }
+
+  private AppenderRef findAppenderRef(LoggerConfig loggerConfig, String appenderName) {
+    for (AppenderRef ref : loggerConfig.getAppenderRefs()) {
+      if (ref.getRef().equals(appenderName)) {
+        return ref;
+      }
+    }
+    return null;
+  }
+
   private void disableShutdownHook(LoggerContext context) {
     try {
       ClassUtils.setFieldValue(context.getConfiguration(), "isShutdownHookEnabled", false, true);
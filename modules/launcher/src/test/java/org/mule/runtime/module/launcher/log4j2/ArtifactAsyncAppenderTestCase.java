@@ -0,0 +1,179 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.module.launcher.log4j2;
+
+import static java.util.Collections.singletonList;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.mule.runtime.module.launcher.log4j2.ArtifactAsyncAppender.OverflowPolicy.BLOCK;
+import static org.mule.runtime.module.launcher.log4j2.ArtifactAsyncAppender.OverflowPolicy.DISCARD;
+import static org.mule.runtime.module.launcher.log4j2.ArtifactAsyncAppender.OverflowPolicy.DISCARD_BELOW_WARN;
+import static org.mule.test.allure.AllureConstants.ComponentsFeature.CORE_COMPONENTS;
+import static org.mule.test.allure.AllureConstants.ComponentsFeature.LoggerStory.LOGGER;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.mule.runtime.module.launcher.log4j2.ArtifactAsyncAppender.OverflowPolicy;
+import org.mule.tck.junit4.AbstractMuleTestCase;
+import org.mule.tck.size.SmallTest;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.qameta.allure.Feature;
+import io.qameta.allure.Story;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.core.Appender;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.config.AppenderControl;
+import org.apache.logging.log4j.core.impl.Log4jLogEvent;
+import org.apache.logging.log4j.message.SimpleMessage;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+@SmallTest
+@Feature(CORE_COMPONENTS)
+@Story(LOGGER)
+public class ArtifactAsyncAppenderTestCase extends AbstractMuleTestCase {
+
+  private final List<String> written = new CopyOnWriteArrayList<>();
+  private final CountDownLatch delegateReleased = new CountDownLatch(1);
+  private volatile boolean blockDelegate = false;
+
+  private Appender delegate;
+  private ArtifactAsyncAppender asyncAppender;
+
+  @Before
+  public void before() {
+    delegate = mock(Appender.class);
+    when(delegate.getName()).thenReturn("delegate");
+    when(delegate.isStarted()).thenReturn(true);
+    doAnswer(invocation -> {
+      if (blockDelegate) {
+        delegateReleased.await();
+      }
+      written.add(((LogEvent) invocation.getArgument(0)).getMessage().getFormattedMessage());
+      return null;
+    }).when(delegate).append(any(LogEvent.class));
+  }
+
+  @After
+  public void after() {
+    delegateReleased.countDown();
+    if (asyncAppender != null && !asyncAppender.isStopped()) {
+      asyncAppender.stop(5, SECONDS);
+    }
+  }
+
+  @Test
+  public void eventsAreDispatchedInOrder() {
+    startAppender(16, BLOCK);
+
+    for (int i = 0; i < 100; ++i) {
+      asyncAppender.append(event(Level.INFO, "message " + i));
+    }
+    asyncAppender.stop(5, SECONDS);
+
+    assertThat(written.size(), is(100));
+    for (int i = 0; i < 100; ++i) {
+      assertThat(written.get(i), is("message " + i));
+    }
+    assertThat(asyncAppender.getDispatchedCount(), is(100L));
+    assertThat(asyncAppender.getDiscardedCount(), is(0L));
+  }
+
+  @Test
+  public void discardWhenFull() {
+    blockDelegate = true;
+    startAppender(2, DISCARD);
+
+    for (int i = 0; i < 10; ++i) {
+      asyncAppender.append(event(Level.ERROR, "message " + i));
+    }
+
+    // At most the buffer plus the event being written by the dispatcher are kept
+    assertThat(asyncAppender.getDiscardedCount() >= 7, is(true));
+    assertThat(asyncAppender.getBlockedCount(), is(0L));
+
+    delegateReleased.countDown();
+    asyncAppender.stop(5, SECONDS);
+    assertThat(asyncAppender.getDispatchedCount() + asyncAppender.getDiscardedCount(), is(10L));
+  }
+
+  @Test
+  public void discardBelowWarnKeepsErrors() {
+    blockDelegate = true;
+    startAppender(2, DISCARD_BELOW_WARN);
+
+    for (int i = 0; i < 10; ++i) {
+      asyncAppender.append(event(Level.DEBUG, "debug " + i));
+    }
+    delegateReleased.countDown();
+    asyncAppender.append(event(Level.ERROR, "error"));
+    asyncAppender.stop(5, SECONDS);
+
+    assertThat(written.contains("error"), is(true));
+    assertThat(asyncAppender.getDispatchedCount() + asyncAppender.getDiscardedCount(), is(11L));
+  }
+
+  @Test
+  public void eventsAppendedAfterStopAreWritten() {
+    startAppender(16, BLOCK);
+    asyncAppender.append(event(Level.INFO, "before stop"));
+    asyncAppender.stop(5, SECONDS);
+
+    asyncAppender.append(event(Level.INFO, "after stop"));
+
+    assertThat(written, contains("before stop", "after stop"));
+    assertThat(asyncAppender.getPendingCount(), is(0));
+  }
+
+  @Test
+  public void eventsAppendedWhileStoppingAreNotLost() throws Exception {
+    startAppender(16, BLOCK);
+
+    final AtomicInteger appended = new AtomicInteger();
+    final CountDownLatch appending = new CountDownLatch(1);
+    final Thread loggingThread = new Thread(() -> {
+      while (!asyncAppender.isStopped()) {
+        asyncAppender.append(event(Level.INFO, "message " + appended.get()));
+        appended.incrementAndGet();
+        appending.countDown();
+      }
+    });
+    loggingThread.start();
+
+    appending.await(5, SECONDS);
+    asyncAppender.stop(5, SECONDS);
+    loggingThread.join(5000);
+
+    assertThat(written.size(), is(appended.get()));
+    assertThat(asyncAppender.getDispatchedCount(), is((long) appended.get()));
+    assertThat(asyncAppender.getPendingCount(), is(0));
+  }
+
+  private void startAppender(int bufferSize, OverflowPolicy overflowPolicy) {
+    asyncAppender = new ArtifactAsyncAppender("app", singletonList(new AppenderControl(delegate, null, null)), bufferSize,
+                                              overflowPolicy);
+    asyncAppender.start();
+  }
+
+  private LogEvent event(Level level, String message) {
+    return Log4jLogEvent.newBuilder()
+        .setLoggerName(ArtifactAsyncAppenderTestCase.class.getName())
+        .setLevel(level)
+        .setMessage(new SimpleMessage(message))
+        .build();
+  }
+}
@@ -6,6 +6,7 @@
  */
 package org.mule.runtime.config.internal;
 
+import static java.lang.Boolean.parseBoolean;
 import static java.lang.String.format;
 import static java.util.Collections.emptySet;
 import static java.util.Collections.newSetFromMap;
@@ -17,11 +18,14 @@ import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toSet;
 import static java.util.stream.Stream.concat;
 import static org.mule.runtime.api.component.ComponentIdentifier.buildFromStringRepresentation;
+import static org.mule.runtime.api.component.TypedComponentIdentifier.ComponentType.SOURCE;
 import static org.mule.runtime.api.i18n.I18nMessageFactory.createStaticMessage;
 import static org.mule.runtime.api.util.Preconditions.checkArgument;
 import static org.mule.runtime.ast.api.util.AstTraversalDirection.BOTTOM_UP;
 import static org.mule.runtime.ast.api.util.MuleAstUtils.recursiveStreamWithHierarchy;
 import static org.mule.runtime.config.api.dsl.CoreDslConstants.CONFIGURATION_IDENTIFIER;
+import static org.mule.runtime.config.api.dsl.CoreDslConstants.FLOW_IDENTIFIER;
+import static org.mule.runtime.config.api.dsl.CoreDslConstants.FLOW_REF_IDENTIFIER;
 import static org.mule.runtime.config.api.dsl.CoreDslConstants.RAISE_ERROR_IDENTIFIER;
 import static org.mule.runtime.config.internal.dsl.model.extension.xml.MacroExpansionModuleModel.DEFAULT_GLOBAL_ELEMENTS;
 import static org.mule.runtime.config.internal.dsl.spring.BeanDefinitionFactory.CORE_ERROR_NS;
@@ -30,12 +34,16 @@ import static org.mule.runtime.config.internal.parsers.generic.AutoIdUtils.uniqu
 import static org.mule.runtime.config.internal.util.ComponentBuildingDefinitionUtils.getArtifactComponentBuildingDefinitions;
 import static org.mule.runtime.config.internal.util.ComponentBuildingDefinitionUtils.getExtensionModelsComponentBuildingDefinitions;
 import static org.mule.runtime.config.internal.util.ComponentBuildingDefinitionUtils.getRuntimeComponentBuildingDefinitionProvider;
+import static org.mule.runtime.core.api.config.MuleDeploymentProperties.MULE_LAZY_FLOW_REF_TARGETS_DEPLOYMENT_PROPERTY;
+import static org.mule.runtime.core.api.config.MuleDeploymentProperties.MULE_LAZY_INIT_DEPLOYMENT_PROPERTY;
 import static org.mule.runtime.core.api.config.MuleProperties.OBJECT_MULE_CONFIGURATION;
 import static org.mule.runtime.core.api.config.MuleProperties.OBJECT_MULE_CONTEXT;
 import static org.mule.runtime.core.api.config.MuleProperties.OBJECT_REGISTRY;
 import static org.mule.runtime.core.api.config.bootstrap.ArtifactType.APP;
 import static org.mule.runtime.core.api.config.bootstrap.ArtifactType.DOMAIN;
 import static org.mule.runtime.core.api.config.bootstrap.ArtifactType.POLICY;
+import static org.mule.runtime.core.api.construct.Flow.INITIAL_STATE_STOPPED;
+import static org.mule.runtime.core.api.el.ExpressionManager.DEFAULT_EXPRESSION_PREFIX;
 import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.disposeIfNeeded;
 import static org.mule.runtime.core.api.util.StringUtils.isEmpty;
 import static org.mule.runtime.dsl.api.xml.parser.XmlConfigurationDocumentLoader.noValidationDocumentLoader;
@@ -80,6 +88,7 @@ import org.mule.runtime.config.internal.editors.MulePropertyEditorRegistrar;
 import org.mule.runtime.config.internal.model.ApplicationModel;
 import org.mule.runtime.config.internal.processor.ComponentLocatorCreatePostProcessor;
 import org.mule.runtime.config.internal.processor.DiscardedOptionalBeanPostProcessor;
+import org.mule.runtime.config.internal.processor.LazyFlowRefTargetPostProcessor;
 import org.mule.runtime.config.internal.processor.LifecycleStatePostProcessor;
 import org.mule.runtime.config.internal.processor.MuleInjectorProcessor;
 import org.mule.runtime.config.internal.processor.PostRegistrationActionsPostProcessor;
@@ -178,6 +187,8 @@ public class MuleArtifactContext extends AbstractRefreshableConfigApplicationCon
   private org.mule.runtime.core.internal.registry.Registry originalRegistry;
   private final ExtensionManager extensionManager;
   private final boolean disableXmlValidations;
+  private final boolean lazyFlowRefTargets;
+  private final Set<String> lazyFlowRefTargetNames = new HashSet<>();
 
   /**
    * Parses configuration files creating a spring ApplicationContext which is used as a parent registry using the SpringRegistry
@@ -221,6 +232,8 @@ public class MuleArtifactContext extends AbstractRefreshableConfigApplicationCon
     this.artifactDeclaration = artifactDeclaration;
     this.parentConfigurationProperties = parentConfigurationProperties;
     this.disableXmlValidations = disableXmlValidations;
+    this.lazyFlowRefTargets = parseBoolean(artifactProperties.get(MULE_LAZY_FLOW_REF_TARGETS_DEPLOYMENT_PROPERTY))
+        && !parseBoolean(artifactProperties.get(MULE_LAZY_INIT_DEPLOYMENT_PROPERTY));
     this.xmlConfigurationDocumentLoader = disableXmlValidations ? noValidationDocumentLoader() : schemaValidatingDocumentLoader();
     this.serviceDiscoverer = new DefaultRegistry(muleContext);
     this.resourceLocator = new DefaultResourceLocator();
@@ -381,6 +394,15 @@ public class MuleArtifactContext extends AbstractRefreshableConfigApplicationCon
                                                                  (DefaultListableBeanFactory) beanFactory),
                           new LifecycleStatePostProcessor(muleContext.getLifecycleManager().getState()),
                           new ComponentLocatorCreatePostProcessor(componentLocator));
+    if (lazyFlowRefTargets) {
+      addBeanPostProcessors(beanFactory, new LazyFlowRefTargetPostProcessor(muleContext, this::isLazyFlowRefTarget));
+      // Lookups by location, such as the one from the lookup() expression function, create the flow if it wasn't yet
+      componentLocator.setOnDemandComponentCreator(name -> {
+        if (isLazyFlowRefTarget(name)) {
+          beanFactory.getBean(name);
+        }
+      });
+    }
 
     beanFactory.registerSingleton(OBJECT_MULE_CONTEXT, muleContext);
 
@@ -592,6 +614,9 @@ public class MuleArtifactContext extends AbstractRefreshableConfigApplicationCon
     List<Pair<String, ComponentAst>> createdComponentModels = new ArrayList<>();
 
     final Set<ComponentAst> rootComponents = resolveRootComponents(applicationModel);
+    if (lazyFlowRefTargets) {
+      lazyFlowRefTargetNames.addAll(resolveLazyFlowRefTargets(applicationModel));
+    }
 
     recursiveStreamWithHierarchy(applicationModel, BOTTOM_UP)
         // Create component if must not be root is mandatory or component is a root component or component is child of a root component
@@ -677,6 +702,38 @@ public class MuleArtifactContext extends AbstractRefreshableConfigApplicationCon
                               .collect(toSet());
   }
 
+  /**
+   * Flows that can only be reached through a static {@code flow-ref} don't need to be created when the artifact starts. Those
+   * are the ones without a message source that are referenced by name from at least one {@code flow-ref}. Flows with an
+   * {@code initialState} of {@code stopped} are left out, since they must not be started when they are first referenced.
+   */
+  private Set<String> resolveLazyFlowRefTargets(ArtifactAst applicationModel) {
+    final Set<String> staticFlowRefTargets = applicationModel.recursiveStream()
+        .filter(comp -> FLOW_REF_IDENTIFIER.equals(comp.getIdentifier()))
+        .map(comp -> comp.getComponentId().orElse(null))
+        .filter(name -> name != null && !name.startsWith(DEFAULT_EXPRESSION_PREFIX))
+        .collect(toSet());
+
+    return applicationModel.topLevelComponentsStream()
+        .filter(comp -> FLOW_IDENTIFIER.equals(comp.getIdentifier()))
+        .filter(flow -> flow.getComponentId().map(staticFlowRefTargets::contains).orElse(false))
+        .filter(flow -> flow.directChildrenStream().noneMatch(comp -> SOURCE.equals(comp.getComponentType())))
+        .filter(flow -> !INITIAL_STATE_STOPPED.equals(flow.getRawParameterValue("initialState").orElse(null)))
+        .map(flow -> flow.getComponentId().get())
+        .collect(toSet());
+  }
+
+  /**
+   * @param flowName the name of a flow
+   * @return whether the flow with the given name is only created when it is first looked up, usually by a {@code flow-ref}
+   *         pointing to it. It is initialised and started at that moment.
+   * @see org.mule.runtime.core.api.config.MuleDeploymentProperties#MULE_LAZY_FLOW_REF_TARGETS_DEPLOYMENT_PROPERTY
+   * @since 4.4
+   */
+  public boolean isLazyFlowRefTarget(String flowName) {
+    return lazyFlowRefTargetNames.contains(flowName);
+  }
+
   private void registerRootSpringBean(DefaultListableBeanFactory beanFactory,
                                       Set<ComponentIdentifier> alwaysEnabledUnnamedTopLevelComponents,
                                       Set<String> alwaysEnabledGeneratedTopLevelComponentsName,
@@ -698,6 +755,11 @@ public class MuleArtifactContext extends AbstractRefreshableConfigApplicationCon
       }
     }
 
+    if (lazyFlowRefTargetNames.contains(nameAttribute)) {
+      // Not pre-instantiated by Spring, nor picked by the registry lifecycle until a flow-ref creates it
+      resolvedComponentModel.getBeanDefinition().setLazyInit(true);
+    }
+
     beanFactory.registerBeanDefinition(nameAttribute,
                                        requireNonNull(resolvedComponentModel.getBeanDefinition(),
                                                       "BeanDefinition null for "
@@ -6,10 +6,12 @@
  */
 package org.mule.runtime.config.internal;
 
+import static java.util.Arrays.stream;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.unmodifiableMap;
 import static java.util.Optional.empty;
 import static java.util.Optional.of;
+import static org.springframework.beans.factory.BeanFactoryUtils.isFactoryDereference;
 
 import org.mule.runtime.api.exception.MuleRuntimeException;
 import org.mule.runtime.api.ioc.ConfigurableObjectProvider;
@@ -123,6 +125,33 @@ public class ObjectProviderAwareBeanFactory extends DefaultListableBeanFactory {
     return unmodifiableMap(beans);
   }
 
+  /**
+   * {@inheritDoc}
+   * <p>
+   * When {@code allowEagerInit} is {@code false}, a lazy-init {@link org.springframework.beans.factory.FactoryBean} whose object
+   * was not created yet is not matched through the factory itself either. This way, looking up objects for lifecycle doesn't
+   * create the factory, and with it all of its inner beans, of a component that is meant to be created on demand.
+   */
+  @Override
+  public String[] getBeanNamesForType(Class<?> type, boolean includeNonSingletons, boolean allowEagerInit) {
+    String[] beanNames = super.getBeanNamesForType(type, includeNonSingletons, allowEagerInit);
+    if (allowEagerInit) {
+      return beanNames;
+    }
+
+    return stream(beanNames).filter(name -> !isNotCreatedLazyFactoryBean(name)).toArray(String[]::new);
+  }
+
+  private boolean isNotCreatedLazyFactoryBean(String name) {
+    if (!isFactoryDereference(name)) {
+      return false;
+    }
+
+    String beanName = transformedBeanName(name);
+    return containsBeanDefinition(beanName) && getMergedLocalBeanDefinition(beanName).isLazyInit()
+        && !containsSingleton(beanName);
+  }
+
   @Override
   protected Class<?> determineTargetType(String beanName, RootBeanDefinition mbd, Class<?>... typesToMatch) {
     if (mbd.getBeanClass().equals(ConstantFactoryBean.class)) {
@@ -19,13 +19,13 @@ import org.mule.runtime.api.component.location.ConfigurationComponentLocator;
 import org.mule.runtime.api.component.location.Location;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 import java.util.function.Function;
 
 /**
@@ -36,8 +36,10 @@ import java.util.function.Function;
 public class SpringConfigurationComponentLocator implements ConfigurationComponentLocator {
 
   private final Function<String, Boolean> isTemplateLocationFunction;
-  private final Map<String, Component> componentsMap = new HashMap<>();
+  private final Map<String, Component> componentsMap = new ConcurrentHashMap<>();
   private final Set<ComponentLocation> componentLocations = new HashSet<>();
+  private Consumer<String> onDemandComponentCreator = globalName -> {
+  };
 
   public SpringConfigurationComponentLocator() {
     this.isTemplateLocationFunction = memoize(location -> false, new ConcurrentHashMap<>());
@@ -68,6 +70,17 @@ public class SpringConfigurationComponentLocator implements ConfigurationCompone
     this.componentLocations.add(location);
   }
 
+  /**
+   * Sets the callback used by {@link #find(Location)} to create a top level component that is not in the locator yet, because
+   * it is only created on demand. Creating the component is expected to add it to the locator.
+   *
+   * @param onDemandComponentCreator receives the name of the top level component to create, if it is created on demand
+   * @since 4.4
+   */
+  public void setOnDemandComponentCreator(Consumer<String> onDemandComponentCreator) {
+    this.onDemandComponentCreator = onDemandComponentCreator;
+  }
+
   /**
    * Removes the components from the locator
    */
@@ -83,7 +96,12 @@ public class SpringConfigurationComponentLocator implements ConfigurationCompone
     if (location == null || isTemplateLocationFunction.apply(location.getGlobalName())) {
       return empty();
     }
-    return ofNullable(componentsMap.get(location.toString()));
+    Component component = componentsMap.get(location.toString());
+    if (component == null) {
+      onDemandComponentCreator.accept(location.getGlobalName());
+      component = componentsMap.get(location.toString());
+    }
+    return ofNullable(component);
   }
 
   /**
@@ -200,6 +200,16 @@ public class FlowRefFactoryBean extends AbstractComponentFactory<Processor> impl
     return (Processor) referencedFlow;
   }
 
+  private boolean isLazyFlowRefTarget(String name) {
+    return applicationContext instanceof MuleArtifactContext
+        && ((MuleArtifactContext) applicationContext).isLazyFlowRefTarget(name);
+  }
+
+  private boolean isPendingLazyFlowRefTarget(String name) {
+    return isLazyFlowRefTarget(name)
+        && !((MuleArtifactContext) applicationContext).getBeanFactory().containsSingleton(name);
+  }
+
   private Component getReferencedProcessor(String name) {
     if (applicationContext instanceof MuleArtifactContext) {
       MuleArtifactContext muleArtifactContext = (MuleArtifactContext) applicationContext;
@@ -297,6 +307,12 @@ public class FlowRefFactoryBean extends AbstractComponentFactory<Processor> impl
         return from(publisher).transform(recursiveFallback);
       }
 
+      if (!resolvedReferencedProcessorSupplier.isComputed() && isPendingLazyFlowRefTarget(refName)) {
+        // The referenced flow is created by the first event that gets here instead of when building the pipeline, so it is
+        // resolved per event like a dynamic reference. The pipeline built after a restart uses the already created flow.
+        return from(publisher).transform(recursiveFallback);
+      }
+
       final ReactiveProcessor resolvedReferencedProcessor = resolvedReferencedProcessorSupplier.get();
 
       Flux<CoreEvent> pub = from(publisher)
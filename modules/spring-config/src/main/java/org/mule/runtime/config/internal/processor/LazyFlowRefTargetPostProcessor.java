@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.config.internal.processor;
+
+import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.initialiseIfNeeded;
+import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.startIfNeeded;
+
+import org.mule.runtime.api.exception.MuleException;
+import org.mule.runtime.core.api.MuleContext;
+import org.mule.runtime.core.api.construct.Flow;
+import org.mule.runtime.core.api.lifecycle.LifecycleState;
+
+import java.util.function.Predicate;
+
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.BeanCreationException;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+/**
+ * A {@link BeanPostProcessor} that applies to lazy flow-ref targets the lifecycle the rest of the artifact has already gone
+ * through.
+ * <p>
+ * Those flows are left out of the lifecycle of the artifact until they are created, which may happen through a
+ * {@code flow-ref}, a registry lookup or the injection into another object. So the lifecycle is applied here, when the flow is
+ * created, regardless of who created it.
+ *
+ * @see org.mule.runtime.core.api.config.MuleDeploymentProperties#MULE_LAZY_FLOW_REF_TARGETS_DEPLOYMENT_PROPERTY
+ * @since 4.4
+ */
+public class LazyFlowRefTargetPostProcessor implements BeanPostProcessor {
+
+  private final MuleContext muleContext;
+  private final Predicate<String> isLazyFlowRefTarget;
+
+  /**
+   * @param muleContext         the context of the artifact the flows belong to
+   * @param isLazyFlowRefTarget tells whether the bean with a given name is a lazy flow-ref target
+   */
+  public LazyFlowRefTargetPostProcessor(MuleContext muleContext, Predicate<String> isLazyFlowRefTarget) {
+    this.muleContext = muleContext;
+    this.isLazyFlowRefTarget = isLazyFlowRefTarget;
+  }
+
+  @Override
+  public Object postProcessBeforeInitialization(Object bean, String beanName) throws BeansException {
+    return bean;
+  }
+
+  @Override
+  public Object postProcessAfterInitialization(Object bean, String beanName) throws BeansException {
+    if (bean instanceof Flow && isLazyFlowRefTarget.test(beanName)) {
+      try {
+        initialiseAndStart((Flow) bean);
+      } catch (MuleException e) {
+        throw new BeanCreationException(beanName, "Could not initialise or start lazy flow-ref target", e);
+      }
+    }
+
+    return bean;
+  }
+
+  /**
+   * A flow created before the artifact is initialised is picked by the lifecycle of the artifact, so nothing is done for it.
+   */
+  private void initialiseAndStart(Flow flow) throws MuleException {
+    synchronized (flow) {
+      LifecycleState lifecycleState = flow.getLifecycleState();
+      if (!lifecycleState.isInitialised() && (muleContext.isInitialising() || muleContext.isInitialised())) {
+        initialiseIfNeeded(flow, muleContext);
+      }
+      if (!lifecycleState.isStarted() && !lifecycleState.isStopped()
+          && (muleContext.isStarting() || muleContext.isStarted())) {
+        startIfNeeded(flow);
+      }
+    }
+  }
+}
@@ -12,8 +12,10 @@ import static java.util.Collections.singletonMap;
 import static java.util.Optional.of;
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.Matchers.hasKey;
 import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertThat;
@@ -24,6 +26,7 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -62,6 +65,7 @@ import org.mule.runtime.config.internal.ObjectProviderAwareBeanFactory;
 import org.mule.runtime.config.internal.OptionalObjectsController;
 import org.mule.runtime.config.internal.dsl.model.CoreComponentBuildingDefinitionProvider;
 import org.mule.runtime.config.internal.dsl.spring.ObjectFactoryClassRepository;
+import org.mule.runtime.config.internal.processor.LazyFlowRefTargetPostProcessor;
 import org.mule.runtime.core.api.MuleContext;
 import org.mule.runtime.core.api.config.bootstrap.ArtifactType;
 import org.mule.runtime.core.api.construct.Flow;
@@ -100,6 +104,7 @@ import org.junit.rules.ExpectedException;
 import org.mockito.MockSettings;
 import org.mockito.stubbing.Answer;
 import org.reactivestreams.Publisher;
+import org.springframework.beans.factory.FactoryBean;
 import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
 import org.springframework.beans.factory.support.DefaultListableBeanFactory;
@@ -382,6 +387,65 @@ public class FlowRefFactoryBeanTestCase extends AbstractMuleTestCase {
     }
   }
 
+  @Test
+  @Feature(CORE_COMPONENTS)
+  @Story(FLOW_REFERENCE)
+  public void lazyFlowRefTargetIsCreatedAndStartedOnFirstEvent() throws Exception {
+    ObjectProviderAwareBeanFactory beanFactory = new ObjectProviderAwareBeanFactory(null);
+    MuleArtifactContext muleArtifactContext = spy(createMuleArtifactContextStub(beanFactory));
+    doReturn(true).when(muleArtifactContext).isLazyFlowRefTarget(STATIC_REFERENCED_FLOW);
+    beanFactory.addBeanPostProcessor(new LazyFlowRefTargetPostProcessor(mockMuleContext,
+                                                                         muleArtifactContext::isLazyFlowRefTarget));
+    beanFactory.registerBeanDefinition(STATIC_REFERENCED_FLOW,
+                                       genericBeanDefinition(TargetFlowFactoryBean.class,
+                                                             () -> new TargetFlowFactoryBean(targetFlow))
+                                                                 .setLazyInit(true)
+                                                                 .getBeanDefinition());
+    when(mockMuleContext.isInitialised()).thenReturn(true);
+    when(mockMuleContext.isStarted()).thenReturn(true);
+    when(flowLifeCycleState.isInitialised()).thenReturn(false, true);
+    when(flowLifeCycleState.isStarted()).thenReturn(false, true);
+    doReturn(false).when(expressionManager).isExpression(anyString());
+
+    Processor flowRefProcessor =
+        getFlowRefProcessor(createFlowRefFactoryBean(STATIC_REFERENCED_FLOW, "flow", muleArtifactContext));
+    initialiseIfNeeded(flowRefProcessor);
+    startIfNeeded(flowRefProcessor);
+    Mono<CoreEvent> pipeline = just(newEvent()).cast(CoreEvent.class).transform(flowRefProcessor);
+
+    // Neither building the pipeline nor looking up objects for lifecycle creates the referenced flow
+    assertThat(beanFactory.getBeansOfTypeWithObjectProviderObjects(Object.class, false, false),
+               not(hasKey("&" + STATIC_REFERENCED_FLOW)));
+    assertThat(beanFactory.containsSingleton(STATIC_REFERENCED_FLOW), is(false));
+    verify(targetFlow, never()).initialise();
+
+    assertSame(result.getMessage(), pipeline.block().getMessage());
+    assertSame(result.getMessage(), just(newEvent()).cast(CoreEvent.class).transform(flowRefProcessor).block().getMessage());
+
+    verify(targetFlow).initialise();
+    verify(targetFlow).start();
+    assertThat(beanFactory.getBeansOfTypeWithObjectProviderObjects(Object.class, false, false), hasKey(STATIC_REFERENCED_FLOW));
+  }
+
+  private static class TargetFlowFactoryBean implements FactoryBean<Flow> {
+
+    private final Flow flow;
+
+    public TargetFlowFactoryBean(Flow flow) {
+      this.flow = flow;
+    }
+
+    @Override
+    public Flow getObject() {
+      return flow;
+    }
+
+    @Override
+    public Class<?> getObjectType() {
+      return Flow.class;
+    }
+  }
+
   private static class StubbedProcessor extends AbstractComponent implements Processor {
 
     private final CoreEvent applyResult;
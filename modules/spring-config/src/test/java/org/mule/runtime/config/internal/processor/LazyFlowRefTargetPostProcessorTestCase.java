@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.config.internal.processor;
+
+import static java.util.Optional.of;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mule.tck.util.MuleContextUtils.mockContextWithServices;
+import static org.mule.test.allure.AllureConstants.ComponentsFeature.CORE_COMPONENTS;
+import static org.mule.test.allure.AllureConstants.ComponentsFeature.FlowReferenceStory.FLOW_REFERENCE;
+import static org.springframework.beans.factory.support.BeanDefinitionBuilder.genericBeanDefinition;
+
+import org.mule.runtime.api.component.Component;
+import org.mule.runtime.api.component.location.ComponentLocation;
+import org.mule.runtime.api.component.location.Location;
+import org.mule.runtime.config.internal.SpringConfigurationComponentLocator;
+import org.mule.runtime.core.api.MuleContext;
+import org.mule.runtime.core.api.construct.Flow;
+import org.mule.runtime.core.api.lifecycle.LifecycleState;
+import org.mule.tck.junit4.AbstractMuleTestCase;
+import org.mule.tck.size.SmallTest;
+
+import io.qameta.allure.Feature;
+import io.qameta.allure.Story;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.beans.factory.FactoryBean;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+
+@SmallTest
+@Feature(CORE_COMPONENTS)
+@Story(FLOW_REFERENCE)
+public class LazyFlowRefTargetPostProcessorTestCase extends AbstractMuleTestCase {
+
+  private static final String LAZY_FLOW = "lazyFlow";
+
+  private final MuleContext muleContext = mockContextWithServices();
+  private final Flow flow = mock(Flow.class);
+  private final LifecycleState flowLifecycleState = mock(LifecycleState.class);
+  private final DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+  private final SpringConfigurationComponentLocator componentLocator = new SpringConfigurationComponentLocator();
+
+  @Before
+  public void before() {
+    ComponentLocation location = mock(ComponentLocation.class);
+    when(location.getLocation()).thenReturn(LAZY_FLOW);
+    when(flow.getLocation()).thenReturn(location);
+    when(flow.getLifecycleState()).thenReturn(flowLifecycleState);
+    when(flowLifecycleState.isInitialised()).thenReturn(false, true);
+    when(flowLifecycleState.isStarted()).thenReturn(false, true);
+
+    beanFactory.addBeanPostProcessor(new ComponentLocatorCreatePostProcessor(componentLocator));
+    beanFactory.addBeanPostProcessor(new LazyFlowRefTargetPostProcessor(muleContext, LAZY_FLOW::equals));
+    beanFactory.registerBeanDefinition(LAZY_FLOW, genericBeanDefinition(FlowFactoryBean.class, () -> new FlowFactoryBean(flow))
+        .setLazyInit(true)
+        .getBeanDefinition());
+    componentLocator.setOnDemandComponentCreator(name -> {
+      if (LAZY_FLOW.equals(name)) {
+        beanFactory.getBean(name);
+      }
+    });
+  }
+
+  @Test
+  public void registryLookupInitialisesAndStartsFlow() throws Exception {
+    when(muleContext.isInitialised()).thenReturn(true);
+    when(muleContext.isStarted()).thenReturn(true);
+
+    assertThat(beanFactory.getBean(LAZY_FLOW), is((Object) flow));
+
+    verify(flow).initialise();
+    verify(flow).start();
+  }
+
+  @Test
+  public void locatorLookupCreatesInitialisesAndStartsFlow() throws Exception {
+    when(muleContext.isInitialised()).thenReturn(true);
+    when(muleContext.isStarted()).thenReturn(true);
+
+    assertThat(componentLocator.find(Location.builder().globalName(LAZY_FLOW).build()), is(of((Component) flow)));
+
+    verify(flow).initialise();
+    verify(flow).start();
+  }
+
+  @Test
+  public void flowCreatedBeforeArtifactInitialiseIsLeftToArtifactLifecycle() throws Exception {
+    beanFactory.getBean(LAZY_FLOW);
+
+    verify(flow, never()).initialise();
+    verify(flow, never()).start();
+  }
+
+  @Test
+  public void flowCreatedBeforeArtifactStartIsOnlyInitialised() throws Exception {
+    when(muleContext.isInitialised()).thenReturn(true);
+
+    beanFactory.getBean(LAZY_FLOW);
+
+    verify(flow).initialise();
+    verify(flow, never()).start();
+  }
+
+  private static class FlowFactoryBean implements FactoryBean<Flow> {
+
+    private final Flow flow;
+
+    public FlowFactoryBean(Flow flow) {
+      this.flow = flow;
+    }
+
+    @Override
+    public Flow getObject() {
+      return flow;
+    }
+
+    @Override
+    public Class<?> getObjectType() {
+      return Flow.class;
+    }
+  }
+}
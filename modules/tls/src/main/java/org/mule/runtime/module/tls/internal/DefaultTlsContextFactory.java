@@ -8,6 +8,7 @@ package org.mule.runtime.module.tls.internal;
 
 import static java.util.Arrays.copyOf;
 import static org.mule.runtime.api.i18n.I18nMessageFactory.createStaticMessage;
+import static org.mule.runtime.module.tls.internal.revocation.RevocationCache.cachingTrustManagers;
 
 import org.mule.runtime.api.component.AbstractComponent;
 import org.mule.runtime.api.lifecycle.CreateException;
@@ -34,6 +35,7 @@ import java.util.concurrent.atomic.AtomicBoolean;
 
 import javax.net.ssl.SSLContext;
 import javax.net.ssl.SSLServerSocketFactory;
+import javax.net.ssl.SSLSessionContext;
 import javax.net.ssl.SSLSocketFactory;
 import javax.net.ssl.TrustManager;
 import javax.net.ssl.X509TrustManager;
@@ -45,6 +47,9 @@ import org.slf4j.LoggerFactory;
 /**
  * Default implementation of the {@code TlsContextFactory} interface, which delegates all its operations to a
  * {@code TlsConfiguration} object. Only enabled cipher suites and protocols will not delegate to it if configured.
+ * <p>
+ * The {@link SSLContext} is built once the factory is initialised and then shared by every socket factory it creates, so TLS
+ * sessions can be resumed across connections instead of doing a full handshake each time.
  */
 public class DefaultTlsContextFactory extends AbstractComponent implements TlsContextFactory, Initialisable {
 
@@ -59,6 +64,11 @@ public class DefaultTlsContextFactory extends AbstractComponent implements TlsCo
   private boolean trustStoreInsecure = false;
   private String[] enabledProtocols;
   private String[] enabledCipherSuites;
+  private RevocationCheck revocationCheck;
+  private Integer sessionCacheSize;
+  private Integer sessionTimeout;
+
+  private volatile SSLContext sslContext;
 
   public DefaultTlsContextFactory(Map<QName, Object> annotations) {
     tlsConfiguration = new TlsConfiguration(null);
@@ -77,6 +87,8 @@ public class DefaultTlsContextFactory extends AbstractComponent implements TlsCo
       throw new InitialisationException(createStaticMessage("Unable to initialise TLS configuration"), e,
                                         this);
     }
+    // The key and trust managers are only available once the configuration is initialised
+    sslContext = null;
 
     if (!isUseDefaults(enabledProtocols)) {
       String[] globalEnabledProtocols = tlsConfiguration.getEnabledProtocols();
@@ -212,21 +224,87 @@ public class DefaultTlsContextFactory extends AbstractComponent implements TlsCo
                                 name == null ? StringUtils.EMPTY : name));
     }
     this.trustStoreInsecure = insecure;
+    sslContext = null;
   }
 
   public void setRevocationCheck(RevocationCheck revocationCheck) {
     tlsConfiguration.setRevocationCheck(revocationCheck);
+    this.revocationCheck = revocationCheck;
+    sslContext = null;
+  }
+
+  public Integer getSessionCacheSize() {
+    return sessionCacheSize;
   }
 
+  /**
+   * @param sessionCacheSize the maximum number of TLS sessions kept for resumption by the created contexts, {@code 0} meaning
+   *                         no limit. If not set, the JSSE provider default is used.
+   */
+  public void setSessionCacheSize(Integer sessionCacheSize) {
+    this.sessionCacheSize = sessionCacheSize;
+    sslContext = null;
+  }
+
+  public Integer getSessionTimeout() {
+    return sessionTimeout;
+  }
+
+  /**
+   * @param sessionTimeout the time in seconds a TLS session can be resumed for by the created contexts, {@code 0} meaning no
+   *                       limit. If not set, the JSSE provider default is used.
+   */
+  public void setSessionTimeout(Integer sessionTimeout) {
+    this.sessionTimeout = sessionTimeout;
+    sslContext = null;
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * The same context is returned on every invocation until the configuration of this factory changes.
+   */
   @Override
   public SSLContext createSslContext() throws KeyManagementException, NoSuchAlgorithmException {
-    SSLContext sslContext;
+    SSLContext context = sslContext;
+    if (context == null) {
+      synchronized (this) {
+        context = sslContext;
+        if (context == null) {
+          context = doCreateSslContext();
+          sslContext = context;
+        }
+      }
+    }
+    return context;
+  }
+
+  private SSLContext doCreateSslContext() throws KeyManagementException, NoSuchAlgorithmException {
+    SSLContext context;
     if (trustStoreInsecure) {
-      sslContext = tlsConfiguration.getSslContext(new TrustManager[] {new InsecureTrustManager()});
+      context = tlsConfiguration.getSslContext(new TrustManager[] {new InsecureTrustManager()});
+    } else if (revocationCheck != null && tlsConfiguration.getTrustManagerFactory() != null) {
+      TrustManager[] trustManagers = tlsConfiguration.getTrustManagerFactory().getTrustManagers();
+      context = tlsConfiguration.getSslContext(cachingTrustManagers(trustManagers));
     } else {
-      sslContext = tlsConfiguration.getSslContext();
+      context = tlsConfiguration.getSslContext();
+    }
+
+    configureSessionContext(context.getClientSessionContext());
+    configureSessionContext(context.getServerSessionContext());
+    return context;
+  }
+
+  private void configureSessionContext(SSLSessionContext sessionContext) {
+    if (sessionContext == null) {
+      return;
+    }
+    if (sessionCacheSize != null) {
+      sessionContext.setSessionCacheSize(sessionCacheSize);
+    }
+    if (sessionTimeout != null) {
+      sessionContext.setSessionTimeout(sessionTimeout);
     }
-    return sslContext;
   }
 
   @Override
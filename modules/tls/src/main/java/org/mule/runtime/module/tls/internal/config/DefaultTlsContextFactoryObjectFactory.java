@@ -26,6 +26,8 @@ public class DefaultTlsContextFactoryObjectFactory extends AbstractComponentFact
   private RevocationCheck revocationCheck;
   private String enabledProtocols;
   private String enabledCipherSuites;
+  private Integer sessionCacheSize;
+  private Integer sessionTimeout;
 
   public void setName(String name) {
     this.name = name;
@@ -51,6 +53,14 @@ public class DefaultTlsContextFactoryObjectFactory extends AbstractComponentFact
     this.enabledCipherSuites = enabledCipherSuites;
   }
 
+  public void setSessionCacheSize(Integer sessionCacheSize) {
+    this.sessionCacheSize = sessionCacheSize;
+  }
+
+  public void setSessionTimeout(Integer sessionTimeout) {
+    this.sessionTimeout = sessionTimeout;
+  }
+
   @Override
   public DefaultTlsContextFactory doGetObject() throws Exception {
     DefaultTlsContextFactory tlsContextFactory = new DefaultTlsContextFactory(getAnnotations());
@@ -58,6 +68,8 @@ public class DefaultTlsContextFactoryObjectFactory extends AbstractComponentFact
     tlsContextFactory.setName(name);
     tlsContextFactory.setEnabledProtocols(enabledProtocols);
     tlsContextFactory.setEnabledCipherSuites(enabledCipherSuites);
+    tlsContextFactory.setSessionCacheSize(sessionCacheSize);
+    tlsContextFactory.setSessionTimeout(sessionTimeout);
 
     if (keyStore != null) {
       tlsContextFactory.setKeyAlias(keyStore.getAlias());
@@ -92,6 +92,8 @@ public class TlsComponentBuildingDefinitionProvider implements ComponentBuilding
             .withSetterParameterDefinition("name", fromSimpleParameter("name").build())
             .withSetterParameterDefinition("enabledProtocols", fromSimpleParameter("enabledProtocols").build())
             .withSetterParameterDefinition("enabledCipherSuites", fromSimpleParameter("enabledCipherSuites").build())
+            .withSetterParameterDefinition("sessionCacheSize", fromSimpleParameter("sessionCacheSize").build())
+            .withSetterParameterDefinition("sessionTimeout", fromSimpleParameter("sessionTimeout").build())
             .withSetterParameterDefinition("keyStore", fromChildConfiguration(KeyStoreConfig.class).build())
             .withSetterParameterDefinition("trustStore", fromChildConfiguration(TrustStoreConfig.class).build())
             .withSetterParameterDefinition("revocationCheck", fromChildConfiguration(RevocationCheck.class)
@@ -9,18 +9,13 @@ package org.mule.runtime.module.tls.internal.revocation;
 import static org.mule.runtime.api.util.Preconditions.checkArgument;
 
 import org.mule.runtime.api.component.AbstractComponent;
-import org.mule.runtime.core.api.util.IOUtils;
 import org.mule.runtime.core.privileged.security.RevocationCheck;
 
 import java.io.IOException;
-import java.io.InputStream;
 import java.security.GeneralSecurityException;
 import java.security.KeyStore;
 import java.security.cert.CRL;
-import java.security.cert.CRLException;
 import java.security.cert.CertStore;
-import java.security.cert.CertificateException;
-import java.security.cert.CertificateFactory;
 import java.security.cert.CollectionCertStoreParameters;
 import java.security.cert.PKIXBuilderParameters;
 import java.security.cert.TrustAnchor;
@@ -63,7 +58,7 @@ public class CrlFile extends AbstractComponent implements RevocationCheck {
       // Make sure revocation checking is enabled (com.sun.net.ssl.checkRevocation)
       pbParams.setRevocationEnabled(true);
 
-      Collection<? extends CRL> crls = loadCRL(path);
+      Collection<? extends CRL> crls = RevocationCache.getCrls(path);
       if (crls != null && !crls.isEmpty()) {
         pbParams.addCertStore(CertStore.getInstance("Collection", new CollectionCertStoreParameters(crls)));
       }
@@ -74,24 +69,6 @@ public class CrlFile extends AbstractComponent implements RevocationCheck {
     }
   }
 
-  private Collection<? extends CRL> loadCRL(String crlPath) throws CertificateException, IOException, CRLException {
-    Collection<? extends CRL> crlList = null;
-
-    if (crlPath != null) {
-      InputStream in = null;
-      try {
-        in = IOUtils.getResourceAsStream(crlPath, getClass());
-        crlList = CertificateFactory.getInstance("X.509").generateCRLs(in);
-      } finally {
-        if (in != null) {
-          in.close();
-        }
-      }
-    }
-
-    return crlList;
-  }
-
   private static Set<TrustAnchor> getTrustAnchorsFromKeyStore(KeyStore keyStore) throws GeneralSecurityException {
     Enumeration<String> aliases = keyStore.aliases();
     HashSet<TrustAnchor> trustAnchors = new HashSet<>();
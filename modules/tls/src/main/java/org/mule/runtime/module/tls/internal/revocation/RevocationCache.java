@@ -0,0 +1,225 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.module.tls.internal.revocation;
+
+import static com.github.benmanes.caffeine.cache.Caffeine.newBuilder;
+import static java.lang.Long.getLong;
+import static java.util.Arrays.asList;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.MINUTES;
+import static org.mule.runtime.core.api.config.MuleProperties.SYSTEM_PROPERTY_PREFIX;
+import static org.mule.runtime.core.api.util.IOUtils.getResourceAsUrl;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.JarURLConnection;
+import java.net.URL;
+import java.net.URLConnection;
+import java.security.GeneralSecurityException;
+import java.security.cert.CRL;
+import java.security.cert.CertificateException;
+import java.security.cert.CertificateFactory;
+import java.security.cert.X509Certificate;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+
+import javax.net.ssl.TrustManager;
+import javax.net.ssl.X509TrustManager;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+
+/**
+ * Caches the costly parts of certificate revocation checking for a bounded amount of time:
+ * <ul>
+ * <li>the CRLs parsed from the files referenced by {@link CrlFile}, shared by all the TLS contexts that use the same file.
+ * Entries are keyed by the resolved location of the file, since the same relative path may point to a different file in each
+ * application.</li>
+ * <li>the successful validations of peer certificate chains, including the CRL or OCSP lookups done by the configured
+ * {@link org.mule.runtime.core.privileged.security.RevocationCheck}. These are kept per trust manager, so a chain trusted by one
+ * TLS context is never considered trusted by another one.</li>
+ * </ul>
+ * Failed validations are never cached. The time entries are kept for is set in milliseconds through the
+ * {@value #REVOCATION_CACHE_TTL_PROPERTY} system property, {@code 0} disabling the cache.
+ *
+ * @since 4.4
+ */
+public final class RevocationCache {
+
+  public static final String REVOCATION_CACHE_TTL_PROPERTY = SYSTEM_PROPERTY_PREFIX + "tls.revocationCache.ttl";
+  public static final String REVOCATION_CACHE_MAX_SIZE_PROPERTY = SYSTEM_PROPERTY_PREFIX + "tls.revocationCache.maxSize";
+
+  private static final long TTL = getLong(REVOCATION_CACHE_TTL_PROPERTY, MINUTES.toMillis(5));
+  private static final long MAX_SIZE = getLong(REVOCATION_CACHE_MAX_SIZE_PROPERTY, 1024);
+
+  private static final LoadingCache<String, Collection<? extends CRL>> CRLS =
+      newBuilder().expireAfterWrite(TTL, MILLISECONDS).maximumSize(MAX_SIZE).build(RevocationCache::loadCrls);
+
+  private RevocationCache() {
+    // Nothing to do
+  }
+
+  /**
+   * @return whether the results of revocation checks are cached at all.
+   */
+  public static boolean isEnabled() {
+    return TTL > 0;
+  }
+
+  /**
+   * Provides the CRLs contained in the file or classpath resource at {@code path}, parsing it only if it was not parsed within
+   * the configured time to live. The {@code path} is resolved in the context of the calling application every time.
+   *
+   * @param path the location of the CRL file
+   * @return the CRLs in the file
+   * @throws IOException if the file can't be read
+   * @throws GeneralSecurityException if the file contents are not valid CRLs
+   */
+  public static Collection<? extends CRL> getCrls(String path) throws IOException, GeneralSecurityException {
+    URL url = getResourceAsUrl(path, CrlFile.class);
+    if (url == null) {
+      throw new FileNotFoundException("CRL file not found: " + path);
+    }
+
+    if (!isEnabled()) {
+      return loadCrls(url);
+    }
+
+    try {
+      return CRLS.get(url.toExternalForm());
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof IOException) {
+        throw (IOException) e.getCause();
+      } else if (e.getCause() instanceof GeneralSecurityException) {
+        throw (GeneralSecurityException) e.getCause();
+      }
+      throw e;
+    }
+  }
+
+  /**
+   * Wraps the {@link X509TrustManager}s in {@code trustManagers} so that chains they already validated successfully are trusted
+   * again without repeating the validation, until the configured time to live expires.
+   *
+   * @param trustManagers the trust managers obtained from a {@link javax.net.ssl.TrustManagerFactory}
+   * @return the wrapped trust managers, or the same ones if caching is disabled
+   */
+  public static TrustManager[] cachingTrustManagers(TrustManager[] trustManagers) {
+    if (!isEnabled() || trustManagers == null) {
+      return trustManagers;
+    }
+
+    TrustManager[] result = new TrustManager[trustManagers.length];
+    for (int i = 0; i < trustManagers.length; ++i) {
+      result[i] = trustManagers[i] instanceof X509TrustManager
+          ? new CachingTrustManager((X509TrustManager) trustManagers[i])
+          : trustManagers[i];
+    }
+    return result;
+  }
+
+  private static Collection<? extends CRL> loadCrls(String url) throws IOException, CertificateException {
+    return loadCrls(new URL(url));
+  }
+
+  private static Collection<? extends CRL> loadCrls(URL url) throws IOException, CertificateException {
+    URLConnection connection = url.openConnection();
+    if (connection instanceof JarURLConnection) {
+      // Avoids keeping the jar file open
+      connection.setUseCaches(false);
+    }
+    try (InputStream in = connection.getInputStream()) {
+      return CertificateFactory.getInstance("X.509").generateCRLs(in);
+    }
+  }
+
+  /**
+   * Doesn't extend {@link javax.net.ssl.X509ExtendedTrustManager} on purpose, so the JSSE provider still performs the
+   * per-connection checks (endpoint identification and algorithm constraints) on every handshake, cached or not.
+   */
+  private static final class CachingTrustManager implements X509TrustManager {
+
+    private final X509TrustManager delegate;
+    private final Cache<ChainKey, Boolean> trustedChains =
+        newBuilder().expireAfterWrite(TTL, MILLISECONDS).maximumSize(MAX_SIZE).build();
+
+    private CachingTrustManager(X509TrustManager delegate) {
+      this.delegate = delegate;
+    }
+
+    @Override
+    public void checkClientTrusted(X509Certificate[] chain, String authType) throws CertificateException {
+      if (chain == null || chain.length == 0) {
+        delegate.checkClientTrusted(chain, authType);
+        return;
+      }
+
+      ChainKey key = new ChainKey(chain, authType, false);
+      if (trustedChains.getIfPresent(key) == null) {
+        delegate.checkClientTrusted(chain, authType);
+        trustedChains.put(key, true);
+      }
+    }
+
+    @Override
+    public void checkServerTrusted(X509Certificate[] chain, String authType) throws CertificateException {
+      if (chain == null || chain.length == 0) {
+        delegate.checkServerTrusted(chain, authType);
+        return;
+      }
+
+      ChainKey key = new ChainKey(chain, authType, true);
+      if (trustedChains.getIfPresent(key) == null) {
+        delegate.checkServerTrusted(chain, authType);
+        trustedChains.put(key, true);
+      }
+    }
+
+    @Override
+    public X509Certificate[] getAcceptedIssuers() {
+      return delegate.getAcceptedIssuers();
+    }
+  }
+
+  private static final class ChainKey {
+
+    private final List<X509Certificate> chain;
+    private final String authType;
+    private final boolean server;
+
+    private ChainKey(X509Certificate[] chain, String authType, boolean server) {
+      this.chain = asList(chain.clone());
+      this.authType = authType;
+      this.server = server;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (o == null || getClass() != o.getClass()) {
+        return false;
+      }
+
+      ChainKey that = (ChainKey) o;
+
+      return server == that.server && chain.equals(that.chain)
+          && (authType != null ? authType.equals(that.authType) : that.authType == null);
+    }
+
+    @Override
+    public int hashCode() {
+      int result = chain.hashCode();
+      result = 31 * result + (authType != null ? authType.hashCode() : 0);
+      result = 31 * result + (server ? 1 : 0);
+      return result;
+    }
+  }
+}
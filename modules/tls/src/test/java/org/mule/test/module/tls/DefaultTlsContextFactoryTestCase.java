@@ -16,6 +16,8 @@ import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.isA;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assume.assumeThat;
 import static org.mule.functional.junit4.matchers.ThrowableCauseMatcher.hasCause;
@@ -179,6 +181,39 @@ public class DefaultTlsContextFactoryTestCase extends AbstractMuleTestCase {
                                                                            "TLS_DHE_DSS_WITH_AES_128_CBC_SHA"));
   }
 
+  @Test
+  public void sslContextIsSharedBetweenCalls() throws Exception {
+    DefaultTlsContextFactory tlsContextFactory = new DefaultTlsContextFactory(emptyMap());
+    tlsContextFactory.initialise();
+
+    assertThat(tlsContextFactory.createSslContext(), is(sameInstance(tlsContextFactory.createSslContext())));
+  }
+
+  @Test
+  public void sslContextIsRebuiltWhenConfigurationChanges() throws Exception {
+    DefaultTlsContextFactory tlsContextFactory = new DefaultTlsContextFactory(emptyMap());
+    tlsContextFactory.initialise();
+    SSLContext sslContext = tlsContextFactory.createSslContext();
+
+    tlsContextFactory.setTrustStoreInsecure(true);
+
+    assertThat(tlsContextFactory.createSslContext(), is(not(sameInstance(sslContext))));
+  }
+
+  @Test
+  public void sessionCacheSettingsAreApplied() throws Exception {
+    DefaultTlsContextFactory tlsContextFactory = new DefaultTlsContextFactory(emptyMap());
+    tlsContextFactory.setSessionCacheSize(10);
+    tlsContextFactory.setSessionTimeout(60);
+    tlsContextFactory.initialise();
+    SSLContext sslContext = tlsContextFactory.createSslContext();
+
+    assertThat(sslContext.getClientSessionContext().getSessionCacheSize(), is(10));
+    assertThat(sslContext.getClientSessionContext().getSessionTimeout(), is(60));
+    assertThat(sslContext.getServerSessionContext().getSessionCacheSize(), is(10));
+    assertThat(sslContext.getServerSessionContext().getSessionTimeout(), is(60));
+  }
+
   @Test
   public void defaultIncludesTls12Ciphers() throws Exception {
     assumeThat(IS_JAVA_1_8, is(true));
@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.test.module.tls;
+
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mule.runtime.core.api.util.ClassUtils.withContextClassLoader;
+
+import org.mule.runtime.api.exception.MuleRuntimeException;
+import org.mule.runtime.module.tls.internal.revocation.RevocationCache;
+import org.mule.tck.junit4.AbstractMuleTestCase;
+
+import java.io.File;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.security.GeneralSecurityException;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+public class RevocationCacheTestCase extends AbstractMuleTestCase {
+
+  private static final String CRL_PATH = "revocation-cache-test/crl.pem";
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  @Rule
+  public ExpectedException expectedException = ExpectedException.none();
+
+  @Test
+  public void samePathInDifferentApplicationsIsNotShared() throws Exception {
+    ClassLoader emptyCrlApp = appWithCrl("emptyCrlApp", "");
+    ClassLoader invalidCrlApp = appWithCrl("invalidCrlApp", "-----BEGIN X509 CRL-----\nnot a crl\n-----END X509 CRL-----\n");
+
+    assertThat(withContextClassLoader(emptyCrlApp, () -> RevocationCache.getCrls(CRL_PATH)), is(empty()));
+
+    expectedException.expect(MuleRuntimeException.class);
+    expectedException.expectCause(instanceOf(GeneralSecurityException.class));
+    withContextClassLoader(invalidCrlApp, () -> RevocationCache.getCrls(CRL_PATH));
+  }
+
+  private ClassLoader appWithCrl(String appName, String crlContent) throws Exception {
+    File appFolder = temporaryFolder.newFolder(appName);
+    File crlFile = new File(appFolder, CRL_PATH);
+    crlFile.getParentFile().mkdirs();
+    Files.write(crlFile.toPath(), crlContent.getBytes(US_ASCII));
+    return new URLClassLoader(new URL[] {appFolder.toURI().toURL()}, null);
+  }
+}
@@ -6,11 +6,17 @@
  */
 package org.mule;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static org.mule.runtime.api.metadata.MediaType.APPLICATION_JSON;
 
 import org.mule.runtime.api.metadata.DataType;
+import org.mule.runtime.api.metadata.MediaType;
+import org.mule.runtime.core.internal.metadata.DataTypeInternTable;
 import org.mule.runtime.core.internal.metadata.DefaultDataTypeBuilder;
 
+import java.util.List;
+
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.OutputTimeUnit;
 import org.openjdk.jmh.annotations.Threads;
@@ -20,10 +26,31 @@ import org.openjdk.jmh.annotations.Threads;
 public class DataTypeBenchmark extends AbstractBenchmark {
 
   private DataType multiMapStringString = DataType.MULTI_MAP_STRING_STRING;
+  private MediaType jsonUtf8 = APPLICATION_JSON.withCharset(UTF_8);
 
   @Benchmark
   public DataType multiMapDataType() {
     return new DefaultDataTypeBuilder(multiMapStringString).build();
   }
 
+  @Benchmark
+  public DataType builderSimpleDataType() {
+    return DataType.builder().type(String.class).mediaType(jsonUtf8).build();
+  }
+
+  @Benchmark
+  public DataType internedSimpleDataType() {
+    return DataTypeInternTable.fromType(String.class, jsonUtf8);
+  }
+
+  @Benchmark
+  public DataType builderCollectionDataType() {
+    return DataType.builder().collectionType(List.class).itemType(String.class).build();
+  }
+
+  @Benchmark
+  public DataType internedCollectionDataType() {
+    return DataTypeInternTable.collectionOf(List.class, String.class);
+  }
+
 }
@@ -6,16 +6,62 @@
  */
 package org.mule;
 
+import static java.util.Collections.singletonList;
+import static org.mule.runtime.api.i18n.I18nMessageFactory.createStaticMessage;
 import static org.mule.runtime.core.api.config.i18n.CoreMessages.versionNotSet;
+import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.stopIfNeeded;
+import static org.mule.runtime.core.internal.exception.ErrorTypeLocatorFactory.createDefaultErrorTypeLocator;
+import static org.mule.runtime.core.internal.exception.ErrorTypeRepositoryFactory.createDefaultErrorTypeRepository;
+import static org.mule.runtime.core.internal.util.MessagingExceptionResolver.STACKLESS_ERRORS_PROPERTY;
+import static org.mule.runtime.core.privileged.registry.LegacyRegistryUtils.lookupObject;
 
-import org.mule.runtime.api.exception.MuleException;
 import org.mule.runtime.api.exception.DefaultMuleException;
+import org.mule.runtime.api.exception.MuleException;
+import org.mule.runtime.api.scheduler.SchedulerService;
+import org.mule.runtime.core.api.MuleContext;
+import org.mule.runtime.core.api.construct.Flow;
+import org.mule.runtime.core.api.event.CoreEvent;
+import org.mule.runtime.core.api.execution.ExceptionContextProvider;
+import org.mule.runtime.core.api.transformer.TransformerException;
+import org.mule.runtime.core.internal.exception.MessagingException;
+import org.mule.runtime.core.internal.exception.MessagingExceptionLocationProvider;
+import org.mule.runtime.core.internal.util.MessagingExceptionResolver;
+import org.mule.runtime.core.privileged.exception.ErrorTypeLocator;
+
+import java.util.Collection;
 
 import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
 import org.openjdk.jmh.annotations.Threads;
 
 public class MessagingExceptionBenchmark extends AbstractBenchmark {
 
+  private MuleContext muleContext;
+  private CoreEvent event;
+  private MessagingExceptionResolver resolver;
+  private ErrorTypeLocator locator;
+  private Collection<ExceptionContextProvider> exceptionContextProviders;
+
+  @Setup
+  public void setup() throws Exception {
+    muleContext = createMuleContextWithServices();
+    muleContext.start();
+    Flow flow = createFlow(muleContext);
+    event = createEvent(flow);
+    resolver = new MessagingExceptionResolver(flow);
+    locator = createDefaultErrorTypeLocator(createDefaultErrorTypeRepository());
+    exceptionContextProviders = singletonList(new MessagingExceptionLocationProvider());
+  }
+
+  @TearDown
+  public void teardown() throws MuleException {
+    muleContext.stop();
+    stopIfNeeded(lookupObject(muleContext, SchedulerService.class));
+    muleContext.dispose();
+  }
+
   @Benchmark
   @Threads(1)
   public MuleException stringSingleThread() {
@@ -40,4 +86,28 @@ public class MessagingExceptionBenchmark extends AbstractBenchmark {
     return new DefaultMuleException("customMessage");
   }
 
+  /**
+   * An error raised by a component and handled without being logged, as in a flow that uses {@code on-error-continue} for
+   * validation failures.
+   */
+  @Benchmark
+  public MessagingException resolveHandledError() {
+    TransformerException cause = new TransformerException(createStaticMessage("Invalid input"));
+    return resolver.resolve(new MessagingException(event, cause), locator, exceptionContextProviders);
+  }
+
+  @Benchmark
+  @Fork(value = 1, jvmArgsAppend = "-D" + STACKLESS_ERRORS_PROPERTY + "=true")
+  public MessagingException resolveHandledErrorStackless() {
+    return resolveHandledError();
+  }
+
+  /**
+   * An error that gets logged, so its deferred enrichment is applied.
+   */
+  @Benchmark
+  public String resolveLoggedError() {
+    return resolveHandledError().getDetailedMessage();
+  }
+
 }
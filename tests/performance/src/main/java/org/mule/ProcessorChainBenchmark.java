@@ -15,6 +15,8 @@ import static org.mule.runtime.core.api.event.EventContextFactory.create;
 import org.mule.runtime.api.exception.MuleException;
 import org.mule.runtime.api.util.Reference;
 import org.mule.runtime.core.api.event.CoreEvent;
+import org.mule.runtime.core.api.processor.Processor;
+import org.mule.runtime.core.api.processor.ReactiveProcessor.ProcessingType;
 import org.mule.runtime.core.privileged.processor.chain.DefaultMessageProcessorChainBuilder;
 import org.mule.runtime.core.privileged.processor.chain.MessageProcessorChain;
 
@@ -23,6 +25,7 @@ import java.util.concurrent.CountDownLatch;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.Measurement;
 import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.Warmup;
 
@@ -36,6 +39,14 @@ public class ProcessorChainBenchmark extends AbstractBenchmark {
 
   private static final int NUM_PROCESSORS = 20;
   private static final int STREAM_SIZE = 1000;
+
+  /**
+   * Runs of {@code CPU_LITE} processors are fused into a single operator by the chain, while {@code CPU_INTENSIVE} ones are
+   * assembled one operator at a time.
+   */
+  @Param({"CPU_LITE", "CPU_INTENSIVE"})
+  public ProcessingType processingType;
+
   private MessageProcessorChain chain;
 
   private CoreEvent event;
@@ -44,7 +55,7 @@ public class ProcessorChainBenchmark extends AbstractBenchmark {
   public void setup() throws Exception {
     DefaultMessageProcessorChainBuilder builder = new DefaultMessageProcessorChainBuilder();
     for (int i = 0; i < NUM_PROCESSORS; i++) {
-      builder.chain(event -> event);
+      builder.chain(new PassThroughProcessor(processingType));
     }
     chain = builder.build();
     chain.setMuleContext(createMuleContextWithServices());
@@ -73,4 +84,23 @@ public class ProcessorChainBenchmark extends AbstractBenchmark {
     return latch;
   }
 
+  private static class PassThroughProcessor implements Processor {
+
+    private final ProcessingType processingType;
+
+    private PassThroughProcessor(ProcessingType processingType) {
+      this.processingType = processingType;
+    }
+
+    @Override
+    public CoreEvent process(CoreEvent event) {
+      return event;
+    }
+
+    @Override
+    public ProcessingType getProcessingType() {
+      return processingType;
+    }
+  }
+
 }
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static org.mule.runtime.api.metadata.MediaType.APPLICATION_JSON;
+
+import org.mule.runtime.api.message.Message;
+import org.mule.runtime.api.serialization.SerializationProtocol;
+import org.mule.runtime.core.api.MuleContext;
+import org.mule.runtime.core.internal.serialization.CompactSerializationProtocol;
+import org.mule.runtime.core.internal.serialization.JavaExternalSerializerProtocol;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Compares the Java and the compact serialization protocols, both on throughput and on the size of the serialized data, which
+ * is logged on setup.
+ */
+@OutputTimeUnit(MICROSECONDS)
+public class SerializationBenchmark extends AbstractBenchmark {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(SerializationBenchmark.class);
+
+  private MuleContext muleContext;
+
+  private SerializationProtocol javaProtocol;
+  private SerializationProtocol compactProtocol;
+
+  private Message message;
+  private byte[] javaMessageBytes;
+  private byte[] compactMessageBytes;
+
+  @Setup
+  public void setup() throws Exception {
+    muleContext = createMuleContextWithServices();
+    javaProtocol = new JavaExternalSerializerProtocol();
+    ((JavaExternalSerializerProtocol) javaProtocol).setMuleContext(muleContext);
+    compactProtocol = new CompactSerializationProtocol();
+    ((CompactSerializationProtocol) compactProtocol).setMuleContext(muleContext);
+
+    Map<String, String> attributes = new LinkedHashMap<>();
+    for (int i = 0; i < 10; ++i) {
+      attributes.put(KEY + i, VALUE + i);
+    }
+    message = Message.builder().value(PAYLOAD).mediaType(APPLICATION_JSON).attributesValue(attributes).build();
+
+    javaMessageBytes = javaProtocol.serialize(message);
+    compactMessageBytes = compactProtocol.serialize(message);
+    LOGGER.info("Serialized message size: java={} bytes, compact={} bytes", javaMessageBytes.length,
+                compactMessageBytes.length);
+  }
+
+  @TearDown
+  public void teardown() {
+    muleContext.dispose();
+  }
+
+  @Benchmark
+  public byte[] serializeMessageJava() {
+    return javaProtocol.serialize(message);
+  }
+
+  @Benchmark
+  public byte[] serializeMessageCompact() {
+    return compactProtocol.serialize(message);
+  }
+
+  @Benchmark
+  public Message deserializeMessageJava() {
+    return javaProtocol.deserialize(javaMessageBytes);
+  }
+
+  @Benchmark
+  public Message deserializeMessageCompact() {
+    return compactProtocol.deserialize(compactMessageBytes);
+  }
+
+}
@@ -8,10 +8,14 @@ package org.mule.runtime.core.policy;
 
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptyMap;
+import static java.util.Collections.singletonMap;
 import static java.util.Optional.empty;
 import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static org.mule.runtime.api.component.AbstractComponent.LOCATION_KEY;
 import static org.mule.runtime.core.api.event.EventContextFactory.create;
+import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.initialiseIfNeeded;
 import static org.mule.runtime.core.internal.execution.SourcePolicyTestUtils.block;
+import static org.mule.runtime.dsl.api.component.config.DefaultComponentLocation.from;
 
 import org.mule.AbstractBenchmark;
 import org.mule.runtime.api.component.AbstractComponent;
@@ -22,7 +26,9 @@ import org.mule.runtime.core.api.MuleContext;
 import org.mule.runtime.core.api.event.CoreEvent;
 import org.mule.runtime.core.api.policy.Policy;
 import org.mule.runtime.core.api.policy.PolicyChain;
+import org.mule.runtime.core.internal.context.MuleContextWithRegistry;
 import org.mule.runtime.core.internal.policy.CompositeOperationPolicy;
+import org.mule.runtime.core.internal.policy.DefaultPolicyManager;
 import org.mule.runtime.core.internal.policy.OperationPolicy;
 import org.mule.runtime.extension.api.runtime.operation.CompletableComponentExecutor.ExecutorCallback;
 
@@ -44,6 +50,10 @@ public class CompositeOperationPolicyBenchmark extends AbstractBenchmark {
 
   private Scheduler fluxCompleteScheduler;
 
+  private DefaultPolicyManager policyManager;
+  private AbstractComponent operation;
+  private CoreEvent operationEvent;
+
   @Setup(Level.Trial)
   public void setUp() throws MuleException {
     MuleContext muleContext = createMuleContextWithServices();
@@ -58,13 +68,31 @@ public class CompositeOperationPolicyBenchmark extends AbstractBenchmark {
     }, "")), empty(), (policy, nextProcessor) -> nextProcessor,
                                            muleContext.getConfiguration().getShutdownTimeout(),
                                            fluxCompleteScheduler);
+
+    ((MuleContextWithRegistry) muleContext).getRegistry().registerObject("_benchmarkPolicyProvider",
+                                                                         new SinglePolicyProvider());
+    policyManager = new DefaultPolicyManager();
+    initialiseIfNeeded(policyManager, muleContext);
+
+    operation = new AbstractComponent() {};
+    operation.setAnnotations(singletonMap(LOCATION_KEY, from("flow/processors/0")));
+    operationEvent = CoreEvent.builder(create("", "", CONNECTOR_LOCATION, null, empty()))
+        .message(Message.builder().value(PAYLOAD).build())
+        .build();
   }
 
   @TearDown(Level.Trial)
   public void tearDown() {
+    this.policyManager.dispose();
     this.fluxCompleteScheduler.stop();
   }
 
+  @Benchmark
+  @Threads(Threads.MAX)
+  public OperationPolicy resolvePolicy() {
+    return policyManager.createOperationPolicy(operation, operationEvent, () -> emptyMap());
+  }
+
   @Benchmark
   @Threads(Threads.MAX)
   public CoreEvent source() throws Throwable {
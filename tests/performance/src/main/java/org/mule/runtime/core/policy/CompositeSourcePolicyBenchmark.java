@@ -10,30 +10,44 @@ import static java.util.Arrays.asList;
 import static java.util.Collections.emptyMap;
 import static java.util.Optional.empty;
 import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static org.mule.runtime.api.component.AbstractComponent.LOCATION_KEY;
+import static org.mule.runtime.api.component.AbstractComponent.ROOT_CONTAINER_NAME_KEY;
 import static org.mule.runtime.core.api.event.EventContextFactory.create;
+import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.initialiseIfNeeded;
 import static org.mule.runtime.core.internal.execution.SourcePolicyTestUtils.block;
+import static org.mule.runtime.dsl.api.component.config.DefaultComponentLocation.from;
 
 import org.mule.AbstractBenchmark;
+import org.mule.runtime.api.component.AbstractComponent;
+import org.mule.runtime.api.exception.MuleException;
 import org.mule.runtime.api.functional.Either;
 import org.mule.runtime.api.message.Message;
+import org.mule.runtime.core.api.MuleContext;
 import org.mule.runtime.core.api.event.CoreEvent;
 import org.mule.runtime.core.api.policy.Policy;
 import org.mule.runtime.core.api.policy.PolicyChain;
 import org.mule.runtime.core.api.util.func.CheckedFunction;
+import org.mule.runtime.core.internal.context.MuleContextWithRegistry;
+import org.mule.runtime.core.internal.message.InternalEvent;
 import org.mule.runtime.core.internal.policy.CompositeSourcePolicy;
+import org.mule.runtime.core.internal.policy.DefaultPolicyManager;
 import org.mule.runtime.core.internal.policy.MessageSourceResponseParametersProcessor;
 import org.mule.runtime.core.internal.policy.SourcePolicy;
 import org.mule.runtime.core.internal.policy.SourcePolicyFailureResult;
 import org.mule.runtime.core.internal.policy.SourcePolicySuccessResult;
 
+import java.util.HashMap;
 import java.util.Map;
 
+import javax.xml.namespace.QName;
+
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
 import org.openjdk.jmh.annotations.Level;
 import org.openjdk.jmh.annotations.Mode;
 import org.openjdk.jmh.annotations.OutputTimeUnit;
 import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
 import org.openjdk.jmh.annotations.Threads;
 import org.reactivestreams.Publisher;
 
@@ -44,8 +58,13 @@ public class CompositeSourcePolicyBenchmark extends AbstractBenchmark {
   private SourcePolicy handler;
   private MessageSourceResponseParametersProcessor sourceRpp;
 
+  private MuleContext muleContext;
+  private DefaultPolicyManager policyManager;
+  private AbstractComponent source;
+  private CoreEvent sourceEvent;
+
   @Setup(Level.Trial)
-  public void setUp() {
+  public void setUp() throws MuleException {
     handler = new CompositeSourcePolicy(asList(new Policy(new PolicyChain() {
 
       @Override
@@ -66,6 +85,36 @@ public class CompositeSourcePolicyBenchmark extends AbstractBenchmark {
         return event -> emptyMap();
       }
     };
+
+    muleContext = createMuleContextWithServices();
+    ((MuleContextWithRegistry) muleContext).getRegistry().registerObject("_benchmarkPolicyProvider",
+                                                                         new SinglePolicyProvider());
+    policyManager = new DefaultPolicyManager();
+    initialiseIfNeeded(policyManager, muleContext);
+
+    source = new AbstractComponent() {};
+    Map<QName, Object> annotations = new HashMap<>();
+    annotations.put(LOCATION_KEY, from(FLOW_NAME + "/source"));
+    annotations.put(ROOT_CONTAINER_NAME_KEY, FLOW_NAME);
+    source.setAnnotations(annotations);
+
+    sourceEvent = CoreEvent.builder(create("", "", CONNECTOR_LOCATION, null, empty()))
+        .message(Message.builder().value(PAYLOAD).build())
+        .build();
+    policyManager.addSourcePointcutParametersIntoEvent(source, sourceEvent.getMessage().getAttributes(),
+                                                       (InternalEvent) sourceEvent);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    policyManager.dispose();
+    muleContext.dispose();
+  }
+
+  @Benchmark
+  @Threads(Threads.MAX)
+  public SourcePolicy resolvePolicy() {
+    return policyManager.createSourcePolicyInstance(source, sourceEvent, eventPub -> eventPub, sourceRpp);
   }
 
   @Benchmark
@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.policy;
+
+import static java.util.Collections.singletonList;
+import static org.mule.runtime.http.policy.api.SourcePolicyAwareAttributes.noAttributes;
+
+import org.mule.runtime.core.api.event.CoreEvent;
+import org.mule.runtime.core.api.policy.Policy;
+import org.mule.runtime.core.api.policy.PolicyChain;
+import org.mule.runtime.core.api.policy.PolicyProvider;
+import org.mule.runtime.policy.api.PolicyAwareAttributes;
+import org.mule.runtime.policy.api.PolicyPointcutParameters;
+
+import java.util.List;
+
+import org.reactivestreams.Publisher;
+
+/**
+ * {@link PolicyProvider} that applies the same pass-through policy to every source and operation, used to measure policy
+ * resolution in {@link org.mule.runtime.core.internal.policy.DefaultPolicyManager}.
+ */
+class SinglePolicyProvider implements PolicyProvider {
+
+  private final List<Policy> policies = singletonList(new Policy(new PolicyChain() {
+
+    @Override
+    public Publisher<CoreEvent> apply(Publisher<CoreEvent> publisher) {
+      return publisher;
+    }
+  }, "benchmarkPolicy"));
+
+  @Override
+  public List<Policy> findSourceParameterizedPolicies(PolicyPointcutParameters policyPointcutParameters) {
+    return policies;
+  }
+
+  @Override
+  public PolicyAwareAttributes sourcePolicyAwareAttributes() {
+    return noAttributes();
+  }
+
+  @Override
+  public List<Policy> findOperationParameterizedPolicies(PolicyPointcutParameters policyPointcutParameters) {
+    return policies;
+  }
+
+  @Override
+  public boolean isSourcePoliciesAvailable() {
+    return true;
+  }
+
+  @Override
+  public boolean isOperationPoliciesAvailable() {
+    return true;
+  }
+}
@@ -11,13 +11,18 @@ import static reactor.core.publisher.FluxSink.OverflowStrategy.ERROR;
 
 import org.mule.AbstractBenchmark;
 import org.mule.runtime.api.exception.MuleException;
+import org.mule.runtime.api.tx.TransactionException;
 import org.mule.runtime.core.api.MuleContext;
 import org.mule.runtime.core.api.construct.Flow;
 import org.mule.runtime.core.api.event.CoreEvent;
 import org.mule.runtime.core.api.processor.ReactiveProcessor;
 import org.mule.runtime.core.api.processor.Sink;
 import org.mule.runtime.core.api.processor.strategy.ProcessingStrategy;
+import org.mule.runtime.core.api.transaction.Transaction;
+import org.mule.runtime.core.api.transaction.TransactionCoordination;
+import org.mule.runtime.core.internal.processor.DelegateTransaction;
 import org.mule.runtime.core.internal.processor.strategy.DirectProcessingStrategyFactory;
+import org.mule.runtime.core.internal.processor.strategy.DirectStreamPerThreadProcessingStrategyFactory;
 import org.mule.runtime.core.internal.processor.strategy.TransactionAwareStreamEmitterProcessingStrategyFactory;
 
 import java.util.function.Function;
@@ -29,6 +34,7 @@ import org.openjdk.jmh.annotations.Mode;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
 import org.openjdk.jmh.annotations.Threads;
 import org.openjdk.jmh.infra.Blackhole;
 import org.reactivestreams.Publisher;
@@ -45,10 +51,12 @@ public class ProcessingStrategyBenchmark extends AbstractBenchmark {
 
   private ProcessingStrategy directPs;
   private ProcessingStrategy emitterPs;
+  private ProcessingStrategy directStreamPerThreadPs;
   private Flow flow;
 
   private Sink directSink;
   private Sink emitterSink;
+  private Sink directStreamPerThreadSink;
 
   private FluxSink<CoreEvent> directPipeline;
   private FluxSink<CoreEvent> emitterPipeline;
@@ -67,6 +75,8 @@ public class ProcessingStrategyBenchmark extends AbstractBenchmark {
     startIfNeeded(directPs);
     emitterPs = new TransactionAwareStreamEmitterProcessingStrategyFactory().create(muleContext, "emitter_mb");
     startIfNeeded(emitterPs);
+    directStreamPerThreadPs = new DirectStreamPerThreadProcessingStrategyFactory().create(muleContext, "direct_stream_mb");
+    startIfNeeded(directStreamPerThreadPs);
 
     flow = createFlow(muleContext);
 
@@ -76,6 +86,7 @@ public class ProcessingStrategyBenchmark extends AbstractBenchmark {
 
     directSink = directPs.createSink(flow, publisher -> baseFlux(publisher, processor));
     emitterSink = emitterPs.createSink(flow, publisher -> baseFlux(publisher, processor));
+    directStreamPerThreadSink = directStreamPerThreadPs.createSink(flow, publisher -> baseFlux(publisher, processor));
 
     Flux.<CoreEvent>create(s -> directPipeline = s, ERROR)
         .transform(directPs.onPipeline(publisher -> baseFlux(publisher, processor)))
@@ -153,4 +164,41 @@ public class ProcessingStrategyBenchmark extends AbstractBenchmark {
   public CoreEvent emitterAllSink() {
     return Mono.<CoreEvent>create(resultSink -> emitterAllSink.accept(createEvent(flow, resultSink))).block();
   }
+
+  @Benchmark
+  @Threads(Threads.MAX)
+  public CoreEvent directStreamPerThreadSink() {
+    return Mono.<CoreEvent>create(resultSink -> directStreamPerThreadSink.accept(createEvent(flow, resultSink))).block();
+  }
+
+  @Benchmark
+  @Threads(Threads.MAX)
+  public CoreEvent emitterSinkTx(TransactionState transactionState) {
+    return Mono.<CoreEvent>create(resultSink -> emitterSink.accept(createEvent(flow, resultSink))).block();
+  }
+
+  @Benchmark
+  @Threads(Threads.MAX)
+  public CoreEvent emitterAllSinkTx(TransactionState transactionState) {
+    return Mono.<CoreEvent>create(resultSink -> emitterAllSink.accept(createEvent(flow, resultSink))).block();
+  }
+
+  /**
+   * Keeps a transaction bound to each benchmark thread, so events are dispatched as in a transactional flow.
+   */
+  @State(Scope.Thread)
+  public static class TransactionState {
+
+    private final Transaction transaction = new DelegateTransaction("benchmark", null, null, null);
+
+    @Setup(Level.Trial)
+    public void bind() throws TransactionException {
+      TransactionCoordination.getInstance().bindTransaction(transaction);
+    }
+
+    @TearDown(Level.Trial)
+    public void unbind() throws TransactionException {
+      TransactionCoordination.getInstance().unbindTransaction(transaction);
+    }
+  }
 }
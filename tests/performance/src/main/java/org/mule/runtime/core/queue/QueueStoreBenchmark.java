@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.queue;
+
+import static java.lang.Integer.parseInt;
+import static org.apache.commons.lang3.StringUtils.repeat;
+
+import org.mule.AbstractBenchmark;
+import org.mule.runtime.api.exception.MuleException;
+import org.mule.runtime.core.api.MuleContext;
+import org.mule.runtime.core.internal.util.queue.DualRandomAccessFileQueueStoreDelegate;
+
+import java.io.Serializable;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * Measures the file based persistent queue store, adding and removing items one at a time, from concurrent threads and in
+ * batches.
+ */
+public class QueueStoreBenchmark extends AbstractBenchmark {
+
+  private static final String QUEUE_NAME = "benchmarkQueue";
+  private static final int BATCH_SIZE = 100;
+
+  @Param({"256", "16384"})
+  public String itemSize;
+
+  private MuleContext muleContext;
+  private DualRandomAccessFileQueueStoreDelegate queueStore;
+  private String item;
+
+  @Setup
+  public void setup() throws MuleException {
+    muleContext = createMuleContextWithServices();
+    item = repeat('x', parseInt(itemSize));
+    queueStore = new DualRandomAccessFileQueueStoreDelegate(QUEUE_NAME, muleContext.getConfiguration().getWorkingDirectory(),
+                                                            muleContext, 0);
+  }
+
+  @TearDown
+  public void teardown() {
+    queueStore.dispose();
+    muleContext.dispose();
+  }
+
+  @Benchmark
+  public Serializable putAndPoll() throws InterruptedException {
+    queueStore.putNow(item);
+    return queueStore.poll(0);
+  }
+
+  @Benchmark
+  @Threads(4)
+  public Serializable concurrentPutAndPoll() throws InterruptedException {
+    queueStore.putNow(item);
+    return queueStore.poll(0);
+  }
+
+  @Benchmark
+  public Serializable putAndPollBatch() throws InterruptedException {
+    for (int i = 0; i < BATCH_SIZE; ++i) {
+      queueStore.putNow(item);
+    }
+    Serializable last = null;
+    for (int i = 0; i < BATCH_SIZE; ++i) {
+      last = queueStore.poll(0);
+    }
+    return last;
+  }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.queue;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.openjdk.jmh.annotations.Mode.Throughput;
+
+import org.mule.AbstractBenchmark;
+import org.mule.runtime.core.internal.util.queue.ConcurrentQueueStoreDelegate;
+import org.mule.runtime.core.internal.util.queue.DefaultQueueStoreDelegate;
+import org.mule.runtime.core.internal.util.queue.QueueStoreDelegate;
+
+import java.io.Serializable;
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Compares the throughput of the delegates for transient queues with several producer and consumer threads, on a bounded queue.
+ * <p>
+ * Offers and polls use short timeouts so threads are never left blocked when an iteration ends.
+ */
+@BenchmarkMode(Throughput)
+@OutputTimeUnit(MILLISECONDS)
+@State(Scope.Group)
+public class TransientQueueStoreDelegateBenchmark extends AbstractBenchmark {
+
+  private static final int CAPACITY = 1024;
+  private static final int BATCH_SIZE = 64;
+  private static final long TIMEOUT = 10;
+  private static final String ITEM = "item";
+
+  @Param({"default", "concurrent"})
+  public String delegate;
+
+  private QueueStoreDelegate queue;
+
+  @Setup
+  public void setup() {
+    queue = "default".equals(delegate)
+        ? new DefaultQueueStoreDelegate(CAPACITY)
+        : new ConcurrentQueueStoreDelegate(CAPACITY);
+  }
+
+  @TearDown
+  public void teardown() {
+    queue.dispose();
+  }
+
+  @Benchmark
+  @Group("singleItem")
+  @GroupThreads(4)
+  public boolean offer() throws InterruptedException {
+    return queue.offer(ITEM, 0, TIMEOUT);
+  }
+
+  @Benchmark
+  @Group("singleItem")
+  @GroupThreads(4)
+  public Serializable poll() throws InterruptedException {
+    return queue.poll(TIMEOUT);
+  }
+
+  @Benchmark
+  @Group("batch")
+  @GroupThreads(4)
+  public boolean offerForBatch() throws InterruptedException {
+    return queue.offer(ITEM, 0, TIMEOUT);
+  }
+
+  @Benchmark
+  @Group("batch")
+  @GroupThreads(1)
+  public List<Serializable> pollBatch() throws InterruptedException {
+    return queue.poll(BATCH_SIZE, TIMEOUT);
+  }
+}
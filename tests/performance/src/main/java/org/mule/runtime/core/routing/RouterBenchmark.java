@@ -0,0 +1,189 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.routing;
+
+import static java.lang.Integer.parseInt;
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static java.util.Collections.singletonMap;
+import static java.util.Optional.empty;
+import static org.mule.runtime.api.component.AbstractComponent.LOCATION_KEY;
+import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.disposeIfNeeded;
+import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.initialiseIfNeeded;
+import static org.mule.runtime.core.privileged.processor.MessageProcessors.newChain;
+import static org.mule.runtime.core.privileged.registry.LegacyRegistryUtils.registerObject;
+import static org.mule.runtime.dsl.api.component.config.DefaultComponentLocation.from;
+
+import org.mule.AbstractBenchmark;
+import org.mule.runtime.api.component.Component;
+import org.mule.runtime.api.component.ComponentIdentifier;
+import org.mule.runtime.api.component.location.ComponentLocation;
+import org.mule.runtime.api.component.location.ConfigurationComponentLocator;
+import org.mule.runtime.api.component.location.Location;
+import org.mule.runtime.api.exception.MuleException;
+import org.mule.runtime.core.api.MuleContext;
+import org.mule.runtime.core.api.construct.Flow;
+import org.mule.runtime.core.api.event.CoreEvent;
+import org.mule.runtime.core.api.processor.Processor;
+import org.mule.runtime.core.internal.routing.Foreach;
+import org.mule.runtime.core.internal.routing.ParallelForEach;
+import org.mule.runtime.core.internal.routing.ScatterGatherRouter;
+import org.mule.runtime.core.internal.routing.UntilSuccessful;
+import org.mule.runtime.core.privileged.processor.chain.MessageProcessorChain;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.infra.Blackhole;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Measures the overhead of the routers and scopes that split or retry the processing of an event, with light processors so
+ * that the router itself dominates the result.
+ */
+public class RouterBenchmark extends AbstractBenchmark {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(RouterBenchmark.class);
+
+  private static final int SCATTER_GATHER_ROUTES = 4;
+
+  @Param({"10", "100"})
+  public String itemCount;
+
+  private MuleContext muleContext;
+  private Flow flow;
+  private List<String> items;
+
+  private Foreach foreach;
+  private ParallelForEach parallelForEach;
+  private ScatterGatherRouter scatterGather;
+  private UntilSuccessful untilSuccessful;
+  private UntilSuccessful untilSuccessfulWithRetry;
+
+  private final Set<String> failedEventIds = ConcurrentHashMap.newKeySet();
+
+  @Setup
+  public void setup() throws MuleException {
+    muleContext = createMuleContextWithServices();
+    registerObject(muleContext, ConfigurationComponentLocator.REGISTRY_KEY, new NoComponentsLocator());
+    flow = createFlow(muleContext);
+
+    items = new ArrayList<>();
+    for (int i = 0; i < parseInt(itemCount); ++i) {
+      items.add(VALUE + i);
+    }
+
+    final Processor lightProcessor = event -> {
+      Blackhole.consumeCPU(50);
+      return event;
+    };
+
+    foreach = new Foreach();
+    foreach.setMessageProcessors(singletonList(lightProcessor));
+    initialise(foreach);
+
+    parallelForEach = new ParallelForEach();
+    parallelForEach.setMessageProcessors(singletonList(lightProcessor));
+    initialise(parallelForEach);
+
+    List<MessageProcessorChain> routes = new ArrayList<>();
+    for (int i = 0; i < SCATTER_GATHER_ROUTES; ++i) {
+      routes.add(newChain(empty(), lightProcessor));
+    }
+    scatterGather = new ScatterGatherRouter();
+    scatterGather.setRoutes(routes);
+    initialise(scatterGather);
+
+    untilSuccessful = new UntilSuccessful();
+    untilSuccessful.setMessageProcessors(singletonList(lightProcessor));
+    initialise(untilSuccessful);
+
+    untilSuccessfulWithRetry = new UntilSuccessful();
+    untilSuccessfulWithRetry.setMillisBetweenRetries("0");
+    untilSuccessfulWithRetry.setMessageProcessors(singletonList(event -> {
+      if (failedEventIds.add(event.getContext().getId())) {
+        throw new IllegalStateException("Simulated failure");
+      }
+      return event;
+    }));
+    initialise(untilSuccessfulWithRetry);
+  }
+
+  private void initialise(Component component) throws MuleException {
+    component.setAnnotations(singletonMap(LOCATION_KEY, from(FLOW_NAME)));
+    initialiseIfNeeded(component, muleContext);
+  }
+
+  @TearDown
+  public void teardown() {
+    disposeIfNeeded(asList(foreach, parallelForEach, scatterGather, untilSuccessful, untilSuccessfulWithRetry), LOGGER);
+    muleContext.dispose();
+  }
+
+  @Benchmark
+  public CoreEvent foreach() throws MuleException {
+    return foreach.process(createEvent(flow, items));
+  }
+
+  @Benchmark
+  @Threads(Threads.MAX)
+  public CoreEvent parallelForEach() throws MuleException {
+    return parallelForEach.process(createEvent(flow, items));
+  }
+
+  @Benchmark
+  @Threads(Threads.MAX)
+  public CoreEvent scatterGather() throws MuleException {
+    return scatterGather.process(createEvent(flow));
+  }
+
+  @Benchmark
+  public CoreEvent untilSuccessful() throws MuleException {
+    return untilSuccessful.process(createEvent(flow));
+  }
+
+  @Benchmark
+  public CoreEvent untilSuccessfulWithRetry() throws MuleException {
+    CoreEvent event = createEvent(flow);
+    try {
+      return untilSuccessfulWithRetry.process(event);
+    } finally {
+      failedEventIds.remove(event.getContext().getId());
+    }
+  }
+
+  /**
+   * Locator without any component, so that the routers use their default processing strategy.
+   */
+  private static class NoComponentsLocator implements ConfigurationComponentLocator {
+
+    @Override
+    public Optional<Component> find(Location location) {
+      return empty();
+    }
+
+    @Override
+    public List<Component> find(ComponentIdentifier componentIdentifier) {
+      return emptyList();
+    }
+
+    @Override
+    public List<ComponentLocation> findAllLocations() {
+      return emptyList();
+    }
+  }
+}
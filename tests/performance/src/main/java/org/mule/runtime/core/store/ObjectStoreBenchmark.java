@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.store;
+
+import static java.lang.Integer.parseInt;
+import static org.apache.commons.lang3.StringUtils.repeat;
+import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.disposeIfNeeded;
+import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.initialiseIfNeeded;
+
+import org.mule.AbstractBenchmark;
+import org.mule.runtime.api.exception.MuleException;
+import org.mule.runtime.api.store.ObjectStoreException;
+import org.mule.runtime.api.store.PartitionableObjectStore;
+import org.mule.runtime.core.api.MuleContext;
+import org.mule.runtime.core.internal.store.PartitionedInMemoryObjectStore;
+import org.mule.runtime.core.internal.store.PartitionedPersistentObjectStore;
+
+import java.io.Serializable;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Measures the in memory and the file based partitioned object stores, both for write/read/remove cycles and for reads of
+ * existing entries.
+ */
+public class ObjectStoreBenchmark extends AbstractBenchmark {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(ObjectStoreBenchmark.class);
+
+  private static final String PARTITION_NAME = "benchmarkPartition";
+  private static final int PREPOPULATED_ENTRIES = 1000;
+
+  @Param({"256", "16384"})
+  public String valueSize;
+
+  private MuleContext muleContext;
+  private PartitionedInMemoryObjectStore<Serializable> inMemoryStore;
+  private PartitionedPersistentObjectStore<Serializable> persistentStore;
+  private String value;
+  private final AtomicLong keyCounter = new AtomicLong();
+
+  @Setup
+  public void setup() throws MuleException {
+    muleContext = createMuleContextWithServices();
+    value = repeat('x', parseInt(valueSize));
+
+    inMemoryStore = new PartitionedInMemoryObjectStore<>();
+    initialiseIfNeeded(inMemoryStore, muleContext);
+    inMemoryStore.open(PARTITION_NAME);
+
+    persistentStore = new PartitionedPersistentObjectStore<>(muleContext);
+    initialiseIfNeeded(persistentStore, muleContext);
+    persistentStore.open(PARTITION_NAME);
+
+    for (int i = 0; i < PREPOPULATED_ENTRIES; ++i) {
+      inMemoryStore.store(KEY + i, value, PARTITION_NAME);
+      persistentStore.store(KEY + i, value, PARTITION_NAME);
+    }
+  }
+
+  @TearDown
+  public void teardown() throws MuleException {
+    inMemoryStore.disposePartition(PARTITION_NAME);
+    persistentStore.disposePartition(PARTITION_NAME);
+    disposeIfNeeded(inMemoryStore, LOGGER);
+    disposeIfNeeded(persistentStore, LOGGER);
+    muleContext.dispose();
+  }
+
+  @Benchmark
+  @Threads(Threads.MAX)
+  public Serializable inMemoryStoreRetrieveRemove() throws ObjectStoreException {
+    return storeRetrieveRemove(inMemoryStore);
+  }
+
+  @Benchmark
+  @Threads(Threads.MAX)
+  public Serializable inMemoryRetrieve() throws ObjectStoreException {
+    return inMemoryStore.retrieve(randomExistingKey(), PARTITION_NAME);
+  }
+
+  @Benchmark
+  public Serializable persistentStoreRetrieveRemove() throws ObjectStoreException {
+    return storeRetrieveRemove(persistentStore);
+  }
+
+  @Benchmark
+  @Threads(Threads.MAX)
+  public Serializable persistentRetrieve() throws ObjectStoreException {
+    return persistentStore.retrieve(randomExistingKey(), PARTITION_NAME);
+  }
+
+  private Serializable storeRetrieveRemove(PartitionableObjectStore<Serializable> store)
+      throws ObjectStoreException {
+    String key = KEY + "-" + keyCounter.incrementAndGet();
+    store.store(key, value, PARTITION_NAME);
+    store.retrieve(key, PARTITION_NAME);
+    return store.remove(key, PARTITION_NAME);
+  }
+
+  private String randomExistingKey() {
+    return KEY + ThreadLocalRandom.current().nextInt(PREPOPULATED_ENTRIES);
+  }
+}
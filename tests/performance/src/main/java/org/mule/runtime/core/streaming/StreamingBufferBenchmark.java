@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.streaming;
+
+import static org.mule.runtime.api.util.DataUnit.KB;
+
+import org.mule.AbstractBenchmark;
+import org.mule.runtime.api.streaming.bytes.CursorStream;
+import org.mule.runtime.api.streaming.object.CursorIterator;
+import org.mule.runtime.api.util.DataSize;
+import org.mule.runtime.core.api.streaming.bytes.InMemoryCursorStreamConfig;
+import org.mule.runtime.core.api.streaming.bytes.InMemoryCursorStreamProvider;
+import org.mule.runtime.core.api.streaming.object.InMemoryCursorIteratorConfig;
+import org.mule.runtime.core.internal.streaming.bytes.SimpleByteBufferManager;
+import org.mule.runtime.core.internal.streaming.object.InMemoryCursorIteratorProvider;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * Measures the repeatable streaming buffers: building the in memory byte and object buffers while consuming them with a
+ * cursor, and reading an already buffered content with concurrent cursors.
+ */
+public class StreamingBufferBenchmark extends AbstractBenchmark {
+
+  private static final int READ_CHUNK_SIZE = 8 * 1024;
+
+  /**
+   * The size of the byte content and the amount of items go together, so that each benchmark runs once per size.
+   */
+  public enum ContentSize {
+
+    SMALL(1024, 100), MEDIUM(64 * 1024, 10000), LARGE(1024 * 1024, 100000);
+
+    private final int payloadSize;
+    private final int itemCount;
+
+    ContentSize(int payloadSize, int itemCount) {
+      this.payloadSize = payloadSize;
+      this.itemCount = itemCount;
+    }
+  }
+
+  @Param({"SMALL", "MEDIUM", "LARGE"})
+  public ContentSize contentSize;
+
+  private final SimpleByteBufferManager bufferManager = new SimpleByteBufferManager();
+  private InMemoryCursorStreamConfig streamConfig;
+  private InMemoryCursorIteratorConfig iteratorConfig;
+  private byte[] bytes;
+  private List<String> items;
+  private InMemoryCursorStreamProvider bufferedStreamProvider;
+
+  @Setup
+  public void setup() throws IOException {
+    streamConfig = new InMemoryCursorStreamConfig(new DataSize(256, KB), new DataSize(256, KB), new DataSize(64 * 1024, KB));
+    iteratorConfig = new InMemoryCursorIteratorConfig(100, 100, 1000000);
+
+    bytes = new byte[contentSize.payloadSize];
+    new Random(0).nextBytes(bytes);
+
+    items = new ArrayList<>();
+    for (int i = 0; i < contentSize.itemCount; ++i) {
+      items.add(VALUE + i);
+    }
+
+    bufferedStreamProvider = new InMemoryCursorStreamProvider(new ByteArrayInputStream(bytes), streamConfig, bufferManager);
+    // Fill the buffer so that the concurrent cursors only read already buffered data
+    try (CursorStream cursor = bufferedStreamProvider.openCursor()) {
+      consume(cursor);
+    }
+  }
+
+  @Benchmark
+  public long bufferAndConsumeStream() throws IOException {
+    InMemoryCursorStreamProvider provider =
+        new InMemoryCursorStreamProvider(new ByteArrayInputStream(bytes), streamConfig, bufferManager);
+    try (CursorStream cursor = provider.openCursor()) {
+      return consume(cursor);
+    } finally {
+      provider.close();
+      provider.releaseResources();
+    }
+  }
+
+  @Benchmark
+  @Threads(Threads.MAX)
+  public long consumeBufferedStream() throws IOException {
+    try (CursorStream cursor = bufferedStreamProvider.openCursor()) {
+      return consume(cursor);
+    }
+  }
+
+  @Benchmark
+  public long bufferAndConsumeIterator() throws IOException {
+    InMemoryCursorIteratorProvider provider = new InMemoryCursorIteratorProvider(items.iterator(), iteratorConfig);
+    long count = 0;
+    try (CursorIterator cursor = provider.openCursor()) {
+      while (cursor.hasNext()) {
+        cursor.next();
+        count++;
+      }
+      return count;
+    } finally {
+      provider.close();
+      provider.releaseResources();
+    }
+  }
+
+  private long consume(CursorStream cursor) throws IOException {
+    byte[] chunk = new byte[READ_CHUNK_SIZE];
+    long total = 0;
+    int read;
+    while ((read = cursor.read(chunk)) != -1) {
+      total += read;
+    }
+    return total;
+  }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.util;
+
+import static org.mule.runtime.core.privileged.util.TemplateParser.createAntStyleParser;
+import static org.mule.runtime.core.privileged.util.TemplateParser.createMuleStyleParser;
+
+import org.mule.AbstractBenchmark;
+import org.mule.runtime.core.privileged.util.TemplateParser;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+public class TemplateParserBenchmark extends AbstractBenchmark {
+
+  private static final String ANT_TEMPLATE = "http://${http.host}:${http.port}/${http.basePath}/orders?limit=${limit}";
+  private static final String ANT_LITERAL = "http://localhost:8081/api/orders?limit=10";
+  private static final String MULE_TEMPLATE = "Order #[vars.orderId] for #[payload.customer.name] (#[vars.total])";
+
+  private final TemplateParser antParser = createAntStyleParser();
+  private final TemplateParser muleParser = createMuleStyleParser();
+  private final Map<String, Object> properties = new HashMap<>();
+
+  public TemplateParserBenchmark() {
+    properties.put("http.host", "localhost");
+    properties.put("http.port", "8081");
+    properties.put("http.basePath", "api");
+    properties.put("limit", "10");
+  }
+
+  @Benchmark
+  public String antStyleWithMap() {
+    return antParser.parse(properties, ANT_TEMPLATE);
+  }
+
+  @Benchmark
+  public String antStyleWithCallback() {
+    return antParser.parse(properties::get, ANT_TEMPLATE);
+  }
+
+  @Benchmark
+  public String antStyleWithoutPlaceholders() {
+    return antParser.parse(properties::get, ANT_LITERAL);
+  }
+
+  @Benchmark
+  public String muleStyleWithCallback() {
+    return muleParser.parse(token -> "value", MULE_TEMPLATE);
+  }
+}
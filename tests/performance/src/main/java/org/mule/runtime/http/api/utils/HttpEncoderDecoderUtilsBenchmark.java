@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.http.api.utils;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.mule.runtime.http.api.utils.HttpEncoderDecoderUtils.decodeQueryString;
+import static org.mule.runtime.http.api.utils.HttpEncoderDecoderUtils.decodeUriParams;
+import static org.mule.runtime.http.api.utils.UrlEncodedDecoder.decodeUrlEncoded;
+
+import org.mule.AbstractBenchmark;
+import org.mule.runtime.api.util.MultiMap;
+
+import java.nio.ByteBuffer;
+import java.util.Map;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+public class HttpEncoderDecoderUtilsBenchmark extends AbstractBenchmark {
+
+  private static final String LISTENER_PATH = "/api/v1/customers/{customerId}/orders/{orderId}";
+  private static final String REQUEST_PATH = "/api/v1/customers/12345/orders/ord%2D6789";
+  private static final String QUERY_STRING = "limit=50&offset=100&sort=createdAt&order=desc&filter=status%3Dopen&q=red+shoes";
+
+  private final UriTemplate uriTemplate = UriTemplate.compile(LISTENER_PATH);
+  private final ByteBuffer formBody = ByteBuffer.wrap(QUERY_STRING.getBytes(UTF_8));
+
+  @Benchmark
+  public Map<String, String> uriParams() {
+    return decodeUriParams(LISTENER_PATH, REQUEST_PATH);
+  }
+
+  @Benchmark
+  public Map<String, String> uriParamsCompiledTemplate() {
+    return uriTemplate.decodeUriParams(REQUEST_PATH);
+  }
+
+  @Benchmark
+  public MultiMap<String, String> queryString() {
+    return decodeQueryString(QUERY_STRING);
+  }
+
+  @Benchmark
+  public MultiMap<String, String> formBodyBuffer() {
+    return decodeUrlEncoded(formBody, UTF_8);
+  }
+}
@@ -78,7 +78,22 @@ public abstract class AbstractBenchmarkAssertionTestCase extends AbstractMuleTes
    */
   protected void runAndAssertBenchmark(Class clazz, String testName, int threads, final double expectedResult,
                                        TimeUnit timeUnit) {
-    runAndAssertBenchmark(clazz, testName, threads, EMPTY_MAP, timeUnit, false,
+    runAndAssertBenchmark(clazz, testName, threads, EMPTY_MAP, expectedResult, timeUnit);
+  }
+
+  /**
+   * Run a JMH benchmark and assert that the primary result is less than or equal to an expected value.
+   *
+   * @param clazz the JMS benchmark class.
+   * @param testName the name of the test method.
+   * @param threads the number of threads to run benchmark with.
+   * @param params parameters along with array of parameters values to be applied to the benchmark.
+   * @param expectedResult the expected minimum minimum result value.
+   * @param timeUnit the time unit of the expected result value.
+   */
+  protected void runAndAssertBenchmark(Class clazz, String testName, int threads, Map<String, String[]> params,
+                                       final double expectedResult, TimeUnit timeUnit) {
+    runAndAssertBenchmark(clazz, testName, threads, params, timeUnit, false,
                           runResult -> assertThat(runResult.getPrimaryResult().getScore(), lessThanOrEqualTo(expectedResult)));
   }
 
@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.test.core;
+
+import static java.util.Collections.singletonMap;
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+
+import org.mule.AbstractBenchmarkAssertionTestCase;
+import org.mule.runtime.core.store.ObjectStoreBenchmark;
+
+import java.util.Map;
+
+import org.junit.Test;
+
+public class ObjectStoreBenchmarkAssertionTestCase extends AbstractBenchmarkAssertionTestCase {
+
+  private static final Map<String, String[]> SMALL_VALUES = singletonMap("valueSize", new String[] {"256"});
+
+  @Test
+  public void inMemoryStoreRetrieveRemove() {
+    runAndAssertBenchmark(ObjectStoreBenchmark.class, "inMemoryStoreRetrieveRemove", 4, SMALL_VALUES, 25, MICROSECONDS);
+  }
+
+  @Test
+  public void inMemoryRetrieve() {
+    runAndAssertBenchmark(ObjectStoreBenchmark.class, "inMemoryRetrieve", 4, SMALL_VALUES, 0.5, MICROSECONDS);
+  }
+
+  @Test
+  public void persistentStoreRetrieveRemove() {
+    runAndAssertBenchmark(ObjectStoreBenchmark.class, "persistentStoreRetrieveRemove", 1, SMALL_VALUES, 2000, MICROSECONDS);
+  }
+
+  @Test
+  public void persistentRetrieve() {
+    runAndAssertBenchmark(ObjectStoreBenchmark.class, "persistentRetrieve", 4, SMALL_VALUES, 500, MICROSECONDS);
+  }
+}
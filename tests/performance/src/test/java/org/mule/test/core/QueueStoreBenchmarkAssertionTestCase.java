@@ -0,0 +1,37 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.test.core;
+
+import static java.util.Collections.singletonMap;
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+
+import org.mule.AbstractBenchmarkAssertionTestCase;
+import org.mule.runtime.core.queue.QueueStoreBenchmark;
+
+import java.util.Map;
+
+import org.junit.Test;
+
+public class QueueStoreBenchmarkAssertionTestCase extends AbstractBenchmarkAssertionTestCase {
+
+  private static final Map<String, String[]> SMALL_ITEMS = singletonMap("itemSize", new String[] {"256"});
+
+  @Test
+  public void putAndPoll() {
+    runAndAssertBenchmark(QueueStoreBenchmark.class, "putAndPoll", 1, SMALL_ITEMS, 100, MICROSECONDS);
+  }
+
+  @Test
+  public void concurrentPutAndPoll() {
+    runAndAssertBenchmark(QueueStoreBenchmark.class, "concurrentPutAndPoll", 4, SMALL_ITEMS, 400, MICROSECONDS);
+  }
+
+  @Test
+  public void putAndPollBatch() {
+    runAndAssertBenchmark(QueueStoreBenchmark.class, "putAndPollBatch", 1, SMALL_ITEMS, 10000, MICROSECONDS);
+  }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.test.core;
+
+import static java.util.Collections.singletonMap;
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+
+import org.mule.AbstractBenchmarkAssertionTestCase;
+import org.mule.runtime.core.routing.RouterBenchmark;
+
+import java.util.Map;
+
+import org.junit.Test;
+
+public class RouterBenchmarkAssertionTestCase extends AbstractBenchmarkAssertionTestCase {
+
+  private static final Map<String, String[]> TEN_ITEMS = singletonMap("itemCount", new String[] {"10"});
+
+  @Test
+  public void foreach() {
+    runAndAssertBenchmark(RouterBenchmark.class, "foreach", 1, TEN_ITEMS, 100, MICROSECONDS);
+  }
+
+  @Test
+  public void parallelForEach() {
+    runAndAssertBenchmark(RouterBenchmark.class, "parallelForEach", 4, TEN_ITEMS, 500, MICROSECONDS);
+  }
+
+  @Test
+  public void scatterGather() {
+    runAndAssertBenchmark(RouterBenchmark.class, "scatterGather", 4, TEN_ITEMS, 200, MICROSECONDS);
+  }
+
+  @Test
+  public void untilSuccessful() {
+    runAndAssertBenchmark(RouterBenchmark.class, "untilSuccessful", 1, TEN_ITEMS, 50, MICROSECONDS);
+  }
+
+  @Test
+  public void untilSuccessfulWithRetry() {
+    runAndAssertBenchmark(RouterBenchmark.class, "untilSuccessfulWithRetry", 1, TEN_ITEMS, 500, MICROSECONDS);
+  }
+}
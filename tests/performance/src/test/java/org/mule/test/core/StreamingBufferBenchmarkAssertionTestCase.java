@@ -0,0 +1,37 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.test.core;
+
+import static java.util.Collections.singletonMap;
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+
+import org.mule.AbstractBenchmarkAssertionTestCase;
+import org.mule.runtime.core.streaming.StreamingBufferBenchmark;
+
+import java.util.Map;
+
+import org.junit.Test;
+
+public class StreamingBufferBenchmarkAssertionTestCase extends AbstractBenchmarkAssertionTestCase {
+
+  private static final Map<String, String[]> MEDIUM_CONTENT = singletonMap("contentSize", new String[] {"MEDIUM"});
+
+  @Test
+  public void bufferAndConsumeStream() {
+    runAndAssertBenchmark(StreamingBufferBenchmark.class, "bufferAndConsumeStream", 1, MEDIUM_CONTENT, 100, MICROSECONDS);
+  }
+
+  @Test
+  public void consumeBufferedStream() {
+    runAndAssertBenchmark(StreamingBufferBenchmark.class, "consumeBufferedStream", 4, MEDIUM_CONTENT, 50, MICROSECONDS);
+  }
+
+  @Test
+  public void bufferAndConsumeIterator() {
+    runAndAssertBenchmark(StreamingBufferBenchmark.class, "bufferAndConsumeIterator", 1, MEDIUM_CONTENT, 500, MICROSECONDS);
+  }
+}